@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.core.filesystem.EFS;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.ide.IDE;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTimings;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaBuildAnalysis;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaDeps;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaLog;
+
+/**
+ * Shows how long the jobs of the most recent ninja build of each project and build configuration took: The compile
+ * jobs, the time per target, the longest serial chain of jobs, how many jobs ran in parallel over the course of the
+ * build and the headers whose change costs most compile time. Double-clicking a compile job or header opens the file.
+ *
+ * @author Martin Weber
+ */
+public class BuildTimingsView extends ViewPart {
+  /** the number of intervals to show the parallelism for */
+  private static final int INTERVALS = 20;
+  /** the number of headers to show */
+  private static final int HEADERS = 200;
+
+  private Combo c_build;
+  private Label l_summary;
+  private TableViewer compilesViewer;
+  private TableViewer targetsViewer;
+  private TableViewer chainViewer;
+  private TableViewer parallelismViewer;
+  private TableViewer headersViewer;
+  private List<BuildTimings.Entry> entries = List.of();
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    parent.setLayout(new GridLayout(2, false));
+    Label label = new Label(parent, SWT.NONE);
+    label.setText("Build:");
+    c_build = new Combo(parent, SWT.READ_ONLY | SWT.DROP_DOWN);
+    c_build.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+    c_build.addListener(SWT.Selection, e -> showEntry());
+    l_summary = new Label(parent, SWT.WRAP);
+    l_summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+    TabFolder folder = new TabFolder(parent, SWT.TOP);
+    folder.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 2, 1));
+
+    compilesViewer = WidgetHelper.createTableTab(folder, "Compile jobs");
+    WidgetHelper.addColumn(compilesViewer, "Source file", 400, SWT.LEFT,
+        job -> ((NinjaBuildAnalysis.Job) job).getSource());
+    WidgetHelper.addColumn(compilesViewer, "Target", 150, SWT.LEFT, job -> ((NinjaBuildAnalysis.Job) job).getTarget());
+    WidgetHelper.addColumn(compilesViewer, "Time [s]", 80, SWT.RIGHT,
+        job -> formatSeconds(((NinjaBuildAnalysis.Job) job).getDuration()));
+    compilesViewer.addDoubleClickListener(e -> openJobSource((IStructuredSelection) e.getSelection()));
+
+    targetsViewer = WidgetHelper.createTableTab(folder, "Targets");
+    WidgetHelper.addColumn(targetsViewer, "Target", 200, SWT.LEFT,
+        target -> ((NinjaBuildAnalysis.TargetTime) target).getTarget());
+    WidgetHelper.addColumn(targetsViewer, "Jobs", 70, SWT.RIGHT,
+        target -> Integer.toString(((NinjaBuildAnalysis.TargetTime) target).getJobs()));
+    WidgetHelper.addColumn(targetsViewer, "Time [s]", 80, SWT.RIGHT,
+        target -> formatSeconds(((NinjaBuildAnalysis.TargetTime) target).getTime()));
+    WidgetHelper.addColumn(targetsViewer, "Longest job [s]", 110, SWT.RIGHT,
+        target -> formatSeconds(((NinjaBuildAnalysis.TargetTime) target).getLongest()));
+
+    chainViewer = WidgetHelper.createTableTab(folder, "Longest serial chain");
+    WidgetHelper.addColumn(chainViewer, "Output", 400, SWT.LEFT, job -> ((NinjaBuildAnalysis.Job) job).getOutput());
+    WidgetHelper.addColumn(chainViewer, "Start [s]", 80, SWT.RIGHT,
+        job -> formatSeconds(((NinjaBuildAnalysis.Job) job).getStart()));
+    WidgetHelper.addColumn(chainViewer, "Time [s]", 80, SWT.RIGHT,
+        job -> formatSeconds(((NinjaBuildAnalysis.Job) job).getDuration()));
+    chainViewer.addDoubleClickListener(e -> openJobSource((IStructuredSelection) e.getSelection()));
+
+    parallelismViewer = WidgetHelper.createTableTab(folder, "Parallelism");
+    WidgetHelper.addColumn(parallelismViewer, "Interval [s]", 120, SWT.LEFT, row -> ((String[]) row)[0]);
+    WidgetHelper.addColumn(parallelismViewer, "Parallel jobs", 100, SWT.RIGHT, row -> ((String[]) row)[1]);
+    WidgetHelper.addColumn(parallelismViewer, "Utilization", 100, SWT.RIGHT, row -> ((String[]) row)[2]);
+
+    headersViewer = WidgetHelper.createTableTab(folder, "Headers");
+    WidgetHelper.addColumn(headersViewer, "Header", 400, SWT.LEFT, row -> ((String[]) row)[0]);
+    WidgetHelper.addColumn(headersViewer, "Object files", 90, SWT.RIGHT, row -> ((String[]) row)[1]);
+    WidgetHelper.addColumn(headersViewer, "Compile time [s]", 110, SWT.RIGHT, row -> ((String[]) row)[2]);
+    WidgetHelper.addColumn(headersViewer, "Targets", 250, SWT.LEFT, row -> ((String[]) row)[3]);
+    headersViewer.addDoubleClickListener(e -> {
+      String[] row = (String[]) ((IStructuredSelection) e.getSelection()).getFirstElement();
+      if (row != null) {
+        openFile(getSite().getPage(), row[4]);
+      }
+    });
+
+    final BuildTimings timings = BuildTimings.getInstance();
+    timings.addListener(listener);
+    refresh();
+  }
+
+  private static String formatSeconds(long millis) {
+    return String.format(Locale.ROOT, "%.2f", millis / 1000.0);
+  }
+
+  /**
+   * Refreshes the view in the UI thread. Called in the thread of a build.
+   */
+  private void refreshAsync() {
+    if (!c_build.isDisposed()) {
+      c_build.getDisplay().asyncExec(() -> {
+        if (!c_build.isDisposed()) {
+          refresh();
+        }
+      });
+    }
+  }
+
+  /**
+   * Updates the builds to choose from and shows the most recent build.
+   */
+  private void refresh() {
+    entries = BuildTimings.getInstance().getEntries();
+    String[] items = new String[entries.size()];
+    for (int i = 0; i < items.length; i++) {
+      BuildTimings.Entry entry = entries.get(i);
+      items[i] = entry.getProjectName() + " [" + entry.getConfigName() + "]";
+    }
+    c_build.setItems(items);
+    c_build.select(items.length - 1);
+    showEntry();
+  }
+
+  /**
+   * Shows the analysis of the build selected in the combo.
+   */
+  private void showEntry() {
+    int index = c_build.getSelectionIndex();
+    if (index < 0) {
+      l_summary.setText("No ninja build since the workbench was started");
+      for (TableViewer viewer : List.of(compilesViewer, targetsViewer, chainViewer, parallelismViewer,
+          headersViewer)) {
+        viewer.setInput(List.of());
+      }
+      return;
+    }
+    BuildTimings.Entry entry = entries.get(index);
+    NinjaBuildAnalysis analysis = entry.getAnalysis();
+    l_summary.setText(analysis.getSummary(entry.getSlots()));
+    compilesViewer.setInput(analysis.getSlowestCompiles(Integer.MAX_VALUE));
+    targetsViewer.setInput(analysis.getTargets());
+    chainViewer.setInput(analysis.getSerialChain());
+
+    List<String[]> rows = new ArrayList<>(INTERVALS);
+    double[] parallelism = analysis.getParallelism(INTERVALS);
+    double length = analysis.getWallTime() / 1000.0 / INTERVALS;
+    int slots = entry.getSlots();
+    for (int i = 0; i < parallelism.length; i++) {
+      rows.add(new String[] { String.format(Locale.ROOT, "%.1f - %.1f", i * length, (i + 1) * length),
+          String.format(Locale.ROOT, "%.1f", parallelism[i]),
+          slots > 1 && slots < Integer.MAX_VALUE ? String.format(Locale.ROOT, "%.0f%%", 100 * parallelism[i] / slots)
+              : "-" });
+    }
+    parallelismViewer.setInput(rows);
+    headersViewer.setInput(List.of());
+    loadHeaders(entry.getBuildDirectory());
+    l_summary.getParent().layout();
+  }
+
+  /**
+   * Reads the header dependencies and the compile times ninja recorded in the specified build directory in the
+   * background and shows the headers whose change costs most compile time.
+   */
+  private void loadHeaders(String buildDir) {
+    Job job = new Job("Reading header dependencies") {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        final java.nio.file.Path dir = java.nio.file.Path.of(buildDir);
+        final NinjaDeps deps;
+        final Map<String, Integer> durations;
+        try {
+          deps = NinjaDeps.read(dir.resolve(NinjaDeps.FILE_NAME));
+          durations = NinjaDeps.getDurations(NinjaLog.read(dir.resolve(NinjaLog.FILE_NAME)));
+        } catch (IOException ex) {
+          // Ninja did not record header dependencies
+          return Status.OK_STATUS;
+        }
+        List<String[]> rows = new ArrayList<>(HEADERS);
+        for (NinjaDeps.HeaderCost header : deps.getExpensiveHeaders(durations, HEADERS)) {
+          rows.add(new String[] { header.getPath(), Integer.toString(header.getOutputs()),
+              formatSeconds(header.getTime()), String.join(", ", deps.getAffectedTargets(header.getPath())),
+              dir.resolve(header.getPath()).toString() });
+        }
+        final Table table = headersViewer.getTable();
+        if (!table.isDisposed()) {
+          table.getDisplay().asyncExec(() -> {
+            int index = c_build.isDisposed() ? -1 : c_build.getSelectionIndex();
+            if (index >= 0 && entries.get(index).getBuildDirectory().equals(buildDir)) {
+              headersViewer.setInput(rows);
+            }
+          });
+        }
+        return Status.OK_STATUS;
+      }
+    };
+    job.setSystem(true);
+    job.schedule();
+  }
+
+  /**
+   * Opens the source file of the selected job in an editor.
+   */
+  private void openJobSource(IStructuredSelection selection) {
+    NinjaBuildAnalysis.Job job = (NinjaBuildAnalysis.Job) selection.getFirstElement();
+    if (job != null && job.getSource() != null) {
+      openFile(getSite().getPage(), job.getSource());
+    }
+  }
+
+  /**
+   * Opens the specified file in an editor.
+   *
+   * @param page the workbench page to open the editor in
+   * @param file the absolute path of the file
+   */
+  static void openFile(IWorkbenchPage page, String file) {
+    try {
+      IDE.openEditorOnFileStore(page, EFS.getLocalFileSystem().getStore(new Path(file)));
+    } catch (PartInitException ex) {
+      Activator.getDefault().getLog().log(ex.getStatus());
+    }
+  }
+
+  @Override
+  public void setFocus() {
+    c_build.setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    BuildTimings.getInstance().removeListener(listener);
+    super.dispose();
+  }
+}
@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.BaseLabelProvider;
+import org.eclipse.jface.viewers.ITableColorProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTelemetry;
+import de.marw.cmake4eclipse.mbs.ui.slim.BuildTargetsManager;
+
+/**
+ * Shows the cmake runs and builds of a project recorded in its build telemetry, the most recent first, along with the
+ * change of the duration compared to the previous runs. Performance regressions are shown in red.
+ *
+ * @author Martin Weber
+ */
+public class BuildTrendsView extends ViewPart {
+  private static final String[] tableColumnNames = { "Time", "Kind", "Configuration", "Target", "Duration",
+      "Change", "Jobs", "Cache hit rate", "Status" };
+  private static final int[] tableColumnWidths = { 150, 80, 100, 120, 80, 70, 50, 90, 80 };
+
+  private Combo c_project;
+  private Label l_summary;
+  private TableViewer tableViewer;
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    parent.setLayout(new GridLayout(2, false));
+    Label label = new Label(parent, SWT.NONE);
+    label.setText("Project:");
+    c_project = new Combo(parent, SWT.READ_ONLY | SWT.DROP_DOWN);
+    c_project.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+    c_project.addListener(SWT.Selection, e -> showProject());
+    l_summary = new Label(parent, SWT.WRAP);
+    l_summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+    tableViewer = new TableViewer(parent, SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION | SWT.BORDER);
+    for (int i = 0; i < tableColumnNames.length; i++) {
+      final TableViewerColumn viewerColumn = new TableViewerColumn(tableViewer,
+          i < 4 || i == 8 ? SWT.LEFT : SWT.RIGHT);
+      final TableColumn column = viewerColumn.getColumn();
+      column.setText(tableColumnNames[i]);
+      column.setWidth(tableColumnWidths[i]);
+      column.setResizable(true);
+      column.setMoveable(true);
+    }
+    final Table table = tableViewer.getTable();
+    table.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 2, 1));
+    table.setHeaderVisible(true);
+    table.setLinesVisible(true);
+    tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+    tableViewer.setLabelProvider(new RecordLabelProvider(table.getDisplay()));
+
+    BuildTelemetry.addListener(listener);
+    refresh();
+  }
+
+  /**
+   * Refreshes the view in the UI thread. Called in the thread of a build.
+   */
+  private void refreshAsync() {
+    if (!c_project.isDisposed()) {
+      c_project.getDisplay().asyncExec(() -> {
+        if (!c_project.isDisposed()) {
+          refresh();
+        }
+      });
+    }
+  }
+
+  /**
+   * Updates the projects to choose from and shows the records of the selected project.
+   */
+  private void refresh() {
+    String selected = c_project.getSelectionIndex() < 0 ? null : c_project.getText();
+    List<String> names = new ArrayList<>();
+    for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+      if (project.isOpen() && BuildTargetsManager.hasC4ENature(project)) {
+        names.add(project.getName());
+      }
+    }
+    c_project.setItems(names.toArray(new String[names.size()]));
+    int index = selected == null ? -1 : c_project.indexOf(selected);
+    c_project.select(index < 0 ? 0 : index);
+    showProject();
+  }
+
+  /**
+   * Shows the records of the project selected in the combo.
+   */
+  private void showProject() {
+    if (c_project.getSelectionIndex() < 0) {
+      l_summary.setText("No cmake4eclipse project in the workspace");
+      tableViewer.setInput(List.of());
+      return;
+    }
+    List<BuildTelemetry.Record> records = BuildTelemetry.forProject(c_project.getText()).getRecords();
+    Collections.reverse(records);
+    long regressions = records.stream().filter(BuildTelemetry.Record::isRegression).count();
+    l_summary.setText(records.isEmpty() ? "No builds recorded yet"
+        : String.format("%d runs recorded, %d performance regressions", records.size(), regressions));
+    tableViewer.setInput(records);
+    l_summary.getParent().layout();
+  }
+
+  @Override
+  public void setFocus() {
+    tableViewer.getControl().setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    BuildTelemetry.removeListener(listener);
+    super.dispose();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  private static class RecordLabelProvider extends BaseLabelProvider
+      implements ITableLabelProvider, ITableColorProvider {
+    private final DateFormat timeFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM);
+    private final Display display;
+
+    RecordLabelProvider(Display display) {
+      this.display = display;
+    }
+
+    // interface ITableLabelProvider
+    @Override
+    public Image getColumnImage(Object element, int columnIndex) {
+      return null;
+    }
+
+    // interface ITableLabelProvider
+    @Override
+    public String getColumnText(Object element, int columnIndex) {
+      final BuildTelemetry.Record rec = (BuildTelemetry.Record) element;
+      switch (columnIndex) {
+      case 0:
+        return timeFormat.format(new Date(rec.getTime()));
+      case 1:
+        return BuildTelemetry.CONFIGURE.equals(rec.getKind()) ? "cmake" : rec.isFull() ? "full build" : "build";
+      case 2:
+        return rec.getConfig();
+      case 3:
+        return rec.getTarget();
+      case 4:
+        return String.format(Locale.ROOT, "%.1f s", rec.getDuration() / 1000.0);
+      case 5:
+        return rec.getBaseline() <= 0 ? "-" : String.format(Locale.ROOT, "%+.0f%%", rec.getChange());
+      case 6:
+        return rec.getJobs() > 0 ? Integer.toString(rec.getJobs()) : "-";
+      case 7:
+        return rec.getCacheHitRate() < 0 ? "-" : String.format(Locale.ROOT, "%.1f%%", rec.getCacheHitRate());
+      case 8:
+        return rec.isRegression() ? "regression" : rec.isSuccess() ? "ok" : "failed";
+      }
+      return "";
+    }
+
+    // interface ITableColorProvider
+    @Override
+    public Color getForeground(Object element, int columnIndex) {
+      return ((BuildTelemetry.Record) element).isRegression() ? display.getSystemColor(SWT.COLOR_RED) : null;
+    }
+
+    // interface ITableColorProvider
+    @Override
+    public Color getBackground(Object element, int columnIndex) {
+      return null;
+    }
+  } // RecordLabelProvider
+}
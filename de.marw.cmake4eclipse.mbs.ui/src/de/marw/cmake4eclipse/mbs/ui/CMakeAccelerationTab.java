@@ -0,0 +1,539 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.Objects;
+
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICMultiConfigDescription;
+import org.eclipse.cdt.core.settings.model.ICResourceDescription;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.ILog;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Spinner;
+import org.eclipse.swt.widgets.Text;
+
+import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
+import de.marw.cmake4eclipse.mbs.settings.FastBuildCacheMode;
+import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
+import de.marw.cmake4eclipse.mbs.settings.LinkerType;
+
+/**
+ * UI to control the cache entries cmake offers to speed up compilation and linking: unity builds, precompiled headers,
+ * the linker, Ninja job pools, compiler caches, distributed compilation and the FASTBuild cache and workers. This tab
+ * is responsible for storing its values.
+ *
+ * @author Martin Weber
+ */
+public class CMakeAccelerationTab extends QuirklessAbstractCPropertyTab {
+  private static final ILog log = Activator.getDefault().getLog();
+
+  /**
+   * the preferences associated with our configurations to manage. Initialized in {@link #updateData}. {@code null} if
+   * this tab has never been displayed so a user could have made edits.
+   */
+  private CMakeSettings prefs;
+
+  // Widgets
+  private Button b_unityBuild;
+  /** whether to specify the batch size */
+  private Button b_unityBatchSize;
+  private Spinner s_unityBatchSize;
+  private Button b_disablePch;
+  private Button b_pchInstantiateTemplates;
+  /** the linker, item 0 is the default linker, the others are the {@link LinkerType} values */
+  private Combo c_linker;
+  private Button b_gdbIndex;
+  private Button b_splitDwarf;
+  private Button b_thinArchives;
+  private Button b_linkJobPool;
+  /** whether to specify the size of the link job pool */
+  private Button b_linkJobPoolSize;
+  private Spinner s_linkJobPoolSize;
+  private Button b_compileJobPool;
+  private Spinner s_compileJobPoolSize;
+  /** the compiler cache, item 0 is none, the others are the {@link CompilerCacheType} values */
+  private Combo c_compilerCache;
+  /** the tool to distribute compile jobs, item 0 is none, the others are the {@link DistributedCompilerType} values */
+  private Combo c_distributedCompiler;
+  /** whether to specify the number of remote job slots */
+  private Button b_distributedSlots;
+  private Spinner s_distributedSlots;
+  /** the FASTBuild cache mode, item 0 is none, the others are the {@link FastBuildCacheMode} values */
+  private Combo c_fastBuildCache;
+  private Text t_fastBuildCachePath;
+  private Button b_fastBuildDist;
+  private Text t_fastBuildWorkers;
+  private Button b_timeTrace;
+  private Button b_buildOnSave;
+  private Button b_skipUpToDate;
+
+  // This page can be displayed for project
+  @Override
+  public boolean canBeVisible() {
+    return page.isForProject();
+  }
+
+  @Override
+  public boolean canSupportMultiCfg() {
+    return false;
+  }
+
+  @Override
+  protected void createControls(Composite parent) {
+    super.setHelpContextId(Activator.PLUGIN_ID + ".cmake_acceleration_context");
+    super.createControls(parent);
+    usercomp.setLayout(new GridLayout(1, false));
+
+    // unity build group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Unity build", 2);
+      b_unityBuild = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Combine the sources of each target into &batches \t(CMAKE_UNITY_BUILD)");
+      b_unityBuild.setToolTipText("Compiles several source files of a target in a single compiler invocation.\n"
+          + "Speeds up builds from scratch, but may break sources that rely on file-local names.");
+      b_unityBatchSize = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Sources per batch \t(CMAKE_UNITY_BUILD_BATCH_SIZE)");
+      b_unityBatchSize.setToolTipText("If not checked, cmake's default of 8 is used.\n"
+          + "0 combines all sources of a target.");
+      s_unityBatchSize = new Spinner(gr, SWT.BORDER);
+      s_unityBatchSize.setMinimum(0);
+      s_unityBatchSize.setMaximum(1000);
+      s_unityBatchSize.setSelection(8);
+      s_unityBatchSize.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+
+      SelectionAdapter enabler = new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      };
+      b_unityBuild.addSelectionListener(enabler);
+      b_unityBatchSize.addSelectionListener(enabler);
+    } // unity build group
+
+    // precompiled headers group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Precompiled headers", 1);
+      b_disablePch = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Disable precompiled headers \t(CMAKE_DISABLE_PRECOMPILE_HEADERS)");
+      b_disablePch.setToolTipText("Ignores the precompiled headers specified by the CMake scripts.");
+      b_pchInstantiateTemplates = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Instantiate templates in the precompiled header \t(CMAKE_PCH_INSTANTIATE_TEMPLATES)");
+      b_pchInstantiateTemplates.setToolTipText("Instantiates templates once when the precompiled header is built\n"
+          + "instead of in each source file. Supported by clang only.");
+      b_disablePch.addSelectionListener(new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      });
+    } // precompiled headers group
+
+    // linking group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Linking", 2);
+      setupLabel(gr, "&Linker", 1, SWT.BEGINNING);
+      c_linker = new Combo(gr, SWT.READ_ONLY | SWT.DROP_DOWN | SWT.BORDER);
+      c_linker.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      c_linker.add("Compiler default");
+      for (LinkerType linker : LinkerType.values()) {
+        c_linker.add(linker.getFuseLdName());
+      }
+      c_linker.setToolTipText("The linker to pass to GCC or clang on ELF platforms as -fuse-ld.\n"
+          + "Ignored if the compiler cannot link with it (checked by cmake 3.18 or newer).");
+      b_gdbIndex = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2, "Let the linker create a &gdb index");
+      b_gdbIndex.setToolTipText("Speeds up loading the program into the debugger (-Wl,--gdb-index).");
+      b_splitDwarf = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Split debug &information out of the object files");
+      b_splitDwarf.setToolTipText("Writes the debug information to separate .dwo files (-gsplit-dwarf),\n"
+          + "so the linker has less data to process.");
+      b_thinArchives = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2, "Create &thin static libraries");
+      b_thinArchives.setToolTipText("Static libraries reference the object files instead of copying them (ar T).");
+      c_linker.addSelectionListener(new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      });
+    } // linking group
+
+    // job pools group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Job pools (Ninja only)", 2);
+      b_linkJobPool = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Limit parallel lin&k jobs \t(CMAKE_JOB_POOL_LINK)");
+      b_linkJobPool.setToolTipText("Linking large binaries needs a lot of memory. Limiting the link jobs lets\n"
+          + "compile jobs use all processors while links run at a safe width.");
+      b_linkJobPoolSize = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1, "&Number of link jobs");
+      b_linkJobPoolSize.setToolTipText("If not checked, the number is derived from the available memory and the\n"
+          + "memory use of the linker observed in previous builds.");
+      s_linkJobPoolSize = new Spinner(gr, SWT.BORDER);
+      s_linkJobPoolSize.setMinimum(1);
+      s_linkJobPoolSize.setMaximum(1024);
+      s_linkJobPoolSize.setSelection(1);
+      s_linkJobPoolSize.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      b_compileJobPool = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "Limit parallel &compile jobs to \t(CMAKE_JOB_POOL_COMPILE)");
+      s_compileJobPoolSize = new Spinner(gr, SWT.BORDER);
+      s_compileJobPoolSize.setMinimum(1);
+      s_compileJobPoolSize.setMaximum(1024);
+      s_compileJobPoolSize.setSelection(Runtime.getRuntime().availableProcessors());
+      s_compileJobPoolSize.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+
+      SelectionAdapter enabler = new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      };
+      b_linkJobPool.addSelectionListener(enabler);
+      b_linkJobPoolSize.addSelectionListener(enabler);
+      b_compileJobPool.addSelectionListener(enabler);
+    } // job pools group
+
+    // compiler cache group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Compiler cache", 2);
+      setupLabel(gr, "Run compilers t&hrough \t(CMAKE_<LANG>_COMPILER_LAUNCHER)", 1, SWT.BEGINNING);
+      c_compilerCache = new Combo(gr, SWT.READ_ONLY | SWT.DROP_DOWN | SWT.BORDER);
+      c_compilerCache.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      c_compilerCache.add("None");
+      for (CompilerCacheType cache : CompilerCacheType.values()) {
+        c_compilerCache.add(cache.getExecutableName());
+      }
+      c_compilerCache.setToolTipText("Serves repeated compilations from a cache shared by the projects of the\n"
+          + "workspace. Ignored if the compiler cache is not found on the executable search path.");
+    } // compiler cache group
+
+    // distributed compilation group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Distributed compilation", 2);
+      setupLabel(gr, "Distribute compile jobs &with", 1, SWT.BEGINNING);
+      c_distributedCompiler = new Combo(gr, SWT.READ_ONLY | SWT.DROP_DOWN | SWT.BORDER);
+      c_distributedCompiler.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      c_distributedCompiler.add("None");
+      for (DistributedCompilerType tool : DistributedCompilerType.values()) {
+        c_distributedCompiler.add(tool.getExecutableName());
+      }
+      c_distributedCompiler.setToolTipText("Sends compile jobs to the machines of a compile farm and runs as many\n"
+          + "parallel jobs as the farm and the local processors take. Links run on the local host.");
+      b_distributedSlots = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1, "&Remote job slots");
+      b_distributedSlots.setToolTipText("If not checked, the number is taken from the distcc host specification\n"
+          + "(DISTCC_HOSTS or the hosts file). Required for icecream.");
+      s_distributedSlots = new Spinner(gr, SWT.BORDER);
+      s_distributedSlots.setMinimum(1);
+      s_distributedSlots.setMaximum(4096);
+      s_distributedSlots.setSelection(16);
+      s_distributedSlots.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+
+      SelectionAdapter enabler = new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      };
+      c_distributedCompiler.addSelectionListener(enabler);
+      b_distributedSlots.addSelectionListener(enabler);
+    } // distributed compilation group
+
+    // FASTBuild group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "FASTBuild", 2);
+      setupLabel(gr, "Object ca&che", 1, SWT.BEGINNING);
+      c_fastBuildCache = new Combo(gr, SWT.READ_ONLY | SWT.DROP_DOWN | SWT.BORDER);
+      c_fastBuildCache.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      c_fastBuildCache.add("Not used");
+      c_fastBuildCache.add("Read and write \t(-cache)");
+      c_fastBuildCache.add("Read only \t(-cacheread)");
+      c_fastBuildCache.add("Write only \t(-cachewrite)");
+      setupLabel(gr, "Cache &directory", 1, SWT.BEGINNING);
+      t_fastBuildCachePath = setupText(gr, 1, GridData.FILL_HORIZONTAL);
+      t_fastBuildCachePath.setToolTipText("Sets FASTBUILD_CACHE_PATH. If empty, the value of the build environment\n"
+          + "or the .CachePath of the build script is used.");
+      b_fastBuildDist = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Distribute compile jobs to &workers \t(-dist)");
+      setupLabel(gr, "W&orkers", 1, SWT.BEGINNING);
+      t_fastBuildWorkers = setupText(gr, 1, GridData.FILL_HORIZONTAL);
+      t_fastBuildWorkers.setToolTipText("Sets FASTBUILD_WORKERS, host names separated by semicolons.\n"
+          + "If empty, the workers are found through the brokerage (FASTBUILD_BROKERAGE_PATH).");
+
+      SelectionAdapter enabler = new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateEnablement();
+        }
+      };
+      c_fastBuildCache.addSelectionListener(enabler);
+      b_fastBuildDist.addSelectionListener(enabler);
+    } // FASTBuild group
+
+    // compile time analysis group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Compile time analysis", 1);
+      b_timeTrace = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Profile compilations with clang's time trace \t(-ftime-trace)");
+      b_timeTrace.setToolTipText("Lets clang record where each compilation spends its time and shows the most\n"
+          + "expensive headers and template instantiations after the build. Ignored by other compilers.");
+    } // compile time analysis group
+
+    // background build group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Background build", 1);
+      b_buildOnSave = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Build the targets of saved source files in the background");
+      b_buildOnSave.setToolTipText("Builds the targets that compile a saved file shortly after saving, with the\n"
+          + "active configuration. Has no effect if the workspace builds automatically.");
+    } // background build group
+
+    // up-to-date check group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 1, "Up-to-date check", 1);
+      b_skipUpToDate = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "Skip the b&uild if no file changed since the last successful build (Ninja only)");
+      b_skipUpToDate.setToolTipText("Neither runs cmake nor the build tool if no file of the project or its\n"
+          + "referenced projects changed and no source file or header the compiler read was modified.\n"
+          + "Changes to the toolchain, the environment or link inputs outside of the workspace go unnoticed.");
+    } // up-to-date check group
+  }
+
+  /**
+   * Enables the widgets that depend on the selection of other widgets.
+   */
+  private void updateEnablement() {
+    b_unityBatchSize.setEnabled(b_unityBuild.getSelection());
+    s_unityBatchSize.setEnabled(b_unityBuild.getSelection() && b_unityBatchSize.getSelection());
+    b_pchInstantiateTemplates.setEnabled(!b_disablePch.getSelection());
+    b_gdbIndex.setEnabled(c_linker.getSelectionIndex() > 0);
+    b_linkJobPoolSize.setEnabled(b_linkJobPool.getSelection());
+    s_linkJobPoolSize.setEnabled(b_linkJobPool.getSelection() && b_linkJobPoolSize.getSelection());
+    s_compileJobPoolSize.setEnabled(b_compileJobPool.getSelection());
+    b_distributedSlots.setEnabled(c_distributedCompiler.getSelectionIndex() > 0);
+    s_distributedSlots.setEnabled(c_distributedCompiler.getSelectionIndex() > 0 && b_distributedSlots.getSelection());
+    t_fastBuildCachePath.setEnabled(c_fastBuildCache.getSelectionIndex() > 0);
+    t_fastBuildWorkers.setEnabled(b_fastBuildDist.getSelection());
+  }
+
+  @Override
+  protected void updateData(ICResourceDescription resd) {
+    if (resd == null)
+      return;
+
+    if (!page.isMultiCfg()) {
+      // workaround for AbstractCPropertyTab.handleTabEvent() bug, switching from multi-cfg
+      // to single-cfg does not make this tab visible again...
+      setAllVisible(true, null);
+    } else {
+      prefs = null;
+      return;
+    }
+
+    final ICConfigurationDescription cfgd = resd.getConfiguration();
+    try {
+      prefs = ConfigurationManager.getInstance().getOrLoad(cfgd);
+      updateDisplay();
+    } catch (CoreException ex) {
+      log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, null, ex));
+    }
+  }
+
+  /**
+   * Invoked when project configuration changes?? At least when apply button is pressed.
+   *
+   * @see org.eclipse.cdt.ui.newui.AbstractCPropertyTab#performApply(org.eclipse.cdt.core.settings.model.ICResourceDescription,
+   *      org.eclipse.cdt.core.settings.model.ICResourceDescription)
+   */
+  @Override
+  protected void performApply(ICResourceDescription src, ICResourceDescription dst) {
+    // make sure the displayed values get applied
+    saveToModel();
+
+    ICConfigurationDescription srcCfg = src.getConfiguration();
+    ICConfigurationDescription dstCfg = dst.getConfiguration();
+    if (!(srcCfg instanceof ICMultiConfigDescription)) {
+      try {
+        final ConfigurationManager configMgr = ConfigurationManager.getInstance();
+        CMakeSettings srcPrefs = configMgr.getOrLoad(srcCfg);
+        CMakeSettings dstPrefs = configMgr.getOrCreate(dstCfg);
+        if (srcPrefs != dstPrefs) {
+          dstPrefs.setUnityBuild(srcPrefs.isUnityBuild());
+          dstPrefs.setUnityBuildBatchSize(srcPrefs.getUnityBuildBatchSize());
+          dstPrefs.setDisablePrecompileHeaders(srcPrefs.isDisablePrecompileHeaders());
+          dstPrefs.setPchInstantiateTemplates(srcPrefs.isPchInstantiateTemplates());
+          dstPrefs.setLinker(srcPrefs.getLinker());
+          dstPrefs.setGdbIndex(srcPrefs.isGdbIndex());
+          dstPrefs.setSplitDwarf(srcPrefs.isSplitDwarf());
+          dstPrefs.setThinArchives(srcPrefs.isThinArchives());
+          dstPrefs.setLinkJobPool(srcPrefs.isLinkJobPool());
+          dstPrefs.setLinkJobPoolSize(srcPrefs.getLinkJobPoolSize());
+          dstPrefs.setCompileJobPoolSize(srcPrefs.getCompileJobPoolSize());
+          dstPrefs.setCompilerCache(srcPrefs.getCompilerCache());
+          dstPrefs.setDistributedCompiler(srcPrefs.getDistributedCompiler());
+          dstPrefs.setDistributedSlots(srcPrefs.getDistributedSlots());
+          dstPrefs.setFastBuildCache(srcPrefs.getFastBuildCache());
+          dstPrefs.setFastBuildCachePath(srcPrefs.getFastBuildCachePath());
+          dstPrefs.setFastBuildDist(srcPrefs.isFastBuildDist());
+          dstPrefs.setFastBuildWorkers(srcPrefs.getFastBuildWorkers());
+          dstPrefs.setTimeTrace(srcPrefs.isTimeTrace());
+          dstPrefs.setBuildOnSave(srcPrefs.isBuildOnSave());
+          dstPrefs.setSkipUpToDate(srcPrefs.isSkipUpToDate());
+        }
+        // Apply does persist settings, as CDT >= 9.4 does
+        persist(dst);
+      } catch (CoreException ex) {
+        log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, null, ex));
+      }
+    }
+  }
+
+  @Override
+  protected void performOK() {
+    // make sure the displayed values get saved
+    saveToModel();
+    persist(getResDesc());
+  }
+
+  private void persist(final ICResourceDescription resDesc) {
+    if (resDesc == null || prefs == null)
+      return;
+
+    final ICConfigurationDescription cfgd = resDesc.getConfiguration();
+    try {
+      // save as project settings..
+      prefs.save(cfgd);
+    } catch (CoreException ex) {
+      log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, null, ex));
+    }
+  }
+
+  /*-
+   * @see org.eclipse.cdt.ui.newui.AbstractCPropertyTab#performDefaults()
+   */
+  @Override
+  protected void performDefaults() {
+    if (prefs == null)
+      return;
+    // do not reset the settings edited on other tabs
+    b_unityBuild.setSelection(false);
+    b_unityBatchSize.setSelection(false);
+    s_unityBatchSize.setSelection(8);
+    b_disablePch.setSelection(false);
+    b_pchInstantiateTemplates.setSelection(false);
+    c_linker.select(0);
+    b_gdbIndex.setSelection(false);
+    b_splitDwarf.setSelection(false);
+    b_thinArchives.setSelection(false);
+    b_linkJobPool.setSelection(false);
+    b_linkJobPoolSize.setSelection(false);
+    s_linkJobPoolSize.setSelection(1);
+    b_compileJobPool.setSelection(false);
+    s_compileJobPoolSize.setSelection(Runtime.getRuntime().availableProcessors());
+    c_compilerCache.select(0);
+    c_distributedCompiler.select(0);
+    b_distributedSlots.setSelection(false);
+    s_distributedSlots.setSelection(16);
+    c_fastBuildCache.select(0);
+    t_fastBuildCachePath.setText("");
+    b_fastBuildDist.setSelection(false);
+    t_fastBuildWorkers.setText("");
+    b_timeTrace.setSelection(false);
+    b_buildOnSave.setSelection(false);
+    b_skipUpToDate.setSelection(false);
+    updateEnablement();
+  }
+
+  /**
+   * Stores displayed values to the preferences edited by this tab.
+   */
+  private void saveToModel() {
+    if (prefs == null)
+      return;
+    prefs.setUnityBuild(b_unityBuild.getSelection());
+    prefs.setUnityBuildBatchSize(b_unityBatchSize.getSelection() ? s_unityBatchSize.getSelection() : null);
+    prefs.setDisablePrecompileHeaders(b_disablePch.getSelection());
+    prefs.setPchInstantiateTemplates(b_pchInstantiateTemplates.getSelection());
+    final int idx = c_linker.getSelectionIndex();
+    prefs.setLinker(idx > 0 ? LinkerType.values()[idx - 1] : null);
+    prefs.setGdbIndex(b_gdbIndex.getSelection());
+    prefs.setSplitDwarf(b_splitDwarf.getSelection());
+    prefs.setThinArchives(b_thinArchives.getSelection());
+    prefs.setLinkJobPool(b_linkJobPool.getSelection());
+    prefs.setLinkJobPoolSize(b_linkJobPoolSize.getSelection() ? s_linkJobPoolSize.getSelection() : null);
+    prefs.setCompileJobPoolSize(b_compileJobPool.getSelection() ? s_compileJobPoolSize.getSelection() : null);
+    final int cacheIdx = c_compilerCache.getSelectionIndex();
+    prefs.setCompilerCache(cacheIdx > 0 ? CompilerCacheType.values()[cacheIdx - 1] : null);
+    final int distIdx = c_distributedCompiler.getSelectionIndex();
+    prefs.setDistributedCompiler(distIdx > 0 ? DistributedCompilerType.values()[distIdx - 1] : null);
+    prefs.setDistributedSlots(b_distributedSlots.getSelection() ? s_distributedSlots.getSelection() : null);
+    final int fbCacheIdx = c_fastBuildCache.getSelectionIndex();
+    prefs.setFastBuildCache(fbCacheIdx > 0 ? FastBuildCacheMode.values()[fbCacheIdx - 1] : null);
+    String value = t_fastBuildCachePath.getText().trim();
+    prefs.setFastBuildCachePath(value.isEmpty() ? null : value);
+    prefs.setFastBuildDist(b_fastBuildDist.getSelection());
+    value = t_fastBuildWorkers.getText().trim();
+    prefs.setFastBuildWorkers(value.isEmpty() ? null : value);
+    prefs.setTimeTrace(b_timeTrace.getSelection());
+    prefs.setBuildOnSave(b_buildOnSave.getSelection());
+    prefs.setSkipUpToDate(b_skipUpToDate.getSelection());
+  }
+
+  /**
+   * Updates displayed values according to the preferences edited by this tab.
+   */
+  private void updateDisplay() {
+    b_unityBuild.setSelection(prefs.isUnityBuild());
+    Integer batchSize = prefs.getUnityBuildBatchSize();
+    b_unityBatchSize.setSelection(batchSize != null);
+    s_unityBatchSize.setSelection(batchSize == null ? 8 : batchSize);
+    b_disablePch.setSelection(prefs.isDisablePrecompileHeaders());
+    b_pchInstantiateTemplates.setSelection(prefs.isPchInstantiateTemplates());
+    LinkerType linker = prefs.getLinker();
+    c_linker.select(linker == null ? 0 : linker.ordinal() + 1);
+    b_gdbIndex.setSelection(prefs.isGdbIndex());
+    b_splitDwarf.setSelection(prefs.isSplitDwarf());
+    b_thinArchives.setSelection(prefs.isThinArchives());
+    b_linkJobPool.setSelection(prefs.isLinkJobPool());
+    Integer linkJobs = prefs.getLinkJobPoolSize();
+    b_linkJobPoolSize.setSelection(linkJobs != null);
+    s_linkJobPoolSize.setSelection(linkJobs == null ? 1 : linkJobs);
+    Integer compileJobs = prefs.getCompileJobPoolSize();
+    b_compileJobPool.setSelection(compileJobs != null);
+    if (compileJobs != null) {
+      s_compileJobPoolSize.setSelection(compileJobs);
+    }
+    CompilerCacheType compilerCache = prefs.getCompilerCache();
+    c_compilerCache.select(compilerCache == null ? 0 : compilerCache.ordinal() + 1);
+    DistributedCompilerType distributedCompiler = prefs.getDistributedCompiler();
+    c_distributedCompiler.select(distributedCompiler == null ? 0 : distributedCompiler.ordinal() + 1);
+    Integer slots = prefs.getDistributedSlots();
+    b_distributedSlots.setSelection(slots != null);
+    s_distributedSlots.setSelection(slots == null ? 16 : slots);
+    FastBuildCacheMode fastBuildCache = prefs.getFastBuildCache();
+    c_fastBuildCache.select(fastBuildCache == null ? 0 : fastBuildCache.ordinal() + 1);
+    t_fastBuildCachePath.setText(Objects.toString(prefs.getFastBuildCachePath(), ""));
+    b_fastBuildDist.setSelection(prefs.isFastBuildDist());
+    t_fastBuildWorkers.setText(Objects.toString(prefs.getFastBuildWorkers(), ""));
+    b_timeTrace.setSelection(prefs.isTimeTrace());
+    b_buildOnSave.setSelection(prefs.isBuildOnSave());
+    b_skipUpToDate.setSelection(prefs.isSkipUpToDate());
+    updateEnablement();
+  }
+}
@@ -8,6 +8,7 @@
  *******************************************************************************/
 package de.marw.cmake4eclipse.mbs.ui;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -20,7 +21,10 @@ import org.eclipse.cdt.ui.newui.AbstractPage;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -32,6 +36,7 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Combo;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Text;
@@ -39,6 +44,8 @@ import org.eclipse.ui.dialogs.FilteredItemsSelectionDialog;
 import org.eclipse.ui.dialogs.FilteredResourcesSelectionDialog;
 import org.eclipse.ui.dialogs.NewFolderDialog;
 
+import de.marw.cmake4eclipse.mbs.internal.ConfigurePresetUtil;
+import de.marw.cmake4eclipse.mbs.internal.presets.CMakePresets;
 import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
 import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
 import de.marw.cmake4eclipse.mbs.ui.slim.BelowRootPathTextFieldModifyListener;
@@ -67,6 +74,8 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
   /** variables in output folder text field */
   private Button b_cmdVariablesOutput;
   private Button b_cmdVariablesOther;
+  /** name of the configure preset */
+  private Combo c_configurePreset;
 
   /**
    * the preferences associated with our configurations to manage. Initialized
@@ -143,6 +152,19 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
       });
     }
 
+    // configure preset group
+    {
+      Group gr = WidgetHelper.createGroup(usercomp, SWT.FILL, 2, "Configure preset (CMakePresets.json)", 2);
+
+      setupLabel(gr, "&Preset", 1, SWT.BEGINNING);
+      c_configurePreset = new Combo(gr, SWT.DROP_DOWN | SWT.BORDER);
+      c_configurePreset.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+      c_configurePreset.setToolTipText("The name of a configure preset from the CMakePresets.json or "
+          + "CMakeUserPresets.json file in the top-level source folder.\n"
+          + "The generator, binaryDir and cacheVariables of the preset are passed to cmake. "
+          + "Leave empty to not use a preset.");
+    } // configure preset group
+
     // cmake prepopulate cache group...
     {
       Group gr2 = WidgetHelper.createGroup(usercomp, SWT.FILL, 2, "Pre-load a script to populate the CMake cache entries (-C)", 2);
@@ -243,6 +265,39 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
     b_cmdVariablesOther.setEnabled(editable);
   }
 
+  /**
+   * Sets the value of the configure preset field and whether the user can edit that input field.
+   *
+   * @param text
+   *          the text to display in the configure preset field
+   */
+  private void setConfigurePresetEditable(boolean editable, String text) {
+    text= editable ? text : CONFIGURATIONS_DIFFER;
+    c_configurePreset.setText(text == null ? "" : text);
+    c_configurePreset.setEnabled(editable);
+  }
+
+  /**
+   * Fills the drop-down list of the configure preset field with the names of the presets found in the top-level
+   * source folder of the project.
+   */
+  private void updatePresetNames(ICConfigurationDescription cfgd) {
+    c_configurePreset.removeAll();
+    c_configurePreset.add("");
+    IPath cmakelistsPath = ConfigurePresetUtil.getCMakeListsPath(cfgd);
+    if (cmakelistsPath != null) {
+      IProject project = page.getProject();
+      IContainer cmakelistsDir = cmakelistsPath.isEmpty() ? project : project.getFolder(cmakelistsPath);
+      IPath location = cmakelistsDir.getLocation();
+      if (location != null) {
+        List<String> names = CMakePresets.get(location.toPath()).getPresetNames();
+        for (String name : names) {
+          c_configurePreset.add(name);
+        }
+      }
+    }
+  }
+
   /**
    * Updates displayed values according to the preferences edited by this tab.
    */
@@ -250,6 +305,7 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
     boolean cacheFileEditable;
     boolean buildFolderEditable;
     boolean otherArgsEditable;
+    boolean presetEditable;
 
     if (prefs.length > 1) {
       // we are editing multiple configurations...
@@ -259,17 +315,21 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
       buildFolderEditable = !preferencesDiffer(CMakeSettings::getBuildDirectory);
       // make t_otherArguments disabled, if its settings are not the same in all configurations
       otherArgsEditable = !preferencesDiffer(CMakeSettings::getOtherArguments);
+      // make c_configurePreset disabled, if its settings are not the same in all configurations
+      presetEditable = !preferencesDiffer(CMakeSettings::getConfigurePreset);
     } else {
       // we are editing a single configuration...
       // all buttons are in toggle mode
       cacheFileEditable = true;
       buildFolderEditable = true;
       otherArgsEditable = true;
+      presetEditable = true;
     }
 
     setCacheFileEditable(cacheFileEditable, prefs[0].getCacheFile());
     setBuildFolderEditable(buildFolderEditable, prefs[0].getBuildDirectory());
     setOtherOptionsEditable(otherArgsEditable, prefs[0].getOtherArguments());
+    setConfigurePresetEditable(presetEditable, prefs[0].getConfigurePreset());
   }
 
   /**
@@ -315,6 +375,10 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
           final String args = t_otherArguments.getText().trim();
           pref.setOtherArguments(args.isEmpty() ? null : args);
         }
+        if (c_configurePreset.getEnabled()) {
+          final String preset = c_configurePreset.getText().trim();
+          pref.setConfigurePreset(preset.isEmpty() ? null : preset);
+        }
       }
     } else {
       // we are editing a single configuration...
@@ -326,6 +390,8 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
       pref.setBuildDirectory(value);
       value = t_otherArguments.getText().trim();
       pref.setOtherArguments(value.isEmpty() ? null : value);
+      value = c_configurePreset.getText().trim();
+      pref.setConfigurePreset(value.isEmpty() ? null : value);
     }
   }
 
@@ -352,6 +418,9 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
     } catch (CoreException ex) {
       log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, null, ex));
     }
+    updatePresetNames(cfgd instanceof ICMultiConfigDescription
+        ? (ICConfigurationDescription) ((ICMultiConfigDescription) cfgd).getItems()[0]
+        : cfgd);
     updateDisplay();
   }
 
@@ -412,6 +481,7 @@ public class CMakePropertyTab extends QuirklessAbstractCPropertyTab {
         dstPrefs.setWarnUnused(srcPrefs.isWarnUnused());
         dstPrefs.setCacheFile(srcPrefs.getCacheFile());
         dstPrefs.setBuildDirectory(srcPrefs.getBuildDirectory());
+        dstPrefs.setConfigurePreset(srcPrefs.getConfigurePreset());
       }
   }
 
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.cdt.newmake.core.IMakeBuilderInfo;
+import org.eclipse.cdt.ui.CUIPlugin;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.dialogs.ErrorDialog;
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Shell;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IFileEditorInput;
+import org.eclipse.ui.handlers.HandlerUtil;
+import org.eclipse.ui.ide.IDE;
+
+import de.marw.cmake4eclipse.mbs.internal.CompileFile;
+import de.marw.cmake4eclipse.mbs.nature.C4ENature;
+
+/**
+ * Compiles the selected source file or the source file in the active editor by building only its object file with
+ * the active build configuration. Unlike a build of the project, this neither checks the other targets nor links.
+ *
+ * @author Martin Weber
+ */
+public class CompileFileHandler extends AbstractHandler {
+  private static final String TITLE = "Compile File";
+
+  @Override
+  public Object execute(ExecutionEvent event) {
+    IFile file = getFile(event);
+    if (file == null || file.getLocation() == null) {
+      return null;
+    }
+    Shell shell = HandlerUtil.getActiveShell(event);
+    IProject project = file.getProject();
+    try {
+      if (!project.hasNature(C4ENature.NATURE_ID)) {
+        return null;
+      }
+    } catch (CoreException ex) {
+      return null; // project is closed
+    }
+    ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(project, false);
+    if (projectDescription == null) {
+      return null;
+    }
+    ICConfigurationDescription cfgd = projectDescription.getActiveConfiguration();
+    String target;
+    try {
+      target = CompileFile.getObjectTarget(cfgd, file.getLocation());
+    } catch (CoreException ex) {
+      ErrorDialog.openError(shell, TITLE, null, ex.getStatus());
+      return null;
+    }
+    if (target == null) {
+      MessageDialog.openInformation(shell, TITLE, String.format("No compile command for '%s' in configuration '%s'."
+          + " Only source files of a target can be compiled and the project must have been built once.",
+          file.getName(), cfgd.getName()));
+      return null;
+    }
+
+    IDE.saveAllEditors(new IResource[] { file }, false);
+    // Setup the global build console
+    CUIPlugin.getDefault().startGlobalConsole();
+    Job job = new Job("Compiling " + file.getName()) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        final Map<String, String> buildArgs = new HashMap<>();
+        buildArgs.put(IMakeBuilderInfo.BUILD_TARGET_INCREMENTAL, target);
+        try {
+          ResourcesPlugin.getWorkspace().run(
+              pm -> project.build(IncrementalProjectBuilder.FULL_BUILD, C4ENature.BUILDER_ID, buildArgs, pm), null,
+              IResource.NONE, monitor);
+        } catch (CoreException e) {
+          return e.getStatus();
+        } catch (OperationCanceledException e) {
+          return Status.CANCEL_STATUS;
+        }
+        return Status.OK_STATUS;
+      }
+
+      @Override
+      public boolean belongsTo(Object family) {
+        return ResourcesPlugin.FAMILY_MANUAL_BUILD == family;
+      }
+    };
+    job.schedule();
+    return null;
+  }
+
+  /**
+   * Gets the file to compile: the selected file in a view or the file edited in the active editor.
+   */
+  private static IFile getFile(ExecutionEvent event) {
+    if (HandlerUtil.getActivePart(event) instanceof IEditorPart) {
+      IEditorPart editor = (IEditorPart) HandlerUtil.getActivePart(event);
+      if (editor.getEditorInput() instanceof IFileEditorInput) {
+        return ((IFileEditorInput) editor.getEditorInput()).getFile();
+      }
+      return null;
+    }
+    ISelection selection = HandlerUtil.getCurrentSelection(event);
+    if (selection instanceof IStructuredSelection && ((IStructuredSelection) selection).size() == 1) {
+      return Adapters.adapt(((IStructuredSelection) selection).getFirstElement(), IFile.class);
+    }
+    return null;
+  }
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.BaseLabelProvider;
+import org.eclipse.jface.viewers.ITableLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.CompilerCacheStatistics;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.CompilerCacheStats;
+
+/**
+ * Shows the cache hits and misses of the compiler cache during the most recent build of each project and build
+ * configuration.
+ *
+ * @author Martin Weber
+ */
+public class CompilerCacheView extends ViewPart {
+  private static final String[] tableColumnNames = { "Project", "Configuration", "Cache", "Hits", "Misses",
+      "Hit rate", "Built" };
+  private static final int[] tableColumnWidths = { 150, 100, 70, 70, 70, 70, 150 };
+
+  private TableViewer tableViewer;
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    // the statistics of ccache and sccache are those of the whole cache
+    setContentDescription("Builds that ran while another build used a compiler cache are not counted, since the cache"
+        + " cannot tell their hits and misses apart.");
+    tableViewer = new TableViewer(parent, SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+    for (int i = 0; i < tableColumnNames.length; i++) {
+      final TableViewerColumn viewerColumn = new TableViewerColumn(tableViewer, i < 3 ? SWT.LEFT : SWT.RIGHT);
+      final TableColumn column = viewerColumn.getColumn();
+      column.setText(tableColumnNames[i]);
+      column.setWidth(tableColumnWidths[i]);
+      column.setResizable(true);
+      column.setMoveable(true);
+    }
+    final Table table = tableViewer.getTable();
+    table.setHeaderVisible(true);
+    table.setLinesVisible(true);
+    tableViewer.setContentProvider(ArrayContentProvider.getInstance());
+    tableViewer.setLabelProvider(new EntryLabelProvider());
+
+    final CompilerCacheStatistics statistics = CompilerCacheStatistics.getInstance();
+    statistics.addListener(listener);
+    tableViewer.setInput(statistics.getEntries());
+  }
+
+  /**
+   * Refreshes the table in the UI thread. Called in the thread of a build.
+   */
+  private void refreshAsync() {
+    final Table table = tableViewer.getTable();
+    if (!table.isDisposed()) {
+      table.getDisplay().asyncExec(() -> {
+        if (!table.isDisposed()) {
+          tableViewer.setInput(CompilerCacheStatistics.getInstance().getEntries());
+        }
+      });
+    }
+  }
+
+  @Override
+  public void setFocus() {
+    tableViewer.getControl().setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    CompilerCacheStatistics.getInstance().removeListener(listener);
+    super.dispose();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  private static class EntryLabelProvider extends BaseLabelProvider implements ITableLabelProvider {
+    private final DateFormat timeFormat = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.MEDIUM);
+
+    // interface ITableLabelProvider
+    @Override
+    public Image getColumnImage(Object element, int columnIndex) {
+      return null;
+    }
+
+    // interface ITableLabelProvider
+    @Override
+    public String getColumnText(Object element, int columnIndex) {
+      final CompilerCacheStatistics.Entry entry = (CompilerCacheStatistics.Entry) element;
+      final CompilerCacheStats stats = entry.getStats();
+      switch (columnIndex) {
+      case 0:
+        return entry.getProjectName();
+      case 1:
+        return entry.getConfigName();
+      case 2:
+        return entry.getTool();
+      case 3:
+        return Long.toString(stats.getHits());
+      case 4:
+        return Long.toString(stats.getMisses());
+      case 5:
+        return stats.getHitRate() < 0 ? "-" : String.format(Locale.ROOT, "%.1f%%", stats.getHitRate());
+      case 6:
+        return timeFormat.format(new Date(entry.getTime()));
+      }
+      return "";
+    }
+  } // EntryLabelProvider
+}
@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestRunner;
+
+/**
+ * Builds the active build configuration of the selected project, then runs the tests affected by the files changed
+ * since the last passing run and shows the results in the CTest Results view.
+ *
+ * @author Martin Weber
+ */
+public class RunAffectedTestsHandler extends RunTestsHandler {
+
+  @Override
+  protected IStatus runTests(IProject project, ICConfigurationDescription cfgd, IProgressMonitor monitor) {
+    return CTestRunner.runAffected(project, cfgd, monitor);
+  }
+}
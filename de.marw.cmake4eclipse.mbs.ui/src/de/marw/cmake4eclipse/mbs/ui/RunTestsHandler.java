@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.List;
+
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.core.commands.AbstractHandler;
+import org.eclipse.core.commands.ExecutionEvent;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.handlers.HandlerUtil;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestRunner;
+import de.marw.cmake4eclipse.mbs.nature.C4ENature;
+
+/**
+ * Runs the tests of the active build configuration of the selected project with ctest and shows the results in the
+ * CTest Results view.
+ *
+ * @author Martin Weber
+ */
+public class RunTestsHandler extends AbstractHandler {
+
+  @Override
+  public Object execute(ExecutionEvent event) {
+    IProject project = getProject(event);
+    if (project == null) {
+      return null;
+    }
+    try {
+      if (!project.hasNature(C4ENature.NATURE_ID)) {
+        return null;
+      }
+    } catch (CoreException ex) {
+      return null; // project is closed
+    }
+    ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(project, false);
+    if (projectDescription == null) {
+      return null;
+    }
+    final ICConfigurationDescription cfgd = projectDescription.getActiveConfiguration();
+    showView(HandlerUtil.getActiveWorkbenchWindow(event));
+    Job job = new Job("Testing " + project.getName()) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        return runTests(project, cfgd, monitor);
+      }
+    };
+    // do not test while the project is built
+    job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+    job.schedule();
+    return null;
+  }
+
+  /**
+   * Runs the tests. Called in a job that holds the workspace build rule.
+   *
+   * @param cfgd the active configuration of the project
+   */
+  protected IStatus runTests(IProject project, ICConfigurationDescription cfgd, IProgressMonitor monitor) {
+    return CTestRunner.run(project, cfgd, List.of(), monitor);
+  }
+
+  private static void showView(IWorkbenchWindow window) {
+    if (window == null) {
+      return;
+    }
+    IWorkbenchPage page = window.getActivePage();
+    if (page != null) {
+      try {
+        page.showView(TestResultsView.ID, null, IWorkbenchPage.VIEW_VISIBLE);
+      } catch (PartInitException ex) {
+        Activator.getDefault().getLog().log(ex.getStatus());
+      }
+    }
+  }
+
+  /**
+   * Gets the project of the selected resource or of the file edited in the active editor.
+   */
+  private static IProject getProject(ExecutionEvent event) {
+    if (HandlerUtil.getActivePart(event) instanceof IEditorPart) {
+      IEditorPart editor = (IEditorPart) HandlerUtil.getActivePart(event);
+      IResource resource = Adapters.adapt(editor.getEditorInput(), IResource.class);
+      return resource == null ? null : resource.getProject();
+    }
+    ISelection selection = HandlerUtil.getCurrentSelection(event);
+    if (selection instanceof IStructuredSelection && ((IStructuredSelection) selection).size() == 1) {
+      IResource resource = Adapters.adapt(((IStructuredSelection) selection).getFirstElement(), IResource.class);
+      return resource == null ? null : resource.getProject();
+    }
+    return null;
+  }
+}
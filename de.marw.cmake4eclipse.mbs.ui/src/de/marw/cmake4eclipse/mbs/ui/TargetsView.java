@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.cdt.newmake.core.IMakeBuilderInfo;
+import org.eclipse.cdt.ui.CUIPlugin;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITreeContentProvider;
+import org.eclipse.jface.viewers.LabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.ui.dialogs.FilteredTree;
+import org.eclipse.ui.dialogs.PatternFilter;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.TargetIndex;
+import de.marw.cmake4eclipse.mbs.nature.C4ENature;
+import de.marw.cmake4eclipse.mbs.ui.slim.BuildTargetsManager;
+
+/**
+ * Shows the targets cmake generated build scripts for in the build directory of the active configuration of a project,
+ * grouped by the source directory that defines them. The targets of a directory are created when the directory is
+ * expanded or when the filter text is matched against them. Double-clicking a target builds it.
+ *
+ * @author Martin Weber
+ */
+public class TargetsView extends ViewPart {
+  private Combo c_project;
+  private Label l_summary;
+  private TreeViewer viewer;
+  private List<IProject> projects = List.of();
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    parent.setLayout(new GridLayout(2, false));
+    Label label = new Label(parent, SWT.NONE);
+    label.setText("Project:");
+    c_project = new Combo(parent, SWT.READ_ONLY | SWT.DROP_DOWN);
+    c_project.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+    c_project.addListener(SWT.Selection, e -> showProject());
+    l_summary = new Label(parent, SWT.WRAP);
+    l_summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+    PatternFilter filter = new PatternFilter();
+    filter.setIncludeLeadingWildcard(true);
+    FilteredTree tree = new FilteredTree(parent, SWT.SINGLE | SWT.H_SCROLL | SWT.V_SCROLL | SWT.BORDER, filter, true,
+        true);
+    tree.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 2, 1));
+    viewer = tree.getViewer();
+    viewer.setUseHashlookup(true);
+    viewer.setContentProvider(new TargetsContentProvider());
+    viewer.setLabelProvider(new LabelProvider());
+    viewer.addDoubleClickListener(e -> {
+      Object element = ((IStructuredSelection) e.getSelection()).getFirstElement();
+      if (element instanceof Target) {
+        buildTarget((Target) element);
+      } else if (element != null) {
+        viewer.setExpandedState(element, !viewer.getExpandedState(element));
+      }
+    });
+
+    TargetIndex.addListener(listener);
+    refresh();
+  }
+
+  /**
+   * Refreshes the view in the UI thread. Called in the thread of a build.
+   */
+  private void refreshAsync() {
+    if (!c_project.isDisposed()) {
+      c_project.getDisplay().asyncExec(() -> {
+        if (!c_project.isDisposed()) {
+          refresh();
+        }
+      });
+    }
+  }
+
+  /**
+   * Updates the projects to choose from and shows the targets of the selected project.
+   */
+  private void refresh() {
+    String selected = c_project.getSelectionIndex() < 0 ? null : c_project.getText();
+    projects = new ArrayList<>();
+    for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+      if (project.isOpen() && BuildTargetsManager.hasC4ENature(project)) {
+        projects.add(project);
+      }
+    }
+    String[] items = new String[projects.size()];
+    for (int i = 0; i < items.length; i++) {
+      items[i] = projects.get(i).getName();
+    }
+    c_project.setItems(items);
+    int index = selected == null ? -1 : c_project.indexOf(selected);
+    c_project.select(index < 0 ? 0 : index);
+    showProject();
+  }
+
+  /**
+   * Reads the targets of the project selected in the combo in the background and shows them.
+   */
+  private void showProject() {
+    int index = c_project.getSelectionIndex();
+    if (index < 0) {
+      l_summary.setText("No cmake4eclipse project in the workspace");
+      viewer.setInput(null);
+      return;
+    }
+    final IProject project = projects.get(index);
+    ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(project, false);
+    if (projectDescription == null) {
+      return;
+    }
+    final ICConfigurationDescription cfgd = projectDescription.getActiveConfiguration();
+    final IPath buildDir = ResourcesPlugin.getWorkspace().getRoot()
+        .getFolder(cfgd.getBuildSetting().getBuilderCWD()).getLocation();
+    if (buildDir == null) {
+      return;
+    }
+    Job job = new Job("Reading targets of " + project.getName()) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        final TargetIndex targets = TargetIndex.get(buildDir.toPath());
+        if (!c_project.isDisposed()) {
+          c_project.getDisplay().asyncExec(() -> {
+            if (c_project.isDisposed() || !project.getName().equals(c_project.getText())) {
+              return;
+            }
+            if (targets == null) {
+              l_summary.setText(String.format("No targets known for configuration '%s'. Build it with cmake 3.14 or"
+                  + " newer to discover its targets.", cfgd.getName()));
+              viewer.setInput(null);
+            } else {
+              l_summary.setText(String.format("%d targets in %d directories of configuration '%s'", targets.size(),
+                  targets.getTargetsByDirectory().size(), cfgd.getName()));
+              viewer.setInput(new Input(project, targets));
+            }
+            l_summary.getParent().layout();
+          });
+        }
+        return Status.OK_STATUS;
+      }
+    };
+    job.setSystem(true);
+    job.schedule();
+  }
+
+  /**
+   * Builds the specified target with the active build configuration.
+   */
+  private static void buildTarget(Target target) {
+    final IProject project = target.directory.project;
+    // Setup the global build console
+    CUIPlugin.getDefault().startGlobalConsole();
+    Job job = new Job("Building " + target.name) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        final Map<String, String> buildArgs = new HashMap<>();
+        buildArgs.put(IMakeBuilderInfo.BUILD_TARGET_INCREMENTAL, target.name);
+        try {
+          ResourcesPlugin.getWorkspace().run(
+              pm -> project.build(IncrementalProjectBuilder.FULL_BUILD, C4ENature.BUILDER_ID, buildArgs, pm), null,
+              IResource.NONE, monitor);
+        } catch (CoreException e) {
+          return e.getStatus();
+        } catch (OperationCanceledException e) {
+          return Status.CANCEL_STATUS;
+        }
+        return Status.OK_STATUS;
+      }
+
+      @Override
+      public boolean belongsTo(Object family) {
+        return ResourcesPlugin.FAMILY_MANUAL_BUILD == family;
+      }
+    };
+    job.schedule();
+  }
+
+  @Override
+  public void setFocus() {
+    viewer.getControl().setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    TargetIndex.removeListener(listener);
+    super.dispose();
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * The targets of a project.
+   */
+  private static class Input {
+    private final IProject project;
+    private final TargetIndex targets;
+
+    Input(IProject project, TargetIndex targets) {
+      this.project = project;
+      this.targets = targets;
+    }
+  }
+
+  /**
+   * A source directory that defines targets.
+   */
+  private static class Directory {
+    private final IProject project;
+    private final String path;
+    private final List<String> targetNames;
+
+    Directory(IProject project, String path, List<String> targetNames) {
+      this.project = project;
+      this.path = path;
+      this.targetNames = targetNames;
+    }
+
+    @Override
+    public String toString() {
+      return path;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(project, path);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Directory)) {
+        return false;
+      }
+      Directory other = (Directory) obj;
+      return project.equals(other.project) && path.equals(other.path);
+    }
+  }
+
+  /**
+   * A target.
+   */
+  private static class Target {
+    private final Directory directory;
+    private final String name;
+
+    Target(Directory directory, String name) {
+      this.directory = directory;
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(directory, name);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Target)) {
+        return false;
+      }
+      Target other = (Target) obj;
+      return directory.equals(other.directory) && name.equals(other.name);
+    }
+  }
+
+  /**
+   * Creates the directory and target nodes on demand.
+   */
+  private static class TargetsContentProvider implements ITreeContentProvider {
+    @Override
+    public Object[] getElements(Object inputElement) {
+      Input input = (Input) inputElement;
+      List<Directory> directories = new ArrayList<>(input.targets.getTargetsByDirectory().size());
+      input.targets.getTargetsByDirectory()
+          .forEach((path, names) -> directories.add(new Directory(input.project, path, names)));
+      return directories.toArray();
+    }
+
+    @Override
+    public Object[] getChildren(Object parentElement) {
+      if (parentElement instanceof Directory) {
+        Directory directory = (Directory) parentElement;
+        Object[] targets = new Object[directory.targetNames.size()];
+        for (int i = 0; i < targets.length; i++) {
+          targets[i] = new Target(directory, directory.targetNames.get(i));
+        }
+        return targets;
+      }
+      return new Object[0];
+    }
+
+    @Override
+    public Object getParent(Object element) {
+      return element instanceof Target ? ((Target) element).directory : null;
+    }
+
+    @Override
+    public boolean hasChildren(Object element) {
+      return element instanceof Directory;
+    }
+  }
+}
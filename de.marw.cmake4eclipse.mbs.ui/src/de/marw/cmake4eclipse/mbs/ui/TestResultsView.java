@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.SashForm;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.Text;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestResults;
+
+/**
+ * Shows the results of the most recent ctest run as the tests finish: The failed tests, all tests in the order they
+ * finished and the output of the selected test.
+ *
+ * @author Martin Weber
+ */
+public class TestResultsView extends ViewPart {
+  /** the ID of this view */
+  public static final String ID = "de.marw.cmake4eclipse.mbs.ui.TestResultsView";
+  /** the minimum time between two refreshes in milliseconds */
+  private static final int REFRESH_DELAY = 200;
+
+  private Label l_summary;
+  private TableViewer failuresViewer;
+  private TableViewer testsViewer;
+  private Text t_output;
+  private boolean refreshPending;
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    parent.setLayout(new GridLayout(1, false));
+    l_summary = new Label(parent, SWT.WRAP);
+    l_summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+
+    SashForm sash = new SashForm(parent, SWT.VERTICAL);
+    sash.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true));
+    TabFolder folder = new TabFolder(sash, SWT.TOP);
+    failuresViewer = createResultsTable(folder, "Failures");
+    testsViewer = createResultsTable(folder, "All tests");
+    t_output = new Text(sash, SWT.MULTI | SWT.READ_ONLY | SWT.H_SCROLL | SWT.V_SCROLL | SWT.BORDER);
+    sash.setWeights(new int[] { 2, 1 });
+
+    CTestResults.getInstance().addListener(listener);
+    refresh();
+  }
+
+  private TableViewer createResultsTable(TabFolder folder, String title) {
+    TableViewer viewer = WidgetHelper.createTableTab(folder, title);
+    WidgetHelper.addColumn(viewer, "Test", 400, SWT.LEFT, result -> ((CTestResults.Result) result).getName());
+    WidgetHelper.addColumn(viewer, "Status", 90, SWT.LEFT,
+        result -> ((CTestResults.Result) result).getStatus().name().toLowerCase(Locale.ROOT));
+    WidgetHelper.addColumn(viewer, "Time [s]", 80, SWT.RIGHT,
+        result -> String.format(Locale.ROOT, "%.2f", ((CTestResults.Result) result).getTime() / 1000.0));
+    viewer.addSelectionChangedListener(e -> {
+      CTestResults.Result result = (CTestResults.Result) ((IStructuredSelection) e.getSelection()).getFirstElement();
+      if (result != null) {
+        t_output.setText(result.getOutput());
+      }
+    });
+    return viewer;
+  }
+
+  /**
+   * Refreshes the view in the UI thread, at most every {@value #REFRESH_DELAY} milliseconds. Called in the thread of
+   * the test run.
+   */
+  private synchronized void refreshAsync() {
+    if (refreshPending || l_summary.isDisposed()) {
+      return;
+    }
+    refreshPending = true;
+    l_summary.getDisplay().asyncExec(() -> {
+      if (!l_summary.isDisposed()) {
+        l_summary.getDisplay().timerExec(REFRESH_DELAY, () -> {
+          synchronized (this) {
+            refreshPending = false;
+          }
+          if (!l_summary.isDisposed()) {
+            refresh();
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Shows the results of the most recent run.
+   */
+  private void refresh() {
+    CTestResults.Run run = CTestResults.getInstance().getLatest();
+    if (run == null) {
+      l_summary.setText("No tests ran since the workbench was started");
+    } else {
+      List<CTestResults.Result> all = run.getResults();
+      List<CTestResults.Result> failures = new ArrayList<>();
+      for (CTestResults.Result result : all) {
+        if (result.getStatus() == CTestResults.Status.FAILED) {
+          failures.add(result);
+        }
+      }
+      l_summary.setText(String.format(Locale.ROOT, "%s [%s]: %s %d of %d tests, %d failed, %.1f s",
+          run.getProjectName(), run.getConfigName(), run.isRunning() ? "running," : "ran", all.size(),
+          Math.max(all.size(), run.getTotal()), failures.size(), run.getElapsed() / 1000.0));
+      failuresViewer.setInput(failures);
+      testsViewer.setInput(all);
+    }
+    l_summary.getParent().layout();
+  }
+
+  @Override
+  public void setFocus() {
+    failuresViewer.getControl().setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    CTestResults.getInstance().removeListener(listener);
+    super.dispose();
+  }
+}
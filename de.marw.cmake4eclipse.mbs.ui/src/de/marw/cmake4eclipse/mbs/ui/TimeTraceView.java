@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.ui;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.layout.GridLayout;
+import org.eclipse.swt.widgets.Combo;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.ui.part.ViewPart;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.TimeTraceReport;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.TimeTraceReports;
+
+/**
+ * Shows where clang spent the compile time of the most recent build of each project and build configuration, as
+ * recorded in its time traces: The headers that took longest to parse, the most expensive template instantiations and
+ * the headers that are worth putting into a precompiled header. Double-clicking a header opens it.
+ *
+ * @author Martin Weber
+ */
+public class TimeTraceView extends ViewPart {
+  /** the number of headers and template instantiations to show */
+  private static final int MAX = 200;
+
+  private Combo c_build;
+  private Label l_summary;
+  private TableViewer headersViewer;
+  private TableViewer templatesViewer;
+  private TableViewer pchViewer;
+  private List<TimeTraceReports.Entry> entries = List.of();
+  private final Runnable listener = this::refreshAsync;
+
+  @Override
+  public void createPartControl(Composite parent) {
+    parent.setLayout(new GridLayout(2, false));
+    Label label = new Label(parent, SWT.NONE);
+    label.setText("Build:");
+    c_build = new Combo(parent, SWT.READ_ONLY | SWT.DROP_DOWN);
+    c_build.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false));
+    c_build.addListener(SWT.Selection, e -> showEntry());
+    l_summary = new Label(parent, SWT.WRAP);
+    l_summary.setLayoutData(new GridData(SWT.FILL, SWT.CENTER, true, false, 2, 1));
+
+    TabFolder folder = new TabFolder(parent, SWT.TOP);
+    folder.setLayoutData(new GridData(SWT.FILL, SWT.FILL, true, true, 2, 1));
+    headersViewer = createCostTable(folder, "Headers", "Header", "Parsed");
+    templatesViewer = createCostTable(folder, "Templates", "Template instantiation", "Instantiated");
+    pchViewer = createCostTable(folder, "Precompiled header candidates", "Header", "Parsed");
+    headersViewer.addDoubleClickListener(e -> openHeader((IStructuredSelection) e.getSelection()));
+    pchViewer.addDoubleClickListener(e -> openHeader((IStructuredSelection) e.getSelection()));
+
+    TimeTraceReports.getInstance().addListener(listener);
+    refresh();
+  }
+
+  private static TableViewer createCostTable(TabFolder folder, String title, String nameColumn, String countColumn) {
+    TableViewer viewer = WidgetHelper.createTableTab(folder, title);
+    WidgetHelper.addColumn(viewer, nameColumn, 450, SWT.LEFT, cost -> ((TimeTraceReport.Cost) cost).getName());
+    WidgetHelper.addColumn(viewer, countColumn, 80, SWT.RIGHT,
+        cost -> Integer.toString(((TimeTraceReport.Cost) cost).getCount()));
+    WidgetHelper.addColumn(viewer, "Total [s]", 80, SWT.RIGHT,
+        cost -> String.format(Locale.ROOT, "%.2f", ((TimeTraceReport.Cost) cost).getTime() / 1e6));
+    WidgetHelper.addColumn(viewer, "Average [ms]", 90, SWT.RIGHT, cost -> {
+      TimeTraceReport.Cost c = (TimeTraceReport.Cost) cost;
+      return String.format(Locale.ROOT, "%.1f", c.getTime() / 1e3 / c.getCount());
+    });
+    return viewer;
+  }
+
+  /**
+   * Refreshes the view in the UI thread. Called in the thread of a build.
+   */
+  private void refreshAsync() {
+    if (!c_build.isDisposed()) {
+      c_build.getDisplay().asyncExec(() -> {
+        if (!c_build.isDisposed()) {
+          refresh();
+        }
+      });
+    }
+  }
+
+  /**
+   * Updates the builds to choose from and shows the most recent build.
+   */
+  private void refresh() {
+    entries = TimeTraceReports.getInstance().getEntries();
+    String[] items = new String[entries.size()];
+    for (int i = 0; i < items.length; i++) {
+      TimeTraceReports.Entry entry = entries.get(i);
+      items[i] = entry.getProjectName() + " [" + entry.getConfigName() + "]";
+    }
+    c_build.setItems(items);
+    c_build.select(items.length - 1);
+    showEntry();
+  }
+
+  /**
+   * Shows the report of the build selected in the combo.
+   */
+  private void showEntry() {
+    int index = c_build.getSelectionIndex();
+    if (index < 0) {
+      l_summary.setText("No time traces since the workbench was started");
+      for (TableViewer viewer : List.of(headersViewer, templatesViewer, pchViewer)) {
+        viewer.setInput(List.of());
+      }
+      return;
+    }
+    TimeTraceReport report = entries.get(index).getReport();
+    l_summary.setText(report.getSummary());
+    headersViewer.setInput(report.getExpensiveHeaders(MAX));
+    templatesViewer.setInput(report.getExpensiveTemplates(MAX));
+    pchViewer.setInput(report.getPchCandidates(MAX));
+    l_summary.getParent().layout();
+  }
+
+  private void openHeader(IStructuredSelection selection) {
+    TimeTraceReport.Cost header = (TimeTraceReport.Cost) selection.getFirstElement();
+    if (header != null) {
+      BuildTimingsView.openFile(getSite().getPage(), header.getName());
+    }
+  }
+
+  @Override
+  public void setFocus() {
+    c_build.setFocus();
+  }
+
+  @Override
+  public void dispose() {
+    TimeTraceReports.getInstance().removeListener(listener);
+    super.dispose();
+  }
+}
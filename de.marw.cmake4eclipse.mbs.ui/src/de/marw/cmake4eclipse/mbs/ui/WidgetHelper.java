@@ -8,12 +8,21 @@
  *******************************************************************************/
 package de.marw.cmake4eclipse.mbs.ui;
 
+import java.util.function.Function;
+
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.TabFolder;
+import org.eclipse.swt.widgets.TabItem;
+import org.eclipse.swt.widgets.Table;
 
 /**
  * Static methods for unified creation of widgets.
@@ -97,4 +106,51 @@ public class WidgetHelper {
     return gr;
   }
 
+  /**
+   * Creates a table viewer on a new tab of a tab folder. The viewer shows the elements of an array or collection.
+   *
+   * @param folder
+   * @param title
+   *        the text to display on the tab
+   */
+  public static TableViewer createTableTab(TabFolder folder, String title) {
+    TableViewer viewer = new TableViewer(folder, SWT.H_SCROLL | SWT.V_SCROLL | SWT.FULL_SELECTION);
+    final Table table = viewer.getTable();
+    table.setHeaderVisible(true);
+    table.setLinesVisible(true);
+    viewer.setContentProvider(ArrayContentProvider.getInstance());
+    TabItem item = new TabItem(folder, SWT.NONE);
+    item.setText(title);
+    item.setControl(table);
+    return viewer;
+  }
+
+  /**
+   * Adds a column to a table viewer.
+   *
+   * @param viewer
+   * @param name
+   *        the column header text
+   * @param width
+   *        the initial width of the column
+   * @param style
+   *        the alignment of the column, SWT.LEFT or SWT.RIGHT
+   * @param text
+   *        computes the text to display in the column for an element of the table. May return {@code null}
+   */
+  public static void addColumn(TableViewer viewer, String name, int width, int style, Function<Object, String> text) {
+    final TableViewerColumn viewerColumn = new TableViewerColumn(viewer, style);
+    viewerColumn.getColumn().setText(name);
+    viewerColumn.getColumn().setWidth(width);
+    viewerColumn.getColumn().setResizable(true);
+    viewerColumn.getColumn().setMoveable(true);
+    viewerColumn.setLabelProvider(new ColumnLabelProvider() {
+      @Override
+      public String getText(Object element) {
+        String value = text.apply(element);
+        return value == null ? "" : value;
+      }
+    });
+  }
+
 }
@@ -14,12 +14,15 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.cdt.newmake.core.IMakeBuilderInfo;
 import org.eclipse.cdt.ui.CUIPlugin;
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -82,40 +85,20 @@ class BuildTargetAction extends SelectionListenerAction {
     CUIPlugin.getDefault().startGlobalConsole();
 
     saveAllResources(targets);
-    Job targetJob = new Job("Building Targets") {
-      @Override
-      protected IStatus run(IProgressMonitor monitor) {
-        SubMonitor subMonitor = SubMonitor.convert(monitor, "Building Targets...", targets.length);
-        try {
-          for (NavBuildTarget target : targets) {
-            IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
-
-              @Override
-              public void run(IProgressMonitor monitor) throws CoreException {
-                build(target, monitor);
-              }
-            };
-            ResourcesPlugin.getWorkspace().run(runnable, null, IResource.NONE, subMonitor.newChild(1));
-          }
-          // store last target property
-          BuildTargetsContainer container = targets[0].getContainer();
-          container.getProject().setSessionProperty(new QualifiedName(Activator.PLUGIN_ID, LAST_TARGET),
-              targets[targets.length - 1].getName());
-        } catch (CoreException e) {
-          return e.getStatus();
-        } catch (OperationCanceledException e) {
-        } finally {
-          monitor.done();
-        }
-        return Status.OK_STATUS;
-      }
-
-      @Override
-      public boolean belongsTo(Object family) {
-        return ResourcesPlugin.FAMILY_MANUAL_BUILD == family;
-      }
-    };
-    targetJob.schedule();
+    // batch the selected targets of each project into a single build..
+    Map<IProject, List<String>> targetsByProject = new LinkedHashMap<>();
+    for (NavBuildTarget target : targets) {
+      targetsByProject.computeIfAbsent(target.getContainer().getProject(), p -> new ArrayList<>())
+          .add(target.getName());
+    }
+    // build each project after the selected projects it references
+    IProject[] order = ResourcesPlugin.getWorkspace()
+        .computeProjectOrder(targetsByProject.keySet().toArray(new IProject[0])).projects;
+    Map<IProject, List<String>> orderedTargets = new LinkedHashMap<>();
+    for (IProject project : order) {
+      orderedTargets.put(project, targetsByProject.get(project));
+    }
+    new BuildTargetsJob(orderedTargets).schedule();
 
     // NOTE: we would like to respect the setting of prefs|C/C++|Build|build targets|background but that is non-public
     // API
@@ -124,19 +107,22 @@ class BuildTargetAction extends SelectionListenerAction {
     // }
   }
 
-  private static void build(NavBuildTarget target, IProgressMonitor monitor) throws CoreException {
-    IProject project = target.getContainer().getProject();
+  /**
+   * Builds the specified targets of a project with a single invocation of the build tool. Other builders of the project
+   * run once with their default arguments.
+   */
+  private static void build(IProject project, List<String> targetNames, IProgressMonitor monitor)
+      throws CoreException {
     ICommand[] commands = project.getDescription().getBuildSpec();
     SubMonitor subMonitor = SubMonitor.convert(monitor, commands.length);
     for (ICommand command : commands) {
       if (C4ENature.BUILDER_ID.equals(command.getBuilderName())) {
         // our builder...
         final HashMap<String, String> buildArgs = new HashMap<>();
-        buildArgs.put(IMakeBuilderInfo.BUILD_TARGET_INCREMENTAL, target.getName());
+        buildArgs.put(IMakeBuilderInfo.BUILD_TARGET_INCREMENTAL, String.join(" ", targetNames));
 
         project.build(IncrementalProjectBuilder.FULL_BUILD, command.getBuilderName(), buildArgs,
             subMonitor.newChild(1));
-        monitor.done();
       } else {
         // other builders take the default arguments
         project.build(IncrementalProjectBuilder.FULL_BUILD, command.getBuilderName(), command.getArguments(),
@@ -206,4 +192,64 @@ class BuildTargetAction extends SelectionListenerAction {
   private List<?> getSelectedElements() {
     return getStructuredSelection().toList();
   }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * Builds the selected targets of the projects one project after the other, in the order given. Stops at the first
+   * project whose build failed or left error markers.
+   *
+   * @author Martin Weber
+   */
+  private static class BuildTargetsJob extends Job {
+    private final Map<IProject, List<String>> targetsByProject;
+
+    /**
+     * @param targetsByProject the names of the targets to build by project, in build order
+     */
+    BuildTargetsJob(Map<IProject, List<String>> targetsByProject) {
+      super("Building Targets");
+      this.targetsByProject = targetsByProject;
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      SubMonitor subMonitor = SubMonitor.convert(monitor, "Building Targets...", targetsByProject.size());
+      try {
+        for (Map.Entry<IProject, List<String>> entry : targetsByProject.entrySet()) {
+          final IProject project = entry.getKey();
+          final List<String> targetNames = entry.getValue();
+          subMonitor.subTask(project.getName());
+          IWorkspaceRunnable runnable = new IWorkspaceRunnable() {
+
+            @Override
+            public void run(IProgressMonitor monitor) throws CoreException {
+              build(project, targetNames, monitor);
+            }
+          };
+          ResourcesPlugin.getWorkspace().run(runnable, null, IResource.NONE, subMonitor.newChild(1));
+          // store last target property
+          project.setSessionProperty(new QualifiedName(Activator.PLUGIN_ID, LAST_TARGET),
+              targetNames.get(targetNames.size() - 1));
+          // a failed compile does not throw, but leaves error markers
+          int severity = project.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+          if (severity == IMarker.SEVERITY_ERROR) {
+            return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+                String.format("Build of %s failed, remaining targets not built", project.getName()));
+          }
+        }
+      } catch (CoreException e) {
+        return e.getStatus();
+      } catch (OperationCanceledException e) {
+        return Status.CANCEL_STATUS;
+      } finally {
+        monitor.done();
+      }
+      return Status.OK_STATUS;
+    }
+
+    @Override
+    public boolean belongsTo(Object family) {
+      return ResourcesPlugin.FAMILY_MANUAL_BUILD == family;
+    }
+  }
 }
@@ -20,6 +20,8 @@ import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.LabelProvider;
 import org.eclipse.jface.viewers.StructuredSelection;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Button;
@@ -27,6 +29,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Spinner;
 import org.eclipse.swt.widgets.TabFolder;
 import org.eclipse.swt.widgets.TabItem;
 import org.eclipse.ui.IWorkbench;
@@ -58,6 +61,18 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
   private Button b_warnUnitialized;
   private Button b_warnUnused;
   private Button b_verboseBuild;
+  private Button b_profiling;
+  private Button b_warmStart;
+  private Button b_preconfigure;
+  private Button b_cleanFast;
+  /** whether to limit the parallel jobs of all builds */
+  private Button b_jobBudget;
+  private Spinner s_jobBudget;
+  private Button b_jobServer;
+  private Button b_jobAdaptive;
+  /** whether to flag builds that are slower than the previous builds */
+  private Button b_regression;
+  private Spinner s_regression;
   private Button[] persistedButtons;
   /** Combo that shows the generator names for cmake */
   private ComboViewer c_generator;
@@ -88,7 +103,8 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
 
   private void initFromPrefstore() {
     persistedButtons = new Button[] { b_clearCache, b_warnNoDev, b_debugTryCompile, b_debug, b_trace, b_warnUnitialized,
-        b_warnUnused, b_verboseBuild };
+        b_warnUnused, b_verboseBuild, b_profiling, b_warmStart,
+        b_preconfigure, b_cleanFast, b_jobServer, b_jobAdaptive };
 
     IPreferenceStore store = getPreferenceStore();
 
@@ -100,6 +116,8 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
     key = (String) c_generator.getControl().getData();
     CmakeGenerator generator = CmakeGenerator.valueOf(store.getString(key));
     c_generator.setSelection(new StructuredSelection(generator));
+    setJobBudget(store.getInt(PreferenceAccess.JOB_BUDGET));
+    setRegressionThreshold(store.getInt(PreferenceAccess.REGRESSION_THRESHOLD));
 
     key = (String) cacheEntriesViewer.getTableViewer().getTable().getData();
     String json = store.getString(key);
@@ -125,6 +143,8 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
       CmakeGenerator generator = CmakeGenerator.valueOf(store.getDefaultString(key));
       c_generator.setSelection(new StructuredSelection(generator));
     }
+    setJobBudget(store.getDefaultInt(PreferenceAccess.JOB_BUDGET));
+    setRegressionThreshold(store.getDefaultInt(PreferenceAccess.REGRESSION_THRESHOLD));
     super.performDefaults();
   }
 
@@ -150,6 +170,20 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
         store.setValue(key, newVal.name());
       }
     }
+    {
+      int newVal = b_jobBudget.getSelection() ? s_jobBudget.getSelection() : 0;
+      if (newVal != store.getInt(PreferenceAccess.JOB_BUDGET)) {
+        // does not affect the build scripts, no need to mark dirty
+        store.setValue(PreferenceAccess.JOB_BUDGET, newVal);
+      }
+    }
+    {
+      int newVal = b_regression.getSelection() ? s_regression.getSelection() : 0;
+      if (newVal != store.getInt(PreferenceAccess.REGRESSION_THRESHOLD)) {
+        // does not affect the build scripts, no need to mark dirty
+        store.setValue(PreferenceAccess.REGRESSION_THRESHOLD, newVal);
+      }
+    }
     {
       String key = (String) cacheEntriesViewer.getTableViewer().getTable().getData();
       String oldVal = store.getString(key);
@@ -218,8 +252,76 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
       Group gr = WidgetHelper.createGroup(composite, SWT.FILL, 2, "Build-System Files", 2);
       b_clearCache = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2, "&Force re-creation with each build");
       b_clearCache.setData(PreferenceAccess.CMAKE_FORCE_RUN);
+      b_warmStart = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "&Reuse compiler detection results from other build configurations");
+      b_warmStart.setToolTipText("When a new build directory is configured, copies the results of cmake's compiler\n"
+          + "identification from the build directory of another configuration that uses the same tool chain.");
+      b_warmStart.setData(PreferenceAccess.CMAKE_WARM_START);
+      b_preconfigure = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Re-create in the &background when CMake scripts are saved");
+      b_preconfigure.setToolTipText("Runs cmake for the active build configuration shortly after a CMakeLists.txt,\n"
+          + "*.cmake or CMakePresets.json file was saved, so that the next build only needs to compile.");
+      b_preconfigure.setData(PreferenceAccess.CMAKE_PRECONFIGURE);
+      b_cleanFast = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "&Clean by moving the build directory aside and deleting it in the background");
+      b_cleanFast.setToolTipText("Makes a clean return immediately instead of waiting for the build tool to delete\n"
+          + "the build output. Falls back to the clean target of the build tool if the directory cannot be moved.");
+      b_cleanFast.setData(PreferenceAccess.CLEAN_FAST);
     }
 
+    // parallel builds group...
+    {
+      Group gr = WidgetHelper.createGroup(composite, SWT.FILL, 2, "Parallel Builds", 2);
+      b_jobBudget = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "&Limit the parallel jobs of all builds in the workspace to");
+      b_jobBudget.setToolTipText("Projects that are built at the same time share the jobs, so the machine is not\n"
+          + "overloaded. Each build gets no more jobs than specified in its project properties.");
+      s_jobBudget = new Spinner(gr, SWT.BORDER);
+      s_jobBudget.setMinimum(1);
+      s_jobBudget.setMaximum(1024);
+      s_jobBudget.setSelection(Runtime.getRuntime().availableProcessors());
+      s_jobBudget.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      b_jobServer = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "Share the jobs through a &jobserver (GNU make 4.4 or Ninja 1.13 and newer)");
+      b_jobServer.setToolTipText("Lets builds hand jobs to each other while running instead of getting a fixed\n"
+          + "number of jobs at start. Not available on Windows.");
+      b_jobServer.setData(PreferenceAccess.JOB_SERVER);
+      b_jobAdaptive = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "&Adapt the parallel jobs of a build to the available memory");
+      b_jobAdaptive.setToolTipText("Runs no more jobs than fit into the free memory, judging by the memory use of\n"
+          + "the compiler in previous builds. Builds using the jobserver are not adapted.");
+      b_jobAdaptive.setData(PreferenceAccess.JOB_ADAPTIVE);
+      b_jobBudget.addSelectionListener(new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          updateJobBudgetEnablement();
+        }
+      });
+    } // parallel builds group
+
+    // build telemetry group...
+    {
+      Group gr = WidgetHelper.createGroup(composite, SWT.FILL, 2, "Build Telemetry", 3);
+      b_regression = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 1,
+          "Flag cmake runs and full builds that are &slower than usual by more than");
+      b_regression.setToolTipText("Compares the duration of each cmake run and each build that compiles all sources\n"
+          + "to the median duration of the previous 10 runs and reports a performance regression on the console\n"
+          + "and in the Build Trends view.");
+      s_regression = new Spinner(gr, SWT.BORDER);
+      s_regression.setMinimum(1);
+      s_regression.setMaximum(1000);
+      s_regression.setSelection(25);
+      s_regression.setLayoutData(new GridData(SWT.BEGINNING, SWT.CENTER, false, false));
+      Label label = new Label(gr, SWT.NONE);
+      label.setText("%");
+      b_regression.addSelectionListener(new SelectionAdapter() {
+        @Override
+        public void widgetSelected(SelectionEvent e) {
+          s_regression.setEnabled(b_regression.getSelection());
+        }
+      });
+    } // build telemetry group
+
     // cmake options group...
     {
       Group gr = WidgetHelper.createGroup(composite, SWT.FILL, 2, "CMake commandline options", 2);
@@ -242,11 +344,42 @@ public class CMakePreferencePage extends PreferencePage implements IWorkbenchPre
       b_warnUnused = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
           "Don't Warn about un&used variables on the command line \t(--no-warn-unused-cli)");
       b_warnUnused.setData(PreferenceAccess.CMAKE_NO_WARN_UNUSED);
+      b_profiling = WidgetHelper.createCheckbox(gr, SWT.BEGINNING, 2,
+          "&Profile cmake and report hot spots \t(--profiling-format=google-trace)");
+      b_profiling.setToolTipText("Writes a trace file to the build directory and prints a report of the most\n"
+          + "time consuming scripts and commands to the CMake console.");
+      b_profiling.setData(PreferenceAccess.CMAKE_PROFILING);
     } // cmake options group
 
     tab.setControl(composite);
   }
 
+  /**
+   * Displays the specified job budget.
+   *
+   * @param jobs the maximum number of parallel jobs of all builds or {@code 0} if the number is not limited
+   */
+  private void setJobBudget(int jobs) {
+    b_jobBudget.setSelection(jobs > 0);
+    if (jobs > 0) {
+      s_jobBudget.setSelection(jobs);
+    }
+    updateJobBudgetEnablement();
+  }
+
+  private void setRegressionThreshold(int percent) {
+    b_regression.setSelection(percent > 0);
+    if (percent > 0) {
+      s_regression.setSelection(percent);
+    }
+    s_regression.setEnabled(percent > 0);
+  }
+
+  private void updateJobBudgetEnablement() {
+    s_jobBudget.setEnabled(b_jobBudget.getSelection());
+    b_jobServer.setEnabled(b_jobBudget.getSelection());
+  }
+
   private void createCacheVariablesTab(TabFolder folder) {
     TabItem tab = new TabItem(folder, SWT.NONE);
     tab.setText("CMake cache entries");
@@ -27,6 +27,8 @@ import java.util.Set;
 public class SimpleCMakeCacheTxt {
 
   private String buildTool;
+  private String ctestCommand;
+  private String jobPools;
   private List<String> tools;
   private List<String> commands;
 
@@ -61,6 +63,9 @@ public class SimpleCMakeCacheTxt {
           commands.add(tool);
         } else if ("CMAKE_CTEST_COMMAND".equals(toolKey)) {
           commands.add(tool);
+          ctestCommand = tool;
+        } else if ("CMAKE_JOB_POOLS".equals(toolKey)) {
+          jobPools = tool;
         } else if ("CMAKE_C_COMPILER".equals(toolKey)) {
           tools.add(tool);
         } else if ("CMAKE_CXX_COMPILER".equals(toolKey)) {
@@ -91,6 +96,26 @@ public class SimpleCMakeCacheTxt {
     return buildTool;
   }
 
+  /**
+   * Gets the name of the tool that runs the tests.
+   *
+   * @return the CMAKE_CTEST_COMMAND entry from the CMakeCache.txt file or
+   *         {@code null} if the file does not have that entry
+   */
+  public String getCtestCommand() {
+    return ctestCommand;
+  }
+
+  /**
+   * Gets the Ninja job pools.
+   *
+   * @return the CMAKE_JOB_POOLS entry from the CMakeCache.txt file, for example {@code compile=8;link=2}, or
+   *         {@code null} if the file does not have that entry
+   */
+  public String getJobPools() {
+    return jobPools;
+  }
+
   /**
    * Gets the tools that process the source files to binary files (compilers,
    * linkers). In most cases, this method will return the absolute file system
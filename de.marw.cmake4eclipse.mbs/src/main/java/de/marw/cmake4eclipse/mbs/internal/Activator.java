@@ -11,9 +11,11 @@ package de.marw.cmake4eclipse.mbs.internal;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -23,8 +25,12 @@ import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Plugin;
+import org.eclipse.jdt.annotation.Nullable;
 import org.osgi.framework.BundleContext;
 
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTelemetry;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTimeHistory;
+import de.marw.cmake4eclipse.mbs.internal.profiling.CMakeProfileHistory;
 import de.marw.cmake4eclipse.mbs.settings.ProjectPropsModifiedDateUtil;
 
 /**
@@ -41,6 +47,8 @@ public class Activator extends Plugin {
   // The shared instance.
   private static Activator plugin;
   private TimestampFileTracker listener;
+  private PreConfigurer preConfigurer;
+  private BuildOnSave buildOnSave;
 
   /**
    * The constructor.
@@ -59,6 +67,12 @@ public class Activator extends Plugin {
     plugin = this;
     listener= new TimestampFileTracker();
     ResourcesPlugin.getWorkspace().addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+    preConfigurer = new PreConfigurer();
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(preConfigurer, IResourceChangeEvent.POST_CHANGE);
+    buildOnSave = new BuildOnSave();
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(buildOnSave, IResourceChangeEvent.POST_CHANGE);
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(UpToDateTracker.getInstance(),
+        IResourceChangeEvent.POST_CHANGE);
   }
 
   /**
@@ -67,6 +81,10 @@ public class Activator extends Plugin {
   @Override
   public void stop(BundleContext context) throws Exception {
     ResourcesPlugin.getWorkspace().removeResourceChangeListener(listener);
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(preConfigurer);
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(buildOnSave);
+    ResourcesPlugin.getWorkspace().removeResourceChangeListener(UpToDateTracker.getInstance());
+    MakeJobServer.shutdown();
     super.stop(context);
     plugin = null;
   }
@@ -80,7 +98,8 @@ public class Activator extends Plugin {
 
   // ////////////////////////////////////////////////////////////////////////////////
   /**
-   * Responsible for cleaning up stale files holding the time stamp of the most recent change to the project properties.
+   * Responsible for cleaning up stale files holding the time stamp of the most recent change to the project properties
+   * and the cmake profile and build time histories and test states.
    *
    * @author Martin Weber
    */
@@ -107,24 +126,48 @@ public class Activator extends Plugin {
           for (Entry<String, String> entry : changes.entrySet()) {
             String deletedProjectName = entry.getKey();
             String newProjectName = entry.getValue();
-            Path oldTs = ProjectPropsModifiedDateUtil.getTimestampedFile(deletedProjectName);
-            if (Files.exists(oldTs)) {
-              try {
-                if (newProjectName == null) {
-                  Files.deleteIfExists(oldTs);
-                } else {
-                  Files.move(oldTs, ProjectPropsModifiedDateUtil.getTimestampedFile(newProjectName));
-                }
-              } catch (IOException e) {
-                // ignore
-              }
-            }
+            moveOrDelete(ProjectPropsModifiedDateUtil.getTimestampedFile(deletedProjectName),
+                newProjectName == null ? null : ProjectPropsModifiedDateUtil.getTimestampedFile(newProjectName));
+            moveOrDelete(CMakeProfileHistory.getHistoryFile(deletedProjectName),
+                newProjectName == null ? null : CMakeProfileHistory.getHistoryFile(newProjectName));
+            moveOrDelete(BuildTimeHistory.getHistoryFile(deletedProjectName),
+                newProjectName == null ? null : BuildTimeHistory.getHistoryFile(newProjectName));
+            moveOrDelete(BuildTelemetry.getTelemetryFile(deletedProjectName),
+                newProjectName == null ? null : BuildTelemetry.getTelemetryFile(newProjectName));
+            moveOrDelete(CTestRunner.getStateDirectory(deletedProjectName),
+                newProjectName == null ? null : CTestRunner.getStateDirectory(newProjectName));
           }
         }
       };
       thread.start();
     }
 
+    /**
+     * Moves the specified per-project file or directory if the project was renamed or deletes it if the project was
+     * deleted.
+     *
+     * @param oldFile the file or directory of the deleted project
+     * @param newFile the file of the renamed project or {@code null} if the project was deleted
+     */
+    private static void moveOrDelete(Path oldFile, @Nullable Path newFile) {
+      if (Files.exists(oldFile)) {
+        try {
+          if (newFile == null) {
+            try (Stream<Path> paths = Files.walk(oldFile)) {
+              // delete the contents of a directory before the directory
+              for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(path);
+              }
+            }
+          } else {
+            Files.move(oldFile, newFile);
+          }
+        } catch (IOException e) {
+          // ignore
+        }
+      }
+    }
+
     private static class DeltaVisitor implements IResourceDeltaVisitor {
       @Override
       public boolean visit(IResourceDelta delta) {
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaBuildAnalysis;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaDeps;
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+
+/**
+ * Determines the CMake targets that need to be rebuilt after source files changed. The targets of a source file are
+ * those with a compile command for the file in the {@code compile_commands.json} file. With Ninja, the targets of a
+ * header are those with object files that depend on it according to the {@code .ninja_deps} file.
+ *
+ * @author Martin Weber
+ */
+class AffectedTargets {
+  private AffectedTargets() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the targets that need to be rebuilt after the specified files changed.
+   *
+   * @param buildDir  the build directory
+   * @param files     the absolute paths of the changed files
+   * @param generator the generator that wrote the build scripts
+   * @return the names of the targets, sorted, or {@code null} if the targets of a file are unknown, for example for a
+   *         new file or for a header if the generator does not record the header dependencies
+   */
+  static @Nullable Set<String> find(Path buildDir, Collection<Path> files, CmakeGenerator generator) {
+    List<Path> unknown = new ArrayList<>();
+    Set<String> targets = find(buildDir, files, generator, unknown);
+    return unknown.isEmpty() ? targets : null;
+  }
+
+  /**
+   * Gets the targets that need to be rebuilt after the specified files changed, as far as the targets of the files
+   * are known.
+   *
+   * @param buildDir  the build directory
+   * @param files     the absolute paths of the changed files
+   * @param generator the generator that wrote the build scripts
+   * @param unknown   receives the files with unknown targets
+   * @return the names of the targets of the files with known targets, sorted
+   */
+  static Set<String> find(Path buildDir, Collection<Path> files, CmakeGenerator generator, Collection<Path> unknown) {
+    Map<String, Set<String>> targetsBySource = new HashMap<>();
+    NinjaBuildAnalysis.readCompileCommands(buildDir.resolve("compile_commands.json")).forEach((output, source) -> {
+      String target = NinjaBuildAnalysis.getObjectTarget(output);
+      if (target != null) {
+        targetsBySource.computeIfAbsent(source, s -> new HashSet<>()).add(target);
+      }
+    });
+    NinjaDeps deps = null;
+    boolean depsRead = false;
+    Set<String> targets = new TreeSet<>();
+    for (Path file : files) {
+      Set<String> fileTargets = targetsBySource.get(file.normalize().toString());
+      if (fileTargets == null && generator == CmakeGenerator.Ninja) {
+        // a header
+        if (!depsRead) {
+          deps = readDeps(buildDir.resolve(NinjaDeps.FILE_NAME));
+          depsRead = true;
+        }
+        if (deps != null) {
+          fileTargets = deps.getAffectedTargets(file.toString());
+        }
+      }
+      if (fileTargets == null || fileTargets.isEmpty()) {
+        unknown.add(file);
+      } else {
+        targets.addAll(fileTargets);
+      }
+    }
+    return targets;
+  }
+
+  private static @Nullable NinjaDeps readDeps(Path file) {
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try {
+      return NinjaDeps.read(file);
+    } catch (IOException ex) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.cdt.newmake.core.IMakeBuilderInfo;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+
+import de.marw.cmake4eclipse.mbs.nature.C4ENature;
+import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
+
+/**
+ * Builds the targets of C and C++ files in the background shortly after the files were saved, if the active
+ * configuration of the project is set up to do so. Saves in quick succession are coalesced into one build; a build in
+ * progress is cancelled if another save arrives and the files it was building are built with those of the new save.
+ *
+ * @author Martin Weber
+ */
+class BuildOnSave implements IResourceChangeListener {
+  /** delay in milliseconds after the most recent save before the build starts */
+  private static final long DELAY = 500;
+  /** marks a project while it is built in the background */
+  private static final QualifiedName BUILDING = new QualifiedName(Activator.PLUGIN_ID, "buildOnSave");
+
+  /** the most recently scheduled job per project */
+  private final Map<IProject, BuildOnSaveJob> jobs = new HashMap<>();
+  /** the files saved since the most recent build started, per project */
+  private final Map<IProject, Set<IPath>> pending = new HashMap<>();
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent evt) {
+    if (evt.getType() != IResourceChangeEvent.POST_CHANGE || ResourcesPlugin.getWorkspace().isAutoBuilding()) {
+      // the workspace builds on save already
+      return;
+    }
+    for (IResourceDelta projectDelta : evt.getDelta().getAffectedChildren(IResourceDelta.CHANGED)) {
+      IProject project = (IProject) projectDelta.getResource();
+      try {
+        if (!project.isAccessible() || !project.hasNature(C4ENature.NATURE_ID)) {
+          continue;
+        }
+        ICConfigurationDescription cfgd = getActiveConfiguration(project);
+        if (cfgd == null || !ConfigurationManager.getInstance().getOrLoad(cfgd).isBuildOnSave()) {
+          continue;
+        }
+        IPath buildDir = cfgd.getBuildSetting().getBuilderCWD();
+        Set<IPath> files = new HashSet<>();
+        projectDelta.accept(delta -> {
+          IResource resource = delta.getResource();
+          if (resource.getType() != IResource.FILE) {
+            // skip build output
+            return !resource.getFullPath().equals(buildDir) && !resource.isDerived();
+          }
+          if (delta.getKind() == IResourceDelta.CHANGED && (delta.getFlags() & IResourceDelta.CONTENT) != 0
+              && CoreModel.isValidTranslationUnitName(project, resource.getName()) && resource.getLocation() != null) {
+            files.add(resource.getLocation());
+          }
+          return false;
+        });
+        if (!files.isEmpty()) {
+          schedule(project, files);
+        }
+      } catch (CoreException ex) {
+        Activator.getDefault().getLog().log(ex.getStatus());
+      }
+    }
+  }
+
+  private static ICConfigurationDescription getActiveConfiguration(IProject project) {
+    ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(project, false);
+    return projectDescription == null ? null : projectDescription.getActiveConfiguration();
+  }
+
+  /**
+   * Schedules a build of the targets of the specified files. Cancels a build that was scheduled or started before.
+   */
+  private synchronized void schedule(IProject project, Set<IPath> files) {
+    pending.computeIfAbsent(project, p -> new HashSet<>()).addAll(files);
+    BuildOnSaveJob job = jobs.remove(project);
+    if (job != null) {
+      job.cancel();
+    }
+    job = new BuildOnSaveJob(project);
+    // serialize with other builds, including the cancelled one
+    job.setRule(ResourcesPlugin.getWorkspace().getRuleFactory().buildRule());
+    job.setPriority(Job.BUILD);
+    jobs.put(project, job);
+    job.schedule(DELAY);
+  }
+
+  /**
+   * Takes the files saved since the most recent build started.
+   */
+  private synchronized Set<IPath> takePending(IProject project) {
+    Set<IPath> files = pending.remove(project);
+    return files == null ? Set.of() : files;
+  }
+
+  /**
+   * Hands back the files of a cancelled build, to be built by the job that cancelled it.
+   */
+  private synchronized void putBack(IProject project, Set<IPath> files) {
+    pending.computeIfAbsent(project, p -> new HashSet<>()).addAll(files);
+  }
+
+  private synchronized void finished(BuildOnSaveJob job) {
+    jobs.remove(job.project, job);
+  }
+
+  /**
+   * Gets whether the specified project is being built in the background because files were saved.
+   */
+  static boolean isBuilding(IProject project) {
+    try {
+      return project.getSessionProperty(BUILDING) != null;
+    } catch (CoreException ex) {
+      return false; // project is closed
+    }
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * Builds the targets of the files saved in a project.
+   *
+   * @author Martin Weber
+   */
+  private class BuildOnSaveJob extends Job {
+    private final IProject project;
+
+    BuildOnSaveJob(IProject project) {
+      super("Building " + project.getName());
+      this.project = project;
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      Set<IPath> files = takePending(project);
+      boolean done = false;
+      try {
+        if (files.isEmpty() || !project.isAccessible() || monitor.isCanceled()) {
+          done = true;
+          return Status.OK_STATUS;
+        }
+        ICConfigurationDescription cfgd = getActiveConfiguration(project);
+        if (cfgd == null) {
+          done = true;
+          return Status.OK_STATUS;
+        }
+        final Map<String, String> buildArgs = new HashMap<>();
+        IPath buildDir = ResourcesPlugin.getWorkspace().getRoot().getFolder(cfgd.getBuildSetting().getBuilderCWD())
+            .getLocation();
+        if (buildDir != null) {
+          IEclipsePreferences prefs = PreferenceAccess.getPreferences();
+          CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, prefs,
+              BuildToolKitUtil.getOverwritingToolkit(prefs));
+          Set<Path> paths = new HashSet<>();
+          for (IPath file : files) {
+            paths.add(file.toPath());
+          }
+          Set<String> targets = AffectedTargets.find(buildDir.toPath(), paths, generator);
+          if (targets != null) {
+            buildArgs.put(IMakeBuilderInfo.BUILD_TARGET_INCREMENTAL, String.join(" ", targets));
+          } // else build the default target
+        }
+        project.setSessionProperty(BUILDING, Boolean.TRUE);
+        try {
+          project.build(IncrementalProjectBuilder.FULL_BUILD, C4ENature.BUILDER_ID, buildArgs, monitor);
+        } finally {
+          project.setSessionProperty(BUILDING, null);
+        }
+        done = !monitor.isCanceled();
+        return done ? Status.OK_STATUS : Status.CANCEL_STATUS;
+      } catch (OperationCanceledException ex) {
+        return Status.CANCEL_STATUS;
+      } catch (CoreException ex) {
+        done = true;
+        return ex.getStatus();
+      } finally {
+        if (!done) {
+          putBack(project, files);
+        }
+        finished(this);
+      }
+    }
+
+    @Override
+    public boolean belongsTo(Object family) {
+      return ResourcesPlugin.FAMILY_AUTO_BUILD == family;
+    }
+  }
+}
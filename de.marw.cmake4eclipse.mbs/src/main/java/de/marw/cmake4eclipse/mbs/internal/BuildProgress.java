@@ -0,0 +1,139 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tracks the progress of a build from the status lines the build tool prints: {@code [n/m] description} lines of
+ * ninja and {@code [ p%]} lines of the makefiles cmake generates.<br>
+ * The remaining time of a ninja build is estimated from the durations the ninja log recorded for each output in
+ * previous builds: The time elapsed so far is scaled by the ratio of the expected duration of the remaining edges to
+ * the recorded duration of the finished ones. Edges without a recorded duration count with the mean recorded
+ * duration. Without any recorded durations and for makefile builds, the remaining time is extrapolated linearly.
+ *
+ * @author Martin Weber
+ */
+class BuildProgress {
+  private static final Pattern NINJA_STATUS = Pattern.compile("^\\[(\\d+)/(\\d+)\\]\\s*(.*)");
+  private static final Pattern MAKE_STATUS = Pattern.compile("^\\[\\s*(\\d+)%\\]");
+
+  /** the durations recorded in previous builds in milliseconds by output */
+  private final Map<String, Integer> durations;
+  /** the mean of the recorded durations in milliseconds */
+  private final double meanDuration;
+  private final long start;
+  /** the number of finished edges */
+  private int finished;
+  /** the number of edges to run, 0 if unknown */
+  private int total;
+  /** the recorded duration of the finished edges */
+  private double finishedWork;
+  /** the progress in percent for makefile builds or -1 if unknown */
+  private int percent = -1;
+
+  /**
+   * @param durations the durations recorded in previous ninja builds in milliseconds by output, relative to the build
+   *                  directory
+   * @param start     the time the build started in milliseconds
+   */
+  BuildProgress(Map<String, Integer> durations, long start) {
+    this.durations = durations;
+    this.meanDuration = durations.isEmpty() ? 1.0
+        : durations.values().stream().mapToLong(Integer::longValue).sum() / (double) durations.size();
+    this.start = start;
+  }
+
+  /**
+   * Processes a line of the build output.
+   *
+   * @return {@code true} if the line was a status line, else {@code false}
+   */
+  synchronized boolean processLine(String line) {
+    Matcher matcher = NINJA_STATUS.matcher(line);
+    if (matcher.find()) {
+      int n = Integer.parseInt(matcher.group(1));
+      total = Integer.parseInt(matcher.group(2));
+      if (n < finished) {
+        // ninja restarted after cmake regenerated the build scripts
+        finished = 0;
+        finishedWork = 0;
+      }
+      // ninja prints the status of an edge when it finished, count edges without a status line with the mean
+      for (; finished < n - 1; finished++) {
+        finishedWork += meanDuration;
+      }
+      if (finished < n) {
+        // the descriptions of cmake's rules end with the output
+        String description = matcher.group(3).trim();
+        Integer duration = durations.get(description.substring(description.lastIndexOf(' ') + 1));
+        finishedWork += duration != null ? Math.max(duration, 1) : meanDuration;
+        finished = n;
+      }
+      return true;
+    }
+    matcher = MAKE_STATUS.matcher(line);
+    if (matcher.find()) {
+      percent = Math.max(percent, Math.min(100, Integer.parseInt(matcher.group(1))));
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Gets the fraction of the build that is done.
+   *
+   * @return the fraction between 0 and 1 or -1 if no status line was processed yet
+   */
+  synchronized double getFraction() {
+    if (total > 0) {
+      return Math.min(1.0, finished / (double) total);
+    }
+    return percent < 0 ? -1.0 : percent / 100.0;
+  }
+
+  /**
+   * Estimates the time the build still takes.
+   *
+   * @param now the current time in milliseconds
+   * @return the remaining time in milliseconds or -1 if unknown
+   */
+  synchronized long getRemaining(long now) {
+    long elapsed = now - start;
+    if (total > 0) {
+      if (finishedWork <= 0) {
+        return -1;
+      }
+      return Math.round(elapsed * Math.max(0, total - finished) * meanDuration / finishedWork);
+    }
+    if (percent > 0) {
+      return elapsed * (100 - percent) / percent;
+    }
+    return -1;
+  }
+
+  /**
+   * Gets a text to show as the sub task of the progress monitor.
+   *
+   * @param now the current time in milliseconds
+   */
+  synchronized String getStatus(long now) {
+    String status = total > 0 ? String.format("%d of %d build steps", finished, total)
+        : String.format("%d%% done", Math.max(percent, 0));
+    long remaining = getRemaining(now);
+    if (remaining < 0) {
+      return status;
+    }
+    long seconds = (remaining + 999) / 1000;
+    return seconds < 60 ? String.format("%s, about %d s remaining", status, seconds)
+        : String.format("%s, about %d:%02d min remaining", status, seconds / 60, seconds % 60);
+  }
+}
@@ -17,6 +17,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.cdt.core.CCorePlugin;
 import org.eclipse.cdt.core.cdtvariables.CdtVariableException;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
@@ -47,6 +48,19 @@ class BuildToolKitUtil {
     }
   }
 
+  /**
+   * Gets the generator to use for the specified configuration. A generator specified by the configure preset of the
+   * configuration takes precedence over the workbench preferences.
+   */
+  static CmakeGenerator getEffectiveCMakeGenerator(ICConfigurationDescription cfgd, IEclipsePreferences prefs,
+      Optional<BuildToolKitDefinition> overwritingToolkit) {
+    CmakeGenerator presetGenerator = ConfigurePresetUtil.getPresetGenerator(cfgd);
+    if (presetGenerator != null) {
+      return presetGenerator;
+    }
+    return getEffectiveCMakeGenerator(prefs, overwritingToolkit);
+  }
+
   static Optional<BuildToolKitDefinition> getOverwritingToolkit(IEclipsePreferences prefs) throws JsonSyntaxException {
     long ovr = prefs.getLong(PreferenceAccess.TOOLKIT_OVERWRITES, 0);
     if (ovr != 0) {
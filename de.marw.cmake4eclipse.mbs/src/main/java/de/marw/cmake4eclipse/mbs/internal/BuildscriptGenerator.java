@@ -10,6 +10,7 @@ package de.marw.cmake4eclipse.mbs.internal;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.Reader;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -33,9 +34,6 @@ import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvide
 import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvidersKeeper;
 import org.eclipse.cdt.core.resources.IConsole;
 import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
-import org.eclipse.cdt.core.settings.model.ICSourceEntry;
-import org.eclipse.cdt.core.settings.model.ICStorageElement;
-import org.eclipse.cdt.core.settings.model.util.CDataUtil;
 import org.eclipse.cdt.managedbuilder.buildproperties.IBuildProperty;
 import org.eclipse.cdt.managedbuilder.buildproperties.IBuildPropertyValue;
 import org.eclipse.cdt.managedbuilder.core.IBuildObjectProperties;
@@ -52,6 +50,7 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.IResourceStatus;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
@@ -61,19 +60,33 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.util.QuotedStringTokenizer;
 
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonSyntaxException;
 
+import de.marw.cmake4eclipse.mbs.cmakecache.SimpleCMakeCacheTxt;
 import de.marw.cmake4eclipse.mbs.console.CdtConsoleConstants;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTelemetry;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.TimeTraceReport;
+import de.marw.cmake4eclipse.mbs.internal.presets.CMakePresets;
+import de.marw.cmake4eclipse.mbs.internal.presets.ConfigurePreset;
+import de.marw.cmake4eclipse.mbs.internal.profiling.CMakeProfile;
+import de.marw.cmake4eclipse.mbs.internal.profiling.CMakeProfileHistory;
+import de.marw.cmake4eclipse.mbs.internal.profiling.CMakeProfileReport;
+import de.marw.cmake4eclipse.mbs.internal.warmstart.CompilerWarmStart;
 import de.marw.cmake4eclipse.mbs.preferences.BuildToolKitDefinition;
 import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
 import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
 import de.marw.cmake4eclipse.mbs.settings.CmakeDefine;
 import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
 import de.marw.cmake4eclipse.mbs.settings.CmakeUnDefine;
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
 import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
 import de.marw.cmake4eclipse.mbs.settings.ProjectPropsModifiedDateUtil;
 
@@ -88,11 +101,14 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
 
   /** buildscript generation error marker ID */
   private static final String MARKER_ID = Activator.PLUGIN_ID + ".BuildscriptGenerationError";
+  /** the name of the script in the build directory cmake includes after the project() command */
+  private static final String PROJECT_INCLUDE_FILE_NAME = "cmake4eclipse-project.cmake";
 
   private IProject project;
   private IProgressMonitor monitor;
   private IConfiguration config;
   private IBuilder builder;
+  private int buildKind = IncrementalProjectBuilder.FULL_BUILD;
   /** build path - relative to the project. Lazily instantiated */
   private IPath buildRelPath;
 
@@ -112,6 +128,7 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     // Cache the build tools
     this.config = cfg;
     this.builder = builder;
+    this.buildKind = buildKind;
     this.buildRelPath = null;
   }
 
@@ -133,24 +150,45 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
   private IPath getRelBuildPath() {
     if (buildRelPath == null) {
       // set the top build dir path for the current configuration
-      String buildDirStr = null;
-      final ICConfigurationDescription cfgd = ManagedBuildManager.getDescriptionForConfiguration(config);
-      try {
-        CMakeSettings prefs = ConfigurationManager.getInstance().getOrLoad(cfgd);
-        buildDirStr = prefs.getBuildDirectory();
-      } catch (CoreException e) {
-        // storage base is null; treat as bug in CDT..
-        log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "falling back to hard coded build directory", e));
-      }
+      buildRelPath = getRelBuildPath(project, ManagedBuildManager.getDescriptionForConfiguration(config));
+    }
+    return buildRelPath;
+  }
 
-      try {
-        buildDirStr = CCorePlugin.getDefault().getCdtVariableManager().resolveValue(buildDirStr, "", null, cfgd);
-        buildRelPath = new Path(buildDirStr);
-      } catch (CdtVariableException e) {
-        log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "variable expansion for build directory failed", e));
+  /**
+   * Gets the build directory of the specified configuration.
+   *
+   * @return the build directory relative to the project or {@code null} if variable expansion failed
+   */
+  private static @Nullable IPath getRelBuildPath(IProject project, ICConfigurationDescription cfgd) {
+    String buildDirStr = null;
+    final ConfigurePreset preset = ConfigurePresetUtil.getConfigurePreset(cfgd);
+    if (preset != null && preset.getBinaryDir() != null) {
+      // the binaryDir of the configure preset takes precedence, but MBS requires the build dir below the project
+      IPath binaryDir = Path.fromOSString(preset.getBinaryDir().toString());
+      IPath projectLocation = project.getLocation();
+      if (projectLocation != null && projectLocation.isPrefixOf(binaryDir)) {
+        return binaryDir.makeRelativeTo(projectLocation);
       }
+      log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+          String.format("binaryDir '%s' of configure preset '%s' is outside of project %s, ignored", binaryDir,
+              preset.getName(), project.getName())));
     }
-    return buildRelPath;
+    try {
+      CMakeSettings prefs = ConfigurationManager.getInstance().getOrLoad(cfgd);
+      buildDirStr = prefs.getBuildDirectory();
+    } catch (CoreException e) {
+      // storage base is null; treat as bug in CDT..
+      log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "falling back to hard coded build directory", e));
+    }
+
+    try {
+      buildDirStr = CCorePlugin.getDefault().getCdtVariableManager().resolveValue(buildDirStr, "", null, cfgd);
+      return new Path(buildDirStr);
+    } catch (CdtVariableException e) {
+      log.log(new Status(IStatus.ERROR, Activator.PLUGIN_ID, "variable expansion for build directory failed", e));
+    }
+    return null;
   }
 
   /*-
@@ -184,7 +222,47 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
      * process, making it impossible to code a cmake error parser implementation of IErrorParser that works. So we force
      * to run cmake in advance to feeds its output to an error parser that WORKS.
      */
-    return generateBuildscripts(visitor.hasChanges);
+    boolean force = visitor.hasChanges();
+    if (isUpToDate()) {
+      // nothing changed since the last successful build, the build runner will skip the build as well
+      return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, "", null);
+    }
+    if (force && visitor.getNewestChange() < getLastConfigureTime()) {
+      // cmake was run in the background after the most recent change
+      force = false;
+    }
+    return generateBuildscripts(force);
+  }
+
+  /**
+   * Runs cmake for the configuration this generator was initialized for, unless cmake already ran after the specified
+   * time. Invoked in the background after CMake scripts were saved, so that a subsequent build finds the build-scripts
+   * up to date.
+   *
+   * @param changeTime time stamp of the most recent change to a CMake script
+   * @return a MultiStatus object, where .getCode() return the severity
+   */
+  public MultiStatus preconfigure(long changeTime) throws CoreException {
+    if (changeTime < getLastConfigureTime()) {
+      // a build ran cmake in the meantime
+      return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, "", null);
+    }
+    return generateBuildscripts(true);
+  }
+
+  /**
+   * Gets the start time of the most recent successful cmake run for the configuration this generator was initialized
+   * for.
+   *
+   * @return the time in milliseconds or {@code 0} if cmake did not run successfully since the project was opened
+   */
+  private long getLastConfigureTime() throws CoreException {
+    Object time = project.getSessionProperty(getLastConfigureKey());
+    return time instanceof Long ? (Long) time : 0L;
+  }
+
+  private QualifiedName getLastConfigureKey() {
+    return new QualifiedName(Activator.PLUGIN_ID, "lastConfigure." + config.getId());
   }
 
   /**
@@ -192,9 +270,23 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
    */
   @Override
   public MultiStatus regenerateMakefiles() throws CoreException {
+    if (isUpToDate()) {
+      // nothing changed since the last successful build, the build runner will skip the build as well
+      return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, "", null);
+    }
     return generateBuildscripts(false);
   }
 
+  /**
+   * Gets whether the target to build is up to date according to the {@link UpToDateTracker}.
+   */
+  private boolean isUpToDate() {
+    final ICConfigurationDescription cfgDes = ManagedBuildManager.getDescriptionForConfiguration(config);
+    final String target = buildKind == IncrementalProjectBuilder.AUTO_BUILD ? builder.getAutoBuildTarget()
+        : builder.getIncrementalBuildTarget();
+    return builder.isDefaultBuildCmdOnly() && UpToDateTracker.getInstance().isUpToDate(project, cfgDes, target);
+  }
+
   /**
    * @param forceGeneration
    *          <code>true</code> if cmake must be run, regardless whether the build-scripts have already been generated
@@ -205,29 +297,14 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
 
     final ICConfigurationDescription cfgDes = ManagedBuildManager.getDescriptionForConfiguration(config);
 
-    IPath cmakelistsPath;
-    ICStorageElement storage = cfgDes.getProjectDescription().getStorage(CMakeSettings.CFG_STORAGE_ID, false);
-    if (storage != null) {
-      // Cmake4eclipse nature holds a path to the top-level cmakelists.txt file
-      String cmakelists = storage.getAttribute(CMakeSettings.ATTR_CMAKELISTS_FLDR);
-      cmakelistsPath = new Path(cmakelists);
-    } else {
-      // classic cmake4eclipse with MBS build system...
-      // .. assumes the top-level cmakelists.txt file is below the (single) source location
-      ICSourceEntry[] srcEntries = config.getSourceEntries();
-
-      // do a sanity check..
-      if (srcEntries.length == 0) {
-        // no source folders specified in project
-        final String msg = "No source directories configured for project";
-        MultiStatus status = new MultiStatus(Activator.PLUGIN_ID, IStatus.ERROR, msg + " " + project.getName(), null);
-        createErrorMarker(project, msg);
-        return status;
-      } else {
-        srcEntries = CDataUtil.resolveEntries(srcEntries, cfgDes);
-        // assume the first source directory contains a CMakeLists.txt
-        cmakelistsPath = srcEntries[0].getFullPath();
-      }
+    final IPath cmakelistsPath = ConfigurePresetUtil.getCMakeListsPath(cfgDes);
+    // do a sanity check..
+    if (cmakelistsPath == null) {
+      // no source folders specified in project
+      final String msg = "No source directories configured for project";
+      MultiStatus status = new MultiStatus(Activator.PLUGIN_ID, IStatus.ERROR, msg + " " + project.getName(), null);
+      createErrorMarker(project, msg);
+      return status;
     }
 
     // See if the user has cancelled the build
@@ -278,6 +355,10 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
       if (!mustGenerate && (!cacheFileExists || !Files.exists(buildDir.resolve(getMakefileName())))) {
         mustGenerate = true;
       }
+      if (!mustGenerate && isLinkJobPoolChanged(cfgDes, cacheFile)) {
+        // the size of the link pool is derived from the memory available and the memory use of the linker
+        mustGenerate = true;
+      }
       if (!mustGenerate) {
         return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, "", null);
       }
@@ -306,9 +387,25 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     } catch (IOException ignore) {
     }
     IContainer cmakelistsDir = cmakelistsPath.isEmpty() ? project : project.getFolder(cmakelistsPath);
+    reportConfigurePreset(cfgDes, cmakelistsDir, console);
 
     checkCancel();
+    final java.nio.file.Path profileFile = buildDir.resolve(CMakeProfile.TRACE_FILE_NAME);
+    try {
+      Files.deleteIfExists(profileFile);
+    } catch (IOException ignore) {
+    }
+    try {
+      // have cmake write the targets for the CMake Targets view
+      TargetIndex.writeQuery(buildDir);
+    } catch (IOException ex) {
+      log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to write cmake file API query", ex));
+    }
     MultiStatus status = invokeCMake(cmakelistsDir, buildFolder.getLocation(), console, overwritingToolkit);
+    final Date endDate = new Date();
+    CMakeBuildRunner.recordTelemetry(project, console, BuildTelemetry.record(BuildTelemetry.CONFIGURE,
+        cfgDes.getName(), "", false, endDate.getTime() - startDate.getTime(), 0, null,
+        status.getCode() != IStatus.ERROR));
     // NOTE: Commonbuilder reads getCode() to detect errors, not getSeverity()
     if (status.getCode() == IStatus.ERROR) {
       // failed to generate
@@ -317,10 +414,14 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
       createErrorMarker(project, status.getMessage());
       return status;
     }
+    project.setSessionProperty(getLastConfigureKey(), startDate.getTime());
+    TargetIndex.configured(buildDir);
+    if (Files.exists(profileFile)) {
+      reportProfile(profileFile, cmakelistsDir, console);
+    }
 
     try {
       final OutputStream cis = console.getInfoStream();
-      Date endDate = new Date();
       String msg = String.format("%tT Buildscript generation finished (took %d ms)\n", endDate,
           endDate.getTime() - startDate.getTime());
       cis.write(msg.getBytes());
@@ -329,6 +430,73 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, "", null);
   }
 
+  /**
+   * Prints the configure preset in use to the console, or why the preset selected in the project settings cannot be
+   * used.
+   *
+   * @param cfgd          the configuration
+   * @param cmakelistsDir directory of the top-level CMakeLists.txt file
+   * @param console       the console to print to
+   */
+  private void reportConfigurePreset(ICConfigurationDescription cfgd, IContainer cmakelistsDir, IConsole console)
+      throws CoreException {
+    final String presetName = ConfigurationManager.getInstance().getOrLoad(cfgd).getConfigurePreset();
+    if (presetName == null || presetName.isBlank() || cmakelistsDir.getLocation() == null) {
+      return;
+    }
+    StringBuilder msg = new StringBuilder();
+    CMakePresets presets = CMakePresets.get(cmakelistsDir.getLocation().toPath());
+    ConfigurePreset preset = presets.getConfigurePreset(presetName);
+    if (preset == null) {
+      msg.append(String.format("  Configure preset '%s' not found, ignored\n", presetName));
+      for (String error : presets.getErrors()) {
+        msg.append("    ").append(error).append('\n');
+      }
+    } else {
+      msg.append(String.format("  Using configure preset '%s'\n", presetName));
+      String generator = preset.getGenerator();
+      if (generator != null && ConfigurePresetUtil.toCmakeGenerator(generator) == null) {
+        msg.append(String.format("  Generator '%s' of configure preset is not supported, ignored\n", generator));
+      }
+    }
+    try {
+      console.getInfoStream().write(msg.toString().getBytes());
+    } catch (IOException ignore) {
+    }
+  }
+
+  /**
+   * Parses the trace file cmake wrote when invoked with {@code --profiling-output}, prints a hot spot report to the
+   * console and records a summary in the profile history of the project.
+   *
+   * @param profileFile   the trace file
+   * @param cmakelistsDir directory of the top-level CMakeLists.txt file
+   * @param console       the console to print the report to
+   */
+  private void reportProfile(java.nio.file.Path profileFile, IContainer cmakelistsDir, IConsole console) {
+    try {
+      CMakeProfile profile;
+      try (Reader reader = Files.newBufferedReader(profileFile)) {
+        profile = CMakeProfile.parse(reader);
+      }
+      CMakeProfileHistory history = CMakeProfileHistory.forProject(project.getName());
+      CMakeProfileHistory.Record previous = history.getPrevious(config.getName());
+      CMakeProfileHistory.Record current = CMakeProfileHistory.summarize(config.getName(), profile);
+      history.append(current);
+      String report = new CMakeProfileReport(cmakelistsDir.getLocation().toString()).format(profile, current,
+          previous);
+      try {
+        String msg = String.format("%tT Configure profile: %s\n", new Date(), profileFile);
+        console.getInfoStream().write(msg.getBytes());
+        console.getInfoStream().write(report.getBytes());
+      } catch (IOException ignore) {
+      }
+    } catch (IOException | JsonParseException ex) {
+      log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to read cmake profiling output " + profileFile,
+          ex));
+    }
+  }
+
   /**
    * Recursively creates the folder hierarchy needed for the build output, if
    * necessary. If the folder is created, its derived bit is set to true so the
@@ -378,7 +546,14 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
       // Set the environment
       ArrayList<String> envList = buildEnvironment(console, overwritingToolkit);
 
-      final List<String> argList = buildCommandline(cmakelistsDir.getLocation(), overwritingToolkit);
+      final List<String> argList = buildCommandline(cmakelistsDir.getLocation(), buildPath, overwritingToolkit,
+          envList, console);
+      final String warmStartKey = CompilerWarmStart.computeKey(
+          overwritingToolkit.map(BuildToolKitDefinition::getUid).orElse(0L),
+          argList.get(argList.indexOf("-G") + 1), argList, envList);
+      if (PreferenceAccess.getPreferences().getBoolean(PreferenceAccess.CMAKE_WARM_START, true)) {
+        seedCompilerDetection(buildPath, warmStartKey, argList, console);
+      }
       // extract cmake command
       final String cmd = argList.remove(0);
       // run cmake..
@@ -412,6 +587,12 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
           final int exitValue = proc.exitValue();
           if (exitValue == 0) {
             // success
+            try {
+              CompilerWarmStart.writeStamp(buildPath.toPath(), warmStartKey);
+            } catch (IOException ex) {
+              log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to record compiler detection results",
+                  ex));
+            }
             return new MultiStatus(Activator.PLUGIN_ID, IStatus.OK, null, null);
           } else {
             // cmake had errors...
@@ -432,6 +613,44 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     }
   }
 
+  /**
+   * Seeds a build directory that was never configured before with the compiler detection results of the build
+   * directory of another configuration of the project, if that uses the same tool chain.
+   *
+   * @param buildPath abs. path of the build directory
+   * @param key       the key that identifies the tool chain
+   * @param argList   the cmake arguments. Receives a {@code -C} option to pre-load the compiler cache entries
+   * @param console   the console to print a message to
+   */
+  private void seedCompilerDetection(IPath buildPath, String key, List<String> argList, IConsole console) {
+    final ICConfigurationDescription cfgd = ManagedBuildManager.getDescriptionForConfiguration(config);
+    List<java.nio.file.Path> candidates = new ArrayList<>();
+    for (ICConfigurationDescription sibling : cfgd.getProjectDescription().getConfigurations()) {
+      IPath relPath = getRelBuildPath(project, sibling);
+      if (relPath != null && project.getLocation() != null) {
+        candidates.add(project.getLocation().append(relPath).toPath());
+      }
+    }
+    try {
+      CompilerWarmStart.Seed seed = CompilerWarmStart.seed(buildPath.toPath(), key, candidates);
+      if (seed != null) {
+        java.nio.file.Path script = seed.getCacheScript();
+        if (script != null) {
+          // insert before the source directory argument
+          argList.add(argList.size() - 1, "-C");
+          argList.add(argList.size() - 1, script.toString());
+        }
+        try {
+          String msg = String.format("  Reusing compiler detection results from %s\n", seed.getSource());
+          console.getInfoStream().write(msg.getBytes());
+        } catch (IOException ignore) {
+        }
+      }
+    } catch (IOException ex) {
+      log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to seed compiler detection results", ex));
+    }
+  }
+
   /**
    * Build the environment to invoke cmake with.
    */
@@ -472,6 +691,15 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
         envList.add(name + "=" + value); //$NON-NLS-1$
       }
     }
+    // let the compiler cache keep its files in the workspace, unless the user chose a directory
+    final CMakeSettings prefs = ConfigurationManager.getInstance()
+        .getOrLoad(ManagedBuildManager.getDescriptionForConfiguration(config));
+    CompilerCache.getLauncherEnvironment(prefs.getCompilerCache(), prefs.getDistributedCompiler(),
+        getEnvironmentValue(envList, "PATH")).forEach((name, value) -> {
+          if (getEnvironmentValue(envList, name) == null) {
+            envList.add(name + "=" + value);
+          }
+        });
     return envList;
   }
 
@@ -479,10 +707,14 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
    * Build the command-line for cmake. The first argument will be the
    * cmake-command.
    *
+   * @param srcDir      abs. path of the directory of the top-level CMakeLists.txt file
+   * @param buildDir    abs. path of the build directory
+   * @param environment the environment to invoke cmake with
+   * @param console     the console to print messages to
    * @throws CoreException
    */
-  private List<String> buildCommandline(IPath srcDir, Optional<BuildToolKitDefinition> overwritingBtk)
-      throws CoreException {
+  private List<String> buildCommandline(IPath srcDir, IPath buildDir, Optional<BuildToolKitDefinition> overwritingBtk,
+      List<String> environment, IConsole console) throws CoreException {
     // load project properties..
     final ICConfigurationDescription cfgd = ManagedBuildManager.getDescriptionForConfiguration(config);
 
@@ -524,9 +756,9 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     }
 
     /* add workbench preferences */
+    final IEclipsePreferences wPrefs = PreferenceAccess.getPreferences();
+    final CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, wPrefs, overwritingBtk);
     {
-      IEclipsePreferences wPrefs = PreferenceAccess.getPreferences();
-      CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(wPrefs, overwritingBtk);
       args.add("-G");
       args.add(generator.getCmakeName());
       /* add general settings */
@@ -542,6 +774,10 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
         args.add("--warn-uninitialized");
       if (wPrefs.getBoolean(PreferenceAccess.CMAKE_NO_WARN_UNUSED, false))
         args.add("--no-warn-unused-cli");
+      if (wPrefs.getBoolean(PreferenceAccess.CMAKE_PROFILING, false)) {
+        args.add("--profiling-format=google-trace");
+        args.add("--profiling-output=" + buildDir.append(CMakeProfile.TRACE_FILE_NAME).toOSString());
+      }
       if (!needVerboseBuild && wPrefs.getBoolean(PreferenceAccess.VERBOSE_BUILD, false)) {
         args.add("-DCMAKE_VERBOSE_MAKEFILE=ON");
       }
@@ -550,6 +786,13 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
       List<CmakeDefine> entries = PreferenceAccess.toListFromJson(CmakeDefine.class, json);
       appendDefines(args, entries, null);
     }
+    /* cache variables of the configure preset... */
+    {
+      final ConfigurePreset preset = ConfigurePresetUtil.getConfigurePreset(cfgd);
+      if (preset != null) {
+        preset.getCacheVariables().forEach((name, var) -> args.add(var.toArgument(name)));
+      }
+    }
     /* project settings... */
     {
       final CMakeSettings prefs = ConfigurationManager.getInstance().getOrLoad(cfgd);
@@ -558,6 +801,15 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
         args.add(prefs.getCacheFile());
       }
 
+      appendBuildAcceleration(args, prefs);
+      appendProjectInclude(args, prefs, buildDir);
+      appendCompilerLauncher(args, prefs, environment, console);
+      if (generator == CmakeGenerator.Ninja) {
+        final DistributedCompilerType distributedCompiler = prefs.getDistributedCompiler();
+        final boolean distributed = distributedCompiler != null && DistributedCompile.findLauncher(distributedCompiler,
+            prefs.getCompilerCache(), getEnvironmentValue(environment, "PATH")) != null;
+        appendJobPools(args, prefs, cfgd.getId(), distributed, console);
+      }
       appendDefines(args, prefs.getDefines(), cfgd);
       appendUndefines(args, prefs.getUndefines());
 
@@ -585,6 +837,223 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     return args;
   }
 
+  /**
+   * Appends arguments for the build acceleration settings. Cache entries defined by the user are appended later and
+   * take precedence.
+   *
+   * @param args  the list to append cmake-arguments to
+   * @param prefs the project settings
+   */
+  private static void appendBuildAcceleration(List<String> args, CMakeSettings prefs) {
+    if (prefs.isUnityBuild()) {
+      args.add("-DCMAKE_UNITY_BUILD:BOOL=ON");
+      if (prefs.getUnityBuildBatchSize() != null) {
+        args.add("-DCMAKE_UNITY_BUILD_BATCH_SIZE:STRING=" + prefs.getUnityBuildBatchSize());
+      }
+    }
+    if (prefs.isDisablePrecompileHeaders()) {
+      args.add("-DCMAKE_DISABLE_PRECOMPILE_HEADERS:BOOL=ON");
+    } else if (prefs.isPchInstantiateTemplates()) {
+      args.add("-DCMAKE_PCH_INSTANTIATE_TEMPLATES:BOOL=ON");
+    }
+  }
+
+  /**
+   * Appends the argument that lets cmake include a script after the {@code project()} command, when the compiler is
+   * known. The script adds the compile option that lets clang write time traces and applies the link settings, which
+   * depend on the compiler. Unlike the initial values of the cache entries for compile and link flags, the script
+   * takes effect each time cmake runs. If no setting needs the script, but the build directory has one from before,
+   * the script is emptied, since cmake keeps the {@code CMAKE_PROJECT_INCLUDE} cache entry.
+   *
+   * @param args     the list to append cmake-arguments to
+   * @param prefs    the project settings
+   * @param buildDir abs. path of the build directory to write the script to
+   */
+  private static void appendProjectInclude(List<String> args, CMakeSettings prefs, IPath buildDir) {
+    StringBuilder commands = new StringBuilder();
+    if (prefs.isTimeTrace()) {
+      commands.append(TimeTraceReport.getScript());
+    }
+    String linkProfile = LinkProfile.getScript(prefs.getLinker(), prefs.isGdbIndex(), prefs.isSplitDwarf(),
+        prefs.isThinArchives());
+    if (linkProfile != null) {
+      commands.append(linkProfile);
+    }
+    final java.nio.file.Path script = buildDir.toPath().resolve(PROJECT_INCLUDE_FILE_NAME);
+    if (commands.length() == 0 && !Files.exists(script)) {
+      return;
+    }
+    final String content = "# Generated by cmake4eclipse, included after each project() command\n"
+        + "include_guard(GLOBAL)\n" + commands;
+    try {
+      if (!Files.isRegularFile(script) || !content.equals(Files.readString(script))) {
+        Files.createDirectories(script.getParent());
+        Files.writeString(script, content);
+      }
+      args.add("-DCMAKE_PROJECT_INCLUDE:FILEPATH=" + script.toString());
+    } catch (IOException ex) {
+      log.log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to write the project include script", ex));
+    }
+  }
+
+  /**
+   * Appends arguments that run the compilers through the compiler cache or the tool that distributes compile jobs.
+   * If both are specified, the compiler cache is the launcher and hands cache misses to the distributing tool.
+   *
+   * @param args        the list to append cmake-arguments to
+   * @param prefs       the project settings
+   * @param environment the environment to invoke cmake with, used to look up the launchers
+   * @param console     the console to print a message to if a launcher is not installed
+   */
+  private static void appendCompilerLauncher(List<String> args, CMakeSettings prefs, List<String> environment,
+      IConsole console) {
+    final String path = getEnvironmentValue(environment, "PATH");
+    java.nio.file.Path launcher = null;
+    final CompilerCacheType compilerCache = prefs.getCompilerCache();
+    if (compilerCache != null) {
+      launcher = path == null ? null : SearchPath.findExecutable(compilerCache.getExecutableName(), path);
+      if (launcher == null) {
+        printLauncherNotFound(compilerCache.getExecutableName(), console);
+      }
+    }
+    final DistributedCompilerType distributedCompiler = prefs.getDistributedCompiler();
+    if (distributedCompiler != null) {
+      final java.nio.file.Path exe = DistributedCompile.findLauncher(distributedCompiler, compilerCache, path);
+      if (exe == null) {
+        printLauncherNotFound(distributedCompiler.getExecutableName(), console);
+      } else if (launcher == null) {
+        launcher = exe;
+      }
+    }
+    if (launcher != null) {
+      args.add("-DCMAKE_C_COMPILER_LAUNCHER:STRING=" + launcher);
+      args.add("-DCMAKE_CXX_COMPILER_LAUNCHER:STRING=" + launcher);
+    }
+  }
+
+  private static void printLauncherNotFound(String name, IConsole console) {
+    try {
+      String msg = String.format("  Compiler launcher '%s' not found on the executable search path or not usable with"
+          + " the compiler cache, ignored\n", name);
+      console.getInfoStream().write(msg.getBytes());
+    } catch (IOException ignore) {
+    }
+  }
+
+  /**
+   * Appends arguments for the Ninja job pools that limit the number of parallel compile and link jobs. If the size of
+   * the link pool is not specified, it is derived from the available memory and the peak memory use of the linker
+   * observed in previous builds. If compile jobs are distributed to other machines, the build runs more jobs than the
+   * local host has processors, so links, which always run on the local host, are limited to the number of processors
+   * unless a link pool is specified.
+   *
+   * @param args        the list to append cmake-arguments to
+   * @param prefs       the project settings
+   * @param configId    the ID of the build configuration, used to look up the observed memory use
+   * @param distributed whether compile jobs are distributed to other machines
+   * @param console     the console to print the derived size of the link pool to
+   */
+  private void appendJobPools(List<String> args, CMakeSettings prefs, String configId, boolean distributed,
+      IConsole console) throws CoreException {
+    List<String> pools = new ArrayList<>(2);
+    Integer compileJobs = prefs.getCompileJobPoolSize();
+    if (compileJobs != null) {
+      pools.add("compile=" + compileJobs);
+      args.add("-DCMAKE_JOB_POOL_COMPILE:STRING=compile");
+    }
+    if (prefs.isLinkJobPool()) {
+      Integer linkJobs = prefs.getLinkJobPoolSize();
+      if (linkJobs == null) {
+        final long peakRss = JobEstimator.getPeakRss(project, JobEstimator.LINK, configId);
+        linkJobs = computeLinkJobs(peakRss, console);
+        JobEstimator.setPeakRss(project, JobEstimator.LINK_POOL, configId, peakRss, true);
+      }
+      pools.add("link=" + linkJobs);
+      args.add("-DCMAKE_JOB_POOL_LINK:STRING=link");
+    } else if (distributed) {
+      pools.add("link=" + Runtime.getRuntime().availableProcessors());
+      args.add("-DCMAKE_JOB_POOL_LINK:STRING=link");
+    }
+    if (!pools.isEmpty()) {
+      args.add("-DCMAKE_JOB_POOLS:STRING=" + String.join(";", pools));
+    }
+  }
+
+  /**
+   * Computes the size of the link pool from the available memory and the peak memory use of the linker observed in
+   * previous builds.
+   *
+   * @param peakRss the peak resident set size of a linker process in bytes or {@code 0} if unknown
+   * @param console the console to print the size to or {@code null}
+   */
+  private static int computeLinkJobs(long peakRss, @Nullable IConsole console) {
+    final int cores = Runtime.getRuntime().availableProcessors();
+    final long available = JobEstimator.getAvailableMemory();
+    final int linkJobs = JobEstimator.computeLinkJobs(cores, available, peakRss);
+    if (console != null) {
+      try {
+        String msg = String.format("  Link job pool: %d jobs (%.1f GiB memory available, %d MiB per linker"
+            + " process%s)\n", linkJobs, available / (double) (1L << 30),
+            (peakRss > 0 ? peakRss : JobEstimator.DEFAULT_LINK_RSS) >> 20, peakRss > 0 ? "" : " assumed");
+        console.getInfoStream().write(msg.getBytes());
+      } catch (IOException ignore) {
+      }
+    }
+    return linkJobs;
+  }
+
+  /**
+   * Gets whether the link pool of the build scripts must be resized. cmake writes the size into the build scripts, so
+   * it has to run again to apply the memory use of the linker learned from the builds since it last ran. Changes of the
+   * available memory alone do not resize the pool, to not run cmake on each build.
+   *
+   * @param cacheFile the CMakeCache.txt file
+   */
+  private boolean isLinkJobPoolChanged(ICConfigurationDescription cfgd, java.nio.file.Path cacheFile)
+      throws CoreException, IOException {
+    CMakeSettings prefs = ConfigurationManager.getInstance().getOrLoad(cfgd);
+    if (!prefs.isLinkJobPool() || prefs.getLinkJobPoolSize() != null) {
+      return false;
+    }
+    final long peakRss = JobEstimator.getPeakRss(project, JobEstimator.LINK, cfgd.getId());
+    if (peakRss == JobEstimator.getPeakRss(project, JobEstimator.LINK_POOL, cfgd.getId())) {
+      return false;
+    }
+    IEclipsePreferences wPrefs = PreferenceAccess.getPreferences();
+    if (BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, wPrefs,
+        BuildToolKitUtil.getOverwritingToolkit(wPrefs)) != CmakeGenerator.Ninja) {
+      return false;
+    }
+    String pools = new SimpleCMakeCacheTxt(cacheFile.toFile()).getJobPools();
+    String configured = null;
+    if (pools != null) {
+      for (String pool : pools.split(";")) {
+        if (pool.startsWith("link=")) {
+          configured = pool.substring("link=".length());
+        }
+      }
+    }
+    return !Integer.toString(computeLinkJobs(peakRss, null)).equals(configured);
+  }
+
+  /**
+   * Gets the value of an environment variable.
+   *
+   * @param environment the environment, each entry in the form {@code name=value}
+   * @param name        the name of the variable. Case insensitive on windows
+   * @return the value or {@code null} if the variable is not set
+   */
+  private static @Nullable String getEnvironmentValue(List<String> environment, String name) {
+    final boolean ignoreCase = Platform.OS_WIN32.equals(Platform.getOS());
+    for (String entry : environment) {
+      int idx = entry.indexOf('=');
+      if (idx == name.length() && entry.regionMatches(ignoreCase, 0, name, 0, idx)) {
+        return entry.substring(idx + 1);
+      }
+    }
+    return null;
+  }
+
   /**
    * Appends arguments for the specified cmake undefines.
    *
@@ -630,7 +1099,8 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
   public String getMakefileName() {
     IEclipsePreferences prefs = PreferenceAccess.getPreferences();
     try {
-      CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(prefs,
+      CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(
+          ManagedBuildManager.getDescriptionForConfiguration(config), prefs,
           BuildToolKitUtil.getOverwritingToolkit(prefs));
       return generator.getMakefileName();
     } catch (JsonSyntaxException ex) {
@@ -699,27 +1169,43 @@ public class BuildscriptGenerator implements IManagedBuilderMakefileGenerator2 {
     }
   }
 
-  private static class CMakeListsVisitor implements IResourceDeltaVisitor {
+  /**
+   * Detects changes to CMake scripts.
+   */
+  static class CMakeListsVisitor implements IResourceDeltaVisitor {
     private boolean hasChanges = false;
+    private long newestChange;
 
     @Override
     public boolean visit(IResourceDelta delta) {
-      if (hasChanges) {
-        return false; // changes were detected already
-      }
-
       switch (delta.getKind()) {
       case IResourceDelta.CHANGED:
         IResource resource = delta.getResource();
         if (resource.getType() == IResource.FILE && !resource.isDerived(IResource.CHECK_ANCESTORS)) {
           String name = resource.getName();
-          if (name.equals("CMakeLists.txt") || name.endsWith(".cmake")) {
+          if (name.equals("CMakeLists.txt") || name.endsWith(".cmake") || name.equals(CMakePresets.PRESETS_FILE)
+              || name.equals(CMakePresets.USER_PRESETS_FILE)) {
             hasChanges= true;
+            newestChange = Math.max(newestChange, resource.getLocalTimeStamp());
             return false;
           }
         }
       }
       return true;
     }
+
+    /**
+     * Gets whether any CMake script was changed.
+     */
+    boolean hasChanges() {
+      return hasChanges;
+    }
+
+    /**
+     * Gets the modification time stamp of the most recently changed CMake script.
+     */
+    long getNewestChange() {
+      return newestChange;
+    }
   }
 }
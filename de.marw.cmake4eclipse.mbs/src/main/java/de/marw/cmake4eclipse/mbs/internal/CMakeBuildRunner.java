@@ -12,10 +12,13 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.cdt.core.CCorePlugin;
@@ -39,8 +42,10 @@ import org.eclipse.cdt.managedbuilder.macros.IFileContextBuildMacroValues;
 import org.eclipse.cdt.managedbuilder.macros.IReservedMacroNameSupplier;
 import org.eclipse.cdt.managedbuilder.makegen.IManagedBuilderMakefileGenerator;
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
@@ -49,16 +54,32 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.QualifiedName;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.jdt.annotation.Nullable;
 import org.osgi.framework.Version;
 
 import de.marw.cmake4eclipse.mbs.cmakecache.CMakeCacheFileParser;
 import de.marw.cmake4eclipse.mbs.cmakecache.CMakeCacheFileParser.EntryFilter;
 import de.marw.cmake4eclipse.mbs.cmakecache.SimpleCMakeCacheEntry;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTelemetry;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTimeHistory;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.BuildTimings;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.CompilerCacheStatistics;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.CompilerCacheStats;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaBuildAnalysis;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaDeps;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaLog;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.TimeTraceReport;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.TimeTraceReports;
 import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
 import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
 
 /**
  * An ExternalBuildRunner that injects the build tool command to use and some of
@@ -74,12 +95,25 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
 
   /** caches CMakeCacheFileInfo */
   private static final QualifiedName cacheFileInfo = new QualifiedName(Activator.PLUGIN_ID, "cmakeCacheFileInfo");
+  /** marks a configuration whose next build compiles all sources */
+  private static final QualifiedName cleaned = new QualifiedName(Activator.PLUGIN_ID, "cleaned");
+  /** whether the most recent build of a configuration succeeded */
+  private static final QualifiedName buildResult = new QualifiedName(Activator.PLUGIN_ID, "buildResult");
 
   @Override
   protected Map<String, String> getEnvironment(IBuilder builder) throws CoreException {
     Map<String, String> environment = super.getEnvironment(builder);
     // replace $PATH, if necessary
     BuildToolKitUtil.replacePathVarFromBuildToolKit(environment);
+    if (builder instanceof CmakeBuildToolInjectorBuilder) {
+      MakeJobServer jobServer = ((CmakeBuildToolInjectorBuilder) builder).jobServer;
+      if (jobServer != null) {
+        environment.merge("MAKEFLAGS", jobServer.getMakeFlags(), (flags, ours) -> flags + " " + ours);
+      }
+      // the compiler launchers must see the same environment as when cmake configured them
+      ((CmakeBuildToolInjectorBuilder) builder).launcherEnvironment.forEach(environment::putIfAbsent);
+      environment.putAll(((CmakeBuildToolInjectorBuilder) builder).toolEnvironment);
+    }
 
     return environment;
   }
@@ -117,13 +151,65 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
           .getDescriptionForConfiguration(configuration);
       final IPath builderCWD = cfgd.getBuildSetting().getBuilderCWD();
 
+      // skip launching cmake and the build-script processor if nothing changed since the last successful build
+      final UpToDateTracker upToDate = UpToDateTracker.getInstance();
+      final String target = kind == IncrementalProjectBuilder.AUTO_BUILD ? builder.getAutoBuildTarget()
+          : builder.getIncrementalBuildTarget();
+      if (kind == IncrementalProjectBuilder.CLEAN_BUILD) {
+        upToDate.invalidate(project, cfgd);
+      } else if (upToDate.isUpToDate(project, cfgd, target)) {
+        try {
+          String msg = String.format("  '%s' is up to date, no changes since the last build\n", target);
+          console.getInfoStream().write(msg.getBytes());
+        } catch (IOException ignore) {
+        }
+        cfgd.setSessionProperty(buildResult, Boolean.TRUE);
+        return false;
+      }
+      final long generation = upToDate.getGeneration(project);
+
       if (kind == IncrementalProjectBuilder.CLEAN_BUILD) {
         // avoid calling 'rm -rf' if it is a clean build and the build dir was
         // deleted
         IPath location = ResourcesPlugin.getWorkspace().getRoot().getFolder(builderCWD).getLocation();
         if (!location.toFile().exists()) {
+          cfgd.setSessionProperty(cleaned, Boolean.TRUE);
           return true; // is clean
         }
+        // avoid waiting for the build tool to delete a huge build output
+        if (builderCWD.segmentCount() > 1 && !location.equals(project.getLocation())
+            && PreferenceAccess.getPreferences().getBoolean(PreferenceAccess.CLEAN_FAST, false)) {
+          java.nio.file.Path trash = null;
+          String msg;
+          try {
+            trash = FastClean.moveAside(location.toPath(), FastClean.getTrashDirectory());
+            msg = String.format("  Moved build directory %s to %s, deleting it in the background\n",
+                location.toOSString(), trash);
+          } catch (IOException ex) {
+            // a file is in use, for example
+            msg = String.format("  Could not move build directory aside (%s), using the build tool\n", ex);
+          }
+          try {
+            console.getInfoStream().write(msg.getBytes());
+          } catch (IOException ignore) {
+          }
+          if (trash != null) {
+            IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+            root.getFolder(builderCWD).refreshLocal(IResource.DEPTH_ZERO, monitor);
+            if (!trash.equals(FastClean.getTrashDirectory())) {
+              // the build directory is on a different file system, the trash is next to it
+              IFolder folder = root.getFolder(builderCWD.removeLastSegments(1).append(FastClean.TRASH_DIR));
+              folder.refreshLocal(IResource.DEPTH_ZERO, monitor);
+              if (folder.exists()) {
+                folder.setDerived(true, monitor);
+                folder.setHidden(true);
+              }
+            }
+            cfgd.setSessionProperty(cleaned, Boolean.TRUE);
+            FastClean.scheduleDeletion(trash);
+            return true;
+          }
+        }
       }
 
       // try to get CMAKE_MAKE_PROGRAM entry from CMakeCache.txt...
@@ -134,14 +220,376 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
         return false;
       }
       IEclipsePreferences prefs = PreferenceAccess.getPreferences();
-      final CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(prefs,
+      final CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, prefs,
           BuildToolKitUtil.getOverwritingToolkit(prefs));
-      builder = new CmakeBuildToolInjectorBuilder(builder, buildscriptProcessorCmd, generator);
+
+      // share the workspace wide job budget with concurrent builds
+      final int limit = prefs.getInt(PreferenceAccess.JOB_BUDGET, 0);
+      MakeJobServer jobServer = null;
+      if (limit > 0 && generator.isJobServerClient() && prefs.getBoolean(PreferenceAccess.JOB_SERVER, false)
+          && !Platform.OS_WIN32.equals(Platform.getOS())) {
+        try {
+          jobServer = MakeJobServer.get(limit);
+        } catch (IOException ex) {
+          Activator.getDefault().getLog()
+              .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to create jobserver", ex));
+        }
+      }
+      final CMakeSettings settings = ConfigurationManager.getInstance().getOrLoad(cfgd);
+      final Map<String, String> environment = getEnvironment(builder);
+      final Map<String, String> launcherEnvironment = CompilerCache.getLauncherEnvironment(
+          settings.getCompilerCache(), settings.getDistributedCompiler(), environment.get("PATH"));
+      int jobs = builder.getParallelizationNum();
+      int loadLimit = limit;
+      String jobsReason = null;
+      // fill the job slots of the compile farm
+      DistributedCompile.Slots slots = null;
+      final DistributedCompilerType distributedCompiler = settings.getDistributedCompiler();
+      if (distributedCompiler != null && jobServer == null && jobs > 1 && DistributedCompile
+          .findLauncher(distributedCompiler, settings.getCompilerCache(), environment.get("PATH")) != null) {
+        slots = DistributedCompile.getSlots(distributedCompiler, settings.getDistributedSlots(),
+            Runtime.getRuntime().availableProcessors(), environment);
+        if (slots != null) {
+          jobs = slots.getJobs();
+          jobsReason = String.format("%d local and %d remote job slots", slots.getLocal(), slots.getRemote());
+        } else {
+          try {
+            String msg = String.format("  Number of remote job slots of %s unknown, specify it in the project"
+                + " settings\n", distributedCompiler.getExecutableName());
+            console.getInfoStream().write(msg.getBytes());
+          } catch (IOException ignore) {
+          }
+        }
+      }
+      // adapt the parallel jobs to the available memory
+      final boolean adaptive = jobServer == null && jobs > 1 && slots == null
+          && prefs.getBoolean(PreferenceAccess.JOB_ADAPTIVE, false);
+      if (adaptive) {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final long available = JobEstimator.getAvailableMemory();
+        final long peakRss = JobEstimator.getPeakRss(project, JobEstimator.COMPILE, cfgd.getId());
+        jobs = Math.min(jobs, JobEstimator.computeJobs(cores, available, peakRss));
+        if (loadLimit == 0) {
+          loadLimit = cores;
+        }
+        jobsReason = String.format("%d processors, %.1f GiB memory available, %s per compiler process", cores,
+            available / (double) (1L << 30),
+            peakRss > 0 ? (peakRss >> 20) + " MiB" : "no memory use observed yet");
+      }
+
+      final List<String> toolArguments = generator == CmakeGenerator.FastBuild
+          ? FastBuildOptions.getBuildArguments(settings)
+          : List.of();
+
+      // observe the memory use of compilers and linkers if a setting adapts to it
+      final boolean sample = kind != IncrementalProjectBuilder.CLEAN_BUILD && (adaptive
+          || generator == CmakeGenerator.Ninja && settings.isLinkJobPool() && settings.getLinkJobPoolSize() == null);
+
+      try (JobBudget.Lease lease = JobBudget.getInstance().acquire(jobServer == null ? limit : 0, jobs, monitor);
+          MakeJobServer.Client jobServerClient = jobServer == null ? null : jobServer.join(monitor);
+          JobEstimator.Sampler sampler = sample ? new JobEstimator.Sampler() : null;
+          CompilerCache.Usage cacheUsage = settings.getCompilerCache() == null ? null : CompilerCache.use()) {
+        final CmakeBuildToolInjectorBuilder injector = new CmakeBuildToolInjectorBuilder(builder,
+            buildscriptProcessorCmd, generator, lease.getJobs(), jobServer == null ? loadLimit : 0, jobServer,
+            launcherEnvironment, toolArguments,
+            generator == CmakeGenerator.FastBuild ? FastBuildOptions.getEnvironment(settings) : Map.of());
+        builder = injector;
+        if (sampler != null) {
+          sampler.observe(injector::getProcessHandle);
+        }
+        if (jobsReason != null) {
+          try {
+            String msg = String.format("  Running %d parallel jobs (%s)\n", lease.getJobs(), jobsReason);
+            console.getInfoStream().write(msg.getBytes());
+          } catch (IOException ignore) {
+          }
+        }
+
+        if (kind == IncrementalProjectBuilder.CLEAN_BUILD) {
+          cfgd.setSessionProperty(cleaned, Boolean.TRUE);
+          return super.invokeBuild(kind, project, configuration, builder, console, markerGenerator, projectBuilder,
+              monitor);
+        }
+        // a single source file compiled by the 'Compile File' command or the targets of saved files built in the
+        // background tell nothing about the build
+        final boolean partial = CompileFile.isObjectTarget(builder.getIncrementalBuildTarget())
+            || BuildOnSave.isBuilding(project);
+        // if the build compiles all sources, record its duration
+        final boolean fullBuild = !partial && cfgd.getSessionProperty(cleaned) != null;
+        if (!partial) {
+          cfgd.setSessionProperty(cleaned, null);
+        }
+        final CompilerCacheType compilerCache = settings.getCompilerCache();
+        final CompilerCacheStats cacheBefore = compilerCache == null ? null
+            : CompilerCache.query(compilerCache, getEnvironment(builder));
+        // keep the summary FASTBuild prints at the end of the build
+        final CapturingConsole summaryConsole = toolArguments.contains("-summary")
+            ? new CapturingConsole(console, 64 * 1024)
+            : null;
+        final IPath buildDir = ResourcesPlugin.getWorkspace().getRoot().getFolder(builderCWD).getLocation();
+        // read the jobs ninja appends to its log during the build
+        final boolean ninjaLog = buildDir != null && generator == CmakeGenerator.Ninja && !partial;
+        final NinjaLog.Position ninjaLogEnd = ninjaLog ? NinjaLog.getEnd(buildDir.append(NinjaLog.FILE_NAME).toPath())
+            : NinjaLog.Position.START;
+        final long start = System.currentTimeMillis();
+        // report the progress of the build tool, estimate the remaining time from the durations of previous builds
+        final ProgressConsole progressConsole = new ProgressConsole(summaryConsole != null ? summaryConsole : console,
+            new BuildProgress(buildDir != null && generator == CmakeGenerator.Ninja
+                ? readNinjaDurations(buildDir.append(NinjaLog.FILE_NAME).toPath())
+                : Map.of(), start),
+            monitor);
+        boolean result = super.invokeBuild(kind, project, configuration, builder, progressConsole, markerGenerator,
+            projectBuilder, progressConsole.getMonitor());
+        final long duration = System.currentTimeMillis() - start;
+        CompilerCacheStats cacheStats = null;
+        if (summaryConsole != null) {
+          cacheStats = CompilerCacheStats.parseFastBuildSummary(summaryConsole.getOutput());
+          if (cacheStats != null) {
+            reportCacheStats(project, cfgd, console, "FASTBuild", cacheStats);
+          }
+        }
+        if (cacheBefore != null) {
+          cacheStats = reportCompilerCache(project, cfgd, console, compilerCache, cacheBefore,
+              getEnvironment(builder), cacheUsage.isShared());
+        }
+        if (ninjaLog && !monitor.isCanceled()) {
+          reportNinjaLog(project, cfgd, console, buildDir, ninjaLogEnd,
+              jobServer == null ? getEffectiveJobs(lease.getJobs()) : limit);
+        }
+        if (buildDir != null && settings.isTimeTrace() && !partial && !monitor.isCanceled()) {
+          reportTimeTraces(project, cfgd, console, buildDir, start);
+        }
+        if (sampler != null && !monitor.isCanceled()) {
+          final String cfgId = cfgd.getId();
+          JobEstimator.setPeakRss(project, JobEstimator.COMPILE, cfgId, sampler.getPeakCompileRss(), fullBuild);
+          JobEstimator.setPeakRss(project, JobEstimator.LINK, cfgId, sampler.getPeakLinkRss(), fullBuild);
+        }
+        if (!monitor.isCanceled()) {
+          // problem markers tell nothing: a killed build tool leaves none, markers of other builders remain
+          final boolean success = injector.isSuccess();
+          cfgd.setSessionProperty(buildResult, Boolean.valueOf(success));
+          recordTelemetry(project, console, BuildTelemetry.record(BuildTelemetry.BUILD, cfgd.getName(),
+              Objects.toString(target, ""), fullBuild, duration,
+              jobServer == null ? getEffectiveJobs(lease.getJobs()) : limit,
+              cacheStats, success));
+          if (success) {
+            upToDate.recordBuild(project, cfgd, target, generation, start);
+            if (fullBuild) {
+              recordBuildTime(project, cfgd, console, duration);
+            }
+          }
+        }
+        return result;
+      }
     }
     return super.invokeBuild(kind, project, configuration, builder, console,
         markerGenerator, projectBuilder, monitor);
   }
 
+  /**
+   * Reads the duration of each output recorded in the ninja log.
+   *
+   * @return the most recent duration in milliseconds by output or an empty map if the log could not be read
+   */
+  private static Map<String, Integer> readNinjaDurations(java.nio.file.Path logFile) {
+    if (!Files.isRegularFile(logFile)) {
+      return Map.of();
+    }
+    try {
+      return NinjaDeps.getDurations(NinjaLog.read(logFile));
+    } catch (IOException ex) {
+      return Map.of();
+    }
+  }
+
+  /**
+   * Prints the cache hits and misses of the compiler cache during a build to the console and records them for the
+   * compiler cache view.
+   *
+   * @param compilerCache the compiler cache
+   * @param before        the statistics of the compiler cache before the build
+   * @param environment   the environment of the build
+   * @param shared        whether another build used the compiler cache at the same time
+   * @return the hits and misses during the build or {@code null} if the statistics could not be queried or include
+   *         those of another build
+   */
+  private static @Nullable CompilerCacheStats reportCompilerCache(IProject project, ICConfigurationDescription cfgd,
+      IConsole console, CompilerCacheType compilerCache, CompilerCacheStats before, Map<String, String> environment,
+      boolean shared) {
+    if (shared) {
+      try {
+        String msg = String.format("  Compiler cache (%s): no statistics, another build used the cache meanwhile\n",
+            compilerCache.getExecutableName());
+        console.getInfoStream().write(msg.getBytes());
+      } catch (IOException ignore) {
+      }
+      return null;
+    }
+    CompilerCacheStats after = CompilerCache.query(compilerCache, environment);
+    if (after == null) {
+      return null;
+    }
+    CompilerCacheStats stats = after.minus(before);
+    reportCacheStats(project, cfgd, console, compilerCache.getExecutableName(), stats);
+    return stats;
+  }
+
+  /**
+   * Prints the cache hits and misses during a build to the console and records them for the compiler cache view.
+   *
+   * @param tool  the name of the compiler cache
+   * @param stats the hits and misses during the build
+   */
+  private static void reportCacheStats(IProject project, ICConfigurationDescription cfgd, IConsole console,
+      String tool, CompilerCacheStats stats) {
+    try {
+      String msg = String.format("  Compiler cache (%s): %s\n", tool, stats);
+      console.getInfoStream().write(msg.getBytes());
+    } catch (IOException ignore) {
+    }
+    CompilerCacheStatistics.getInstance().record(project.getName(), cfgd.getName(), tool, stats);
+  }
+
+  /**
+   * Forgets the result of the most recent build of the specified configuration.
+   *
+   * @see #isBuildSucceeded(ICConfigurationDescription)
+   */
+  static void clearBuildResult(ICConfigurationDescription cfgd) throws CoreException {
+    cfgd.setSessionProperty(buildResult, null);
+  }
+
+  /**
+   * Gets whether the build-script processor succeeded in the most recent build of the specified configuration or
+   * found nothing to do. Problem markers do not tell, since a build tool that was killed leaves none.
+   *
+   * @return {@code false} if the build failed, was cancelled or did not run since
+   *         {@link #clearBuildResult(ICConfigurationDescription)}, for example because cmake failed
+   */
+  static boolean isBuildSucceeded(ICConfigurationDescription cfgd) throws CoreException {
+    return Boolean.TRUE.equals(cfgd.getSessionProperty(buildResult));
+  }
+
+  /**
+   * Gets the number of parallel jobs a build could actually run, for reports and the telemetry.
+   *
+   * @param jobs the number of jobs granted to the build, {@code Integer.MAX_VALUE} for unlimited
+   * @return {@code jobs} or the number of processors if the jobs are not limited
+   */
+  private static int getEffectiveJobs(int jobs) {
+    return jobs == Integer.MAX_VALUE ? Runtime.getRuntime().availableProcessors() : jobs;
+  }
+
+  /**
+   * Analyzes the jobs ninja ran during a build, prints a summary to the console and records the analysis for the build
+   * timings view.
+   *
+   * @param buildDir the build directory
+   * @param position the end of the ninja log before the build
+   * @param slots    the maximum number of parallel jobs of the build
+   */
+  private static void reportNinjaLog(IProject project, ICConfigurationDescription cfgd, IConsole console,
+      IPath buildDir, NinjaLog.Position position, int slots) {
+    List<NinjaLog.Entry> entries;
+    try {
+      entries = NinjaLog.read(buildDir.append(NinjaLog.FILE_NAME).toPath(), position);
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to read the ninja log", ex));
+      return;
+    }
+    if (entries.isEmpty()) {
+      return;
+    }
+    NinjaBuildAnalysis analysis = new NinjaBuildAnalysis(entries,
+        NinjaBuildAnalysis.readCompileCommands(buildDir.append("compile_commands.json").toPath()));
+    try {
+      StringBuilder msg = new StringBuilder();
+      msg.append(String.format("  Build timings: %s\n", analysis.getSummary(slots)));
+      for (NinjaBuildAnalysis.Job job : analysis.getSlowestCompiles(3)) {
+        msg.append(String.format("    %6.1f s %s\n", job.getDuration() / 1000.0, job.getSource()));
+      }
+      console.getInfoStream().write(msg.toString().getBytes());
+    } catch (IOException ignore) {
+    }
+    BuildTimings.getInstance().record(project.getName(), cfgd.getName(), buildDir.toOSString(), analysis, slots);
+  }
+
+  /**
+   * Aggregates the time traces clang wrote into the build directory, prints a summary to the console and records the
+   * report for the time trace view.
+   *
+   * @param buildDir the build directory
+   * @param start    the time the build started, in milliseconds since the epoch. Nothing is reported if no trace was
+   *                 written since then
+   */
+  private static void reportTimeTraces(IProject project, ICConfigurationDescription cfgd, IConsole console,
+      IPath buildDir, long start) {
+    TimeTraceReport report;
+    try {
+      List<java.nio.file.Path> traces = TimeTraceReport.findTraces(buildDir.toPath(), start);
+      if (traces.isEmpty()) {
+        return;
+      }
+      report = TimeTraceReport.aggregate(traces);
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to read the time traces", ex));
+      return;
+    }
+    try {
+      StringBuilder msg = new StringBuilder();
+      msg.append(String.format("  Time traces: %s\n", report.getSummary()));
+      for (TimeTraceReport.Cost header : report.getExpensiveHeaders(3)) {
+        msg.append(String.format("    %6.1f s %s (%d times)\n", header.getTime() / 1e6, header.getName(),
+            header.getCount()));
+      }
+      console.getInfoStream().write(msg.toString().getBytes());
+    } catch (IOException ignore) {
+    }
+    TimeTraceReports.getInstance().record(project.getName(), cfgd.getName(), report);
+  }
+
+  /**
+   * Records a build or cmake run in the telemetry of the project and prints a comparison with the previous runs to the
+   * console.
+   */
+  static void recordTelemetry(IProject project, IConsole console, BuildTelemetry.Record rec) {
+    try {
+      BuildTelemetry.forProject(project.getName()).append(rec,
+          PreferenceAccess.getPreferences().getInt(PreferenceAccess.REGRESSION_THRESHOLD, 0));
+      String msg = BuildTelemetry.formatComparison(rec);
+      if (msg != null) {
+        console.getInfoStream().write(msg.getBytes());
+      }
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to record build telemetry", ex));
+    }
+  }
+
+  /**
+   * Records the duration of a build that compiled all sources and prints a comparison with the fastest builds using
+   * other build acceleration settings to the console.
+   *
+   * @param duration the duration of the build in milliseconds
+   */
+  private static void recordBuildTime(IProject project, ICConfigurationDescription cfgd, IConsole console,
+      long duration) throws CoreException {
+    CMakeSettings settings = ConfigurationManager.getInstance().getOrLoad(cfgd);
+    BuildTimeHistory history = BuildTimeHistory.forProject(project.getName());
+    BuildTimeHistory.Record rec = BuildTimeHistory.record(cfgd.getName(), BuildTimeHistory.describeProfile(settings),
+        duration);
+    try {
+      history.append(rec);
+      String report = BuildTimeHistory.formatReport(rec, history.getFastestPerProfile(cfgd.getName()));
+      console.getInfoStream().write(report.getBytes());
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to record build time", ex));
+    }
+  }
+
   /**
    * Gets the {@code "CMAKE_MAKE_PROGRAM"} value from the parsed content of the
    * CMake cache file (CMakeCache.txt) corresponding to the specified
@@ -241,6 +689,20 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
     private final IBuilder delegate;
     private final String cmakeBuildTool;
     private final CmakeGenerator generator;
+    /** the number of parallel jobs granted from the workspace job budget */
+    private final int jobs;
+    /** the maximum load average or {@code 0} for no limit */
+    private final int loadLimit;
+    /** the jobserver to run the jobs with or {@code null} */
+    private final MakeJobServer jobServer;
+    /** the environment variables the compiler launchers need */
+    private final Map<String, String> launcherEnvironment;
+    /** the options of the build-script processor the project settings specify */
+    private final List<String> toolArguments;
+    /** the environment variables of the build-script processor the project settings specify */
+    private final Map<String, String> toolEnvironment;
+    /** the launcher of the build-script processor, tells its exit status */
+    private volatile ExitStatusLauncher launcher;
 
     /**
      * @param delegate
@@ -249,12 +711,33 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
      *        the buildscript processor command to inject (e.g. 'make')
      * @param generator
      *        the cmake generator that generated the build scripts.
+     * @param jobs
+     *        the number of parallel jobs to run
+     * @param loadLimit
+     *        the maximum load average or {@code 0} for no limit
+     * @param jobServer
+     *        the jobserver to run the jobs with or {@code null}, if the build-script processor is not a client of a
+     *        jobserver. If given, {@code jobs} and {@code loadLimit} are ignored
+     * @param launcherEnvironment
+     *        the environment variables the compiler launchers need, unless the build environment sets them
+     * @param toolArguments
+     *        the options of the build-script processor the project settings specify
+     * @param toolEnvironment
+     *        the environment variables of the build-script processor the project settings specify, overriding those of
+     *        the build environment
      */
-    public CmakeBuildToolInjectorBuilder(IBuilder delegate,
-        String cmakeBuildTool, CmakeGenerator generator) {
+    public CmakeBuildToolInjectorBuilder(IBuilder delegate, String cmakeBuildTool, CmakeGenerator generator, int jobs,
+        int loadLimit, MakeJobServer jobServer, Map<String, String> launcherEnvironment, List<String> toolArguments,
+        Map<String, String> toolEnvironment) {
       this.delegate = delegate;
       this.cmakeBuildTool = cmakeBuildTool;
       this.generator = generator;
+      this.jobs = jobs;
+      this.loadLimit = loadLimit;
+      this.jobServer = jobServer;
+      this.launcherEnvironment = launcherEnvironment;
+      this.toolArguments = toolArguments;
+      this.toolEnvironment = toolEnvironment;
     }
 
     @Override
@@ -281,14 +764,23 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
       }
 
       // Handle parallel build cmd
-      int num = delegate.getParallelizationNum();
-      String arg = generator.getParallelBuildArg(num);
-      if (arg != null) {
-        if (!args.isEmpty())
-          args += " ";
-        args += arg;
-      }
+      if (jobServer == null) {
+        String arg = generator.getParallelBuildArg(jobs);
+        if (arg != null) {
+          if (!args.isEmpty())
+            args += " ";
+          args += arg;
+        }
+        arg = loadLimit > 0 && jobs > 1 ? generator.getLoadLimitArg(loadLimit) : null;
+        if (arg != null) {
+          args += " " + arg;
+        }
+      } // else the jobserver passed in MAKEFLAGS determines the parallel jobs
 
+      // Handle options of the build-script processor
+      for (String arg : toolArguments) {
+        args += " " + arg;
+      }
       return args;
     }
 
@@ -798,7 +1290,25 @@ public class CMakeBuildRunner extends ExternalBuildRunner {
 
     @Override
     public ICommandLauncher getCommandLauncher() {
-      return this.delegate.getCommandLauncher();
+      launcher = new ExitStatusLauncher(this.delegate.getCommandLauncher());
+      return launcher;
+    }
+
+    /**
+     * Gets the process handle of the build-script processor.
+     *
+     * @return the handle or {@code null} if the process was not started yet or cannot be determined
+     */
+    ProcessHandle getProcessHandle() {
+      ExitStatusLauncher l = launcher;
+      return l == null ? null : l.getProcessHandle();
+    }
+
+    /**
+     * Gets whether the build-script processor ran and exited with status zero.
+     */
+    boolean isSuccess() {
+      return launcher != null && launcher.isSuccess();
     }
 
     @Override
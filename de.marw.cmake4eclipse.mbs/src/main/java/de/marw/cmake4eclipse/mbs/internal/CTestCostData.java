@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Result;
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Status;
+
+/**
+ * Keeps the time each test took when it last ran, so that ctest can start the longest tests first.<br>
+ * ctest orders the tests of a parallel run by the costs it recorded in previous runs in the
+ * {@code Testing/Temporary/CTestCostData.txt} file of the build directory. That file is lost when the build directory
+ * is deleted, which a clean build does, so the times are also kept in a file below the plug-in state area and are
+ * added to ctest's file for the tests it has no cost for.
+ *
+ * @author Martin Weber
+ */
+class CTestCostData {
+  /** ctest's cost file, relative to the build directory */
+  static final String COST_FILE = "Testing/Temporary/CTestCostData.txt";
+  /** separates the costs from the names of the tests that failed in ctest's cost file */
+  private static final String SEPARATOR = "---";
+
+  private CTestCostData() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Reads the times recorded in the specified file.
+   *
+   * @return the time in seconds by test name or an empty map if the file could not be read
+   */
+  static Map<String, Double> readTimes(Path file) {
+    Map<String, Double> times = new HashMap<>();
+    if (!Files.isRegularFile(file)) {
+      return times;
+    }
+    Properties props = new Properties();
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      props.load(reader);
+    } catch (IOException ex) {
+      return times;
+    }
+    for (String name : props.stringPropertyNames()) {
+      try {
+        times.put(name, Double.valueOf(props.getProperty(name)));
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return times;
+  }
+
+  /**
+   * Records the times of the specified tests in the specified file, keeping the times of other tests.
+   */
+  static void recordTimes(Path file, List<Result> results) throws IOException {
+    Map<String, Double> times = readTimes(file);
+    for (Result result : results) {
+      if (result.getStatus() != Status.SKIPPED) {
+        times.put(result.getName(), result.getTime() / 1000.0);
+      }
+    }
+    Properties props = new Properties();
+    times.forEach((name, time) -> props.setProperty(name, time.toString()));
+    Files.createDirectories(file.getParent());
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      props.store(writer, "test times in seconds");
+    }
+  }
+
+  /**
+   * Adds the specified times to ctest's cost file for the tests that ctest has no cost for.
+   *
+   * @param buildDir the build directory
+   * @param times    the time in seconds by test name
+   */
+  static void seed(Path buildDir, Map<String, Double> times) throws IOException {
+    if (times.isEmpty()) {
+      return;
+    }
+    Path file = buildDir.resolve(COST_FILE);
+    List<String> costs = new ArrayList<>();
+    List<String> failed = new ArrayList<>();
+    Map<String, Double> missing = new HashMap<>(times);
+    if (Files.isRegularFile(file)) {
+      List<String> target = costs;
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        if (line.equals(SEPARATOR)) {
+          target = failed;
+        } else if (!line.isBlank()) {
+          target.add(line);
+          if (target == costs) {
+            // name runs cost, the name may contain spaces
+            int end = line.lastIndexOf(' ', line.lastIndexOf(' ') - 1);
+            if (end > 0) {
+              missing.remove(line.substring(0, end));
+            }
+          }
+        }
+      }
+    }
+    if (missing.isEmpty()) {
+      return;
+    }
+    missing.forEach((name, time) -> costs.add(name + " 1 " + time));
+    costs.add(SEPARATOR);
+    costs.addAll(failed);
+    Files.createDirectories(file.getParent());
+    Files.write(file, costs, StandardCharsets.UTF_8);
+  }
+}
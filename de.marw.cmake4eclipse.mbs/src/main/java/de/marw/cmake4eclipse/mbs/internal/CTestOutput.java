@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Result;
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Status;
+
+/**
+ * Parses the output of ctest: The line ctest prints when a test finished and the JUnit XML file ctest writes with
+ * {@code --output-junit} when all tests finished.
+ *
+ * @author Martin Weber
+ */
+class CTestOutput {
+  /** {@code 12/40 Test  #7: name ......   Passed    0.02 sec} */
+  private static final Pattern FINISHED = Pattern
+      .compile("^\\s*(\\d+)/(\\d+) Test\\s+#\\d+: (.+?) \\.+\\s*(?:\\*\\*\\*)?(.+?)\\s+([\\d.]+) sec\\s*$");
+  /** {@code ctest version 3.28.3} */
+  private static final Pattern VERSION = Pattern.compile("ctest version (\\d+)\\.(\\d+)");
+
+  private CTestOutput() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Parses a line of the ctest output.
+   *
+   * @return the result of the test that finished or {@code null} if the line does not tell that a test finished
+   */
+  static @Nullable Result parseLine(String line) {
+    Matcher matcher = FINISHED.matcher(line);
+    if (!matcher.matches()) {
+      return null;
+    }
+    String outcome = matcher.group(4);
+    Status status = outcome.equals("Passed") ? Status.PASSED
+        : outcome.startsWith("Not Run") || outcome.startsWith("Skipped") || outcome.startsWith("Disabled")
+            ? Status.SKIPPED
+            : Status.FAILED;
+    return new Result(matcher.group(3), status, Math.round(Double.parseDouble(matcher.group(5)) * 1000),
+        status == Status.FAILED ? outcome : "");
+  }
+
+  /**
+   * Gets the total number of tests from a line of the ctest output.
+   *
+   * @return the number of tests or {@code 0} if the line does not tell that a test finished
+   */
+  static int parseTotal(String line) {
+    Matcher matcher = FINISHED.matcher(line);
+    return matcher.matches() ? Integer.parseInt(matcher.group(2)) : 0;
+  }
+
+  /**
+   * Gets whether the ctest that printed the specified version can write a JUnit XML file. {@code --output-junit} was
+   * added in ctest 3.21.
+   *
+   * @param version the output of {@code ctest --version}
+   */
+  static boolean isJUnitSupported(String version) {
+    Matcher matcher = VERSION.matcher(version);
+    if (!matcher.find()) {
+      return false;
+    }
+    int major = Integer.parseInt(matcher.group(1));
+    return major > 3 || major == 3 && Integer.parseInt(matcher.group(2)) >= 21;
+  }
+
+  /**
+   * Reads the results from a JUnit XML file written by ctest.
+   *
+   * @return the results or an empty list if the file could not be read
+   */
+  static List<Result> readJUnit(Path file) {
+    List<Result> results = new ArrayList<>();
+    if (!Files.isRegularFile(file)) {
+      return results;
+    }
+    try {
+      DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+      factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+      factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+      NodeList testcases = factory.newDocumentBuilder().parse(file.toFile()).getElementsByTagName("testcase");
+      for (int i = 0; i < testcases.getLength(); i++) {
+        Element testcase = (Element) testcases.item(i);
+        Status status;
+        if (testcase.getElementsByTagName("failure").getLength() > 0) {
+          status = Status.FAILED;
+        } else if (testcase.getElementsByTagName("skipped").getLength() > 0
+            || "disabled".equals(testcase.getAttribute("status")) || "notrun".equals(testcase.getAttribute("status"))) {
+          status = Status.SKIPPED;
+        } else {
+          status = Status.PASSED;
+        }
+        long time;
+        try {
+          time = Math.round(Double.parseDouble(testcase.getAttribute("time")) * 1000);
+        } catch (NumberFormatException ex) {
+          time = 0;
+        }
+        NodeList out = testcase.getElementsByTagName("system-out");
+        results.add(new Result(testcase.getAttribute("name"), status, time,
+            out.getLength() > 0 ? out.item(0).getTextContent() : ""));
+      }
+    } catch (IOException | SAXException | ParserConfigurationException ex) {
+      // ctest was cancelled or is too old to write JUnit XML
+    }
+    return results;
+  }
+}
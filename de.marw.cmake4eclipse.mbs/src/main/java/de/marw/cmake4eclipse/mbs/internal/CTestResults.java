@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.PerConfigurationRegistry;
+
+/**
+ * Keeps the results of the most recent ctest run of each project and build configuration for the current session. The
+ * results are added as the tests finish.
+ *
+ * @author Martin Weber
+ */
+public class CTestResults extends PerConfigurationRegistry<CTestResults.Run> {
+  private static final CTestResults instance = new CTestResults();
+
+  private CTestResults() {
+  }
+
+  /**
+   * Gets the singleton instance.
+   */
+  public static CTestResults getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records a new run that replaces the previous run of the same project and build configuration and notifies the
+   * listeners.
+   *
+   * @param projectName the name of the project to test
+   * @param configName  the name of the build configuration to test
+   * @return the run to add the results to
+   */
+  Run start(String projectName, String configName) {
+    Run run = new Run(projectName, configName);
+    record(run);
+    return run;
+  }
+
+  /**
+   * Records the result of a test that finished and notifies the listeners.
+   *
+   * @param total the number of tests to run
+   */
+  void add(Run run, Result result, int total) {
+    synchronized (run) {
+      run.total = total;
+      run.results.put(result.getName(), result);
+    }
+    notifyListeners();
+  }
+
+  /**
+   * Marks the specified run finished and notifies the listeners.
+   *
+   * @param details the results with the output of the tests, read after ctest finished. These replace the results of
+   *                the same tests recorded while the tests ran
+   */
+  void finish(Run run, List<Result> details) {
+    synchronized (run) {
+      for (Result result : details) {
+        run.results.put(result.getName(), result);
+      }
+      run.total = Math.max(run.total, run.results.size());
+      run.running = false;
+      run.end = System.currentTimeMillis();
+    }
+    notifyListeners();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A run of the tests of a project and build configuration.
+   *
+   * @author Martin Weber
+   */
+  public static class Run extends PerConfigurationRegistry.Entry {
+    /** the number of tests to run, 0 if unknown yet */
+    private int total;
+    private boolean running = true;
+    private long end;
+    /** the results in the order the tests finished, key: test name */
+    private final Map<String, Result> results = new LinkedHashMap<>();
+
+    private Run(String projectName, String configName) {
+      super(projectName, configName);
+    }
+
+    /**
+     * Gets the number of tests to run.
+     *
+     * @return the number of tests or {@code 0} if unknown
+     */
+    public synchronized int getTotal() {
+      return total;
+    }
+
+    /**
+     * Gets whether ctest is running.
+     */
+    public synchronized boolean isRunning() {
+      return running;
+    }
+
+    /**
+     * Gets the time the run took so far, in milliseconds.
+     */
+    public synchronized long getElapsed() {
+      return (running ? System.currentTimeMillis() : end) - getTime();
+    }
+
+    /**
+     * Gets the results of the tests that finished, in the order they finished.
+     */
+    public synchronized List<Result> getResults() {
+      return new ArrayList<>(results.values());
+    }
+  }
+
+  /**
+   * The outcome of a test.
+   */
+  public enum Status {
+    PASSED, FAILED, SKIPPED
+  }
+
+  /**
+   * The result of a test.
+   *
+   * @author Martin Weber
+   */
+  public static class Result {
+    private final String name;
+    private final Status status;
+    private final long time;
+    private final String output;
+
+    /**
+     * @param name   the name of the test
+     * @param status the outcome
+     * @param time   the time the test took in milliseconds
+     * @param output the output of the test or an empty string if unknown
+     */
+    Result(String name, Status status, long time, String output) {
+      this.name = name;
+      this.status = status;
+      this.time = time;
+      this.output = output;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+
+    /**
+     * Gets the time the test took in milliseconds.
+     */
+    public long getTime() {
+      return time;
+    }
+
+    /**
+     * Gets the output of the test.
+     *
+     * @return the output or an empty string if unknown
+     */
+    public String getOutput() {
+      return output;
+    }
+  }
+}
@@ -0,0 +1,533 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.cdt.core.CCorePlugin;
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.resources.IConsole;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.cmakecache.SimpleCMakeCacheTxt;
+import de.marw.cmake4eclipse.mbs.console.CdtConsoleConstants;
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Result;
+import de.marw.cmake4eclipse.mbs.internal.TestImpact.TestInfo;
+import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+
+/**
+ * Runs the tests of a build configuration with ctest. The tests run in parallel with as many jobs as the workspace
+ * wide job budget grants, the longest tests first. The results are recorded in {@link CTestResults} as the tests
+ * finish. Optionally, only the tests affected by the files changed since the last passing run are run.
+ *
+ * @author Martin Weber
+ */
+public class CTestRunner {
+  /** the JUnit XML file ctest writes, relative to the build directory */
+  private static final String JUNIT_FILE = "Testing/Temporary/cmake4eclipse-junit.xml";
+  /** the interval to check for cancellation in milliseconds */
+  private static final long CANCEL_POLL = 200;
+  /** the code of the status of a run in which all tests ran and passed */
+  private static final int PASSED = 0;
+  /** the code of the status of a run in which a test failed or not all tests reported a result */
+  private static final int NOT_PASSED = 1;
+  /** the time to wait for {@code ctest --version} in seconds */
+  private static final long VERSION_TIMEOUT = 10;
+  /** whether a ctest executable writes JUnit XML files, by the command that starts it */
+  private static final Map<String, Boolean> junitSupport = new ConcurrentHashMap<>();
+
+  private CTestRunner() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Runs the tests of the specified configuration.
+   *
+   * @param cfgd      the configuration to test
+   * @param arguments additional arguments for ctest that select the tests to run
+   * @return the status of the run. Failed tests do not make the status an error
+   */
+  public static IStatus run(IProject project, ICConfigurationDescription cfgd, List<String> arguments,
+      IProgressMonitor monitor) {
+    Path buildDir = getTestDirectory(cfgd);
+    if (buildDir == null) {
+      return noTests(cfgd);
+    }
+    return run(project, cfgd, buildDir, arguments, List.of(), monitor);
+  }
+
+  /**
+   * Builds the specified configuration, then runs the tests affected by the files that changed since the last run of
+   * the affected tests that passed. Runs all tests if the affected tests cannot be determined, for example if the
+   * targets of a changed file are unknown.
+   *
+   * @param cfgd the configuration to test, must be the active configuration
+   * @return the status of the run. Failed tests do not make the status an error
+   */
+  public static IStatus runAffected(IProject project, ICConfigurationDescription cfgd, IProgressMonitor monitor) {
+    final SubMonitor subMonitor = SubMonitor.convert(monitor, "Running affected tests", 3);
+    final long start = System.currentTimeMillis();
+    final Path greenFile = getStateFile(project, cfgd, "test-green");
+    final Path filesFile = getStateFile(project, cfgd, "test-files");
+    try {
+      // the tests have to run the binaries built from the changed files
+      CMakeBuildRunner.clearBuildResult(cfgd);
+      project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, subMonitor.split(1));
+      if (!CMakeBuildRunner.isBuildSucceeded(cfgd)) {
+        return new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+            String.format("Build of project '%s' failed, not running tests", project.getName()));
+      }
+    } catch (CoreException ex) {
+      return ex.getStatus();
+    }
+    Path buildDir = getTestDirectory(cfgd);
+    if (buildDir == null) {
+      return noTests(cfgd);
+    }
+
+    List<String> notes = new ArrayList<>();
+    List<String> arguments = new ArrayList<>();
+    Map<Path, Long> files;
+    try {
+      files = getSourceFiles(project, TargetIndex.get(buildDir));
+    } catch (IOException ex) {
+      files = null;
+    }
+    long green = readGreen(greenFile);
+    Set<Path> greenFiles = readFiles(filesFile);
+    if (green == 0 || greenFiles == null) {
+      notes.add("No passing test run recorded, running all tests");
+    } else if (files == null) {
+      notes.add("Cannot determine the changed files, running all tests");
+    } else {
+      List<TestInfo> tests = findAffectedTests(cfgd, buildDir, TestImpact.getChangedFiles(green, greenFiles, files),
+          notes);
+      if (tests != null && tests.isEmpty()) {
+        writeNotes(project, notes);
+        CTestResults results = CTestResults.getInstance();
+        results.finish(results.start(project.getName(), cfgd.getName()), List.of());
+        writeGreen(greenFile, start, filesFile, files);
+        return Status.OK_STATUS;
+      } else if (tests != null) {
+        List<String> names = new ArrayList<>();
+        for (TestInfo test : tests) {
+          names.add(test.getName());
+        }
+        arguments.add("-R");
+        arguments.add(TestImpact.toRegex(names));
+      }
+    }
+    IStatus status = run(project, cfgd, buildDir, arguments, notes, subMonitor.split(2));
+    if (status.isOK() && status.getCode() == PASSED && files != null) {
+      // changes made while the tests ran are not covered
+      writeGreen(greenFile, start, filesFile, files);
+    }
+    return status;
+  }
+
+  /**
+   * Determines the tests affected by the specified changed files.
+   *
+   * @param changed the absolute paths of the files that were modified, added or removed
+   * @param notes   receives messages that tell the user how the tests were selected
+   * @return the affected tests or {@code null} if they cannot be determined
+   */
+  private static @Nullable List<TestInfo> findAffectedTests(ICConfigurationDescription cfgd, Path buildDir,
+      List<Path> changed, List<String> notes) {
+    if (changed.isEmpty()) {
+      notes.add("No files changed since the last passing test run, no tests to run");
+      return List.of();
+    }
+    TargetIndex index = TargetIndex.get(buildDir);
+    if (index == null) {
+      notes.add("Cannot determine the targets, cmake 3.14 or newer is required. Running all tests");
+      return null;
+    }
+    IEclipsePreferences prefs = PreferenceAccess.getPreferences();
+    CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, prefs,
+        BuildToolKitUtil.getOverwritingToolkit(prefs));
+    List<Path> unknown = new ArrayList<>();
+    Set<String> targets = AffectedTargets.find(buildDir, changed, generator, unknown);
+    if (!unknown.isEmpty()) {
+      // a test might read any file, test data for example, or the file changes the build scripts
+      notes.add(String.format("Cannot determine the targets of changed file %s, running all tests", unknown.get(0)));
+      return null;
+    }
+    List<TestInfo> tests = TestImpact.readTests(showTests(buildDir));
+    if (tests == null) {
+      notes.add("Cannot list the tests, ctest 3.14 or newer is required. Running all tests");
+      return null;
+    }
+    List<TestInfo> affected = TestImpact.select(tests, index, targets);
+    Set<String> labels = new TreeSet<>();
+    for (TestInfo test : affected) {
+      labels.addAll(test.getLabels());
+    }
+    notes.add(String.format("%d changed files affect %d of %d tests%s", changed.size(), affected.size(), tests.size(),
+        labels.isEmpty() ? "" : ", labels: " + String.join(", ", labels)));
+    return affected;
+  }
+
+  /**
+   * Gets the files the tests of the specified project might depend on: The files of the project and of the projects it
+   * references, and the files in source directories outside of these projects that the build scripts add. Derived
+   * files and the build directories are skipped. The files are read from the file system, since the workspace does
+   * not know files changed outside of Eclipse before they are refreshed.
+   *
+   * @param index the targets of the build directory or {@code null} if unknown
+   * @return the modification time by absolute path
+   */
+  private static Map<Path, Long> getSourceFiles(IProject project, @Nullable TargetIndex index) throws IOException {
+    Set<Path> roots = new HashSet<>();
+    Set<Path> buildDirs = new HashSet<>();
+    IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+    for (IProject prj : UpToDateTracker.getReferencedProjects(project)) {
+      IPath location = prj.getLocation();
+      if (location == null) {
+        continue;
+      }
+      roots.add(location.toPath());
+      ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(prj, false);
+      if (projectDescription != null) {
+        for (ICConfigurationDescription cfgd : projectDescription.getConfigurations()) {
+          IPath buildDir = root.getFolder(cfgd.getBuildSetting().getBuilderCWD()).getLocation();
+          if (buildDir != null && !buildDir.equals(location)) {
+            buildDirs.add(buildDir.toPath());
+          }
+        }
+      }
+    }
+    if (index != null) {
+      // add_subdirectory(../lib) for example
+      roots.addAll(index.getSourceDirectories());
+    }
+    return TestImpact.listFiles(roots, path -> {
+      if (buildDirs.contains(path)) {
+        return true;
+      }
+      IPath location = org.eclipse.core.runtime.Path.fromOSString(path.toString());
+      IResource file = root.getFileForLocation(location);
+      IResource folder = root.getContainerForLocation(location);
+      return file != null && file.isDerived() || folder != null && folder.isDerived();
+    });
+  }
+
+  /**
+   * Lists the tests of the specified build directory with {@code ctest --show-only=json-v1}.
+   *
+   * @return the output of ctest or an empty string if ctest failed
+   */
+  private static String showTests(Path buildDir) {
+    try {
+      Process proc = new ProcessBuilder(getCtestCommand(buildDir), "--show-only=json-v1")
+          .directory(buildDir.toFile()).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+      String json = new String(proc.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      return proc.waitFor() == 0 ? json : "";
+    } catch (IOException ex) {
+      return "";
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return "";
+    }
+  }
+
+  /**
+   * Runs the tests in the specified build directory.
+   *
+   * @param notes messages to print before ctest runs
+   * @return the status of the run, its code is {@link #PASSED} if ctest exited with status zero and each test it
+   *         announced reported a result
+   */
+  private static IStatus run(IProject project, ICConfigurationDescription cfgd, final Path buildDir,
+      List<String> arguments, List<String> notes, IProgressMonitor monitor) {
+    final Path timesFile = getStateFile(project, cfgd, "test-times");
+    final Path junitFile = buildDir.resolve(JUNIT_FILE);
+    try {
+      // let ctest start the longest tests first, even if the build directory was deleted
+      CTestCostData.seed(buildDir, CTestCostData.readTimes(timesFile));
+      Files.deleteIfExists(junitFile);
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to prepare ctest cost data", ex));
+    }
+
+    final IConsole console = CCorePlugin.getDefault().getConsole(CdtConsoleConstants.CMAKE_CONSOLE_ID);
+    console.start(project);
+    final CTestResults results = CTestResults.getInstance();
+    CTestResults.Run run = null;
+    // share the workspace wide job budget with concurrent builds
+    final int limit = PreferenceAccess.getPreferences().getInt(PreferenceAccess.JOB_BUDGET, 0);
+    final int requested = Runtime.getRuntime().availableProcessors();
+    try (JobBudget.Lease lease = JobBudget.getInstance().acquire(limit, requested, monitor)) {
+      final String ctest = getCtestCommand(buildDir);
+      List<String> cmd = new ArrayList<>();
+      cmd.add(ctest);
+      cmd.add("-j");
+      cmd.add(Integer.toString(lease.getJobs()));
+      if (junitSupport.computeIfAbsent(ctest, CTestRunner::isJUnitSupported)) {
+        // the details of the results of each test
+        cmd.add("--output-junit");
+        cmd.add(junitFile.toString());
+      }
+      cmd.addAll(arguments);
+      final OutputStream out = console.getOutputStream();
+      for (String note : notes) {
+        out.write((note + "\n").getBytes());
+      }
+      out.write(String.format("Running tests of %s::%s: %s\n", project.getName(), cfgd.getName(),
+          String.join(" ", cmd)).getBytes());
+
+      run = results.start(project.getName(), cfgd.getName());
+      final Process proc = new ProcessBuilder(cmd).directory(buildDir.toFile()).redirectErrorStream(true).start();
+      final SubMonitor subMonitor = SubMonitor.convert(monitor, "Running tests", 100);
+      Thread canceller = new Thread(() -> {
+        try {
+          while (!proc.waitFor(CANCEL_POLL, TimeUnit.MILLISECONDS)) {
+            if (monitor.isCanceled()) {
+              proc.descendants().forEach(ProcessHandle::destroy);
+              proc.destroy();
+              return;
+            }
+          }
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }, "ctest cancellation");
+      canceller.setDaemon(true);
+      canceller.start();
+      int done = 0;
+      int announced = 0;
+      int worked = 0;
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(proc.getInputStream(), Charset.defaultCharset()))) {
+        for (String line; (line = reader.readLine()) != null;) {
+          out.write((line + "\n").getBytes());
+          Result result = CTestOutput.parseLine(line);
+          if (result != null) {
+            int total = CTestOutput.parseTotal(line);
+            announced = total;
+            results.add(run, result, total);
+            int percent = 100 * ++done / total;
+            if (percent > worked) {
+              subMonitor.worked(percent - worked);
+              worked = percent;
+            }
+            subMonitor.subTask(String.format("%d of %d tests", done, total));
+          }
+        }
+      }
+      final int exitValue = proc.waitFor();
+      final boolean passed = exitValue == 0 && done == announced;
+      if (!passed && !monitor.isCanceled()) {
+        out.write(String.format("ctest exited with status %d, %d of %d tests reported a result\n", exitValue, done,
+            announced).getBytes());
+      }
+      List<Result> details = CTestOutput.readJUnit(junitFile);
+      results.finish(run, details);
+      if (!monitor.isCanceled()) {
+        try {
+          CTestCostData.recordTimes(timesFile, details.isEmpty() ? run.getResults() : details);
+        } catch (IOException ex) {
+          Activator.getDefault().getLog()
+              .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to record test times", ex));
+        }
+      }
+      return monitor.isCanceled() ? Status.CANCEL_STATUS
+          : new Status(IStatus.OK, Activator.PLUGIN_ID, passed ? PASSED : NOT_PASSED, "", null);
+    } catch (IOException | CoreException ex) {
+      if (run != null) {
+        results.finish(run, List.of());
+      }
+      return new Status(IStatus.ERROR, Activator.PLUGIN_ID, "Failed to run ctest", ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      if (run != null) {
+        results.finish(run, List.of());
+      }
+      return Status.CANCEL_STATUS;
+    } catch (OperationCanceledException ex) {
+      // cancelled while waiting for jobs, before ctest started
+      return Status.CANCEL_STATUS;
+    }
+  }
+
+  /**
+   * Gets the build directory of the specified configuration if ctest can run tests in it.
+   *
+   * @return the absolute path of the build directory or {@code null} if it has no tests
+   */
+  private static @Nullable Path getTestDirectory(ICConfigurationDescription cfgd) {
+    IPath location = ResourcesPlugin.getWorkspace().getRoot().getFolder(cfgd.getBuildSetting().getBuilderCWD())
+        .getLocation();
+    if (location == null || !Files.isRegularFile(location.toPath().resolve("CTestTestfile.cmake"))) {
+      return null;
+    }
+    return location.toPath();
+  }
+
+  private static IStatus noTests(ICConfigurationDescription cfgd) {
+    return new Status(IStatus.ERROR, Activator.PLUGIN_ID, String.format(
+        "No tests in configuration '%s'. Build the project and call enable_testing() in CMakeLists.txt",
+        cfgd.getName()));
+  }
+
+  /**
+   * Gets a file below the plug-in state area that holds data of the specified configuration.
+   */
+  private static Path getStateFile(IProject project, ICConfigurationDescription cfgd, String extension) {
+    return getStateDirectory(project.getName()).resolve(cfgd.getId() + "." + extension);
+  }
+
+  /**
+   * Gets the directory that holds the test durations and the state of the affected tests of the configurations of the
+   * specified project.
+   */
+  public static Path getStateDirectory(String projectName) {
+    return Activator.getDefault().getStateLocation().append(projectName).addFileExtension("tests").toPath();
+  }
+
+  /**
+   * Reads the start time of the last run of the affected tests that passed.
+   *
+   * @return the time in milliseconds since the epoch or {@code 0} if no run passed
+   */
+  private static long readGreen(Path file) {
+    try {
+      return Files.isRegularFile(file) ? Long.parseLong(Files.readString(file).trim()) : 0;
+    } catch (IOException | NumberFormatException ex) {
+      return 0;
+    }
+  }
+
+  /**
+   * Reads the absolute paths of the files the tests might depend on at the time of the last run of the affected tests
+   * that passed.
+   *
+   * @return the paths or {@code null} if no run passed
+   */
+  private static @Nullable Set<Path> readFiles(Path file) {
+    try {
+      if (!Files.isRegularFile(file)) {
+        return null;
+      }
+      Set<Path> files = new HashSet<>();
+      for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+        if (!line.isEmpty()) {
+          files.add(Paths.get(line));
+        }
+      }
+      return files;
+    } catch (IOException | InvalidPathException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Records a run of the affected tests that passed.
+   *
+   * @param time  the start time of the run
+   * @param files the files the tests might depend on when the run started
+   */
+  private static void writeGreen(Path greenFile, long time, Path filesFile, Map<Path, Long> files) {
+    try {
+      List<String> lines = new ArrayList<>();
+      for (Path path : files.keySet()) {
+        lines.add(path.toString());
+      }
+      Files.createDirectories(filesFile.getParent());
+      Files.write(filesFile, lines, StandardCharsets.UTF_8);
+      Files.writeString(greenFile, Long.toString(time));
+    } catch (IOException ex) {
+      Activator.getDefault().getLog()
+          .log(new Status(IStatus.WARNING, Activator.PLUGIN_ID, "Failed to record passing test run", ex));
+    }
+  }
+
+  private static void writeNotes(IProject project, List<String> notes) {
+    IConsole console = CCorePlugin.getDefault().getConsole(CdtConsoleConstants.CMAKE_CONSOLE_ID);
+    console.start(project);
+    try {
+      OutputStream out = console.getOutputStream();
+      for (String note : notes) {
+        out.write((note + "\n").getBytes());
+      }
+    } catch (IOException | CoreException ignore) {
+    }
+  }
+
+  /**
+   * Gets whether the specified ctest executable writes JUnit XML files, which requires ctest 3.21.
+   */
+  private static boolean isJUnitSupported(String ctest) {
+    try {
+      Process proc = new ProcessBuilder(ctest, "--version").redirectErrorStream(true).start();
+      String version = new String(proc.getInputStream().readNBytes(1024), StandardCharsets.UTF_8);
+      if (!proc.waitFor(VERSION_TIMEOUT, TimeUnit.SECONDS)) {
+        proc.destroyForcibly();
+        return false;
+      }
+      return CTestOutput.isJUnitSupported(version);
+    } catch (IOException ex) {
+      return false;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /**
+   * Gets the ctest executable that belongs to the cmake that configured the build directory.
+   */
+  private static String getCtestCommand(Path buildDir) {
+    Path cacheFile = buildDir.resolve("CMakeCache.txt");
+    if (Files.isRegularFile(cacheFile)) {
+      try {
+        String ctest = new SimpleCMakeCacheTxt(cacheFile.toFile()).getCtestCommand();
+        if (ctest != null) {
+          return ctest;
+        }
+      } catch (IOException ignore) {
+      }
+    }
+    return "ctest";
+  }
+}
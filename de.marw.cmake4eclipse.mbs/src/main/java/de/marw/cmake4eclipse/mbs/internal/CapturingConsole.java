@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.eclipse.cdt.core.ConsoleOutputStream;
+import org.eclipse.cdt.core.resources.IConsole;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * A console that forwards all output to another console and keeps the tail of the output written to its output
+ * stream, so that a summary the build tool prints at the end of the build can be parsed.
+ *
+ * @author Martin Weber
+ */
+class CapturingConsole implements IConsole {
+  private final IConsole delegate;
+  /** the maximum number of characters to keep */
+  private final int capacity;
+  private final StringBuilder tail = new StringBuilder();
+  private ConsoleOutputStream outputStream;
+
+  /**
+   * @param delegate the console to forward all output to
+   * @param capacity the maximum number of characters of the output to keep
+   */
+  CapturingConsole(IConsole delegate, int capacity) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.capacity = capacity;
+  }
+
+  /**
+   * Gets the tail of the output written to the output stream so far.
+   */
+  String getOutput() {
+    synchronized (tail) {
+      return tail.toString();
+    }
+  }
+
+  private void capture(String text) {
+    synchronized (tail) {
+      tail.append(text);
+      if (tail.length() > capacity) {
+        tail.delete(0, tail.length() - capacity);
+      }
+    }
+  }
+
+  @Override
+  public void start(IProject project) {
+    delegate.start(project);
+  }
+
+  @Override
+  public synchronized ConsoleOutputStream getOutputStream() throws CoreException {
+    if (outputStream == null) {
+      outputStream = new CapturingOutputStream(delegate.getOutputStream());
+    }
+    return outputStream;
+  }
+
+  @Override
+  public ConsoleOutputStream getInfoStream() throws CoreException {
+    return delegate.getInfoStream();
+  }
+
+  @Override
+  public ConsoleOutputStream getErrorStream() throws CoreException {
+    return delegate.getErrorStream();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * Intercepts output to a console output stream and keeps it.
+   *
+   * @author Martin Weber
+   */
+  private class CapturingOutputStream extends ConsoleOutputStream {
+    private final ConsoleOutputStream os;
+
+    CapturingOutputStream(ConsoleOutputStream outputStream) {
+      this.os = outputStream;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      write(new byte[] { (byte) c }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      os.write(b, off, len);
+      capture(new String(b, off, len));
+    }
+
+    // interface ConsoleOutputStream
+    @Override
+    public void write(String msg) throws IOException {
+      os.write(msg);
+      capture(msg);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      os.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      os.close();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+
+/**
+ * Determines the build target that compiles a single source file: The object file the compile command of the file in
+ * the {@code compile_commands.json} file writes. Building the object file instead of the default target lets the
+ * build-script processor skip the rest of the build graph and the linker.
+ *
+ * @author Martin Weber
+ */
+public class CompileFile {
+  /** the name of the compilation database cmake writes into the build directory */
+  private static final String COMPILE_COMMANDS = "compile_commands.json";
+  /** the directory of a target's object files and build.make file, relative to the build directory */
+  private static final Pattern TARGET_DIR = Pattern.compile("^(?:[^/]+/)*?CMakeFiles/[^/]+\\.dir/");
+
+  private CompileFile() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the build target that compiles the specified source file.
+   *
+   * @param cfgd       the configuration to build
+   * @param sourceFile the absolute file system path of the source file
+   * @return the target to pass to the build-script processor or {@code null} if the build directory holds no compile
+   *         command for the file
+   * @throws CoreException if the build-script processor cannot build single object files
+   */
+  public static @Nullable String getObjectTarget(ICConfigurationDescription cfgd, IPath sourceFile)
+      throws CoreException {
+    IEclipsePreferences prefs = PreferenceAccess.getPreferences();
+    CmakeGenerator generator = BuildToolKitUtil.getEffectiveCMakeGenerator(cfgd, prefs,
+        BuildToolKitUtil.getOverwritingToolkit(prefs));
+    if (generator == CmakeGenerator.FastBuild) {
+      throw new CoreException(new Status(IStatus.ERROR, Activator.PLUGIN_ID,
+          "The " + generator.getCmakeName() + " generator cannot compile single files"));
+    }
+    IPath buildDir = ResourcesPlugin.getWorkspace().getRoot().getFolder(cfgd.getBuildSetting().getBuilderCWD())
+        .getLocation();
+    if (buildDir == null) {
+      return null;
+    }
+    return getObjectTarget(buildDir.toPath(), sourceFile.toPath(), generator);
+  }
+
+  /**
+   * Gets the build target that compiles the specified source file from the compilation database in the build
+   * directory.
+   *
+   * @param buildDir   the build directory
+   * @param sourceFile the absolute path of the source file
+   * @param generator  the generator that wrote the build scripts
+   * @return the target to pass to the build-script processor or {@code null} if the build directory holds no compile
+   *         command for the file
+   */
+  static @Nullable String getObjectTarget(Path buildDir, Path sourceFile, CmakeGenerator generator) {
+    Path compileCommands = buildDir.resolve(COMPILE_COMMANDS);
+    if (!Files.isRegularFile(compileCommands)) {
+      return null;
+    }
+    sourceFile = sourceFile.normalize();
+    try (Reader reader = Files.newBufferedReader(compileCommands)) {
+      for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+        JsonObject command = element.getAsJsonObject();
+        if (!command.has("file") || !command.has("output") || !command.has("directory")) {
+          continue;
+        }
+        Path directory = Path.of(command.get("directory").getAsString());
+        if (!sourceFile.equals(directory.resolve(command.get("file").getAsString()).normalize())) {
+          continue;
+        }
+        // the output is relative to the directory of the compile command, which is a sub directory of the build
+        // directory with the Makefile generators
+        Path output = directory.resolve(command.get("output").getAsString()).normalize();
+        String object = buildDir.relativize(output).toString().replace('\\', '/');
+        if (generator == CmakeGenerator.Ninja) {
+          return object;
+        }
+        // the object file rules of a target are in its build.make file, run from the build directory. The object file
+        // is in a sub directory of the target directory if the source file is in a sub directory of the source
+        // directory of the target
+        Matcher matcher = TARGET_DIR.matcher(object);
+        if (!matcher.lookingAt()) {
+          return null;
+        }
+        String makefile = matcher.group() + "build.make";
+        return "-f " + quote(makefile) + " " + quote(object);
+      }
+    } catch (IOException | JsonParseException | IllegalStateException | IllegalArgumentException ex) {
+      // no compile command then, or an invalid path
+    }
+    return null;
+  }
+
+  private static String quote(String arg) {
+    return arg.indexOf(' ') < 0 ? arg : '"' + arg + '"';
+  }
+
+  /**
+   * Gets whether the specified build target is an object file as returned by
+   * {@link #getObjectTarget(ICConfigurationDescription, IPath)}.
+   */
+  public static boolean isObjectTarget(@Nullable String target) {
+    if (target == null) {
+      return false;
+    }
+    target = target.strip();
+    if (target.endsWith("\"")) {
+      target = target.substring(0, target.length() - 1);
+    }
+    return target.endsWith(".o") || target.endsWith(".obj");
+  }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.CompilerCacheStats;
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
+
+/**
+ * Locates the directory of a compiler cache that is shared by all projects of the workspace, sets up the environment
+ * of the compiler launchers and queries the statistics of a compiler cache. The statistics are those of the whole
+ * cache, so the statistics of a build are only known if no other build used the cache at the same time.
+ *
+ * @author Martin Weber
+ */
+class CompilerCache {
+  /** the time to wait for the statistics command to finish, in seconds */
+  private static final int TIMEOUT = 10;
+  /** the builds that use a compiler cache at the moment */
+  private static final Set<Usage> usages = new HashSet<>();
+
+  private CompilerCache() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the directory to keep the cached files of the specified compiler cache in. The directory is in the state
+   * location of this plug-in, so the cache is shared by all projects of the workspace, but not with other workspaces.
+   */
+  static String getCacheDirectory(CompilerCacheType type) {
+    return Activator.getDefault().getStateLocation().append("compiler-cache").append(type.getExecutableName())
+        .toOSString();
+  }
+
+  /**
+   * Gets the environment variables the compiler launchers of a build need.
+   *
+   * @param compilerCache       the compiler cache the compilers are run through or {@code null}
+   * @param distributedCompiler the tool that distributes the compile jobs or {@code null}
+   * @param path                the value of the {@code PATH} environment variable of the build
+   * @return the variables to set, unless the build environment sets them
+   */
+  static Map<String, String> getLauncherEnvironment(@Nullable CompilerCacheType compilerCache,
+      @Nullable DistributedCompilerType distributedCompiler, @Nullable String path) {
+    Map<String, String> environment = new HashMap<>(4);
+    if (compilerCache != null) {
+      environment.put(compilerCache.getCacheDirVariable(), getCacheDirectory(compilerCache));
+      if (distributedCompiler != null
+          && DistributedCompile.findLauncher(distributedCompiler, compilerCache, path) != null) {
+        // ccache is the launcher and hands cache misses to the distributing tool
+        environment.put("CCACHE_PREFIX", distributedCompiler.getExecutableName());
+      }
+    }
+    return environment;
+  }
+
+  /**
+   * Runs the statistics command of the specified compiler cache.
+   *
+   * @param type        the compiler cache
+   * @param environment the environment to run the command in, determines the executable search path and the cache
+   *                    directory
+   * @return the statistics or {@code null} if the compiler cache was not found or did not report statistics
+   */
+  static @Nullable CompilerCacheStats query(CompilerCacheType type, Map<String, String> environment) {
+    String path = environment.get("PATH");
+    if (path == null) {
+      return null;
+    }
+    Path exe = SearchPath.findExecutable(type.getExecutableName(), path);
+    if (exe == null) {
+      return null;
+    }
+    List<String> cmd = new ArrayList<>();
+    cmd.add(exe.toString());
+    cmd.addAll(Arrays.asList(CompilerCacheStats.getStatsArguments(type)));
+    File output = null;
+    try {
+      // a file rather than a pipe, so that a hanging command cannot block reading its output beyond the timeout
+      output = File.createTempFile("cmake4eclipse-stats", ".txt");
+      ProcessBuilder pb = new ProcessBuilder(cmd).redirectErrorStream(true).redirectOutput(output);
+      pb.environment().clear();
+      pb.environment().putAll(environment);
+      Process proc = pb.start();
+      if (!proc.waitFor(TIMEOUT, TimeUnit.SECONDS)) {
+        proc.destroyForcibly();
+        return null;
+      }
+      return CompilerCacheStats.parse(type, Files.readString(output.toPath(), Charset.defaultCharset()));
+    } catch (IOException ex) {
+      return null;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return null;
+    } finally {
+      if (output != null) {
+        output.delete();
+      }
+    }
+  }
+
+  /**
+   * Registers a build that uses a compiler cache.
+   *
+   * @return the registration, which must be closed when the build finished
+   */
+  static Usage use() {
+    synchronized (usages) {
+      Usage usage = new Usage();
+      if (!usages.isEmpty()) {
+        usage.shared = true;
+        for (Usage other : usages) {
+          other.shared = true;
+        }
+      }
+      usages.add(usage);
+      return usage;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A build that uses a compiler cache.
+   *
+   * @author Martin Weber
+   */
+  static class Usage implements AutoCloseable {
+    /** whether another build used a compiler cache while this build did */
+    private boolean shared;
+
+    private Usage() {
+    }
+
+    /**
+     * Gets whether another build in the workspace used a compiler cache at the same time, so that the difference of
+     * the statistics of the cache before and after the build includes the hits and misses of the other build.
+     */
+    boolean isShared() {
+      synchronized (usages) {
+        return shared;
+      }
+    }
+
+    @Override
+    public void close() {
+      synchronized (usages) {
+        usages.remove(this);
+      }
+    }
+  }
+}
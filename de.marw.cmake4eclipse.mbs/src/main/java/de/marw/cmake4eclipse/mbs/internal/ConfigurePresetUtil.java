@@ -0,0 +1,114 @@
+/* ******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICSourceEntry;
+import org.eclipse.cdt.core.settings.model.ICStorageElement;
+import org.eclipse.cdt.core.settings.model.util.CDataUtil;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.internal.presets.CMakePresets;
+import de.marw.cmake4eclipse.mbs.internal.presets.ConfigurePreset;
+import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
+
+/**
+ * Looks up the cmake configure preset selected for a build configuration.
+ *
+ * @author Martin Weber
+ */
+public class ConfigurePresetUtil {
+
+  /**
+   * Gets the project relative path of the folder that holds the top-level CMakeLists.txt file.
+   *
+   * @return the path or {@code null} if the project has no source folders
+   */
+  public static @Nullable IPath getCMakeListsPath(ICConfigurationDescription cfgd) {
+    ICStorageElement storage = cfgd.getProjectDescription().getStorage(CMakeSettings.CFG_STORAGE_ID, false);
+    if (storage != null) {
+      // Cmake4eclipse nature holds a path to the top-level cmakelists.txt file
+      String cmakelists = storage.getAttribute(CMakeSettings.ATTR_CMAKELISTS_FLDR);
+      return new Path(cmakelists);
+    }
+    // classic cmake4eclipse with MBS build system...
+    // .. assumes the top-level cmakelists.txt file is below the (single) source location
+    ICSourceEntry[] srcEntries = cfgd.getSourceEntries();
+    if (srcEntries.length == 0) {
+      return null;
+    }
+    srcEntries = CDataUtil.resolveEntries(srcEntries, cfgd);
+    // assume the first source directory contains a CMakeLists.txt
+    return srcEntries[0].getFullPath();
+  }
+
+  /**
+   * Gets the configure preset selected for the specified configuration.
+   *
+   * @return the preset or {@code null} if no preset is selected or if the selected preset does not exist
+   */
+  static @Nullable ConfigurePreset getConfigurePreset(ICConfigurationDescription cfgd) {
+    String presetName;
+    try {
+      presetName = ConfigurationManager.getInstance().getOrLoad(cfgd).getConfigurePreset();
+    } catch (CoreException ex) {
+      Activator.getDefault().getLog().log(ex.getStatus());
+      return null;
+    }
+    if (presetName == null || presetName.isBlank()) {
+      return null;
+    }
+    IPath cmakelistsPath = getCMakeListsPath(cfgd);
+    if (cmakelistsPath == null) {
+      return null;
+    }
+    IProject project = cfgd.getProjectDescription().getProject();
+    IContainer cmakelistsDir = cmakelistsPath.isEmpty() ? project : project.getFolder(cmakelistsPath);
+    IPath location = cmakelistsDir.getLocation();
+    if (location == null) {
+      return null;
+    }
+    return CMakePresets.get(location.toPath()).getConfigurePreset(presetName);
+  }
+
+  /**
+   * Gets the generator specified by the configure preset of the specified configuration.
+   *
+   * @return the generator or {@code null} if no preset is selected, the preset does not specify a generator or
+   *         specifies a generator that is not supported
+   */
+  static @Nullable CmakeGenerator getPresetGenerator(ICConfigurationDescription cfgd) {
+    ConfigurePreset preset = getConfigurePreset(cfgd);
+    if (preset == null || preset.getGenerator() == null) {
+      return null;
+    }
+    return toCmakeGenerator(preset.getGenerator());
+  }
+
+  /**
+   * Gets the generator with the specified cmake name.
+   *
+   * @return the generator or {@code null} if the generator is not supported
+   */
+  static @Nullable CmakeGenerator toCmakeGenerator(String cmakeName) {
+    for (CmakeGenerator generator : CmakeGenerator.values()) {
+      if (generator.getCmakeName().equals(cmakeName)) {
+        return generator;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
+
+/**
+ * Determines the job slots offered by the machines of a compile farm and the number of parallel jobs to run a build
+ * with, so that the remote slots are filled while the local host runs no more jobs than it has processors.
+ *
+ * @author Martin Weber
+ */
+class DistributedCompile {
+  /** the number of jobs distcc sends to a remote host if the host specification does not limit it */
+  private static final int DISTCC_DEFAULT_LIMIT = 4;
+  /** the number of jobs distcc runs on the local host if the host specification does not limit it */
+  private static final int DISTCC_DEFAULT_LOCAL_LIMIT = 2;
+
+  private DistributedCompile() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Looks up the tool that distributes the compile jobs.
+   *
+   * @param tool          the tool that distributes the compile jobs
+   * @param compilerCache the compiler cache the compilers are run through or {@code null}
+   * @param path          the value of the {@code PATH} environment variable of the build
+   * @return the tool executable or {@code null} if the tool was not found or cannot be combined with the compiler
+   *         cache
+   */
+  static @Nullable Path findLauncher(DistributedCompilerType tool, @Nullable CompilerCacheType compilerCache,
+      @Nullable String path) {
+    if (path == null || compilerCache == CompilerCacheType.SCCACHE) {
+      // sccache does not hand cache misses to another launcher
+      return null;
+    }
+    return SearchPath.findExecutable(tool.getExecutableName(), path);
+  }
+
+  /**
+   * Gets the job slots of the compile farm for a build.
+   *
+   * @param tool        the tool that distributes the compile jobs
+   * @param remote      the number of jobs the remote hosts accept or {@code null} to determine it from the distcc
+   *                    host specification
+   * @param cores       the number of processors of the local host
+   * @param environment the environment of the build
+   * @return the slots or {@code null} if the number of remote slots is unknown
+   */
+  static @Nullable Slots getSlots(DistributedCompilerType tool, @Nullable Integer remote, int cores,
+      Map<String, String> environment) {
+    if (remote != null) {
+      return new Slots(cores, remote);
+    }
+    if (tool == DistributedCompilerType.DISTCC) {
+      String hosts = getDistccHosts(environment);
+      if (hosts != null) {
+        Slots slots = parseDistccHosts(hosts);
+        return new Slots(slots.getLocal() == 0 ? cores : Math.min(cores, slots.getLocal()), slots.getRemote());
+      }
+    }
+    // icecream: the scheduler does not tell
+    return null;
+  }
+
+  /**
+   * Gets the distcc host specification the way distcc looks it up: the {@code DISTCC_HOSTS} environment variable,
+   * the {@code hosts} file in {@code $DISTCC_DIR} or {@code ~/.distcc} or the system-wide {@code hosts} file.
+   *
+   * @return the host specification or {@code null} if none was found
+   */
+  static @Nullable String getDistccHosts(Map<String, String> environment) {
+    String hosts = environment.get("DISTCC_HOSTS");
+    if (hosts != null) {
+      return hosts;
+    }
+    String dir = environment.get("DISTCC_DIR");
+    String home = environment.getOrDefault("HOME", System.getProperty("user.home"));
+    Path[] files = { dir != null ? Paths.get(dir, "hosts") : Paths.get(home, ".distcc", "hosts"),
+        Paths.get("/etc/distcc/hosts"), Paths.get("/usr/local/etc/distcc/hosts") };
+    for (Path file : files) {
+      if (Files.isReadable(file)) {
+        try {
+          return Files.readString(file, Charset.defaultCharset());
+        } catch (IOException ignore) {
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Counts the job slots of a distcc host specification, such as
+   * {@code "localhost/2 build1/8 @build2/16,lzo --randomize"}.
+   *
+   * @param hosts the host specification, white-space separated, {@code #} starts a comment
+   * @return the slots. The local slots are {@code 0} if the specification does not list the local host
+   */
+  static Slots parseDistccHosts(String hosts) {
+    int local = 0, remote = 0;
+    for (String line : hosts.split("\\R")) {
+      int comment = line.indexOf('#');
+      if (comment >= 0) {
+        line = line.substring(0, comment);
+      }
+      for (String spec : line.trim().split("\\s+")) {
+        if (spec.isEmpty() || spec.startsWith("-") || spec.startsWith("+")) {
+          // options such as --randomize, zeroconf discovery
+          continue;
+        }
+        int opt = spec.indexOf(',');
+        if (opt >= 0) {
+          spec = spec.substring(0, opt);
+        }
+        int slash = spec.indexOf('/');
+        String host = slash < 0 ? spec : spec.substring(0, slash);
+        boolean isLocal = host.equals("localhost");
+        int limit = isLocal ? DISTCC_DEFAULT_LOCAL_LIMIT : DISTCC_DEFAULT_LIMIT;
+        if (slash >= 0) {
+          try {
+            limit = Integer.parseInt(spec.substring(slash + 1));
+          } catch (NumberFormatException ignore) {
+          }
+        }
+        if (isLocal) {
+          local += limit;
+        } else {
+          remote += limit;
+        }
+      }
+    }
+    return new Slots(local, remote);
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The job slots of the local host and of the remote hosts.
+   *
+   * @author Martin Weber
+   */
+  static class Slots {
+    private final int local;
+    private final int remote;
+
+    /**
+     * @param local  the number of jobs to run on the local host
+     * @param remote the number of jobs the remote hosts accept
+     */
+    Slots(int local, int remote) {
+      this.local = local;
+      this.remote = remote;
+    }
+
+    /**
+     * Gets the number of jobs to run on the local host. These are the compile jobs the local host takes while all
+     * remote slots are busy and the jobs that never leave the local host, such as links.
+     */
+    int getLocal() {
+      return local;
+    }
+
+    /**
+     * Gets the number of jobs the remote hosts accept.
+     */
+    int getRemote() {
+      return remote;
+    }
+
+    /**
+     * Gets the number of parallel jobs to run the build with.
+     */
+    int getJobs() {
+      return Math.max(1, local + remote);
+    }
+  }
+}
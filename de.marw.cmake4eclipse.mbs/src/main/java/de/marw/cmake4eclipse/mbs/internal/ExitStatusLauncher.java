@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.OutputStream;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Properties;
+
+import org.eclipse.cdt.core.ICommandLauncher;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An {@code ICommandLauncher} that remembers the exit status of the process it launched. CDT's build runner does not
+ * tell whether the build-script processor succeeded, and problem markers do not tell either: A build tool that was
+ * killed or a message no error parser recognizes leaves no marker, while markers of other builders remain.
+ *
+ * @author Martin Weber
+ */
+class ExitStatusLauncher implements ICommandLauncher {
+  private final ICommandLauncher delegate;
+  private volatile Process process;
+  /** the file name of the launched executable */
+  private volatile String command;
+  /** the time the process was launched */
+  private volatile Instant started;
+  /** the handle of the process, once it was found */
+  private volatile ProcessHandle handle;
+  /** the exit status of the process or {@code null} if it did not terminate normally */
+  private Integer exitValue;
+
+  ExitStatusLauncher(ICommandLauncher delegate) {
+    this.delegate = Objects.requireNonNull(delegate);
+  }
+
+  /**
+   * Gets whether the launched process terminated with exit status zero.
+   */
+  boolean isSuccess() {
+    return exitValue != null && exitValue.intValue() == 0;
+  }
+
+  /**
+   * Gets the exit status of the launched process.
+   *
+   * @return the exit status or {@code null} if the process could not be started, was cancelled or is still running
+   */
+  @Nullable
+  Integer getExitValue() {
+    return exitValue;
+  }
+
+  /**
+   * Gets the handle of the launched process, which tells its descendants.
+   *
+   * @return the handle or {@code null} if the process was not started yet or cannot be determined
+   */
+  @Nullable
+  ProcessHandle getProcessHandle() {
+    ProcessHandle ph = handle;
+    Process proc = process;
+    if (ph != null || proc == null) {
+      return ph;
+    }
+    try {
+      ph = proc.toHandle();
+    } catch (UnsupportedOperationException ex) {
+      // CDT's Spawner provides no handle: take the child of this JVM started for the command first after the launch
+      ph = ProcessHandle.current().children().filter(child -> {
+        Instant start = child.info().startInstant().orElse(Instant.MIN);
+        return !start.isBefore(started) && child.info().command()
+            .map(cmd -> Paths.get(cmd).getFileName().toString().startsWith(command)).orElse(false);
+      }).min(Comparator.comparing(child -> child.info().startInstant().get())).orElse(null);
+    }
+    handle = ph;
+    return ph;
+  }
+
+  @Override
+  public Process execute(IPath commandPath, String[] args, String[] env, IPath workingDirectory,
+      IProgressMonitor monitor) throws CoreException {
+    exitValue = null;
+    handle = null;
+    command = commandPath.lastSegment();
+    // start times are reported with a granularity of clock ticks
+    started = Instant.now().minusSeconds(1);
+    process = delegate.execute(commandPath, args, env, workingDirectory, monitor);
+    return process;
+  }
+
+  @Override
+  public int waitAndRead(OutputStream out, OutputStream err) {
+    return recordExitValue(delegate.waitAndRead(out, err));
+  }
+
+  @Override
+  public int waitAndRead(OutputStream output, OutputStream err, IProgressMonitor monitor) {
+    return recordExitValue(delegate.waitAndRead(output, err, monitor));
+  }
+
+  private int recordExitValue(int state) {
+    if (state == ICommandLauncher.OK && process != null) {
+      try {
+        exitValue = process.waitFor();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    return state;
+  }
+
+  @Override
+  public void setProject(IProject project) {
+    delegate.setProject(project);
+  }
+
+  @Override
+  public IProject getProject() {
+    return delegate.getProject();
+  }
+
+  @Override
+  public void showCommand(boolean show) {
+    delegate.showCommand(show);
+  }
+
+  @Override
+  public String getErrorMessage() {
+    return delegate.getErrorMessage();
+  }
+
+  @Override
+  public void setErrorMessage(String error) {
+    delegate.setErrorMessage(error);
+  }
+
+  @Override
+  public String[] getCommandArgs() {
+    return delegate.getCommandArgs();
+  }
+
+  @Override
+  public Properties getEnvironment() {
+    return delegate.getEnvironment();
+  }
+
+  @Override
+  public String getCommandLine() {
+    return delegate.getCommandLine();
+  }
+}
@@ -0,0 +1,68 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
+import de.marw.cmake4eclipse.mbs.settings.FastBuildCacheMode;
+
+/**
+ * Translates the FASTBuild settings of a build configuration to the arguments and environment of {@code fbuild}.
+ *
+ * @author Martin Weber
+ */
+class FastBuildOptions {
+
+  private FastBuildOptions() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the arguments for {@code fbuild}. If the object cache or distribution is used, FASTBuild is told to print
+   * its summary, which holds the cache statistics.
+   *
+   * @param prefs the project settings
+   * @return the arguments, empty if no FASTBuild feature is used
+   */
+  static List<String> getBuildArguments(CMakeSettings prefs) {
+    List<String> args = new ArrayList<>(3);
+    FastBuildCacheMode cache = prefs.getFastBuildCache();
+    if (cache != null) {
+      args.add(cache.getArgument());
+    }
+    if (prefs.isFastBuildDist()) {
+      args.add("-dist");
+    }
+    if (!args.isEmpty()) {
+      args.add("-summary");
+    }
+    return args;
+  }
+
+  /**
+   * Gets the environment variables {@code fbuild} reads the cache directory and the workers from.
+   *
+   * @param prefs the project settings
+   * @return the variables to set, overriding those of the build environment
+   */
+  static Map<String, String> getEnvironment(CMakeSettings prefs) {
+    Map<String, String> environment = new HashMap<>(2);
+    if (prefs.getFastBuildCache() != null && prefs.getFastBuildCachePath() != null) {
+      environment.put("FASTBUILD_CACHE_PATH", prefs.getFastBuildCachePath());
+    }
+    if (prefs.isFastBuildDist() && prefs.getFastBuildWorkers() != null) {
+      environment.put("FASTBUILD_WORKERS", prefs.getFastBuildWorkers());
+    }
+    return environment;
+  }
+}
@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Cleans a build directory without waiting for its files to be deleted: The build directory is renamed to a trash
+ * directory, which takes no time regardless of its size, so the next build can run cmake in a new build directory
+ * right away. The trash is then deleted by a low priority job that walks the directories in parallel.<br>
+ * The trash directory is below the plug-in state area, so the build output does not show up in the project. A
+ * directory cannot be renamed to a different file system though; in that case, the trash directory is next to the
+ * build directory and has to be hidden from the workspace.
+ *
+ * @author Martin Weber
+ */
+class FastClean {
+  /** the name of the trash directory */
+  static final String TRASH_DIR = ".cmake4eclipse-trash";
+  /** makes the deletion jobs run one after the other */
+  private static final ISchedulingRule deletionRule = new ISchedulingRule() {
+    @Override
+    public boolean isConflicting(ISchedulingRule rule) {
+      return rule == this;
+    }
+
+    @Override
+    public boolean contains(ISchedulingRule rule) {
+      return rule == this;
+    }
+  };
+
+  private FastClean() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the trash directory below the plug-in state area.
+   */
+  static Path getTrashDirectory() {
+    return Activator.getDefault().getStateLocation().append(TRASH_DIR).toPath();
+  }
+
+  /**
+   * Moves the specified build directory into the specified trash directory or, if that is on a different file
+   * system, into the trash directory next to the build directory.
+   *
+   * @param buildDir the absolute path of the build directory
+   * @param trash    the preferred trash directory
+   * @return the trash directory the build directory was moved to
+   * @throws IOException if the build directory could not be renamed, for example because a file in it is in use on
+   *                     Windows
+   */
+  static Path moveAside(Path buildDir, Path trash) throws IOException {
+    try {
+      moveTo(buildDir, trash);
+      return trash;
+    } catch (AtomicMoveNotSupportedException ex) {
+      trash = buildDir.resolveSibling(TRASH_DIR);
+      moveTo(buildDir, trash);
+      return trash;
+    }
+  }
+
+  private static void moveTo(Path buildDir, Path trash) throws IOException {
+    Files.createDirectories(trash);
+    Files.move(buildDir, trash.resolve(buildDir.getFileName() + "-" + System.currentTimeMillis()),
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Deletes the specified trash directory in a low priority job, including build directories moved there before
+   * that were not deleted completely, for example because the workbench was closed.
+   */
+  static void scheduleDeletion(Path trash) {
+    Job job = new Job("Deleting " + trash) {
+      @Override
+      protected IStatus run(IProgressMonitor monitor) {
+        int failed = delete(trash, Runtime.getRuntime().availableProcessors(), monitor::isCanceled);
+        if (monitor.isCanceled()) {
+          return Status.CANCEL_STATUS;
+        }
+        return failed == 0 ? Status.OK_STATUS
+            : new Status(IStatus.WARNING, Activator.PLUGIN_ID,
+                String.format("Failed to delete %d files or directories in %s", failed, trash));
+      }
+    };
+    job.setPriority(Job.DECORATE);
+    job.setRule(deletionRule);
+    job.schedule();
+  }
+
+  /**
+   * Deletes the specified directory and everything below it. Each directory is listed in a task of its own, so that
+   * the directories are walked in parallel. Symbolic links are deleted, not followed.
+   *
+   * @param dir         the directory to delete
+   * @param parallelism the maximum number of directories to walk at the same time
+   * @param canceled    tells whether to stop deleting
+   * @return the number of files and directories that could not be deleted
+   */
+  static int delete(Path dir, int parallelism, BooleanSupplier canceled) {
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      return pool.invoke(new DeleteTask(dir, canceled));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * Deletes a directory after deleting its files and the directories below it in parallel tasks.
+   *
+   * @author Martin Weber
+   */
+  private static class DeleteTask extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+    private final Path dir;
+    private final BooleanSupplier canceled;
+
+    DeleteTask(Path dir, BooleanSupplier canceled) {
+      this.dir = dir;
+      this.canceled = canceled;
+    }
+
+    @Override
+    protected Integer compute() {
+      int failed = 0;
+      List<DeleteTask> subtasks = new ArrayList<>();
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+        for (Path entry : entries) {
+          if (canceled.getAsBoolean()) {
+            break;
+          }
+          if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+            DeleteTask subtask = new DeleteTask(entry, canceled);
+            subtask.fork();
+            subtasks.add(subtask);
+          } else {
+            failed += deleteEntry(entry);
+          }
+        }
+      } catch (NoSuchFileException ex) {
+        return 0;
+      } catch (IOException ex) {
+        return 1;
+      }
+      for (DeleteTask subtask : subtasks) {
+        failed += subtask.join();
+      }
+      if (failed == 0 && !canceled.getAsBoolean()) {
+        failed += deleteEntry(dir);
+      }
+      return failed;
+    }
+
+    private static int deleteEntry(Path path) {
+      try {
+        Files.deleteIfExists(path);
+        return 0;
+      } catch (DirectoryNotEmptyException ex) {
+        // a build directory was moved into the trash meanwhile
+        return 0;
+      } catch (IOException ex) {
+        return 1;
+      }
+    }
+  }
+}
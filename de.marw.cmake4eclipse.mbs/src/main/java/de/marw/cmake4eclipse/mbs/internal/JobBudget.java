@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Hands out parallel jobs to concurrently running builds so that the total number of jobs never exceeds a workspace
+ * wide limit. A build that asks when the budget is used up waits until another build gives its jobs back. A build gets
+ * the number of jobs it asks for, but no more than are left and no more than an equal share of the limit among itself
+ * and the builds that hold jobs when it asks. The jobs of a running build are not reduced later, so a build that
+ * starts while others run gets fewer jobs.
+ *
+ * @author Martin Weber
+ */
+class JobBudget {
+  private static final JobBudget instance = new JobBudget();
+  /** the interval to check for cancellation while waiting for jobs, in milliseconds */
+  private static final long POLL = 100;
+
+  /** the number of jobs handed out to running builds */
+  private int inUse;
+  /** the number of running builds that hold jobs */
+  private int holders;
+
+  /**
+   * Gets the workspace wide budget.
+   */
+  static JobBudget getInstance() {
+    return instance;
+  }
+
+  /**
+   * Hands out jobs, waiting until at least one job is left.
+   *
+   * @param limit     the maximum number of jobs of all running builds or {@code 0} if the number is not limited
+   * @param requested the number of jobs the build is configured for, {@code Integer.MAX_VALUE} for unlimited
+   * @param monitor   the monitor to check for cancellation while waiting
+   * @return the jobs granted, which must be closed when the build finished
+   * @throws OperationCanceledException if the monitor was cancelled while waiting
+   */
+  synchronized Lease acquire(int limit, int requested, IProgressMonitor monitor) {
+    if (limit <= 0) {
+      return new Lease(this, requested, 0);
+    }
+    while (inUse >= limit) {
+      if (monitor.isCanceled()) {
+        throw new OperationCanceledException();
+      }
+      try {
+        wait(POLL);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new OperationCanceledException();
+      }
+    }
+    final int share = Math.max(1, limit / (holders + 1));
+    final int jobs = Math.max(1, Math.min(requested, Math.min(share, limit - inUse)));
+    inUse += jobs;
+    holders++;
+    return new Lease(this, jobs, jobs);
+  }
+
+  /**
+   * Gets the number of jobs handed out to running builds.
+   */
+  synchronized int getInUse() {
+    return inUse;
+  }
+
+  private synchronized void release(int jobs) {
+    inUse -= jobs;
+    holders--;
+    notifyAll();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The jobs granted to a build.
+   *
+   * @author Martin Weber
+   */
+  static class Lease implements AutoCloseable {
+    private final JobBudget budget;
+    private final int jobs;
+    /** the number of jobs to give back on close */
+    private int counted;
+
+    private Lease(JobBudget budget, int jobs, int counted) {
+      this.budget = budget;
+      this.jobs = jobs;
+      this.counted = counted;
+    }
+
+    /**
+     * Gets the number of parallel jobs the build may run.
+     *
+     * @return the number of jobs, {@code Integer.MAX_VALUE} for unlimited
+     */
+    int getJobs() {
+      return jobs;
+    }
+
+    /**
+     * Gives the jobs back to the budget. Subsequent invocations have no effect.
+     */
+    @Override
+    public void close() {
+      if (counted > 0) {
+        budget.release(counted);
+        counted = 0;
+      }
+    }
+  }
+}
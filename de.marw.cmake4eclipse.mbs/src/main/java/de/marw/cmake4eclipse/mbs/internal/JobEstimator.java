@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.QualifiedName;
+
+/**
+ * Estimates the number of parallel jobs a build can run without exhausting the memory of the machine, based on the
+ * number of processors, the available memory and the peak memory use of a compiler or linker process observed in
+ * previous builds.
+ *
+ * @author Martin Weber
+ */
+class JobEstimator {
+  /** the memory use of a compiler process assumed if none was observed yet */
+  static final long DEFAULT_COMPILE_RSS = 512L << 20;
+  /** the memory use of a linker process assumed if none was observed yet */
+  static final long DEFAULT_LINK_RSS = 2L << 30;
+  /** the kind of process whose memory use to remember: compiler */
+  static final String COMPILE = "peakCompileRss.";
+  /** the kind of process whose memory use to remember: linker */
+  static final String LINK = "peakLinkRss.";
+  /** the memory use of a linker process the link pool of the build scripts was last sized for */
+  static final String LINK_POOL = "linkPoolRss.";
+  /** the fraction of the available memory the jobs may use, leaving room for the IDE and the build tool */
+  private static final double MEMORY_SHARE = 0.8;
+  private static final Path PROC = Paths.get("/proc");
+
+  private JobEstimator() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Computes the number of parallel jobs.
+   *
+   * @param cores          the number of processors
+   * @param availableBytes the available memory in bytes or {@code 0} if unknown
+   * @param peakRss        the peak resident set size of a compiler process in bytes or {@code 0} if unknown
+   * @return the number of jobs, at least one
+   */
+  static int computeJobs(int cores, long availableBytes, long peakRss) {
+    return fit(cores, availableBytes, peakRss > 0 ? peakRss : DEFAULT_COMPILE_RSS);
+  }
+
+  /**
+   * Computes the number of parallel link jobs.
+   *
+   * @param cores          the number of processors
+   * @param availableBytes the available memory in bytes or {@code 0} if unknown
+   * @param peakRss        the peak resident set size of a linker process in bytes or {@code 0} if unknown
+   * @return the number of jobs, at least one
+   */
+  static int computeLinkJobs(int cores, long availableBytes, long peakRss) {
+    return fit(cores, availableBytes, peakRss > 0 ? peakRss : DEFAULT_LINK_RSS);
+  }
+
+  private static int fit(int cores, long availableBytes, long perJob) {
+    if (availableBytes <= 0) {
+      return Math.max(1, cores);
+    }
+    long byMemory = (long) (availableBytes * MEMORY_SHARE) / perJob;
+    return (int) Math.max(1, Math.min(cores, byMemory));
+  }
+
+  /**
+   * Gets the memory available for starting new processes without swapping.
+   *
+   * @return the available memory in bytes or {@code 0} if unknown
+   */
+  static long getAvailableMemory() {
+    Path meminfo = PROC.resolve("meminfo");
+    if (Files.isReadable(meminfo)) {
+      try {
+        long kb = parseKiloBytes(Files.readAllLines(meminfo), "MemAvailable:");
+        if (kb > 0) {
+          return kb << 10;
+        }
+      } catch (IOException ignore) {
+      }
+    }
+    OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize();
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the value of a field in a file of the {@code /proc} file system that is given in kilobytes, such as
+   * {@code "MemAvailable:   1234 kB"}.
+   *
+   * @param lines the lines of the file
+   * @param field the name of the field including the trailing colon
+   * @return the value in kilobytes or {@code 0} if the field was not found
+   */
+  static long parseKiloBytes(List<String> lines, String field) {
+    for (String line : lines) {
+      if (line.startsWith(field)) {
+        String value = line.substring(field.length()).trim();
+        int idx = value.indexOf(' ');
+        try {
+          return Long.parseLong(idx < 0 ? value : value.substring(0, idx));
+        } catch (NumberFormatException ex) {
+          return 0;
+        }
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Gets the peak memory use of a compiler or linker process observed in previous builds of the specified
+   * configuration.
+   *
+   * @param kind     the kind of process, {@link #COMPILE} or {@link #LINK}
+   * @param configId the ID of the build configuration
+   * @return the peak resident set size in bytes or {@code 0} if none was observed
+   */
+  static long getPeakRss(IProject project, String kind, String configId) throws CoreException {
+    String value = project.getPersistentProperty(new QualifiedName(Activator.PLUGIN_ID, kind + configId));
+    if (value != null) {
+      try {
+        return Long.parseLong(value);
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Remembers the peak memory use of a compiler or linker process observed in a build. A build that compiled all
+   * sources replaces the remembered value, other builds ran some of the jobs only and can just raise it.
+   *
+   * @param kind      the kind of process, {@link #COMPILE} or {@link #LINK}
+   * @param configId  the ID of the build configuration
+   * @param peakRss   the peak resident set size in bytes or {@code 0} if no process was observed
+   * @param fullBuild whether the build compiled all sources
+   */
+  static void setPeakRss(IProject project, String kind, String configId, long peakRss, boolean fullBuild)
+      throws CoreException {
+    if (peakRss > 0 && (fullBuild || peakRss > getPeakRss(project, kind, configId))) {
+      project.setPersistentProperty(new QualifiedName(Activator.PLUGIN_ID, kind + configId), Long.toString(peakRss));
+    }
+  }
+
+  /**
+   * Gets whether the specified executable is a compiler proper, the process that uses the memory when a source file
+   * is compiled. For gcc, this is {@code cc1} or {@code cc1plus}, not the driver.
+   *
+   * @param command the file name of the executable, with or without a directory
+   */
+  static boolean isCompiler(String command) {
+    String name = Paths.get(command).getFileName().toString().toLowerCase(Locale.ROOT);
+    return name.startsWith("cc1") || name.startsWith("clang") || name.equals("cl.exe") || name.equals("cicc");
+  }
+
+  /**
+   * Gets whether the specified executable is a linker or runs the link-time optimization for a linker.
+   *
+   * @param command the file name of the executable, with or without a directory
+   */
+  static boolean isLinker(String command) {
+    String name = Paths.get(command).getFileName().toString().toLowerCase(Locale.ROOT);
+    return name.equals("ld") || name.startsWith("ld.") || name.startsWith("ld64") || name.equals("mold")
+        || name.equals("lld") || name.equals("lld-link") || name.equals("link.exe") || name.equals("lto1");
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * Observes the compiler and linker processes started by a build and records their peak memory use. Only descendants
+   * of the build tool process are observed, since other builds running in the workbench at the same time start
+   * compilers as well. Reads the {@code /proc} file system, so this works on Linux only; on other systems, nothing is
+   * observed.
+   *
+   * @author Martin Weber
+   */
+  static class Sampler implements AutoCloseable {
+    private static final long INTERVAL = 250;
+
+    private final Thread thread;
+    private volatile boolean stopped;
+    private volatile long peakCompileRss;
+    private volatile long peakLinkRss;
+    /** supplies the build tool process once it was started */
+    private volatile Supplier<ProcessHandle> buildTool;
+
+    /**
+     * Starts sampling. Nothing is observed until the build tool process is known.
+     *
+     * @see #observe(Supplier)
+     */
+    Sampler() {
+      thread = new Thread(this::run, "cmake4eclipse memory sampler");
+      thread.setDaemon(true);
+      if (Files.isDirectory(PROC)) {
+        thread.start();
+      }
+    }
+
+    /**
+     * Sets the build tool whose descendants to observe.
+     *
+     * @param buildTool supplies the build tool process or {@code null} if it was not started yet
+     */
+    void observe(Supplier<ProcessHandle> buildTool) {
+      this.buildTool = buildTool;
+    }
+
+    private void run() {
+      while (!stopped) {
+        Supplier<ProcessHandle> supplier = buildTool;
+        ProcessHandle process = supplier == null ? null : supplier.get();
+        Stream<ProcessHandle> processes = process == null ? Stream.empty() : process.descendants();
+        processes.forEach(ph -> {
+          Optional<String> command = ph.info().command();
+          if (command.isPresent()) {
+            boolean compiler = isCompiler(command.get());
+            if (compiler || isLinker(command.get())) {
+              long rss = getPeakRss(ph);
+              if (compiler && rss > peakCompileRss) {
+                peakCompileRss = rss;
+              } else if (!compiler && rss > peakLinkRss) {
+                peakLinkRss = rss;
+              }
+            }
+          }
+        });
+        try {
+          Thread.sleep(INTERVAL);
+        } catch (InterruptedException ex) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * Gets the peak resident set size of the specified process so far.
+     *
+     * @return the peak in bytes or {@code 0} if the process terminated
+     */
+    private static long getPeakRss(ProcessHandle ph) {
+      try {
+        // VmHWM: the peak resident set size of the process so far
+        List<String> status = Files.readAllLines(PROC.resolve(Long.toString(ph.pid())).resolve("status"));
+        return parseKiloBytes(status, "VmHWM:") << 10;
+      } catch (IOException ex) {
+        return 0;
+      }
+    }
+
+    /**
+     * Gets the peak resident set size of the compiler processes observed so far.
+     *
+     * @return the peak in bytes or {@code 0} if no compiler process was observed
+     */
+    long getPeakCompileRss() {
+      return peakCompileRss;
+    }
+
+    /**
+     * Gets the peak resident set size of the linker processes observed so far.
+     *
+     * @return the peak in bytes or {@code 0} if no linker process was observed
+     */
+    long getPeakLinkRss() {
+      return peakLinkRss;
+    }
+
+    /**
+     * Stops sampling.
+     */
+    @Override
+    public void close() {
+      stopped = true;
+      thread.interrupt();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.settings.LinkerType;
+
+/**
+ * Generates the part of the script cmake includes after the {@code project()} command that applies the link related
+ * settings. The settings are applied for the C and C++ compilers of GNU and Clang on ELF platforms only, since the
+ * compiler, the platform and thus the flags the toolchain understands are not known before. Whether the compiler
+ * driver can link with the selected linker is checked with {@code check_linker_flag()}, which tries to link a program
+ * once per compiler and caches the result in the CMakeCache.txt file.
+ *
+ * @author Martin Weber
+ */
+class LinkProfile {
+
+  private LinkProfile() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the commands that apply the link settings.
+   *
+   * @param linker       the linker to use instead of the default linker of the compiler driver or {@code null}
+   * @param gdbIndex     whether the linker shall create an index of the debug information
+   * @param splitDwarf   whether to write the debug information to separate files
+   * @param thinArchives whether to create static libraries that reference the object files
+   * @return the cmake commands or {@code null} if no setting is enabled
+   */
+  static @Nullable String getScript(@Nullable LinkerType linker, boolean gdbIndex, boolean splitDwarf,
+      boolean thinArchives) {
+    if (linker == null && !splitDwarf && !thinArchives) {
+      return null;
+    }
+    StringBuilder script = new StringBuilder();
+    script.append("# link settings, for the C and C++ compilers of GNU and Clang on ELF platforms\n");
+    script.append("get_property(_c4e_languages GLOBAL PROPERTY ENABLED_LANGUAGES)\n");
+    script.append("foreach(_c4e_lang C CXX)\n");
+    script.append("  list(FIND _c4e_languages ${_c4e_lang} _c4e_index)\n");
+    script.append("  if(_c4e_index GREATER -1 AND CMAKE_${_c4e_lang}_COMPILER_ID MATCHES \"^(GNU|Clang)$\"\n");
+    script.append("      AND CMAKE_EXECUTABLE_FORMAT STREQUAL \"ELF\")\n");
+    if (linker != null) {
+      final String option = "-fuse-ld=" + linker.getFuseLdName();
+      final String var = "CMAKE4ECLIPSE_${_c4e_lang}_LINKER_" + linker.name();
+      script.append("    if(CMAKE_VERSION VERSION_LESS 3.18)\n");
+      script.append("      message(STATUS \"cmake4eclipse: selecting the linker requires CMake 3.18\")\n");
+      script.append("    else()\n");
+      script.append("      include(CheckLinkerFlag)\n");
+      script.append("      check_linker_flag(${_c4e_lang} \"").append(option).append("\" ").append(var).append(")\n");
+      script.append("      if(").append(var).append(")\n");
+      script.append("        add_link_options(\"$<$<LINK_LANGUAGE:${_c4e_lang}>:").append(option).append(">\")\n");
+      if (gdbIndex) {
+        final String gdbVar = var + "_GDB_INDEX";
+        script.append("        check_linker_flag(${_c4e_lang} \"").append(option).append(";-Wl,--gdb-index\" ")
+            .append(gdbVar).append(")\n");
+        script.append("        if(").append(gdbVar).append(")\n");
+        script.append("          add_link_options(\"$<$<LINK_LANGUAGE:${_c4e_lang}>:-Wl,--gdb-index>\")\n");
+        script.append("        endif()\n");
+      }
+      script.append("      else()\n");
+      script.append("        message(STATUS \"cmake4eclipse: ${CMAKE_${_c4e_lang}_COMPILER_ID} cannot link with ")
+          .append(linker.getFuseLdName()).append(", using the default linker\")\n");
+      script.append("      endif()\n");
+      script.append("    endif()\n");
+    }
+    if (splitDwarf) {
+      script.append("    add_compile_options(\"$<$<COMPILE_LANGUAGE:${_c4e_lang}>:-gsplit-dwarf>\")\n");
+    }
+    if (thinArchives) {
+      script.append("    set(CMAKE_${_c4e_lang}_ARCHIVE_CREATE \"<CMAKE_AR> qcT <TARGET> <LINK_FLAGS> <OBJECTS>\")\n");
+      script.append("    set(CMAKE_${_c4e_lang}_ARCHIVE_APPEND \"<CMAKE_AR> qT <TARGET> <LINK_FLAGS> <OBJECTS>\")\n");
+    }
+    script.append("  endif()\n");
+    script.append("endforeach()\n");
+    return script.toString();
+  }
+}
@@ -0,0 +1,255 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * A GNU make jobserver shared by all builds in the workspace. The jobserver is a named pipe holding one token per
+ * parallel job; build tools that act as a jobserver client (GNU make 4.4 and newer, Ninja 1.13 and newer) take a token
+ * before starting a job and put it back when the job finished. Each client has one implicit token in addition, which
+ * is taken from the pipe when the build joins, so the jobs of all builds never exceed the limit.<br>
+ * A build tool that is killed while holding tokens never puts them back, so the pipe is refilled each time the last
+ * build left.<br>
+ * Named pipes are available on Unix-like systems only.
+ *
+ * @author Martin Weber
+ */
+class MakeJobServer {
+  private static MakeJobServer instance;
+  /** the interval to check for cancellation while waiting for a token, in milliseconds */
+  private static final long POLL = 100;
+
+  private final int jobs;
+  private final File fifo;
+  /** keeps the pipe open, so clients never see end-of-file */
+  private final RandomAccessFile pipe;
+  /** reads tokens from the pipe, tells how many are available */
+  private final FileInputStream tokens;
+  /** the number of builds that joined and did not leave yet */
+  private int clients;
+
+  private MakeJobServer(int jobs, File fifo, RandomAccessFile pipe) throws IOException {
+    this.jobs = jobs;
+    this.fifo = fifo;
+    this.pipe = pipe;
+    this.tokens = new FileInputStream(pipe.getFD());
+  }
+
+  /**
+   * Gets the jobserver for the specified number of jobs, creating it if necessary. A jobserver for a different number
+   * of jobs is shut down.
+   *
+   * @param jobs the maximum number of parallel jobs
+   * @throws IOException if the named pipe could not be created
+   */
+  static synchronized MakeJobServer get(int jobs) throws IOException {
+    if (instance != null && instance.jobs == jobs) {
+      return instance;
+    }
+    shutdown();
+    File fifo = Activator.getDefault().getStateLocation().append("jobserver.fifo").toFile();
+    instance = create(jobs, fifo.toPath());
+    return instance;
+  }
+
+  /**
+   * Shuts down the jobserver, if any. Builds that are running keep working with the tokens they took.
+   */
+  static synchronized void shutdown() {
+    if (instance != null) {
+      try {
+        instance.pipe.close();
+      } catch (IOException ignore) {
+      }
+      instance.fifo.delete();
+      instance = null;
+    }
+  }
+
+  /**
+   * Creates the named pipe and fills it with tokens.
+   *
+   * @param jobs the maximum number of parallel jobs
+   * @param fifo the file name of the named pipe to create
+   */
+  static MakeJobServer create(int jobs, Path fifo) throws IOException {
+    Files.deleteIfExists(fifo);
+    Process mkfifo = new ProcessBuilder("mkfifo", "-m", "600", fifo.toString()).redirectErrorStream(true).start();
+    try {
+      if (mkfifo.waitFor() != 0) {
+        throw new IOException("mkfifo failed: " + new String(mkfifo.getInputStream().readAllBytes()).trim());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while creating " + fifo, ex);
+    }
+    // opening for reading and writing does not block until a client opens the pipe
+    RandomAccessFile pipe = new RandomAccessFile(fifo.toFile(), "rw");
+    MakeJobServer server = new MakeJobServer(jobs, fifo.toFile(), pipe);
+    server.refill();
+    return server;
+  }
+
+  /**
+   * Registers a build as a client of this jobserver. Takes the implicit token of the build tool from the pipe,
+   * waiting for a job of another build to finish if all tokens are taken.
+   *
+   * @return the registration, which must be closed when the build tool finished
+   * @throws OperationCanceledException if the monitor was cancelled while waiting
+   */
+  Client join(IProgressMonitor monitor) {
+    synchronized (this) {
+      clients++;
+    }
+    // reading from the pipe blocks and cannot be interrupted, so read in a separate thread. Whoever of the reader and
+    // this thread is late, puts the token back: the reader if the wait was cancelled, this thread if the token arrived
+    // while it was cancelled
+    final AtomicBoolean settled = new AtomicBoolean();
+    final FutureTask<Integer> take = new FutureTask<>(() -> {
+      int token = tokens.read();
+      if (token >= 0 && !settled.compareAndSet(false, true)) {
+        putBack();
+      }
+      return token;
+    });
+    Thread reader = new Thread(take, "jobserver token reader");
+    reader.setDaemon(true);
+    reader.start();
+    while (true) {
+      try {
+        if (take.get(POLL, TimeUnit.MILLISECONDS) < 0) {
+          // end-of-file: the jobserver was shut down, the build runs with its implicit token only
+          return new Client(this, false);
+        }
+        return new Client(this, true);
+      } catch (ExecutionException ex) {
+        // the jobserver was shut down, the build runs with its implicit token only
+        return new Client(this, false);
+      } catch (TimeoutException ex) {
+        if (monitor.isCanceled()) {
+          cancel(settled);
+        }
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        cancel(settled);
+      }
+    }
+  }
+
+  /**
+   * Gives up waiting for a token.
+   *
+   * @param settled whether the reader thread took the token already
+   * @throws OperationCanceledException always
+   */
+  private void cancel(AtomicBoolean settled) {
+    // if the reader took the token already, put it back here
+    leave(!settled.compareAndSet(false, true));
+    throw new OperationCanceledException();
+  }
+
+  /**
+   * Puts a token back into the pipe that was taken after the build that waited for it was cancelled.
+   */
+  private synchronized void putBack() {
+    try {
+      pipe.write('+');
+    } catch (IOException ignore) {
+      // the jobserver was shut down
+    }
+  }
+
+  /**
+   * Unregisters a build.
+   *
+   * @param giveBack whether to put the implicit token of the build back into the pipe
+   */
+  private synchronized void leave(boolean giveBack) {
+    try {
+      if (--clients == 0) {
+        refill();
+      } else if (giveBack) {
+        pipe.write('+');
+      }
+    } catch (IOException ignore) {
+      // the jobserver was shut down
+    }
+  }
+
+  /**
+   * Discards the tokens in the pipe, then puts one token per job into it. Must be called only if no build uses the
+   * jobserver.
+   */
+  private void refill() throws IOException {
+    byte[] buffer = new byte[Math.max(jobs, 64)];
+    for (int available; (available = tokens.available()) > 0;) {
+      tokens.read(buffer, 0, Math.min(available, buffer.length));
+    }
+    Arrays.fill(buffer, (byte) '+');
+    pipe.write(buffer, 0, jobs);
+  }
+
+  /**
+   * Gets the number of tokens in the pipe.
+   */
+  int getAvailable() throws IOException {
+    return tokens.available();
+  }
+
+  /**
+   * Gets the value of the {@code MAKEFLAGS} environment variable that lets a jobserver client use this jobserver.
+   */
+  String getMakeFlags() {
+    return "-j" + jobs + " --jobserver-auth=fifo:" + fifo.getAbsolutePath();
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * A build that joined the jobserver.
+   *
+   * @author Martin Weber
+   */
+  static class Client implements AutoCloseable {
+    private final MakeJobServer server;
+    /** whether the implicit token was taken from the pipe */
+    private final boolean holdsToken;
+    private boolean closed;
+
+    private Client(MakeJobServer server, boolean holdsToken) {
+      this.server = server;
+      this.holdsToken = holdsToken;
+    }
+
+    /**
+     * Leaves the jobserver, putting the implicit token back. Subsequent invocations have no effect.
+     */
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        server.leave(holdsToken);
+      }
+    }
+  }
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvider;
+import org.eclipse.cdt.core.language.settings.providers.ILanguageSettingsProvidersKeeper;
+import org.eclipse.cdt.core.language.settings.providers.LanguageSettingsManager;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.managedbuilder.core.IConfiguration;
+import org.eclipse.cdt.managedbuilder.core.IManagedBuildInfo;
+import org.eclipse.cdt.managedbuilder.core.ManagedBuildManager;
+import org.eclipse.cdt.managedbuilder.makegen.IManagedBuilderMakefileGenerator;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+
+/**
+ * Runs cmake in the background shortly after CMake scripts of a project were saved, so that the build-scripts are up
+ * to date when the user starts a build. Saves in quick succession are coalesced; a run in progress is cancelled if
+ * another save arrives.
+ *
+ * @author Martin Weber
+ */
+class PreConfigurer implements IResourceChangeListener {
+  /** delay in milliseconds after the most recent save before cmake is run */
+  private static final long DELAY = 1000;
+
+  /** the most recently scheduled job per project */
+  private final Map<IProject, PreConfigureJob> jobs = new HashMap<>();
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent evt) {
+    if (evt.getType() != IResourceChangeEvent.POST_CHANGE
+        || !PreferenceAccess.getPreferences().getBoolean(PreferenceAccess.CMAKE_PRECONFIGURE, false)) {
+      return;
+    }
+    for (IResourceDelta projectDelta : evt.getDelta().getAffectedChildren(IResourceDelta.CHANGED)) {
+      IProject project = (IProject) projectDelta.getResource();
+      if (!project.isAccessible()) {
+        continue;
+      }
+      try {
+        BuildscriptGenerator.CMakeListsVisitor visitor = new BuildscriptGenerator.CMakeListsVisitor();
+        projectDelta.accept(visitor);
+        if (visitor.hasChanges()) {
+          schedule(project, visitor.getNewestChange());
+        }
+      } catch (CoreException ex) {
+        Activator.getDefault().getLog().log(ex.getStatus());
+      }
+    }
+  }
+
+  /**
+   * Schedules a cmake run for the active configuration of the specified project, if the project is built with
+   * cmake4eclipse and was built at least once. Cancels a run that was scheduled before.
+   *
+   * @param changeTime time stamp of the most recent change to a CMake script
+   */
+  private synchronized void schedule(IProject project, long changeTime) {
+    PreConfigureJob job = jobs.remove(project);
+    if (job != null) {
+      job.cancel();
+    }
+    IManagedBuildInfo info = ManagedBuildManager.getBuildInfo(project);
+    if (info == null || info.getDefaultConfiguration() == null) {
+      return;
+    }
+    IConfiguration cfg = info.getDefaultConfiguration();
+    IManagedBuilderMakefileGenerator generator = ManagedBuildManager.getBuildfileGenerator(cfg);
+    if (!(generator instanceof BuildscriptGenerator)) {
+      return;
+    }
+    // The build directory is the scheduling rule: This serializes with builds, but not with saves of source files.
+    // If it does not exist, the next build has to run cmake anyway.
+    ((BuildscriptGenerator) generator).initialize(IncrementalProjectBuilder.INCREMENTAL_BUILD, cfg,
+        cfg.getEditableBuilder(), null);
+    IResource buildFolder = ResourcesPlugin.getWorkspace().getRoot().findMember(generator.getBuildWorkingDir());
+    if (buildFolder == null) {
+      return;
+    }
+    job = new PreConfigureJob(project, cfg, (BuildscriptGenerator) generator, changeTime);
+    job.setRule(buildFolder);
+    jobs.put(project, job);
+    job.schedule(DELAY);
+  }
+
+  private synchronized void finished(PreConfigureJob job) {
+    jobs.remove(job.project, job);
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * Runs cmake for a configuration.
+   *
+   * @author Martin Weber
+   */
+  private class PreConfigureJob extends Job {
+    private final IProject project;
+    private final IConfiguration cfg;
+    private final BuildscriptGenerator generator;
+    private final long changeTime;
+
+    PreConfigureJob(IProject project, IConfiguration cfg, BuildscriptGenerator generator, long changeTime) {
+      super("Configuring " + project.getName());
+      this.project = project;
+      this.cfg = cfg;
+      this.generator = generator;
+      this.changeTime = changeTime;
+    }
+
+    @Override
+    protected IStatus run(IProgressMonitor monitor) {
+      try {
+        if (!project.isAccessible()) {
+          return Status.OK_STATUS;
+        }
+        generator.initialize(IncrementalProjectBuilder.INCREMENTAL_BUILD, cfg, cfg.getEditableBuilder(), monitor);
+        // cmake runs compilers to detect their features, count it as a job
+        final int limit = PreferenceAccess.getPreferences().getInt(PreferenceAccess.JOB_BUDGET, 0);
+        IStatus status;
+        try (JobBudget.Lease lease = JobBudget.getInstance().acquire(limit, 1, monitor)) {
+          status = generator.preconfigure(changeTime);
+        }
+        if (status.getCode() == IStatus.OK) {
+          refreshCompilationDatabase();
+        }
+        // errors were reported as problem markers and on the console already
+        return Status.OK_STATUS;
+      } catch (OperationCanceledException ex) {
+        return Status.CANCEL_STATUS;
+      } catch (CoreException ex) {
+        return ex.getStatus();
+      } finally {
+        finished(this);
+      }
+    }
+
+    /**
+     * Lets the compilation database parser of the configuration pick up the compile_commands.json file cmake wrote, so
+     * that the indexer sees new include paths and macros without a build.
+     */
+    private void refreshCompilationDatabase() throws CoreException {
+      ICConfigurationDescription cfgd = ManagedBuildManager.getDescriptionForConfiguration(cfg);
+      if (!(cfgd instanceof ILanguageSettingsProvidersKeeper)) {
+        return;
+      }
+      List<ILanguageSettingsProvider> lsps = ((ILanguageSettingsProvidersKeeper) cfgd).getLanguageSettingProviders();
+      for (ILanguageSettingsProvider lsp : lsps) {
+        if (LanguageSettingsManager.getRawProvider(lsp) instanceof JsonCompilationDatabaseParser) {
+          JsonCompilationDatabaseParser parser = (JsonCompilationDatabaseParser) LanguageSettingsManager
+              .getRawProvider(lsp);
+          parser.startup(cfgd, null);
+          parser.shutdown();
+          return;
+        }
+      }
+    }
+  }
+}
@@ -23,6 +23,8 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
   public void initializeDefaultPreferences() {
     IEclipsePreferences preferences = DefaultScope.INSTANCE.getNode(Activator.PLUGIN_ID);
     preferences.put(PreferenceAccess.CMAKE_GENERATOR, CmakeGenerator.Ninja.name());
+    preferences.putBoolean(PreferenceAccess.CMAKE_WARM_START, true);
+    preferences.putInt(PreferenceAccess.REGRESSION_THRESHOLD, 25);
     // "[]" is the JSON equivalent of an empty list. set here to avoid to store the empty list in the preferences store
     final String empty = "[]";
     preferences.put(PreferenceAccess.CMAKE_CACHE_ENTRIES, empty);
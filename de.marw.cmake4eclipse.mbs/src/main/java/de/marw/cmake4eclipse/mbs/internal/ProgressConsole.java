@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Objects;
+
+import org.eclipse.cdt.core.ConsoleOutputStream;
+import org.eclipse.cdt.core.resources.IConsole;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+
+/**
+ * A console that forwards all output to another console and feeds the status lines the build tool writes to its
+ * output stream to a progress monitor. Once the first status line was seen, the progress monitor reports the progress
+ * of the build and the estimated remaining time instead of the progress CDT derives from the amount of output.
+ *
+ * @author Martin Weber
+ */
+class ProgressConsole implements IConsole {
+  /** the minimum time between two updates of the sub task in milliseconds */
+  private static final long UPDATE_INTERVAL = 500;
+
+  private final IConsole delegate;
+  private final BuildProgress progress;
+  private final Monitor monitor;
+  private ConsoleOutputStream outputStream;
+
+  /**
+   * @param delegate the console to forward all output to
+   * @param progress tracks the progress of the build
+   * @param monitor  the monitor of the build
+   */
+  ProgressConsole(IConsole delegate, BuildProgress progress, IProgressMonitor monitor) {
+    this.delegate = Objects.requireNonNull(delegate);
+    this.progress = Objects.requireNonNull(progress);
+    this.monitor = new Monitor(monitor);
+  }
+
+  /**
+   * Gets the progress monitor to pass to the build.
+   */
+  IProgressMonitor getMonitor() {
+    return monitor;
+  }
+
+  @Override
+  public void start(IProject project) {
+    delegate.start(project);
+  }
+
+  @Override
+  public synchronized ConsoleOutputStream getOutputStream() throws CoreException {
+    if (outputStream == null) {
+      outputStream = new ProgressOutputStream(delegate.getOutputStream());
+    }
+    return outputStream;
+  }
+
+  @Override
+  public ConsoleOutputStream getInfoStream() throws CoreException {
+    return delegate.getInfoStream();
+  }
+
+  @Override
+  public ConsoleOutputStream getErrorStream() throws CoreException {
+    return delegate.getErrorStream();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * Intercepts output to a console output stream and processes it line by line.
+   *
+   * @author Martin Weber
+   */
+  private class ProgressOutputStream extends ConsoleOutputStream {
+    private final ConsoleOutputStream os;
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+
+    ProgressOutputStream(ConsoleOutputStream outputStream) {
+      this.os = outputStream;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+      write(new byte[] { (byte) c }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      os.write(b, off, len);
+      process(b, off, len);
+    }
+
+    // interface ConsoleOutputStream
+    @Override
+    public void write(String msg) throws IOException {
+      os.write(msg);
+      byte[] bytes = msg.getBytes();
+      process(bytes, 0, bytes.length);
+    }
+
+    private synchronized void process(byte[] b, int off, int len) {
+      for (int i = off; i < off + len; i++) {
+        if (b[i] == '\n' || b[i] == '\r') {
+          if (line.size() > 0 && progress.processLine(line.toString())) {
+            monitor.update();
+          }
+          line.reset();
+        } else if (line.size() < 4096) {
+          // status lines are at the start of a line, skip the rest of long command lines
+          line.write(b[i]);
+        }
+      }
+    }
+
+    @Override
+    public void flush() throws IOException {
+      os.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      os.close();
+    }
+  }
+
+  /**
+   * Reports the progress of the build tool instead of the progress reported by CDT once the first status line was
+   * seen.
+   *
+   * @author Martin Weber
+   */
+  private class Monitor extends ProgressMonitorWrapper {
+    /** the total work of the outermost task or -1 if no task was begun */
+    private int totalWork = -1;
+    private double worked;
+    private boolean active;
+    private long lastUpdate;
+
+    Monitor(IProgressMonitor monitor) {
+      super(monitor);
+    }
+
+    @Override
+    public synchronized void beginTask(String name, int totalWork) {
+      if (this.totalWork < 0) {
+        this.totalWork = totalWork;
+      }
+      super.beginTask(name, totalWork);
+    }
+
+    @Override
+    public synchronized void internalWorked(double work) {
+      if (!active) {
+        worked += work;
+        super.internalWorked(work);
+      }
+    }
+
+    @Override
+    public void worked(int work) {
+      internalWorked(work);
+    }
+
+    /**
+     * Reports the progress of the build tool.
+     */
+    synchronized void update() {
+      active = true;
+      double fraction = progress.getFraction();
+      if (totalWork > 0 && fraction >= 0) {
+        double work = fraction * totalWork - worked;
+        if (work > 0) {
+          worked += work;
+          super.internalWorked(work);
+        }
+      }
+      long now = System.currentTimeMillis();
+      if (now - lastUpdate >= UPDATE_INTERVAL || fraction >= 1.0) {
+        lastUpdate = now;
+        subTask(progress.getStatus(now));
+      }
+    }
+  }
+}
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Looks up tools on the executable search path of a build tool kit.
+ *
+ * @author Martin Weber
+ */
+class SearchPath {
+  /** the executable file name extensions to try, in addition to the plain name */
+  private static final String[] WINDOWS_EXTENSIONS = { ".exe", ".cmd", ".bat" };
+
+  private SearchPath() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Searches the directories of the specified executable search path for an executable file.
+   *
+   * @param name the name of the executable file, without a file name extension
+   * @param path a list of directories, separated by {@link File#pathSeparator}
+   * @return the executable file or {@code null} if none was found
+   */
+  static @Nullable Path findExecutable(String name, String path) {
+    final boolean isWindows = File.pathSeparatorChar == ';';
+    for (String dir : path.split(File.pathSeparator)) {
+      if (dir.isEmpty()) {
+        continue;
+      }
+      try {
+        Path file = Paths.get(dir, name);
+        if (Files.isRegularFile(file) && Files.isExecutable(file)) {
+          return file;
+        }
+        if (isWindows) {
+          for (String ext : WINDOWS_EXTENSIONS) {
+            file = Paths.get(dir, name + ext);
+            if (Files.isRegularFile(file)) {
+              return file;
+            }
+          }
+        }
+      } catch (InvalidPathException ignore) {
+        // garbage in PATH
+      }
+    }
+    return null;
+  }
+}
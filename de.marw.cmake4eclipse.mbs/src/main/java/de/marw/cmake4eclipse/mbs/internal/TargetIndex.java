@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The targets cmake generated build scripts for in a build directory, grouped by the source directory that defines
+ * them. The targets are read from the codemodel of the cmake file API, which cmake writes on each run if the query
+ * written by {@link #writeQuery(Path)} exists. Besides the names, the index knows the targets each target depends on
+ * and the files each target builds. The index of a build directory is cached until cmake runs again.
+ *
+ * @author Martin Weber
+ */
+public class TargetIndex {
+  /** the directory that holds the file API queries and replies, relative to the build directory */
+  private static final String API_DIR = ".cmake/api/v1";
+  /** cached indices, key: build directory */
+  private static final Map<Path, TargetIndex> cache = new ConcurrentHashMap<>();
+  private static final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+  private final Path indexFile;
+  /** key: source directory relative to the top-level source directory, value: target names, sorted */
+  private final SortedMap<String, List<String>> targetsByDirectory;
+  private final int size;
+  /** key: target name, value: the names of the targets that depend on the target directly */
+  private final Map<String, Set<String>> dependents;
+  /** key: the absolute, normalized path of a file a target builds, value: target name */
+  private final Map<Path, String> artifacts;
+  /** the absolute, normalized paths of the source directories */
+  private final Set<Path> sourceDirectories;
+
+  private TargetIndex(Path indexFile, SortedMap<String, List<String>> targetsByDirectory,
+      Map<String, Set<String>> dependents, Map<Path, String> artifacts, Set<Path> sourceDirectories) {
+    this.indexFile = indexFile;
+    this.targetsByDirectory = Collections.unmodifiableSortedMap(targetsByDirectory);
+    this.size = targetsByDirectory.values().stream().mapToInt(List::size).sum();
+    this.dependents = dependents;
+    this.artifacts = artifacts;
+    this.sourceDirectories = Collections.unmodifiableSet(sourceDirectories);
+  }
+
+  /**
+   * Asks cmake to write the codemodel to the specified build directory on its next run.
+   */
+  static void writeQuery(Path buildDir) throws IOException {
+    Path query = buildDir.resolve(API_DIR).resolve("query/codemodel-v2");
+    if (!Files.exists(query)) {
+      Files.createDirectories(query.getParent());
+      Files.createFile(query);
+    }
+  }
+
+  /**
+   * Gets the targets of the specified build directory.
+   *
+   * @param buildDir the absolute path of the build directory
+   * @return the targets or {@code null} if cmake did not write a codemodel
+   */
+  public static @Nullable TargetIndex get(Path buildDir) {
+    Path indexFile = findIndexFile(buildDir);
+    if (indexFile == null) {
+      cache.remove(buildDir);
+      return null;
+    }
+    TargetIndex index = cache.get(buildDir);
+    if (index == null || !index.indexFile.equals(indexFile)) {
+      // not read yet or cmake ran since
+      index = read(buildDir, buildDir.resolve(API_DIR).resolve("reply"), indexFile);
+      if (index == null) {
+        cache.remove(buildDir);
+      } else {
+        cache.put(buildDir, index);
+      }
+    }
+    return index;
+  }
+
+  /**
+   * Gets the most recent index file of the replies cmake wrote.
+   */
+  private static @Nullable Path findIndexFile(Path buildDir) {
+    Path replyDir = buildDir.resolve(API_DIR).resolve("reply");
+    if (!Files.isDirectory(replyDir)) {
+      return null;
+    }
+    // the file API specification mandates to pick the index file with the lexicographically largest name
+    Path newest = null;
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(replyDir, "index-*.json")) {
+      for (Path file : files) {
+        if (newest == null || file.getFileName().toString().compareTo(newest.getFileName().toString()) > 0) {
+          newest = file;
+        }
+      }
+    } catch (IOException ex) {
+      return null;
+    }
+    return newest;
+  }
+
+  /**
+   * Reads the codemodel referenced by the specified index file.
+   */
+  private static @Nullable TargetIndex read(Path buildDir, Path replyDir, Path indexFile) {
+    try {
+      String codemodelFile = null;
+      for (JsonElement object : parse(indexFile).getAsJsonArray("objects")) {
+        JsonObject obj = object.getAsJsonObject();
+        if ("codemodel".equals(obj.get("kind").getAsString())
+            && obj.getAsJsonObject("version").get("major").getAsInt() == 2) {
+          codemodelFile = obj.get("jsonFile").getAsString();
+        }
+      }
+      if (codemodelFile == null) {
+        return null;
+      }
+      SortedMap<String, Set<String>> targets = new TreeMap<>();
+      Map<String, Set<String>> dependents = new HashMap<>();
+      Map<Path, String> artifacts = new HashMap<>();
+      Set<Path> sourceDirectories = new HashSet<>();
+      JsonObject codemodel = parse(replyDir.resolve(codemodelFile));
+      // the source directories are relative to the top-level source directory unless outside of it
+      Path topSource = codemodel.has("paths") ? Paths.get(codemodel.getAsJsonObject("paths").get("source")
+          .getAsString()) : null;
+      // multi-config generators report the targets per configuration
+      for (JsonElement configuration : codemodel.getAsJsonArray("configurations")) {
+        JsonObject cfg = configuration.getAsJsonObject();
+        List<String> directories = new ArrayList<>();
+        for (JsonElement directory : cfg.getAsJsonArray("directories")) {
+          String source = directory.getAsJsonObject().get("source").getAsString();
+          directories.add(source);
+          if (topSource != null) {
+            sourceDirectories.add(topSource.resolve(source).normalize());
+          }
+        }
+        // key: target ID, value: target name
+        Map<String, String> names = new HashMap<>();
+        // key: target name, value: the target object file
+        Map<String, String> targetFiles = new HashMap<>();
+        for (JsonElement target : cfg.getAsJsonArray("targets")) {
+          JsonObject tgt = target.getAsJsonObject();
+          String name = tgt.get("name").getAsString();
+          String directory = directories.get(tgt.get("directoryIndex").getAsInt());
+          targets.computeIfAbsent(directory, d -> new TreeSet<>()).add(name);
+          if (tgt.has("id") && tgt.has("jsonFile")) {
+            names.put(tgt.get("id").getAsString(), name);
+            targetFiles.put(name, tgt.get("jsonFile").getAsString());
+          }
+        }
+        for (Map.Entry<String, String> entry : targetFiles.entrySet()) {
+          JsonObject tgt = parse(replyDir.resolve(entry.getValue()));
+          if (tgt.has("dependencies")) {
+            for (JsonElement dependency : tgt.getAsJsonArray("dependencies")) {
+              String name = names.get(dependency.getAsJsonObject().get("id").getAsString());
+              if (name != null) {
+                dependents.computeIfAbsent(name, n -> new HashSet<>()).add(entry.getKey());
+              }
+            }
+          }
+          if (tgt.has("artifacts")) {
+            for (JsonElement artifact : tgt.getAsJsonArray("artifacts")) {
+              // relative to the build directory unless outside of it
+              Path path = buildDir.resolve(artifact.getAsJsonObject().get("path").getAsString()).normalize();
+              artifacts.put(path, entry.getKey());
+            }
+          }
+        }
+      }
+      SortedMap<String, List<String>> targetsByDirectory = new TreeMap<>();
+      targets.forEach((directory, names) -> targetsByDirectory.put(directory, List.copyOf(names)));
+      return new TargetIndex(indexFile, targetsByDirectory, dependents, artifacts, sourceDirectories);
+    } catch (IOException | JsonParseException | IllegalStateException | NullPointerException
+        | IndexOutOfBoundsException | ClassCastException | InvalidPathException ex) {
+      // cmake is writing the replies or wrote an unexpected format
+      return null;
+    }
+  }
+
+  private static JsonObject parse(Path file) throws IOException {
+    try (Reader reader = Files.newBufferedReader(file)) {
+      return JsonParser.parseReader(reader).getAsJsonObject();
+    }
+  }
+
+  /**
+   * Notifies the listeners that cmake ran in the specified build directory.
+   */
+  static void configured(Path buildDir) {
+    cache.remove(buildDir);
+    for (Runnable listener : listeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Adds a listener that is run each time cmake ran. The listener is run in the thread of the build.
+   */
+  public static void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes the specified listener.
+   */
+  public static void removeListener(Runnable listener) {
+    listeners.remove(listener);
+  }
+
+  /**
+   * Gets the target names, grouped by the source directory that defines the targets. The source directories are
+   * relative to the top-level source directory, the top-level source directory itself is {@code "."}.
+   */
+  public SortedMap<String, List<String>> getTargetsByDirectory() {
+    return targetsByDirectory;
+  }
+
+  /**
+   * Gets the source directories of the targets, including directories outside of the top-level source directory that
+   * were added with {@code add_subdirectory()}.
+   *
+   * @return the absolute paths of the directories. Empty if cmake did not report the top-level source directory
+   */
+  public Set<Path> getSourceDirectories() {
+    return sourceDirectories;
+  }
+
+  /**
+   * Gets the number of targets.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the specified targets and all targets that depend on them, directly or indirectly.
+   *
+   * @param names the names of the targets
+   */
+  public Set<String> getDependents(Collection<String> names) {
+    Set<String> result = new HashSet<>(names);
+    Deque<String> todo = new ArrayDeque<>(names);
+    while (!todo.isEmpty()) {
+      for (String dependent : dependents.getOrDefault(todo.pop(), Set.of())) {
+        if (result.add(dependent)) {
+          todo.push(dependent);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets the target that builds the specified file.
+   *
+   * @param artifact the absolute path of the file, for example an executable
+   * @return the name of the target or {@code null} if no target builds the file
+   */
+  public @Nullable String getTarget(Path artifact) {
+    return artifacts.get(artifact.normalize());
+  }
+}
@@ -0,0 +1,256 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Determines the tests that are affected by changed files. A test is affected if it runs a file built by a target
+ * that has to be rebuilt because of the changes, or a target that depends on such a target. The tests and their
+ * commands are read from the output of {@code ctest --show-only=json-v1}, the targets and their dependencies from the
+ * codemodel of the cmake file API.<br>
+ * The changed files are determined from the file system rather than from the workspace, which does not know files
+ * changed outside of Eclipse before they are refreshed.
+ *
+ * @author Martin Weber
+ */
+class TestImpact {
+  private TestImpact() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Reads the tests from the output of {@code ctest --show-only=json-v1}.
+   *
+   * @return the tests or {@code null} if the output could not be parsed
+   */
+  static @Nullable List<TestInfo> readTests(String json) {
+    try {
+      List<TestInfo> tests = new ArrayList<>();
+      JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+      for (JsonElement test : root.getAsJsonArray("tests")) {
+        JsonObject tst = test.getAsJsonObject();
+        List<String> command = new ArrayList<>();
+        if (tst.has("command")) {
+          for (JsonElement arg : tst.getAsJsonArray("command")) {
+            command.add(arg.getAsString());
+          }
+        }
+        List<String> labels = new ArrayList<>();
+        if (tst.has("properties")) {
+          for (JsonElement property : tst.getAsJsonArray("properties")) {
+            JsonObject prop = property.getAsJsonObject();
+            if ("LABELS".equals(prop.get("name").getAsString())) {
+              for (JsonElement label : prop.getAsJsonArray("value")) {
+                labels.add(label.getAsString());
+              }
+            }
+          }
+        }
+        tests.add(new TestInfo(tst.get("name").getAsString(), command, labels));
+      }
+      return tests;
+    } catch (JsonParseException | IllegalStateException | NullPointerException | ClassCastException ex) {
+      // not a JSON object or ctest is too old
+      return null;
+    }
+  }
+
+  /**
+   * Selects the tests affected by changes to the specified targets.<br>
+   * A test is selected if an element of its command is a file built by one of the changed targets or by a target
+   * that depends on them. To be on the safe side, a test is also selected if no element of its command is a file
+   * built by any target, for example if it runs a script.
+   *
+   * @param tests   the tests to select from
+   * @param index   the targets of the build directory
+   * @param changed the names of the targets that need to be rebuilt because of the changes
+   * @return the selected tests
+   */
+  static List<TestInfo> select(List<TestInfo> tests, TargetIndex index, Collection<String> changed) {
+    Set<String> affected = index.getDependents(changed);
+    List<TestInfo> selected = new ArrayList<>();
+    for (TestInfo test : tests) {
+      boolean runsTarget = false;
+      boolean runsAffected = false;
+      for (String arg : test.getCommand()) {
+        String target = getTarget(index, arg);
+        if (target != null) {
+          runsTarget = true;
+          runsAffected |= affected.contains(target);
+        }
+      }
+      if (runsAffected || !runsTarget) {
+        selected.add(test);
+      }
+    }
+    return selected;
+  }
+
+  private static @Nullable String getTarget(TargetIndex index, String arg) {
+    try {
+      Path path = Paths.get(arg);
+      return path.isAbsolute() ? index.getTarget(path) : null;
+    } catch (InvalidPathException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Lists the files below the specified directories. Hidden directories, such as version control metadata, are
+   * skipped. Directories below another of the directories are listed once.
+   *
+   * @param roots the absolute paths of the directories to list
+   * @param skip  tells whether to skip a file or directory, for example a build directory
+   * @return the modification time in milliseconds by absolute, normalized path
+   */
+  static Map<Path, Long> listFiles(Collection<Path> roots, Predicate<Path> skip) throws IOException {
+    Map<Path, Long> files = new HashMap<>();
+    List<Path> dirs = new ArrayList<>();
+    roots.stream().map(Path::normalize).sorted().forEach(root -> {
+      if (dirs.stream().noneMatch(root::startsWith)) {
+        dirs.add(root);
+      }
+    });
+    for (Path root : dirs) {
+      if (!Files.isDirectory(root)) {
+        continue;
+      }
+      Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+          if (!dir.equals(root) && (dir.getFileName().toString().startsWith(".") || skip.test(dir))) {
+            return FileVisitResult.SKIP_SUBTREE;
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+          if (!attrs.isDirectory() && !skip.test(file)) {
+            files.put(file, attrs.lastModifiedTime().toMillis());
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException ex) {
+          // deleted meanwhile or not readable
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+    return files;
+  }
+
+  /**
+   * Gets the files that were modified after the specified time, added or removed since. Files that were renamed are
+   * reported with their old and their new name.
+   *
+   * @param since      the time of the last passing test run in milliseconds
+   * @param greenFiles the files at the time of the last passing test run
+   * @param files      the modification times of the files by path
+   * @return the changed files
+   */
+  static List<Path> getChangedFiles(long since, Set<Path> greenFiles, Map<Path, Long> files) {
+    List<Path> changed = new ArrayList<>();
+    for (Map.Entry<Path, Long> file : files.entrySet()) {
+      if (file.getValue() > since || !greenFiles.contains(file.getKey())) {
+        changed.add(file.getKey());
+      }
+    }
+    for (Path file : greenFiles) {
+      if (!files.containsKey(file)) {
+        // removed: the targets are unknown, so a removed file makes all tests run
+        changed.add(file);
+      }
+    }
+    return changed;
+  }
+
+  /**
+   * Gets a regular expression for the {@code -R} option of ctest that matches exactly the specified test names.
+   */
+  static String toRegex(Collection<String> names) {
+    StringBuilder regex = new StringBuilder("^(");
+    for (String name : names) {
+      if (regex.length() > 2) {
+        regex.append('|');
+      }
+      for (char ch : name.toCharArray()) {
+        if ("\\^$.|?*+()[]".indexOf(ch) >= 0) {
+          regex.append('\\');
+        }
+        regex.append(ch);
+      }
+    }
+    return regex.append(")$").toString();
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * A test as reported by ctest.
+   *
+   * @author Martin Weber
+   */
+  static class TestInfo {
+    private final String name;
+    private final List<String> command;
+    private final List<String> labels;
+
+    TestInfo(String name, List<String> command, List<String> labels) {
+      this.name = name;
+      this.command = command;
+      this.labels = labels;
+    }
+
+    /**
+     * Gets the name of the test.
+     */
+    String getName() {
+      return name;
+    }
+
+    /**
+     * Gets the command that runs the test, the executable first. Empty if the test is not available in the build
+     * configuration.
+     */
+    List<String> getCommand() {
+      return command;
+    }
+
+    /**
+     * Gets the labels of the test.
+     */
+    List<String> getLabels() {
+      return labels;
+    }
+  }
+}
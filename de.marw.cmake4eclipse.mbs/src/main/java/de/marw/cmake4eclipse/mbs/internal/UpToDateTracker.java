@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.cdt.core.model.CoreModel;
+import org.eclipse.cdt.core.settings.model.ICConfigurationDescription;
+import org.eclipse.cdt.core.settings.model.ICProjectDescription;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+
+import de.marw.cmake4eclipse.mbs.internal.buildstats.NinjaDeps;
+import de.marw.cmake4eclipse.mbs.preferences.PreferenceAccess;
+import de.marw.cmake4eclipse.mbs.settings.ConfigurationManager;
+import de.marw.cmake4eclipse.mbs.settings.ProjectPropsModifiedDateUtil;
+
+/**
+ * Tells whether a build has nothing to do, so that it can skip running cmake and the build-script processor. Only
+ * used if enabled in the project settings.<br>
+ * The generation of a project is incremented whenever a file of the project changes, except for derived files and
+ * files in the build directories. After a successful build, the generation at the start of the build is recorded
+ * along with the target built and the start time. A later build of the same target is up to date if neither the
+ * generation of the project or of a project it references nor the project properties changed since.<br>
+ * Resource deltas miss files that were not refreshed and files outside of the workspace, so a build is up to date only
+ * if, in addition, no source file or header listed in ninja's deps log was modified since the start of the last
+ * build. Changes to the toolchain or the environment are not detected.
+ *
+ * @author Martin Weber
+ */
+class UpToDateTracker implements IResourceChangeListener {
+  private static final UpToDateTracker instance = new UpToDateTracker();
+  private static final IPath CMAKE_CACHE = new Path("CMakeCache.txt");
+  /** written by the language settings providers after a build */
+  private static final IPath LANGUAGE_SETTINGS = new Path(".settings/language.settings.xml");
+
+  /** the generation per project */
+  private final Map<IProject, Long> generations = new HashMap<>();
+  /** the most recent successful build per project and configuration ID */
+  private final Map<IProject, Map<String, BuildRecord>> builds = new HashMap<>();
+
+  private UpToDateTracker() {
+  }
+
+  /**
+   * Gets the workspace wide tracker.
+   */
+  static UpToDateTracker getInstance() {
+    return instance;
+  }
+
+  @Override
+  public void resourceChanged(IResourceChangeEvent evt) {
+    if (evt.getType() != IResourceChangeEvent.POST_CHANGE) {
+      return;
+    }
+    for (IResourceDelta projectDelta : evt.getDelta().getAffectedChildren()) {
+      IProject project = (IProject) projectDelta.getResource();
+      if (!project.isOpen()) {
+        forget(project);
+        continue;
+      }
+      if (hasChanges(project, projectDelta)) {
+        synchronized (this) {
+          generations.merge(project, 1L, Long::sum);
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets whether the specified delta holds a change that might require a build.
+   */
+  private static boolean hasChanges(IProject project, IResourceDelta projectDelta) {
+    // the build directories of all configurations
+    Set<IPath> buildDirs = new HashSet<>();
+    ICProjectDescription projectDescription = CoreModel.getDefault().getProjectDescription(project, false);
+    if (projectDescription != null) {
+      for (ICConfigurationDescription cfgd : projectDescription.getConfigurations()) {
+        IPath buildDir = cfgd.getBuildSetting().getBuilderCWD();
+        // an in-source build cannot tell build output from source changes
+        if (!buildDir.equals(project.getFullPath())) {
+          buildDirs.add(buildDir);
+        }
+      }
+    }
+    boolean[] changed = { false };
+    try {
+      projectDelta.accept(delta -> {
+        if (changed[0]) {
+          return false;
+        }
+        IResource resource = delta.getResource();
+        if (buildDirs.contains(resource.getFullPath())) {
+          // the build output changes with each build, but the next build has to run cmake if the build directory or
+          // the cache was deleted
+          IResourceDelta cache = delta.findMember(CMAKE_CACHE);
+          changed[0] = delta.getKind() == IResourceDelta.REMOVED
+              || cache != null && cache.getKind() == IResourceDelta.REMOVED;
+          return false;
+        }
+        if (resource.isDerived() || resource.getProjectRelativePath().equals(LANGUAGE_SETTINGS)
+            || resource.getName().equals(FastClean.TRASH_DIR)) {
+          return false;
+        }
+        if (resource.getType() == IResource.FILE
+            && (delta.getKind() != IResourceDelta.CHANGED || (delta.getFlags() & ~IResourceDelta.MARKERS) != 0)) {
+          changed[0] = true;
+          return false;
+        }
+        return true;
+      });
+    } catch (CoreException ex) {
+      return true;
+    }
+    return changed[0];
+  }
+
+  private synchronized void forget(IProject project) {
+    generations.remove(project);
+    builds.remove(project);
+  }
+
+  /**
+   * Gets the generation of the specified project, to be recorded if the build that starts now succeeds. The generation
+   * includes the generations of the projects the project references, directly or indirectly.
+   */
+  synchronized long getGeneration(IProject project) {
+    long generation = 0;
+    for (IProject prj : getReferencedProjects(project)) {
+      // generations never decrease, so the sum changes if one of them changes
+      generation += generations.getOrDefault(prj, 0L);
+    }
+    return generation;
+  }
+
+  /**
+   * Gets the specified project and the projects it references, directly or indirectly.
+   */
+  static Set<IProject> getReferencedProjects(IProject project) {
+    Set<IProject> projects = new LinkedHashSet<>();
+    Deque<IProject> pending = new ArrayDeque<>(List.of(project));
+    while (!pending.isEmpty()) {
+      IProject next = pending.pop();
+      if (projects.add(next)) {
+        try {
+          pending.addAll(Arrays.asList(next.getReferencedProjects()));
+        } catch (CoreException ex) {
+          // closed or deleted, its changes are counted when it is opened again
+        }
+      }
+    }
+    return projects;
+  }
+
+  /**
+   * Gets whether a build of the specified target has nothing to do.
+   *
+   * @param target the target to build as passed to the build-script processor
+   */
+  boolean isUpToDate(IProject project, ICConfigurationDescription cfgd, String target) {
+    if (PreferenceAccess.getPreferences().getBoolean(PreferenceAccess.CMAKE_FORCE_RUN, false)) {
+      return false;
+    }
+    try {
+      if (!ConfigurationManager.getInstance().getOrLoad(cfgd).isSkipUpToDate()) {
+        return false;
+      }
+    } catch (CoreException ex) {
+      return false;
+    }
+    BuildRecord build;
+    synchronized (this) {
+      Map<String, BuildRecord> cfgBuilds = builds.get(project);
+      build = cfgBuilds == null ? null : cfgBuilds.get(cfgd.getId());
+      if (build == null || build.generation != getGeneration(project) || !Objects.equals(build.target, target)
+          || build.propertiesModified != getPropertiesModified(project)) {
+        return false;
+      }
+    }
+    // confirm with the files the compiler read, deltas miss files that were not refreshed or are outside the workspace
+    IPath buildDir = ResourcesPlugin.getWorkspace().getRoot().getFolder(cfgd.getBuildSetting().getBuilderCWD())
+        .getLocation();
+    if (buildDir == null) {
+      return false;
+    }
+    try {
+      return !NinjaDeps.read(buildDir.append(NinjaDeps.FILE_NAME).toPath()).isInputModifiedSince(build.started);
+    } catch (IOException ex) {
+      // not built with ninja or not built yet
+      return false;
+    }
+  }
+
+  /**
+   * Records a successful build.
+   *
+   * @param target     the target built
+   * @param generation the generation of the project at the start of the build
+   * @param started    the start time of the build in milliseconds
+   */
+  synchronized void recordBuild(IProject project, ICConfigurationDescription cfgd, String target, long generation,
+      long started) {
+    builds.computeIfAbsent(project, p -> new HashMap<>()).put(cfgd.getId(),
+        new BuildRecord(target, generation, started, getPropertiesModified(project)));
+  }
+
+  /**
+   * Forgets the most recent build of the specified configuration, so that the next build runs.
+   */
+  synchronized void invalidate(IProject project, ICConfigurationDescription cfgd) {
+    Map<String, BuildRecord> cfgBuilds = builds.get(project);
+    if (cfgBuilds != null) {
+      cfgBuilds.remove(cfgd.getId());
+    }
+  }
+
+  /**
+   * Gets the time stamp of the most recent change to the workspace preferences or project properties that requires
+   * cmake to run.
+   */
+  private static long getPropertiesModified(IProject project) {
+    return Math.max(PreferenceAccess.getPreferences().getLong(PreferenceAccess.DIRTY_TS, 0L),
+        ProjectPropsModifiedDateUtil.getLastModified(project));
+  }
+
+  // ////////////////////////////////////////////////////////////////////////////////
+  /**
+   * A successful build.
+   *
+   * @author Martin Weber
+   */
+  private static class BuildRecord {
+    private final String target;
+    private final long generation;
+    private final long started;
+    private final long propertiesModified;
+
+    BuildRecord(String target, long generation, long started, long propertiesModified) {
+      this.target = target;
+      this.generation = generation;
+      this.started = started;
+      this.propertiesModified = propertiesModified;
+    }
+  }
+}
@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.internal.Activator;
+
+/**
+ * Persists each run of cmake and each build of a project together with the number of parallel jobs, the compiler
+ * cache hits and whether it succeeded, so that trends and performance regressions can be spotted. The records are
+ * stored below the plug-in state area in a file with the name of the project, one JSON object per line.<br>
+ * Each successful cmake run and each successful build that compiled all sources is compared to the median duration
+ * of the previous comparable runs, its baseline. Incremental builds vary too much to be compared.
+ *
+ * @author Martin Weber
+ */
+public class BuildTelemetry {
+  /** the kind of a cmake run */
+  public static final String CONFIGURE = "configure";
+  /** the kind of a build */
+  public static final String BUILD = "build";
+  /** the number of records that triggers truncation of the telemetry file */
+  private static final int MAX_RECORDS = 2000;
+  /** the number of previous runs the baseline is computed from */
+  static final int BASELINE_RUNS = 10;
+  /** the number of previous runs required to compute a baseline */
+  static final int MIN_BASELINE_RUNS = 3;
+
+  private static final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+  private final HistoryFile<Record> file;
+
+  /**
+   * @param file the file to persist the records to
+   */
+  public BuildTelemetry(Path file) {
+    this.file = new HistoryFile<>(file, Record.class,
+        rec -> rec.kind != null && rec.config != null && rec.target != null, MAX_RECORDS);
+  }
+
+  /**
+   * Gets the telemetry of the specified project.
+   */
+  public static BuildTelemetry forProject(String projectName) {
+    return new BuildTelemetry(getTelemetryFile(projectName));
+  }
+
+  /**
+   * Gets the location of the telemetry file in the local file system.
+   *
+   * @param projectName the name of the project
+   */
+  public static Path getTelemetryFile(String projectName) {
+    return Activator.getDefault().getStateLocation().append(projectName).addFileExtension("telemetry").toPath();
+  }
+
+  /**
+   * Creates a record.
+   *
+   * @param kind       {@link #CONFIGURE} or {@link #BUILD}
+   * @param configName the name of the build configuration
+   * @param target     the targets built, separated by spaces, empty for the default target or a cmake run
+   * @param full       whether the build compiled all sources
+   * @param duration   the duration in milliseconds
+   * @param jobs       the number of parallel jobs, zero for a cmake run
+   * @param cache      the compiler cache hits and misses during the build or {@code null} if unknown
+   * @param success    whether the run succeeded
+   */
+  public static Record record(String kind, String configName, String target, boolean full, long duration, int jobs,
+      @Nullable CompilerCacheStats cache, boolean success) {
+    Record rec = new Record();
+    rec.time = System.currentTimeMillis();
+    rec.kind = kind;
+    rec.config = configName;
+    rec.target = target;
+    rec.full = full;
+    rec.duration = duration;
+    rec.jobs = jobs;
+    if (cache != null) {
+      rec.cacheHits = cache.getHits();
+      rec.cacheMisses = cache.getMisses();
+    }
+    rec.success = success;
+    return rec;
+  }
+
+  /**
+   * Computes the baseline of the specified record, appends the record to the telemetry and notifies the listeners.
+   *
+   * @param threshold the percentage by which a run has to exceed its baseline to be flagged as a regression, zero to
+   *                  flag no run
+   * @throws IOException if the telemetry file could not be written
+   */
+  public void append(Record rec, int threshold) throws IOException {
+    file.append(rec, records -> {
+      rec.baseline = getBaseline(rec, records);
+      rec.regression = threshold > 0 && rec.baseline > 0 && rec.duration * 100 > rec.baseline * (100L + threshold);
+    });
+    for (Runnable listener : listeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Gets the baseline of the specified record: The median duration of the most recent successful comparable runs.
+   *
+   * @param records the previous records, the oldest first
+   * @return the baseline in milliseconds or {@code 0} if the run cannot be compared or too few comparable runs exist
+   */
+  static long getBaseline(Record rec, List<Record> records) {
+    if (!rec.success || !(rec.kind.equals(CONFIGURE) || rec.full)) {
+      return 0;
+    }
+    List<Long> durations = new ArrayList<>();
+    for (int i = records.size() - 1; i >= 0 && durations.size() < BASELINE_RUNS; i--) {
+      Record prev = records.get(i);
+      if (prev.success && prev.full == rec.full && prev.kind.equals(rec.kind) && prev.config.equals(rec.config)
+          && prev.target.equals(rec.target)) {
+        durations.add(prev.duration);
+      }
+    }
+    if (durations.size() < MIN_BASELINE_RUNS) {
+      return 0;
+    }
+    durations.sort(null);
+    int middle = durations.size() / 2;
+    return durations.size() % 2 == 1 ? durations.get(middle)
+        : (durations.get(middle - 1) + durations.get(middle)) / 2;
+  }
+
+  /**
+   * Formats a message that tells how the specified run compares to its baseline.
+   *
+   * @return the message or {@code null} if the run has no baseline
+   */
+  public static @Nullable String formatComparison(Record rec) {
+    if (rec.baseline <= 0) {
+      return null;
+    }
+    return String.format(Locale.ROOT,
+        "  %s%s took %.1f s, %+.0f%% compared to the median of the previous runs (%.1f s)\n",
+        rec.regression ? "Performance regression: " : "", rec.kind.equals(CONFIGURE) ? "CMake" : "Full build",
+        rec.duration / 1000.0, rec.getChange(), rec.baseline / 1000.0);
+  }
+
+  /**
+   * Gets all records, the oldest first.
+   */
+  public List<Record> getRecords() {
+    return file.read();
+  }
+
+  /**
+   * Adds a listener that is run each time a record is appended. The listener is run in the thread of the build.
+   */
+  public static void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes the specified listener.
+   */
+  public static void removeListener(Runnable listener) {
+    listeners.remove(listener);
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A single cmake run or build.
+   */
+  public static class Record {
+    /** the time the record was created, in milliseconds since the epoch */
+    long time;
+    String kind = BUILD;
+    String config = "";
+    String target = "";
+    boolean full;
+    /** the duration in milliseconds */
+    long duration;
+    int jobs;
+    long cacheHits = -1;
+    long cacheMisses = -1;
+    boolean success;
+    /** the baseline in milliseconds or zero if the run has no baseline */
+    long baseline;
+    boolean regression;
+
+    /** Gets the time the record was created, in milliseconds since the epoch */
+    public long getTime() {
+      return time;
+    }
+
+    /** Gets {@link BuildTelemetry#CONFIGURE} or {@link BuildTelemetry#BUILD} */
+    public String getKind() {
+      return kind;
+    }
+
+    /** Gets the name of the build configuration */
+    public String getConfig() {
+      return config;
+    }
+
+    /** Gets the targets built, separated by spaces, empty for the default target or a cmake run */
+    public String getTarget() {
+      return target;
+    }
+
+    /** Gets whether the build compiled all sources */
+    public boolean isFull() {
+      return full;
+    }
+
+    /** Gets the duration in milliseconds */
+    public long getDuration() {
+      return duration;
+    }
+
+    /** Gets the number of parallel jobs, zero for a cmake run */
+    public int getJobs() {
+      return jobs;
+    }
+
+    /** Gets the hit rate of the compiler cache in percent or a negative value if unknown */
+    public double getCacheHitRate() {
+      return cacheHits < 0 || cacheHits + cacheMisses == 0 ? -1 : 100.0 * cacheHits / (cacheHits + cacheMisses);
+    }
+
+    /** Gets whether the run succeeded */
+    public boolean isSuccess() {
+      return success;
+    }
+
+    /** Gets the baseline in milliseconds or zero if the run has no baseline */
+    public long getBaseline() {
+      return baseline;
+    }
+
+    /** Gets the change of the duration compared to the baseline in percent, zero if the run has no baseline */
+    public double getChange() {
+      return baseline <= 0 ? 0 : 100.0 * (duration - baseline) / baseline;
+    }
+
+    /** Gets whether the run exceeded its baseline by more than the threshold */
+    public boolean isRegression() {
+      return regression;
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import de.marw.cmake4eclipse.mbs.internal.Activator;
+import de.marw.cmake4eclipse.mbs.settings.CMakeSettings;
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
+import de.marw.cmake4eclipse.mbs.settings.LinkerType;
+
+/**
+ * Persists the duration of each build of a project that compiled all sources, together with the build acceleration
+ * settings in effect, so that the fastest settings can be determined. The history is stored below the plug-in state
+ * area in a file with the name of the project, one JSON object per line.
+ *
+ * @author Martin Weber
+ */
+public class BuildTimeHistory {
+  /** the number of records that triggers truncation of the history file */
+  private static final int MAX_RECORDS = 200;
+
+  private final HistoryFile<Record> file;
+
+  /**
+   * @param file the file to persist the history to
+   */
+  public BuildTimeHistory(Path file) {
+    this.file = new HistoryFile<>(file, Record.class, rec -> rec.config != null && rec.profile != null, MAX_RECORDS);
+  }
+
+  /**
+   * Gets the history of the specified project.
+   */
+  public static BuildTimeHistory forProject(String projectName) {
+    return new BuildTimeHistory(getHistoryFile(projectName));
+  }
+
+  /**
+   * Gets the location of the history file in the local file system.
+   *
+   * @param projectName the name of the project
+   */
+  public static Path getHistoryFile(String projectName) {
+    return Activator.getDefault().getStateLocation().append(projectName).addFileExtension("build-times").toPath();
+  }
+
+  /**
+   * Describes the build acceleration settings of the specified project settings in a human readable form.
+   */
+  public static String describeProfile(CMakeSettings settings) {
+    List<String> parts = new ArrayList<>();
+    if (settings.isUnityBuild()) {
+      Integer batchSize = settings.getUnityBuildBatchSize();
+      parts.add(batchSize == null ? "unity build" : "unity build, batch size " + batchSize);
+    }
+    if (settings.isDisablePrecompileHeaders()) {
+      parts.add("no precompiled headers");
+    } else if (settings.isPchInstantiateTemplates()) {
+      parts.add("templates instantiated in precompiled headers");
+    }
+    LinkerType linker = settings.getLinker();
+    if (linker != null) {
+      parts.add(linker.getFuseLdName() + (settings.isGdbIndex() ? " linker with gdb index" : " linker"));
+    }
+    if (settings.isSplitDwarf()) {
+      parts.add("split DWARF");
+    }
+    if (settings.isThinArchives()) {
+      parts.add("thin archives");
+    }
+    if (settings.getCompileJobPoolSize() != null) {
+      parts.add("compile job pool of " + settings.getCompileJobPoolSize());
+    }
+    if (settings.isLinkJobPool()) {
+      Integer linkJobs = settings.getLinkJobPoolSize();
+      parts.add(linkJobs == null ? "link job pool" : "link job pool of " + linkJobs);
+    }
+    CompilerCacheType compilerCache = settings.getCompilerCache();
+    if (compilerCache != null) {
+      parts.add(compilerCache.getExecutableName());
+    }
+    DistributedCompilerType distributedCompiler = settings.getDistributedCompiler();
+    if (distributedCompiler != null) {
+      parts.add(distributedCompiler.getExecutableName());
+    }
+    if (settings.getFastBuildCache() != null) {
+      parts.add("FASTBuild cache");
+    }
+    if (settings.isFastBuildDist()) {
+      parts.add("FASTBuild workers");
+    }
+    if (settings.isTimeTrace()) {
+      // tracing adds a little to each compilation
+      parts.add("time trace");
+    }
+    return parts.isEmpty() ? "default" : String.join(", ", parts);
+  }
+
+  /**
+   * Creates a record.
+   *
+   * @param configName the name of the build configuration that was built
+   * @param profile    the description of the build acceleration settings in effect
+   * @param duration   the duration of the build in milliseconds
+   */
+  public static Record record(String configName, String profile, long duration) {
+    Record rec = new Record();
+    rec.time = System.currentTimeMillis();
+    rec.config = configName;
+    rec.profile = profile;
+    rec.duration = duration;
+    return rec;
+  }
+
+  /**
+   * Gets the fastest build of the specified build configuration for each build acceleration profile.
+   *
+   * @param configName the name of the build configuration
+   * @return the records, keyed by profile, fastest first
+   */
+  public Map<String, Record> getFastestPerProfile(String configName) {
+    Map<String, Record> fastest = new LinkedHashMap<>();
+    for (Record rec : file.read()) {
+      if (configName.equals(rec.config)) {
+        fastest.merge(rec.profile, rec, (r1, r2) -> r2.duration < r1.duration ? r2 : r1);
+      }
+    }
+    Map<String, Record> result = new LinkedHashMap<>();
+    fastest.values().stream().sorted(Comparator.comparingLong(Record::getDuration))
+        .forEach(r -> result.put(r.profile, r));
+    return result;
+  }
+
+  /**
+   * Appends the specified record to the history.
+   *
+   * @throws IOException if the history file could not be written
+   */
+  public void append(Record rec) throws IOException {
+    file.append(rec);
+  }
+
+  /**
+   * Formats a report that compares the specified build to the fastest build of each build acceleration profile.
+   *
+   * @param current the record of the build that just finished
+   * @param fastest the fastest build per profile, fastest first, as returned by {@link #getFastestPerProfile}
+   */
+  public static String formatReport(Record current, Map<String, Record> fastest) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format(Locale.ROOT, "  Full build took %s (%s)\n", formatDuration(current.duration),
+        current.profile));
+    if (fastest.size() > 1) {
+      sb.append("  Fastest full build per build acceleration profile:\n");
+      for (Record rec : fastest.values()) {
+        sb.append(String.format(Locale.ROOT, "    %10s  %s%s\n", formatDuration(rec.duration), rec.profile,
+            rec.profile.equals(current.profile) ? "  (current)" : ""));
+      }
+    }
+    return sb.toString();
+  }
+
+  private static String formatDuration(long millis) {
+    return String.format(Locale.ROOT, "%.1f s", millis / 1000.0);
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The duration of a single build.
+   */
+  public static class Record {
+    /** the time the record was created, in milliseconds since the epoch */
+    long time;
+    String config = "";
+    String profile = "";
+    /** the duration of the build in milliseconds */
+    long duration;
+
+    /** Gets the time the record was created, in milliseconds since the epoch */
+    public long getTime() {
+      return time;
+    }
+
+    /** Gets the description of the build acceleration settings in effect */
+    public String getProfile() {
+      return profile;
+    }
+
+    /** Gets the duration of the build in milliseconds */
+    public long getDuration() {
+      return duration;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+/**
+ * Keeps the analysis of the ninja log of the most recent build of each project and build configuration for the current
+ * session.
+ *
+ * @author Martin Weber
+ */
+public class BuildTimings extends PerConfigurationRegistry<BuildTimings.Entry> {
+  private static final BuildTimings instance = new BuildTimings();
+
+  private BuildTimings() {
+  }
+
+  /**
+   * Gets the singleton instance.
+   */
+  public static BuildTimings getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records the analysis of a build and notifies the listeners.
+   *
+   * @param projectName the name of the project that was built
+   * @param configName  the name of the build configuration that was built
+   * @param buildDir    the absolute path of the build directory
+   * @param analysis    the analysis of the jobs ninja ran
+   * @param slots       the maximum number of parallel jobs of the build
+   */
+  public void record(String projectName, String configName, String buildDir, NinjaBuildAnalysis analysis,
+      int slots) {
+    record(new Entry(projectName, configName, buildDir, analysis, slots));
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The analysis of a build.
+   *
+   * @author Martin Weber
+   */
+  public static class Entry extends PerConfigurationRegistry.Entry {
+    private final String buildDir;
+    private final NinjaBuildAnalysis analysis;
+    private final int slots;
+
+    private Entry(String projectName, String configName, String buildDir, NinjaBuildAnalysis analysis, int slots) {
+      super(projectName, configName);
+      this.buildDir = buildDir;
+      this.analysis = analysis;
+      this.slots = slots;
+    }
+
+    /**
+     * Gets the absolute path of the build directory, which holds the ninja logs.
+     */
+    public String getBuildDirectory() {
+      return buildDir;
+    }
+
+    public NinjaBuildAnalysis getAnalysis() {
+      return analysis;
+    }
+
+    /**
+     * Gets the maximum number of parallel jobs of the build.
+     */
+    public int getSlots() {
+      return slots;
+    }
+  }
+}
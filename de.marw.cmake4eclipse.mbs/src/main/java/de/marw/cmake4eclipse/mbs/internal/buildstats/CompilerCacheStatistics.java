@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+/**
+ * Keeps the compiler cache statistics of the most recent build of each project and build configuration for the
+ * current session.
+ *
+ * @author Martin Weber
+ */
+public class CompilerCacheStatistics extends PerConfigurationRegistry<CompilerCacheStatistics.Entry> {
+  private static final CompilerCacheStatistics instance = new CompilerCacheStatistics();
+
+  private CompilerCacheStatistics() {
+  }
+
+  /**
+   * Gets the singleton instance.
+   */
+  public static CompilerCacheStatistics getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records the statistics of a build and notifies the listeners.
+   *
+   * @param projectName the name of the project that was built
+   * @param configName  the name of the build configuration that was built
+   * @param tool        the name of the compiler cache
+   * @param stats       the hits and misses during the build
+   */
+  public void record(String projectName, String configName, String tool, CompilerCacheStats stats) {
+    record(new Entry(projectName, configName, tool, stats));
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The statistics of a build.
+   *
+   * @author Martin Weber
+   */
+  public static class Entry extends PerConfigurationRegistry.Entry {
+    private final String tool;
+    private final CompilerCacheStats stats;
+
+    private Entry(String projectName, String configName, String tool, CompilerCacheStats stats) {
+      super(projectName, configName);
+      this.tool = tool;
+      this.stats = stats;
+    }
+
+    /**
+     * Gets the name of the compiler cache.
+     */
+    public String getTool() {
+      return tool;
+    }
+
+    public CompilerCacheStats getStats() {
+      return stats;
+    }
+  }
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+
+/**
+ * The number of cache hits and misses of a compiler cache, as reported by its statistics command or in the summary
+ * of a FASTBuild build.
+ *
+ * @author Martin Weber
+ */
+public class CompilerCacheStats {
+  /** a line of the cache statistics in the summary of FASTBuild */
+  private static final Pattern FASTBUILD_STAT = Pattern.compile("^\\W*(Hits|Misses)\\s*:\\s*(\\d+)",
+      Pattern.MULTILINE);
+
+  private final long hits;
+  private final long misses;
+
+  /**
+   * @param hits   the number of compilations served from the cache
+   * @param misses the number of compilations that ran the compiler
+   */
+  public CompilerCacheStats(long hits, long misses) {
+    this.hits = hits;
+    this.misses = misses;
+  }
+
+  /**
+   * Gets the command-line arguments that make the specified compiler cache print its statistics in the format
+   * understood by {@link #parse}.
+   */
+  public static String[] getStatsArguments(CompilerCacheType type) {
+    switch (type) {
+    case SCCACHE:
+      return new String[] { "--show-stats", "--stats-format=json" };
+    default:
+      return new String[] { "--print-stats" };
+    }
+  }
+
+  /**
+   * Parses the output of the statistics command of the specified compiler cache.
+   *
+   * @param type   the compiler cache
+   * @param output the output of the command with the arguments from {@link #getStatsArguments}
+   * @return the statistics or {@code null} if the output could not be parsed
+   */
+  public static @Nullable CompilerCacheStats parse(CompilerCacheType type, String output) {
+    switch (type) {
+    case SCCACHE:
+      return parseSccache(output);
+    default:
+      return parseCcache(output);
+    }
+  }
+
+  /**
+   * Parses the output of {@code ccache --print-stats}: one {@code key<TAB>value} pair per line.
+   */
+  private static @Nullable CompilerCacheStats parseCcache(String output) {
+    long hits = 0, misses = 0;
+    boolean found = false;
+    for (String line : output.split("\\R")) {
+      String[] kv = line.split("\t");
+      if (kv.length != 2) {
+        continue;
+      }
+      try {
+        switch (kv[0]) {
+        case "direct_cache_hit":
+        case "preprocessed_cache_hit":
+          hits += Long.parseLong(kv[1].trim());
+          found = true;
+          break;
+        case "cache_miss":
+          misses += Long.parseLong(kv[1].trim());
+          found = true;
+          break;
+        default:
+          break;
+        }
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return found ? new CompilerCacheStats(hits, misses) : null;
+  }
+
+  /**
+   * Parses the output of {@code sccache --show-stats --stats-format=json}.
+   */
+  private static @Nullable CompilerCacheStats parseSccache(String output) {
+    try {
+      JsonObject stats = JsonParser.parseString(output).getAsJsonObject().getAsJsonObject("stats");
+      if (stats == null) {
+        return null;
+      }
+      return new CompilerCacheStats(sumCounts(stats, "cache_hits"), sumCounts(stats, "cache_misses"));
+    } catch (JsonParseException | IllegalStateException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses the cache statistics in the output of {@code fbuild -summary}, lines such as
+   * {@code "| Hits       : 12 (80.0 %)"} and {@code "| Misses     : 3"}.
+   *
+   * @param output the output of the build, at least the summary at its end
+   * @return the statistics or {@code null} if the output contains no cache statistics
+   */
+  public static @Nullable CompilerCacheStats parseFastBuildSummary(CharSequence output) {
+    long hits = -1, misses = -1;
+    Matcher matcher = FASTBUILD_STAT.matcher(output);
+    while (matcher.find()) {
+      // the summary is at the end, take the last values
+      long value = Long.parseLong(matcher.group(2));
+      if (matcher.group(1).equals("Hits")) {
+        hits = value;
+      } else {
+        misses = value;
+      }
+    }
+    return hits < 0 || misses < 0 ? null : new CompilerCacheStats(hits, misses);
+  }
+
+  /**
+   * Sums up the per-language counts of an sccache statistic such as <code>"cache_hits": {"counts": {"C/C++": 12}}</code>.
+   */
+  private static long sumCounts(JsonObject stats, String name) {
+    JsonObject stat = stats.getAsJsonObject(name);
+    if (stat == null || !stat.has("counts")) {
+      return 0;
+    }
+    long sum = 0;
+    for (Map.Entry<String, JsonElement> count : stat.getAsJsonObject("counts").entrySet()) {
+      sum += count.getValue().getAsLong();
+    }
+    return sum;
+  }
+
+  /**
+   * Gets the number of compilations served from the cache.
+   */
+  public long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of compilations that ran the compiler.
+   */
+  public long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Gets the share of compilations served from the cache.
+   *
+   * @return the hit rate in percent or {@code -1} if nothing was compiled
+   */
+  public double getHitRate() {
+    long total = hits + misses;
+    return total == 0 ? -1 : hits * 100.0 / total;
+  }
+
+  /**
+   * Gets the statistics of the compilations that took place since the specified statistics were taken.
+   *
+   * @param before the statistics taken earlier
+   */
+  public CompilerCacheStats minus(CompilerCacheStats before) {
+    // the statistics may have been zeroed in between
+    return new CompilerCacheStats(Math.max(0, hits - before.hits), Math.max(0, misses - before.misses));
+  }
+
+  /**
+   * Formats the statistics for display.
+   */
+  @Override
+  public String toString() {
+    double rate = getHitRate();
+    if (rate < 0) {
+      return "nothing compiled";
+    }
+    return String.format(Locale.ROOT, "%d hits, %d misses (%.1f%% hit rate)", hits, misses, rate);
+  }
+}
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+/**
+ * A file below the plug-in state area that holds records, one JSON object per line, the oldest first. The oldest half
+ * of the records is dropped when the file holds the maximum number of records. All files are read and written under
+ * the same lock, so concurrent builds neither lose records nor read a file while it is truncated.
+ *
+ * @param <R> the type of the records
+ * @author Martin Weber
+ */
+public class HistoryFile<R> {
+  private static final Object lock = new Object();
+
+  private final Path file;
+  private final Class<R> type;
+  private final Predicate<R> valid;
+  private final int maxRecords;
+
+  /**
+   * @param file       the file to persist the records to
+   * @param type       the type of the records
+   * @param valid      tells whether a record read from the file has all required properties
+   * @param maxRecords the number of records that triggers truncation of the file
+   */
+  public HistoryFile(Path file, Class<R> type, Predicate<R> valid, int maxRecords) {
+    this.file = file;
+    this.type = type;
+    this.valid = valid;
+    this.maxRecords = maxRecords;
+  }
+
+  /**
+   * Gets all records, the oldest first.
+   */
+  public List<R> read() {
+    synchronized (lock) {
+      try {
+        return parse(readLines());
+      } catch (IOException ex) {
+        return new ArrayList<>();
+      }
+    }
+  }
+
+  /**
+   * Appends the specified record.
+   *
+   * @throws IOException if the file could not be written
+   */
+  public void append(R rec) throws IOException {
+    append(rec, null);
+  }
+
+  /**
+   * Appends the specified record after letting the specified function complete it from the records in the file. The
+   * file is read once and no other record is appended meanwhile.
+   *
+   * @param completer the function that completes the record from the previous records, the oldest first, or
+   *                  {@code null}
+   * @throws IOException if the file could not be written
+   */
+  public void append(R rec, @Nullable Consumer<List<R>> completer) throws IOException {
+    synchronized (lock) {
+      List<String> lines = readLines();
+      if (completer != null) {
+        completer.accept(parse(lines));
+      }
+      String json = new Gson().toJson(rec);
+      if (lines.size() >= maxRecords) {
+        // drop the oldest half
+        lines = new ArrayList<>(lines.subList(lines.size() - maxRecords / 2, lines.size()));
+        lines.add(json);
+        Files.write(file, lines, StandardCharsets.UTF_8);
+      } else {
+        Files.write(file, List.of(json), StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND);
+      }
+    }
+  }
+
+  private List<String> readLines() throws IOException {
+    return Files.exists(file) ? Files.readAllLines(file, StandardCharsets.UTF_8) : List.of();
+  }
+
+  private List<R> parse(List<String> lines) {
+    List<R> result = new ArrayList<>();
+    Gson gson = new Gson();
+    for (String line : lines) {
+      try {
+        R rec = gson.fromJson(line, type);
+        if (rec != null && valid.test(rec)) {
+          result.add(rec);
+        }
+      } catch (JsonParseException ignore) {
+        // partially written line
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Analyzes the jobs ninja ran during a build: The duration of each job, the time spent per target, how many jobs ran
+ * in parallel over the course of the build and the longest serial chain of jobs.
+ *
+ * @author Martin Weber
+ */
+public class NinjaBuildAnalysis {
+  /** matches the directory CMake puts the object files of a target into */
+  private static final Pattern TARGET_DIR = Pattern.compile("(?:^|/)CMakeFiles/([^/]+)\\.dir/");
+  /** matches the file name of a library or executable CMake links */
+  private static final Pattern LINK_OUTPUT = Pattern.compile("(?:lib)?(.+?)(?:\\.so(?:\\.[\\d.]+)?|\\.a|\\.dylib|\\.dll"
+      + "|\\.exe|\\.lib)?");
+
+  private final List<Job> jobs;
+  private final int wallTime;
+
+  /**
+   * @param entries the entries of the build read from the ninja log
+   * @param sources the source files compiled, by object file relative to the build directory. See
+   *                {@link #readCompileCommands(Path)}
+   */
+  public NinjaBuildAnalysis(List<NinjaLog.Entry> entries, Map<String, String> sources) {
+    jobs = new ArrayList<>(entries.size());
+    int first = Integer.MAX_VALUE;
+    int last = 0;
+    Set<String> targets = new HashSet<>();
+    for (NinjaLog.Entry entry : entries) {
+      String target = getObjectTarget(entry.getOutput());
+      if (target != null) {
+        targets.add(target);
+      }
+    }
+    for (NinjaLog.Entry entry : entries) {
+      jobs.add(new Job(entry, sources.get(entry.getOutput()), getTarget(entry.getOutput(), targets)));
+      first = Math.min(first, entry.getStart());
+      last = Math.max(last, entry.getEnd());
+    }
+    wallTime = jobs.isEmpty() ? 0 : last - first;
+  }
+
+  /**
+   * Gets the name of the target an output belongs to.
+   *
+   * @param output  the output relative to the build directory
+   * @param targets the names of the targets that have object files
+   * @return the name of the CMake target for object files and for libraries and executables linked from the object
+   *         files of a target, otherwise the file name of the output
+   */
+  private static String getTarget(String output, Set<String> targets) {
+    String target = getObjectTarget(output);
+    if (target != null) {
+      return target;
+    }
+    String name = output.substring(output.lastIndexOf('/') + 1);
+    if (targets.contains(name)) {
+      return name;
+    }
+    Matcher matcher = LINK_OUTPUT.matcher(name);
+    if (matcher.matches() && targets.contains(matcher.group(1))) {
+      return matcher.group(1);
+    }
+    // a custom command
+    return name;
+  }
+
+  /**
+   * Gets the name of the target an object file belongs to.
+   *
+   * @param output the object file relative to the build directory
+   * @return the name of the CMake target or {@code null} if the output is not in the object file directory of a
+   *         target
+   */
+  public static @Nullable String getObjectTarget(String output) {
+    Matcher matcher = TARGET_DIR.matcher(output);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+
+  /**
+   * Reads the source file and the object file of each compile command from the {@code compile_commands.json} file
+   * CMake writes if {@code CMAKE_EXPORT_COMPILE_COMMANDS} is set.
+   *
+   * @param compileCommands the compile_commands.json file
+   * @return the absolute path of the source files by object file relative to the build directory. Empty if the file
+   *         does not exist or if the CMake version does not write the object file
+   */
+  public static Map<String, String> readCompileCommands(Path compileCommands) {
+    Map<String, String> sources = new HashMap<>();
+    if (!Files.isRegularFile(compileCommands)) {
+      return sources;
+    }
+    try (Reader reader = Files.newBufferedReader(compileCommands)) {
+      for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+        JsonObject command = element.getAsJsonObject();
+        if (command.has("output") && command.has("file")) {
+          Path file = Path.of(command.get("file").getAsString());
+          if (!file.isAbsolute() && command.has("directory")) {
+            file = Path.of(command.get("directory").getAsString()).resolve(file).normalize();
+          }
+          sources.put(command.get("output").getAsString(), file.toString());
+        }
+      }
+    } catch (IOException | JsonParseException | IllegalStateException ex) {
+      // no source files then
+    }
+    return sources;
+  }
+
+  /**
+   * Gets the jobs, in the order they finished.
+   */
+  public List<Job> getJobs() {
+    return Collections.unmodifiableList(jobs);
+  }
+
+  /**
+   * Gets the time from the start of the first job to the end of the last job, in milliseconds.
+   */
+  public int getWallTime() {
+    return wallTime;
+  }
+
+  /**
+   * Gets the number of jobs that ran in parallel on average.
+   */
+  public double getAverageParallelism() {
+    if (wallTime == 0) {
+      return jobs.isEmpty() ? 0 : 1;
+    }
+    long busy = 0;
+    for (Job job : jobs) {
+      busy += job.getDuration();
+    }
+    return (double) busy / wallTime;
+  }
+
+  /**
+   * Gets the number of jobs that ran in parallel on average in each of the specified number of equally long intervals
+   * of the build.
+   */
+  public double[] getParallelism(int intervals) {
+    double[] parallelism = new double[intervals];
+    if (wallTime == 0) {
+      return parallelism;
+    }
+    int first = jobs.stream().mapToInt(Job::getStart).min().getAsInt();
+    double length = (double) wallTime / intervals;
+    for (Job job : jobs) {
+      double start = job.getStart() - first;
+      double end = job.getEnd() - first;
+      for (int i = (int) (start / length); i < intervals && i * length < end; i++) {
+        double overlap = Math.min(end, (i + 1) * length) - Math.max(start, i * length);
+        parallelism[i] += overlap / length;
+      }
+    }
+    return parallelism;
+  }
+
+  /**
+   * Gets the compile jobs that took longest.
+   *
+   * @param max the maximum number of jobs to return
+   * @return the jobs that have a source file, the one that took longest first
+   */
+  public List<Job> getSlowestCompiles(int max) {
+    return jobs.stream().filter(job -> job.getSource() != null)
+        .sorted(Comparator.comparingInt(Job::getDuration).reversed()).limit(max).toList();
+  }
+
+  /**
+   * Gets the time the jobs of each target took, the target that took longest first.
+   */
+  public List<TargetTime> getTargets() {
+    Map<String, TargetTime> targets = new LinkedHashMap<>();
+    for (Job job : jobs) {
+      targets.computeIfAbsent(job.getTarget(), TargetTime::new).add(job);
+    }
+    List<TargetTime> result = new ArrayList<>(targets.values());
+    result.sort(Comparator.comparingLong(TargetTime::getTime).reversed());
+    return result;
+  }
+
+  /**
+   * Gets the longest serial chain of jobs, jobs that ran one after the other from the start to the end of the build.
+   * Starting with the job that finished last, each preceding job is the one that finished last before the job started.
+   * The ninja log does not record the dependencies between jobs, so this is not necessarily the critical path of the
+   * build: a job of the chain may have waited for a job that is not in the chain, or for a free job slot only.
+   *
+   * @return the jobs of the chain, the first job first
+   */
+  public List<Job> getSerialChain() {
+    List<Job> path = new ArrayList<>();
+    List<Job> byEnd = new ArrayList<>(jobs);
+    byEnd.sort(Comparator.comparingInt(Job::getEnd));
+    int i = byEnd.size() - 1;
+    while (i >= 0) {
+      Job job = byEnd.get(i);
+      path.add(job);
+      // find the job that finished last before this one started
+      do {
+        i--;
+      } while (i >= 0 && byEnd.get(i).getEnd() > job.getStart());
+    }
+    Collections.reverse(path);
+    return path;
+  }
+
+  /**
+   * Gets the sum of the durations of the jobs of the longest serial chain in milliseconds.
+   */
+  public int getSerialChainTime() {
+    return getSerialChain().stream().mapToInt(Job::getDuration).sum();
+  }
+
+  /**
+   * Formats a summary of this analysis.
+   *
+   * @param slots the maximum number of parallel jobs of the build
+   */
+  public String getSummary(int slots) {
+    if (jobs.isEmpty()) {
+      return "nothing to do";
+    }
+    double parallelism = getAverageParallelism();
+    StringBuilder summary = new StringBuilder();
+    summary.append(String.format("%d jobs in %.1f s, %.1f jobs in parallel on average", jobs.size(), wallTime / 1000.0,
+        parallelism));
+    if (slots > 1 && slots < Integer.MAX_VALUE) {
+      summary.append(String.format(" (%.0f%% of %d)", 100.0 * parallelism / slots, slots));
+    }
+    summary.append(String.format(", longest serial chain %.1f s in %d jobs", getSerialChainTime() / 1000.0,
+        getSerialChain().size()));
+    return summary.toString();
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A job ninja ran.
+   *
+   * @author Martin Weber
+   */
+  public static class Job {
+    private final NinjaLog.Entry entry;
+    private final @Nullable String source;
+    private final String target;
+
+    private Job(NinjaLog.Entry entry, @Nullable String source, String target) {
+      this.entry = entry;
+      this.source = source;
+      this.target = target;
+    }
+
+    /**
+     * Gets the output of the job, relative to the build directory.
+     */
+    public String getOutput() {
+      return entry.getOutput();
+    }
+
+    /**
+     * Gets the absolute path of the source file compiled.
+     *
+     * @return the source file or {@code null} if the job is not a compile job or if the source file is not known
+     */
+    public @Nullable String getSource() {
+      return source;
+    }
+
+    /**
+     * Gets the name of the target the job belongs to. For object files and linked files, this is the name of the
+     * CMake target, for other outputs the file name of the output.
+     */
+    public String getTarget() {
+      return target;
+    }
+
+    /**
+     * Gets the time the job started, in milliseconds since the build started.
+     */
+    public int getStart() {
+      return entry.getStart();
+    }
+
+    /**
+     * Gets the time the job ended, in milliseconds since the build started.
+     */
+    public int getEnd() {
+      return entry.getEnd();
+    }
+
+    /**
+     * Gets the duration of the job in milliseconds.
+     */
+    public int getDuration() {
+      return entry.getEnd() - entry.getStart();
+    }
+  }
+
+  /**
+   * The time the jobs of a target took.
+   *
+   * @author Martin Weber
+   */
+  public static class TargetTime {
+    private final String target;
+    private int jobs;
+    private long time;
+    private int longest;
+
+    private TargetTime(String target) {
+      this.target = target;
+    }
+
+    private void add(Job job) {
+      jobs++;
+      time += job.getDuration();
+      longest = Math.max(longest, job.getDuration());
+    }
+
+    public String getTarget() {
+      return target;
+    }
+
+    /**
+     * Gets the number of jobs of the target.
+     */
+    public int getJobs() {
+      return jobs;
+    }
+
+    /**
+     * Gets the sum of the durations of the jobs of the target in milliseconds.
+     */
+    public long getTime() {
+      return time;
+    }
+
+    /**
+     * Gets the duration of the longest job of the target in milliseconds.
+     */
+    public int getLongest() {
+      return longest;
+    }
+  }
+}
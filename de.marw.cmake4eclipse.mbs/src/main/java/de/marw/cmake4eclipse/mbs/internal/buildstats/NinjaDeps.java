@@ -0,0 +1,376 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The header dependencies ninja recorded in the binary {@code .ninja_deps} file in the build directory, indexed to
+ * tell which object files depend on a header.<br>
+ * The index is held in primitive arrays in compressed sparse row format rather than as an object graph, so that the
+ * dependencies of large projects take little memory and can be queried quickly.
+ *
+ * @author Martin Weber
+ */
+public class NinjaDeps {
+  /** the name of the deps log in the build directory */
+  public static final String FILE_NAME = ".ninja_deps";
+  private static final byte[] SIGNATURE = "# ninjadeps\n".getBytes(StandardCharsets.US_ASCII);
+  /** the file extensions of source files, which are not reported as headers */
+  private static final Set<String> SOURCE_EXTENSIONS = Set.of("c", "cc", "cpp", "cxx", "c++", "C", "m", "mm", "cu",
+      "s", "S", "asm");
+
+  /** the build directory with a trailing separator */
+  private final String buildDir;
+  /** the paths of the nodes, by node id */
+  private final String[] paths;
+  /** open addressing hash table of node id + 1 by path */
+  private final int[] lookup;
+  /** start of the dependents of each node in {@link #dependents}, by node id, one more than nodes */
+  private final int[] dependentsStart;
+  /** the ids of the outputs that depend on a node, grouped by node */
+  private final int[] dependents;
+  /** the number of outputs that have dependencies */
+  private final int outputCount;
+
+  private NinjaDeps(String buildDir, String[] paths, int[] dependentsStart, int[] dependents, int outputCount) {
+    this.buildDir = buildDir;
+    this.paths = paths;
+    this.dependentsStart = dependentsStart;
+    this.dependents = dependents;
+    this.outputCount = outputCount;
+    lookup = new int[Integer.highestOneBit(Math.max(paths.length, 1) * 2) * 2];
+    int mask = lookup.length - 1;
+    for (int id = 0; id < paths.length; id++) {
+      int slot = paths[id].hashCode() & mask;
+      while (lookup[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      lookup[slot] = id + 1;
+    }
+  }
+
+  /**
+   * Reads the deps log into memory. The file is not mapped: A mapping is released only when it is garbage collected,
+   * and on Windows ninja cannot write the log while it is mapped.
+   *
+   * @param file the .ninja_deps file
+   * @throws IOException if the file could not be read or is not a deps log of a supported version
+   */
+  public static NinjaDeps read(Path file) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // ninja may have truncated the log meanwhile
+      }
+    }
+    buffer.flip().order(ByteOrder.LITTLE_ENDIAN);
+    Path parent = file.toAbsolutePath().getParent();
+    return read(buffer, parent == null ? "" : parent.toString() + file.getFileSystem().getSeparator());
+  }
+
+  /**
+   * Parses the deps log. The log starts with a signature and a version, followed by records, each prefixed by its size.
+   * If the high bit of the size is set, the record holds the path of a new node, the nodes are numbered in the order
+   * of their records. Otherwise the record holds the id of an output, its modification time and the ids of the inputs
+   * it depends on. A later record for the same output supersedes an earlier one.
+   *
+   * @param buffer   the content of the log, little endian
+   * @param buildDir the build directory with a trailing separator
+   */
+  static NinjaDeps read(ByteBuffer buffer, String buildDir) throws IOException {
+    byte[] signature = new byte[SIGNATURE.length];
+    if (buffer.remaining() < signature.length + 4) {
+      throw new IOException("Not a ninja deps log");
+    }
+    buffer.get(signature);
+    if (!Arrays.equals(signature, SIGNATURE)) {
+      throw new IOException("Not a ninja deps log");
+    }
+    int version = buffer.getInt();
+    if (version != 3 && version != 4) {
+      throw new IOException("Unsupported ninja deps log version " + version);
+    }
+    // version 3 stores the modification time in 4 bytes, version 4 in 8 bytes
+    final int mtimeSize = version == 3 ? 4 : 8;
+
+    List<String> paths = new ArrayList<>();
+    // position of the inputs in the buffer and their number, by output id
+    int[] inputsPos = new int[1024];
+    int[] inputsCount = new int[1024];
+    while (buffer.remaining() >= 4) {
+      int size = buffer.getInt();
+      boolean isPath = (size & 0x80000000) != 0;
+      size &= 0x7FFFFFFF;
+      if (size < 4 || size > buffer.remaining() || size % 4 != 0) {
+        break; // truncated by an interrupted build
+      }
+      int pos = buffer.position();
+      if (isPath) {
+        int checksum = buffer.getInt(pos + size - 4);
+        if (checksum != ~paths.size()) {
+          break; // written by concurrent builds
+        }
+        int end = pos + size - 4;
+        // the path is padded with up to 3 NUL bytes
+        while (end > pos && buffer.get(end - 1) == 0) {
+          end--;
+        }
+        byte[] bytes = new byte[end - pos];
+        buffer.get(pos, bytes);
+        paths.add(new String(bytes, StandardCharsets.UTF_8));
+      } else {
+        int outId = buffer.getInt(pos);
+        if (size < 4 + mtimeSize || outId < 0 || outId >= paths.size()) {
+          break;
+        }
+        if (outId >= inputsPos.length) {
+          int length = Math.max(inputsPos.length * 2, outId + 1);
+          inputsPos = Arrays.copyOf(inputsPos, length);
+          inputsCount = Arrays.copyOf(inputsCount, length);
+        }
+        inputsPos[outId] = pos + 4 + mtimeSize;
+        inputsCount[outId] = (size - 4 - mtimeSize) / 4;
+      }
+      buffer.position(pos + size);
+    }
+
+    // invert the dependencies: count the dependents of each node, then fill them in
+    final int nodes = paths.size();
+    int[] start = new int[nodes + 1];
+    int outputs = 0;
+    for (int out = 0; out < Math.min(nodes, inputsPos.length); out++) {
+      if (inputsCount[out] > 0) {
+        outputs++;
+        for (int i = 0; i < inputsCount[out]; i++) {
+          int in = buffer.getInt(inputsPos[out] + 4 * i);
+          if (in >= 0 && in < nodes) {
+            start[in + 1]++;
+          }
+        }
+      }
+    }
+    for (int i = 0; i < nodes; i++) {
+      start[i + 1] += start[i];
+    }
+    int[] dependents = new int[start[nodes]];
+    int[] fill = Arrays.copyOf(start, nodes);
+    for (int out = 0; out < Math.min(nodes, inputsPos.length); out++) {
+      for (int i = 0; i < inputsCount[out]; i++) {
+        int in = buffer.getInt(inputsPos[out] + 4 * i);
+        if (in >= 0 && in < nodes) {
+          dependents[fill[in]++] = out;
+        }
+      }
+    }
+    return new NinjaDeps(buildDir, paths.toArray(new String[nodes]), start, dependents, outputs);
+  }
+
+  /**
+   * Gets the number of files in the log.
+   */
+  public int getNodeCount() {
+    return paths.length;
+  }
+
+  /**
+   * Gets the number of outputs that have dependencies recorded.
+   */
+  public int getOutputCount() {
+    return outputCount;
+  }
+
+  /**
+   * Gets the id of the node with the specified path.
+   *
+   * @param path the path as recorded or an absolute path in the build directory
+   * @return the id or {@code -1} if the path is not in the log
+   */
+  private int find(String path) {
+    int id = lookup(path);
+    if (id < 0 && path.startsWith(buildDir)) {
+      id = lookup(path.substring(buildDir.length()));
+    }
+    return id;
+  }
+
+  private int lookup(String path) {
+    int mask = lookup.length - 1;
+    for (int slot = path.hashCode() & mask; lookup[slot] != 0; slot = (slot + 1) & mask) {
+      if (paths[lookup[slot] - 1].equals(path)) {
+        return lookup[slot] - 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets whether an input of an output in the log, that is, a source file or a header, was modified at or after the
+   * specified time or no longer exists. Relative paths are resolved against the build directory.
+   *
+   * @param time the time in milliseconds
+   */
+  public boolean isInputModifiedSince(long time) {
+    for (int id = 0; id < paths.length; id++) {
+      if (dependentsStart[id + 1] > dependentsStart[id]) {
+        File file = new File(paths[id]);
+        if (!file.isAbsolute()) {
+          file = new File(buildDir + paths[id]);
+        }
+        long modified = file.lastModified();
+        if (modified == 0L || modified >= time) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Gets the outputs that need to be rebuilt if the specified file changes.
+   *
+   * @param path the path of the file as recorded by the compiler, usually absolute
+   * @return the outputs, relative to the build directory. Empty if no output depends on the file
+   */
+  public List<String> getAffectedOutputs(String path) {
+    int id = find(path);
+    if (id < 0) {
+      return List.of();
+    }
+    List<String> outputs = new ArrayList<>(dependentsStart[id + 1] - dependentsStart[id]);
+    for (int i = dependentsStart[id]; i < dependentsStart[id + 1]; i++) {
+      outputs.add(paths[dependents[i]]);
+    }
+    return outputs;
+  }
+
+  /**
+   * Gets the names of the targets whose object files need to be rebuilt if the specified file changes.
+   *
+   * @param path the path of the file as recorded by the compiler, usually absolute
+   * @return the target names, sorted
+   */
+  public Set<String> getAffectedTargets(String path) {
+    Set<String> targets = new TreeSet<>();
+    for (String output : getAffectedOutputs(path)) {
+      String target = NinjaBuildAnalysis.getObjectTarget(output);
+      if (target != null) {
+        targets.add(target);
+      }
+    }
+    return targets;
+  }
+
+  /**
+   * Gets the headers whose change costs most compile time, that is, the sum of the compile times of the object files
+   * that depend on the header.
+   *
+   * @param durations the compile time in milliseconds by output, as recorded in the ninja log
+   * @param max       the maximum number of headers to return
+   * @return the headers, the most expensive first
+   */
+  public List<HeaderCost> getExpensiveHeaders(Map<String, Integer> durations, int max) {
+    // compile time by output id
+    int[] time = new int[paths.length];
+    for (int id = 0; id < paths.length; id++) {
+      Integer duration = durations.get(paths[id]);
+      time[id] = duration == null ? 0 : duration;
+    }
+    List<HeaderCost> headers = new ArrayList<>();
+    for (int id = 0; id < paths.length; id++) {
+      int count = dependentsStart[id + 1] - dependentsStart[id];
+      if (count == 0 || isSource(paths[id])) {
+        continue;
+      }
+      long cost = 0;
+      for (int i = dependentsStart[id]; i < dependentsStart[id + 1]; i++) {
+        cost += time[dependents[i]];
+      }
+      headers.add(new HeaderCost(paths[id], count, cost));
+    }
+    headers.sort(Comparator.comparingLong(HeaderCost::getTime).thenComparingInt(HeaderCost::getOutputs).reversed());
+    return headers.size() > max ? new ArrayList<>(headers.subList(0, max)) : headers;
+  }
+
+  private static boolean isSource(String path) {
+    int dot = path.lastIndexOf('.');
+    return dot > path.lastIndexOf('/') && SOURCE_EXTENSIONS.contains(path.substring(dot + 1));
+  }
+
+  /**
+   * Gets the compile time of each output from the entries of a ninja log.
+   *
+   * @param entries the entries, the most recent last
+   * @return the most recent compile time in milliseconds by output
+   */
+  public static Map<String, Integer> getDurations(List<NinjaLog.Entry> entries) {
+    Map<String, Integer> durations = new HashMap<>(entries.size() * 2);
+    for (NinjaLog.Entry entry : entries) {
+      durations.put(entry.getOutput(), entry.getEnd() - entry.getStart());
+    }
+    return durations;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The compile time a change of a header costs.
+   *
+   * @author Martin Weber
+   */
+  public static class HeaderCost {
+    private final String path;
+    private final int outputs;
+    private final long time;
+
+    private HeaderCost(String path, int outputs, long time) {
+      this.path = path;
+      this.outputs = outputs;
+      this.time = time;
+    }
+
+    /**
+     * Gets the path of the header as recorded by the compiler.
+     */
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * Gets the number of object files that depend on the header.
+     */
+    public int getOutputs() {
+      return outputs;
+    }
+
+    /**
+     * Gets the sum of the compile times of the object files that depend on the header, in milliseconds.
+     */
+    public long getTime() {
+      return time;
+    }
+  }
+}
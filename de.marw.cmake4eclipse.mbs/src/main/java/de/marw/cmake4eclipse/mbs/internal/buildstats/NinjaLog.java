@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads the log ninja appends an entry to for each output it built, the {@code .ninja_log} file in the build
+ * directory. Since ninja appends to the log, the entries of a build are read by remembering the position of the end of
+ * the log before the build and reading from that position after the build. Ninja recompacts the log now and then,
+ * rewriting it without the outdated entries, so the position remembers a checksum of the bytes before it, too.
+ *
+ * @author Martin Weber
+ */
+public class NinjaLog {
+  /** the name of the log file in the build directory */
+  public static final String FILE_NAME = ".ninja_log";
+  private static final String HEADER = "# ninja log v";
+  /** the oldest version of the log format that has the columns parsed here */
+  private static final int MIN_VERSION = 5;
+  /** the number of bytes before a position that its checksum covers */
+  private static final int CHECKED = 4096;
+
+  private NinjaLog() {
+    // nothing to instantiate
+  }
+
+  /**
+   * Gets the position of the end of the log file.
+   *
+   * @return the position, which is at the start of the file if the file does not exist or could not be read
+   */
+  public static Position getEnd(Path logFile) {
+    try (SeekableByteChannel channel = Files.newByteChannel(logFile)) {
+      long size = channel.size();
+      return new Position(size, checksum(channel, size));
+    } catch (IOException ex) {
+      return Position.START;
+    }
+  }
+
+  /**
+   * Computes the checksum of the bytes before a position.
+   *
+   * @param offset the position in the file
+   * @return the checksum or {@code -1} if the file is shorter than {@code offset}
+   */
+  private static long checksum(SeekableByteChannel channel, long offset) throws IOException {
+    int length = (int) Math.min(offset, CHECKED);
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    channel.position(offset - length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        return -1;
+      }
+    }
+    CRC32 crc = new CRC32();
+    crc.update(buffer.flip());
+    return crc.getValue();
+  }
+
+  /**
+   * Reads all entries of the log file.
+   *
+   * @param logFile the log file
+   * @return the entries or an empty list if the format of the log is not supported
+   * @throws IOException if the file could not be read
+   */
+  public static List<Entry> read(Path logFile) throws IOException {
+    return read(logFile, Position.START);
+  }
+
+  /**
+   * Reads the entries appended to the log file after the specified position.
+   *
+   * @param logFile  the log file
+   * @param position the end of the log file before the build, see {@link #getEnd(Path)}
+   * @return the entries or an empty list if the log file was not appended to. This is also the case if ninja
+   *         recompacted the log during the build, which rewrites the bytes before the position
+   * @throws IOException if the file could not be read
+   */
+  public static List<Entry> read(Path logFile, Position position) throws IOException {
+    try (SeekableByteChannel channel = Files.newByteChannel(logFile)) {
+      final long offset = position.offset;
+      if (channel.size() <= offset) {
+        return List.of();
+      }
+      try (BufferedReader reader = Files.newBufferedReader(logFile)) {
+        if (!isSupported(reader.readLine())) {
+          return List.of();
+        }
+      }
+      if (offset > 0 && checksum(channel, offset) != position.checksum) {
+        // recompacted
+        return List.of();
+      }
+      channel.position(offset);
+      List<String> lines = new ArrayList<>();
+      try (BufferedReader reader = new BufferedReader(
+          new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8))) {
+        for (String line; (line = reader.readLine()) != null;) {
+          lines.add(line);
+        }
+      }
+      return parse(lines);
+    }
+  }
+
+  private static boolean isSupported(String header) {
+    if (header == null || !header.startsWith(HEADER)) {
+      return false;
+    }
+    try {
+      return Integer.parseInt(header.substring(HEADER.length()).trim()) >= MIN_VERSION;
+    } catch (NumberFormatException ex) {
+      return false;
+    }
+  }
+
+  /**
+   * Parses lines of the log. Each line holds the start and end time of the job in milliseconds since the build
+   * started, the modification time of the output, the output and a hash of the command, separated by tabs. A job that
+   * produces several outputs has a line for each of them, only the first of these is returned.
+   *
+   * @param lines the lines. Comment lines such as the version header are skipped
+   * @return the entries, one per job
+   */
+  static List<Entry> parse(List<String> lines) {
+    List<Entry> entries = new ArrayList<>(lines.size());
+    Entry previous = null;
+    for (String line : lines) {
+      if (line.isEmpty() || line.charAt(0) == '#') {
+        continue;
+      }
+      String[] fields = line.split("\t");
+      if (fields.length < 5) {
+        continue;
+      }
+      try {
+        Entry entry = new Entry(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), fields[3], fields[4]);
+        if (previous != null && previous.start == entry.start && previous.end == entry.end
+            && previous.commandHash.equals(entry.commandHash)) {
+          // another output of the same job
+          continue;
+        }
+        entries.add(entry);
+        previous = entry;
+      } catch (NumberFormatException ignore) {
+      }
+    }
+    return entries;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A position in the log file.
+   *
+   * @author Martin Weber
+   */
+  public static class Position {
+    /** the start of the file */
+    public static final Position START = new Position(0, 0);
+
+    private final long offset;
+    /** the checksum of the bytes before the offset */
+    private final long checksum;
+
+    private Position(long offset, long checksum) {
+      this.offset = offset;
+      this.checksum = checksum;
+    }
+  }
+
+  /**
+   * A job ninja ran.
+   *
+   * @author Martin Weber
+   */
+  public static class Entry {
+    private final int start;
+    private final int end;
+    private final String output;
+    private final String commandHash;
+
+    Entry(int start, int end, String output, String commandHash) {
+      this.start = start;
+      this.end = end;
+      this.output = output;
+      this.commandHash = commandHash;
+    }
+
+    /**
+     * Gets the time the job started, in milliseconds since the build started.
+     */
+    public int getStart() {
+      return start;
+    }
+
+    /**
+     * Gets the time the job ended, in milliseconds since the build started.
+     */
+    public int getEnd() {
+      return end;
+    }
+
+    /**
+     * Gets the output of the job, relative to the build directory.
+     */
+    public String getOutput() {
+      return output;
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Keeps the most recent entry of each project and build configuration for the current session and notifies listeners
+ * of changes, for the views to show.
+ *
+ * @param <E> the type of the entries
+ * @author Martin Weber
+ */
+public class PerConfigurationRegistry<E extends PerConfigurationRegistry.Entry> {
+  /** key: project name + configuration name */
+  private final Map<String, E> entries = new LinkedHashMap<>();
+  private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+  protected PerConfigurationRegistry() {
+  }
+
+  /**
+   * Records the specified entry, replacing the entry of the same project and build configuration, and notifies the
+   * listeners.
+   */
+  public void record(E entry) {
+    synchronized (entries) {
+      String key = entry.getProjectName() + '\n' + entry.getConfigName();
+      entries.remove(key);
+      entries.put(key, entry);
+    }
+    notifyListeners();
+  }
+
+  /**
+   * Gets the most recent entry of each project and build configuration, the most recently recorded entry last.
+   */
+  public List<E> getEntries() {
+    synchronized (entries) {
+      return new ArrayList<>(entries.values());
+    }
+  }
+
+  /**
+   * Gets the most recently recorded entry.
+   *
+   * @return the entry or {@code null} if none was recorded
+   */
+  public @Nullable E getLatest() {
+    synchronized (entries) {
+      E latest = null;
+      for (E entry : entries.values()) {
+        latest = entry;
+      }
+      return latest;
+    }
+  }
+
+  /**
+   * Runs the listeners, to be called when a recorded entry changed.
+   */
+  protected void notifyListeners() {
+    for (Runnable listener : listeners) {
+      listener.run();
+    }
+  }
+
+  /**
+   * Adds a listener that is run each time an entry is recorded or changed. The listener is run in the thread that
+   * recorded or changed the entry.
+   */
+  public void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Removes the specified listener.
+   */
+  public void removeListener(Runnable listener) {
+    listeners.remove(listener);
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * An entry of a project and build configuration.
+   *
+   * @author Martin Weber
+   */
+  public static class Entry {
+    private final String projectName;
+    private final String configName;
+    private final long time;
+
+    /**
+     * @param projectName the name of the project
+     * @param configName  the name of the build configuration
+     */
+    protected Entry(String projectName, String configName) {
+      this.projectName = projectName;
+      this.configName = configName;
+      this.time = System.currentTimeMillis();
+    }
+
+    public String getProjectName() {
+      return projectName;
+    }
+
+    public String getConfigName() {
+      return configName;
+    }
+
+    /**
+     * Gets the time the entry was created, in milliseconds since the epoch.
+     */
+    public long getTime() {
+      return time;
+    }
+  }
+}
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Aggregates the time traces clang writes next to each object file if {@code -ftime-trace} is given: The time spent
+ * in the compiler frontend and backend, the parse time of each header and the time spent instantiating templates,
+ * summed up over all compilations.
+ *
+ * @author Martin Weber
+ */
+public class TimeTraceReport {
+  /** the cmake commands that add {@code -ftime-trace} for clang */
+  private static final String SCRIPT = "# let clang write a time trace of each compilation\n"
+      + "add_compile_options(\"$<$<COMPILE_LANG_AND_ID:C,Clang,AppleClang>:-ftime-trace>\"\n"
+      + "  \"$<$<COMPILE_LANG_AND_ID:CXX,Clang,AppleClang>:-ftime-trace>\")\n";
+
+  /** the number of compilations */
+  private int units;
+  /** the time spent in the frontend in microseconds */
+  private long frontend;
+  /** the time spent in the backend in microseconds */
+  private long backend;
+  /** key: the path of the header */
+  private final Map<String, Cost> headers = new HashMap<>();
+  /** key: the template instantiated, with its arguments */
+  private final Map<String, Cost> templates = new HashMap<>();
+
+  private TimeTraceReport() {
+  }
+
+  /**
+   * Gets the cmake commands that add {@code -ftime-trace} for clang, to be run after the {@code project()} command
+   * when the compiler is known.
+   */
+  public static String getScript() {
+    return SCRIPT;
+  }
+
+  /**
+   * Finds the time traces in the build directory. Clang writes the trace of a compilation next to the object file,
+   * with the extension replaced by {@code .json}.
+   *
+   * @param buildDir the build directory
+   * @param since    the time in milliseconds since the epoch a trace must have been written after to be returned, or
+   *                 {@code 0} to find all traces
+   * @return the trace files or an empty list if no trace was written since the specified time
+   */
+  public static List<Path> findTraces(Path buildDir, long since) throws IOException {
+    List<Path> traces;
+    try (Stream<Path> files = Files.walk(buildDir)) {
+      traces = files.filter(TimeTraceReport::isTrace).collect(Collectors.toList());
+    }
+    for (Path trace : traces) {
+      if (Files.getLastModifiedTime(trace).toMillis() >= since) {
+        return traces;
+      }
+    }
+    return List.of();
+  }
+
+  private static boolean isTrace(Path file) {
+    String name = file.getFileName().toString();
+    if (!name.endsWith(".json")) {
+      return false;
+    }
+    String base = name.substring(0, name.length() - ".json".length());
+    return Files.exists(file.resolveSibling(base + ".o")) || Files.exists(file.resolveSibling(base + ".obj"));
+  }
+
+  /**
+   * Reads the specified time traces in parallel and aggregates them. Traces that cannot be read are skipped.
+   */
+  public static TimeTraceReport aggregate(Collection<Path> traces) {
+    return traces.parallelStream().collect(TimeTraceReport::new, TimeTraceReport::add, TimeTraceReport::add);
+  }
+
+  private void add(Path trace) {
+    try (Reader reader = Files.newBufferedReader(trace)) {
+      add(parse(reader));
+    } catch (IOException | JsonParseException | IllegalStateException ex) {
+      // not a time trace or written while reading
+    }
+  }
+
+  private void add(TimeTraceReport other) {
+    units += other.units;
+    frontend += other.frontend;
+    backend += other.backend;
+    other.headers.forEach((name, cost) -> headers.computeIfAbsent(name, Cost::new).add(cost));
+    other.templates.forEach((name, cost) -> templates.computeIfAbsent(name, Cost::new).add(cost));
+  }
+
+  /**
+   * Parses the time trace of a compilation, a JSON object with the events in its {@code traceEvents} array. Each
+   * complete event ({@code "ph": "X"}) has a name, a duration in microseconds and details in its {@code args}
+   * object. The events of interest are {@code Source} for parsing a header, {@code InstantiateClass} and
+   * {@code InstantiateFunction} for a template instantiation and the {@code Total Frontend} and
+   * {@code Total Backend} sums. The JSON is read as a stream, since traces of large compilations get big.
+   *
+   * @param reader the trace
+   * @return the report for the compilation
+   */
+  static TimeTraceReport parse(Reader reader) throws IOException {
+    TimeTraceReport report = new TimeTraceReport();
+    report.units = 1;
+    try (JsonReader json = new JsonReader(reader)) {
+      json.beginObject();
+      while (json.hasNext()) {
+        if (!"traceEvents".equals(json.nextName())) {
+          json.skipValue();
+          continue;
+        }
+        json.beginArray();
+        while (json.hasNext()) {
+          report.addEvent(json);
+        }
+        json.endArray();
+      }
+      json.endObject();
+    }
+    return report;
+  }
+
+  private void addEvent(JsonReader json) throws IOException {
+    String phase = null;
+    String name = null;
+    String detail = null;
+    long duration = 0;
+    json.beginObject();
+    while (json.hasNext()) {
+      switch (json.nextName()) {
+      case "ph":
+        phase = json.nextString();
+        break;
+      case "name":
+        name = json.nextString();
+        break;
+      case "dur":
+        duration = json.nextLong();
+        break;
+      case "args":
+        if (json.peek() != JsonToken.BEGIN_OBJECT) {
+          json.skipValue();
+          break;
+        }
+        json.beginObject();
+        while (json.hasNext()) {
+          if ("detail".equals(json.nextName()) && json.peek() == JsonToken.STRING) {
+            detail = json.nextString();
+          } else {
+            json.skipValue();
+          }
+        }
+        json.endObject();
+        break;
+      default:
+        json.skipValue();
+      }
+    }
+    json.endObject();
+    if (!"X".equals(phase) || name == null) {
+      return;
+    }
+    switch (name) {
+    case "Total Frontend":
+      frontend += duration;
+      break;
+    case "Total Backend":
+      backend += duration;
+      break;
+    case "Source":
+      if (detail != null) {
+        headers.computeIfAbsent(detail, Cost::new).add(1, duration);
+      }
+      break;
+    case "InstantiateClass":
+    case "InstantiateFunction":
+      if (detail != null) {
+        templates.computeIfAbsent(detail, Cost::new).add(1, duration);
+      }
+      break;
+    default:
+      break;
+    }
+  }
+
+  /**
+   * Gets the number of compilations.
+   */
+  public int getUnits() {
+    return units;
+  }
+
+  /**
+   * Gets the time all compilations spent in the frontend (preprocessing, parsing and template instantiation), in
+   * microseconds.
+   */
+  public long getFrontendTime() {
+    return frontend;
+  }
+
+  /**
+   * Gets the time all compilations spent in the backend (optimization and code generation), in microseconds.
+   */
+  public long getBackendTime() {
+    return backend;
+  }
+
+  /**
+   * Gets the headers that took longest to parse, summed up over all compilations. The parse time of a header includes
+   * the headers it includes.
+   *
+   * @param max the maximum number of headers to return
+   * @return the headers, the most expensive first
+   */
+  public List<Cost> getExpensiveHeaders(int max) {
+    return getMostExpensive(headers, max, 1);
+  }
+
+  /**
+   * Gets the template instantiations that took longest, summed up over all compilations.
+   *
+   * @param max the maximum number of instantiations to return
+   * @return the instantiations, the most expensive first
+   */
+  public List<Cost> getExpensiveTemplates(int max) {
+    return getMostExpensive(templates, max, 1);
+  }
+
+  /**
+   * Gets the headers that are worth putting into a precompiled header: Headers that are parsed by at least a quarter
+   * of the compilations (but at least two) and that took longest to parse.
+   *
+   * @param max the maximum number of headers to return
+   * @return the headers, the most expensive first
+   */
+  public List<Cost> getPchCandidates(int max) {
+    return getMostExpensive(headers, max, Math.max(2, units / 4));
+  }
+
+  private static List<Cost> getMostExpensive(Map<String, Cost> costs, int max, int minCount) {
+    List<Cost> result = new ArrayList<>();
+    for (Cost cost : costs.values()) {
+      if (cost.count >= minCount) {
+        result.add(cost);
+      }
+    }
+    result.sort(Comparator.comparingLong(Cost::getTime).reversed());
+    return result.size() > max ? new ArrayList<>(result.subList(0, max)) : result;
+  }
+
+  /**
+   * Formats a summary of this report.
+   */
+  public String getSummary() {
+    return String.format("%d compilations, %.1f s frontend, %.1f s backend", units, frontend / 1e6, backend / 1e6);
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The time spent on a header or template instantiation.
+   *
+   * @author Martin Weber
+   */
+  public static class Cost {
+    private final String name;
+    private int count;
+    private long time;
+
+    private Cost(String name) {
+      this.name = name;
+    }
+
+    private void add(int count, long time) {
+      this.count += count;
+      this.time += time;
+    }
+
+    private void add(Cost other) {
+      add(other.count, other.time);
+    }
+
+    /**
+     * Gets the path of the header or the template instantiated, with its arguments.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Gets how often the header was parsed or the template was instantiated.
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * Gets the total time in microseconds.
+     */
+    public long getTime() {
+      return time;
+    }
+  }
+}
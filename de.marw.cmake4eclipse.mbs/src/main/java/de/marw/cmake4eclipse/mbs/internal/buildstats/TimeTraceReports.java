@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+/**
+ * Keeps the report of the clang time traces of the most recent build of each project and build configuration for the
+ * current session.
+ *
+ * @author Martin Weber
+ */
+public class TimeTraceReports extends PerConfigurationRegistry<TimeTraceReports.Entry> {
+  private static final TimeTraceReports instance = new TimeTraceReports();
+
+  private TimeTraceReports() {
+  }
+
+  /**
+   * Gets the singleton instance.
+   */
+  public static TimeTraceReports getInstance() {
+    return instance;
+  }
+
+  /**
+   * Records the report of a build and notifies the listeners.
+   *
+   * @param projectName the name of the project that was built
+   * @param configName  the name of the build configuration that was built
+   * @param report      the aggregated time traces of the build directory
+   */
+  public void record(String projectName, String configName, TimeTraceReport report) {
+    record(new Entry(projectName, configName, report));
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  // inner classes
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The report of a build.
+   *
+   * @author Martin Weber
+   */
+  public static class Entry extends PerConfigurationRegistry.Entry {
+    private final TimeTraceReport report;
+
+    private Entry(String projectName, String configName, TimeTraceReport report) {
+      super(projectName, configName);
+      this.report = report;
+    }
+
+    public TimeTraceReport getReport() {
+      return report;
+    }
+  }
+}
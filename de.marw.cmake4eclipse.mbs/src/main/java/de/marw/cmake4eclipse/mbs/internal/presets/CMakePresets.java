@@ -0,0 +1,464 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.presets;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The configure presets of a source tree, as read from the {@code CMakePresets.json} and
+ * {@code CMakeUserPresets.json} files in the top-level source directory and the files they include.<br>
+ * Preset inheritance is resolved and macros in the {@code generator}, {@code binaryDir} and {@code cacheVariables}
+ * fields are expanded. Other fields and the {@code condition} of a preset are ignored.
+ *
+ * @author Martin Weber
+ */
+public class CMakePresets {
+  /** the name of the project-wide presets file */
+  public static final String PRESETS_FILE = "CMakePresets.json";
+  /** the name of the user-specific presets file */
+  public static final String USER_PRESETS_FILE = "CMakeUserPresets.json";
+
+  private static final Pattern MACRO = Pattern.compile("\\$(env|penv|vendor)?\\{([^}]*)\\}");
+
+  /** parsed presets per source directory */
+  private static final Map<Path, CMakePresets> cache = new HashMap<>();
+
+  private final Path sourceDir;
+  /** the files read and their modification time stamps; -1 if the file did not exist */
+  private final Map<Path, Long> fileStamps = new HashMap<>();
+  private final Map<String, ConfigurePreset> presets = new LinkedHashMap<>();
+  private final List<String> errors = new ArrayList<>();
+
+  private CMakePresets(Path sourceDir) {
+    this.sourceDir = sourceDir;
+  }
+
+  /**
+   * Gets the presets of the specified source directory. The presets are cached until one of the files they were read
+   * from is modified.
+   *
+   * @param sourceDir the absolute file system path of the top-level source directory
+   */
+  public static synchronized CMakePresets get(Path sourceDir) {
+    Path dir = sourceDir.toAbsolutePath().normalize();
+    CMakePresets presets = cache.get(dir);
+    if (presets == null || presets.isStale()) {
+      presets = load(dir, System.getenv());
+      cache.put(dir, presets);
+    }
+    return presets;
+  }
+
+  /**
+   * Reads the presets of the specified source directory.
+   *
+   * @param sourceDir   the absolute file system path of the top-level source directory
+   * @param environment the environment to expand {@code $env{}} and {@code $penv{}} macros with
+   */
+  static CMakePresets load(Path sourceDir, Map<String, String> environment) {
+    CMakePresets result = new CMakePresets(sourceDir);
+    Map<String, RawPreset> raw = new LinkedHashMap<>();
+    result.readFile(sourceDir.resolve(PRESETS_FILE), raw, new HashSet<>());
+    result.readFile(sourceDir.resolve(USER_PRESETS_FILE), raw, new HashSet<>());
+    for (RawPreset preset : raw.values()) {
+      try {
+        Resolved resolved = result.resolve(preset.name, raw, new HashSet<>());
+        result.presets.put(preset.name, result.expand(preset, resolved, environment));
+      } catch (IllegalArgumentException ex) {
+        result.errors.add(ex.getMessage());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets whether any of the files the presets were read from was modified, created or deleted.
+   */
+  private boolean isStale() {
+    for (Entry<Path, Long> entry : fileStamps.entrySet()) {
+      if (entry.getValue() != stamp(entry.getKey())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long stamp(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException ex) {
+      return -1;
+    }
+  }
+
+  /**
+   * Gets the names of all configure presets, excluding hidden presets.
+   */
+  public List<String> getPresetNames() {
+    List<String> names = new ArrayList<>();
+    for (ConfigurePreset preset : presets.values()) {
+      if (!preset.isHidden()) {
+        names.add(preset.getName());
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Gets the configure preset with the specified name.
+   *
+   * @return the preset or {@code null} if no such preset exists or if it could not be resolved
+   */
+  public @Nullable ConfigurePreset getConfigurePreset(String name) {
+    return presets.get(name);
+  }
+
+  /**
+   * Gets the messages of problems encountered while reading the presets files.
+   */
+  public List<String> getErrors() {
+    return Collections.unmodifiableList(errors);
+  }
+
+  /**
+   * Reads the configure presets from the specified file and the files it includes.
+   *
+   * @param file    the file to read
+   * @param raw     receives the presets read
+   * @param visited the files already read, to detect include cycles
+   */
+  private void readFile(Path file, Map<String, RawPreset> raw, Set<Path> visited) {
+    Path normalized = file.toAbsolutePath().normalize();
+    fileStamps.put(normalized, stamp(normalized));
+    if (!visited.add(normalized) || !Files.exists(normalized)) {
+      return;
+    }
+    JsonObject root;
+    try (Reader reader = Files.newBufferedReader(normalized, StandardCharsets.UTF_8)) {
+      JsonElement element = JsonParser.parseReader(reader);
+      if (!element.isJsonObject()) {
+        errors.add(normalized + ": not a JSON object");
+        return;
+      }
+      root = element.getAsJsonObject();
+    } catch (IOException | JsonParseException ex) {
+      errors.add(normalized + ": " + ex.getMessage());
+      return;
+    }
+
+    JsonElement includes = root.get("include");
+    if (includes != null && includes.isJsonArray()) {
+      for (JsonElement include : includes.getAsJsonArray()) {
+        if (isString(include)) {
+          readFile(normalized.resolveSibling(include.getAsString()), raw, visited);
+        }
+      }
+    }
+    JsonElement configurePresets = root.get("configurePresets");
+    if (configurePresets != null && configurePresets.isJsonArray()) {
+      for (JsonElement element : configurePresets.getAsJsonArray()) {
+        if (element.isJsonObject() && isString(element.getAsJsonObject().get("name"))) {
+          RawPreset preset = new RawPreset(element.getAsJsonObject(), normalized.getParent());
+          if (raw.putIfAbsent(preset.name, preset) != null) {
+            errors.add(normalized + ": duplicate configure preset '" + preset.name + "'");
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Resolves the inheritance of the specified preset. A field of the preset takes precedence over the same field of
+   * the presets it inherits from, which take precedence in the order they are listed in {@code inherits}.
+   *
+   * @throws IllegalArgumentException if the preset or one of its ancestors does not exist or if the inheritance is
+   *                                  cyclic
+   */
+  private Resolved resolve(String name, Map<String, RawPreset> raw, Set<String> visiting) {
+    RawPreset preset = raw.get(name);
+    if (preset == null) {
+      throw new IllegalArgumentException("Configure preset '" + name + "' does not exist");
+    }
+    if (!visiting.add(name)) {
+      throw new IllegalArgumentException("Configure preset '" + name + "' inherits from itself");
+    }
+    Resolved result = new Resolved();
+    result.generator = getString(preset.json, "generator");
+    result.binaryDir = getString(preset.json, "binaryDir");
+    result.binaryDirFileDir = preset.fileDir;
+    readCacheVariables(preset.json.get("cacheVariables"), preset.fileDir, result.cacheVariables);
+    readEnvironment(preset.json.get("environment"), result.environment);
+
+    for (String parentName : preset.inherits) {
+      Resolved parent = resolve(parentName, raw, visiting);
+      if (result.generator == null) {
+        result.generator = parent.generator;
+      }
+      if (result.binaryDir == null) {
+        result.binaryDir = parent.binaryDir;
+        result.binaryDirFileDir = parent.binaryDirFileDir;
+      }
+      // note that putIfAbsent() would replace the null values that unset a variable
+      parent.cacheVariables.forEach((k, v) -> {
+        if (!result.cacheVariables.containsKey(k)) {
+          result.cacheVariables.put(k, v);
+        }
+      });
+      parent.environment.forEach((k, v) -> {
+        if (!result.environment.containsKey(k)) {
+          result.environment.put(k, v);
+        }
+      });
+    }
+    visiting.remove(name);
+    return result;
+  }
+
+  /**
+   * Expands the macros in the resolved fields of the specified preset.
+   */
+  private ConfigurePreset expand(RawPreset preset, Resolved resolved, Map<String, String> environment) {
+    Expander expander = new Expander(preset.name, resolved.environment, environment);
+    String generator = resolved.generator == null ? null : expander.expand(resolved.generator, preset.fileDir);
+    expander.generator = generator == null ? "" : generator;
+
+    Path binaryDir = null;
+    if (resolved.binaryDir != null) {
+      binaryDir = sourceDir.resolve(expander.expand(resolved.binaryDir, resolved.binaryDirFileDir)).normalize();
+    }
+    Map<String, ConfigurePreset.CacheVariable> cacheVariables = new LinkedHashMap<>();
+    for (Entry<String, @Nullable RawCacheVariable> entry : resolved.cacheVariables.entrySet()) {
+      RawCacheVariable var = entry.getValue();
+      if (var != null) {
+        cacheVariables.put(entry.getKey(),
+            new ConfigurePreset.CacheVariable(var.type, expander.expand(var.value, var.fileDir)));
+      }
+    }
+    JsonElement displayName = preset.json.get("displayName");
+    JsonElement hidden = preset.json.get("hidden");
+    return new ConfigurePreset(preset.name, isString(displayName) ? displayName.getAsString() : null,
+        hidden != null && hidden.isJsonPrimitive() && hidden.getAsBoolean(), generator, binaryDir, cacheVariables);
+  }
+
+  private static void readCacheVariables(@Nullable JsonElement element, Path fileDir,
+      Map<String, @Nullable RawCacheVariable> result) {
+    if (element == null || !element.isJsonObject()) {
+      return;
+    }
+    for (Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+      JsonElement value = entry.getValue();
+      if (value.isJsonNull()) {
+        // explicitly unset a variable of an inherited preset
+        result.put(entry.getKey(), null);
+      } else if (value.isJsonPrimitive()) {
+        JsonPrimitive prim = value.getAsJsonPrimitive();
+        result.put(entry.getKey(), prim.isBoolean() ? new RawCacheVariable("BOOL", toBool(prim), fileDir)
+            : new RawCacheVariable(null, prim.getAsString(), fileDir));
+      } else if (value.isJsonObject()) {
+        JsonObject obj = value.getAsJsonObject();
+        JsonElement val = obj.get("value");
+        if (val != null && val.isJsonPrimitive()) {
+          JsonPrimitive prim = val.getAsJsonPrimitive();
+          String type = getString(obj, "type");
+          result.put(entry.getKey(), prim.isBoolean()
+              ? new RawCacheVariable(type == null ? "BOOL" : type, toBool(prim), fileDir)
+              : new RawCacheVariable(type, prim.getAsString(), fileDir));
+        }
+      }
+    }
+  }
+
+  private static String toBool(JsonPrimitive value) {
+    return value.getAsBoolean() ? "TRUE" : "FALSE";
+  }
+
+  private static void readEnvironment(@Nullable JsonElement element, Map<String, @Nullable String> result) {
+    if (element == null || !element.isJsonObject()) {
+      return;
+    }
+    for (Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+      JsonElement value = entry.getValue();
+      result.put(entry.getKey(), value.isJsonNull() ? null : value.getAsString());
+    }
+  }
+
+  private static @Nullable String getString(JsonObject obj, String member) {
+    JsonElement element = obj.get(member);
+    return isString(element) ? element.getAsString() : null;
+  }
+
+  private static boolean isString(@Nullable JsonElement element) {
+    return element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isString();
+  }
+
+  private static String getHostSystemName() {
+    String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+    if (os.startsWith("windows")) {
+      return "Windows";
+    } else if (os.startsWith("mac")) {
+      return "Darwin";
+    }
+    return "Linux";
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A configure preset as found in a presets file.
+   */
+  private static class RawPreset {
+    private final String name;
+    private final JsonObject json;
+    /** the directory of the file the preset was declared in */
+    private final Path fileDir;
+    private final List<String> inherits = new ArrayList<>();
+
+    RawPreset(JsonObject json, Path fileDir) {
+      this.json = json;
+      this.fileDir = fileDir;
+      this.name = json.get("name").getAsString();
+      JsonElement inh = json.get("inherits");
+      if (isString(inh)) {
+        inherits.add(inh.getAsString());
+      } else if (inh != null && inh.isJsonArray()) {
+        JsonArray array = inh.getAsJsonArray();
+        for (JsonElement element : array) {
+          if (isString(element)) {
+            inherits.add(element.getAsString());
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * The fields of a preset with inheritance resolved but macros not expanded.
+   */
+  private static class Resolved {
+    private @Nullable String generator;
+    private @Nullable String binaryDir;
+    /** the directory of the file that declared the binaryDir */
+    private @Nullable Path binaryDirFileDir;
+    /** a null value unsets the variable */
+    private final Map<String, @Nullable RawCacheVariable> cacheVariables = new LinkedHashMap<>();
+    /** a null value unsets the variable */
+    private final Map<String, @Nullable String> environment = new LinkedHashMap<>();
+  }
+
+  private static class RawCacheVariable {
+    private final @Nullable String type;
+    private final String value;
+    /** the directory of the file the variable was declared in */
+    private final Path fileDir;
+
+    RawCacheVariable(@Nullable String type, String value, Path fileDir) {
+      this.type = type;
+      this.value = value;
+      this.fileDir = fileDir;
+    }
+  }
+
+  /**
+   * Expands the macros of a single preset.
+   */
+  private class Expander {
+    private final String presetName;
+    private final Map<String, @Nullable String> presetEnvironment;
+    private final Map<String, String> environment;
+    private String generator = "";
+    /** the names of the environment variables being expanded, to detect cycles */
+    private final Set<String> expanding = new HashSet<>();
+
+    Expander(String presetName, Map<String, @Nullable String> presetEnvironment, Map<String, String> environment) {
+      this.presetName = presetName;
+      this.presetEnvironment = presetEnvironment;
+      this.environment = environment;
+    }
+
+    String expand(String value, @Nullable Path fileDir) {
+      Matcher matcher = MACRO.matcher(value);
+      StringBuilder sb = new StringBuilder();
+      while (matcher.find()) {
+        String replacement = replacement(matcher.group(1), matcher.group(2), fileDir);
+        matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement == null ? matcher.group() : replacement));
+      }
+      matcher.appendTail(sb);
+      return sb.toString();
+    }
+
+    /**
+     * @return the replacement for the macro or {@code null} if the macro is unknown
+     */
+    private @Nullable String replacement(@Nullable String namespace, String name, @Nullable Path fileDir) {
+      if ("env".equals(namespace)) {
+        if (presetEnvironment.containsKey(name)) {
+          String value = presetEnvironment.get(name);
+          if (value == null || !expanding.add(name)) {
+            return "";
+          }
+          String result = expand(value, fileDir);
+          expanding.remove(name);
+          return result;
+        }
+        return environment.getOrDefault(name, "");
+      } else if ("penv".equals(namespace)) {
+        return environment.getOrDefault(name, "");
+      } else if (namespace != null) {
+        // vendor macros are left alone
+        return null;
+      }
+      switch (name) {
+      case "sourceDir":
+        return sourceDir.toString();
+      case "sourceParentDir":
+        return sourceDir.getParent() == null ? sourceDir.toString() : sourceDir.getParent().toString();
+      case "sourceDirName":
+        return sourceDir.getFileName() == null ? "" : sourceDir.getFileName().toString();
+      case "presetName":
+        return presetName;
+      case "generator":
+        return generator;
+      case "hostSystemName":
+        return getHostSystemName();
+      case "fileDir":
+        return fileDir == null ? null : fileDir.toString();
+      case "dollar":
+        return "$";
+      case "pathListSep":
+        return java.io.File.pathSeparator;
+      default:
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.presets;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A configure preset from a {@code CMakePresets.json} file with inheritance resolved and macros expanded.
+ *
+ * @author Martin Weber
+ */
+public class ConfigurePreset {
+  private final String name;
+  private final @Nullable String displayName;
+  private final boolean hidden;
+  private final @Nullable String generator;
+  private final @Nullable Path binaryDir;
+  private final Map<String, CacheVariable> cacheVariables;
+
+  ConfigurePreset(String name, @Nullable String displayName, boolean hidden, @Nullable String generator,
+      @Nullable Path binaryDir, Map<String, CacheVariable> cacheVariables) {
+    this.name = name;
+    this.displayName = displayName;
+    this.hidden = hidden;
+    this.generator = generator;
+    this.binaryDir = binaryDir;
+    this.cacheVariables = Collections.unmodifiableMap(cacheVariables);
+  }
+
+  /** Gets the name of the preset. */
+  public String getName() {
+    return name;
+  }
+
+  /** Gets the human friendly name of the preset or {@code null} if none was specified. */
+  public @Nullable String getDisplayName() {
+    return displayName;
+  }
+
+  /** Gets whether the preset is hidden, i.e. it exists for inheritance only. */
+  public boolean isHidden() {
+    return hidden;
+  }
+
+  /** Gets the name of the generator or {@code null} if the preset does not specify a generator. */
+  public @Nullable String getGenerator() {
+    return generator;
+  }
+
+  /** Gets the absolute path of the build directory or {@code null} if the preset does not specify one. */
+  public @Nullable Path getBinaryDir() {
+    return binaryDir;
+  }
+
+  /**
+   * Gets the cache variables to define, in the order of declaration.
+   */
+  public Map<String, CacheVariable> getCacheVariables() {
+    return cacheVariables;
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A cache variable of a configure preset.
+   */
+  public static class CacheVariable {
+    private final @Nullable String type;
+    private final String value;
+
+    CacheVariable(@Nullable String type, String value) {
+      this.type = type;
+      this.value = value;
+    }
+
+    /** Gets the type of the variable or {@code null} if the preset does not specify a type. */
+    public @Nullable String getType() {
+      return type;
+    }
+
+    /** Gets the value of the variable. */
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * Converts this variable to a cmake commandline argument for the specified variable name.
+     */
+    public String toArgument(String name) {
+      return "-D" + name + (type == null ? "" : ":" + type) + "=" + value;
+    }
+  }
+}
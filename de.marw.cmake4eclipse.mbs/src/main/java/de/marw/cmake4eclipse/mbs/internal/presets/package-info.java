@@ -0,0 +1,14 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+@org.eclipse.jdt.annotation.NonNullByDefault({ DefaultLocation.PARAMETER, DefaultLocation.RETURN_TYPE,
+    DefaultLocation.TYPE_BOUND, DefaultLocation.TYPE_ARGUMENT })
+package de.marw.cmake4eclipse.mbs.internal.presets;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
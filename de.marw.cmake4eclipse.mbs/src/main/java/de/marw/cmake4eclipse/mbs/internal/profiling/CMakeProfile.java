@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.profiling;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The content of a trace file that cmake writes when invoked with {@code --profiling-format=google-trace}. Each
+ * traced command invocation is represented as an {@link Invocation} that knows its nesting depth and the time spent in
+ * the command itself (the self time), excluding the time spent in nested invocations.
+ *
+ * @author Martin Weber
+ */
+public class CMakeProfile {
+  /** the name of the trace file cmake is told to write to the build directory */
+  public static final String TRACE_FILE_NAME = "cmake-profile.json";
+
+  private final List<Invocation> invocations;
+
+  private CMakeProfile(List<Invocation> invocations) {
+    this.invocations = invocations;
+  }
+
+  /**
+   * Parses the specified google-trace formatted trace file.
+   *
+   * @param reader the reader to read the trace from
+   * @return the parsed profile, never {@code null}
+   * @throws IOException if the trace could not be read or is malformed
+   */
+  public static CMakeProfile parse(Reader reader) throws IOException {
+    List<Invocation> invocations = new ArrayList<>();
+    Deque<Invocation> open = new ArrayDeque<>();
+    long lastTs = 0;
+
+    JsonReader jr = new JsonReader(reader);
+    jr.setLenient(true);
+    try {
+      jr.beginArray();
+      while (jr.hasNext()) {
+        if (jr.peek() != JsonToken.BEGIN_OBJECT) {
+          jr.skipValue();
+          continue;
+        }
+        Event evt = readEvent(jr);
+        lastTs = Math.max(lastTs, evt.ts);
+        switch (evt.phase) {
+        case "B":
+          open.push(new Invocation(evt.name, evt.location, evt.functionArgs, evt.ts));
+          break;
+        case "E":
+          if (!open.isEmpty()) {
+            Invocation inv = open.pop();
+            inv.end = evt.ts;
+            invocations.add(inv);
+          }
+          break;
+        case "X":
+          Invocation inv = new Invocation(evt.name, evt.location, evt.functionArgs, evt.ts);
+          inv.end = evt.ts + evt.dur;
+          invocations.add(inv);
+          break;
+        default:
+          // metadata and other events are of no interest
+        }
+      }
+      jr.endArray();
+    } catch (EOFException ignore) {
+      // cmake did not complete the trace file, e.g. if it was aborted
+    } catch (IllegalStateException | NumberFormatException ex) {
+      throw new IOException("Malformed trace file: " + ex.getMessage(), ex);
+    }
+    // close dangling invocations at the last known time stamp
+    while (!open.isEmpty()) {
+      Invocation inv = open.pop();
+      inv.end = lastTs;
+      invocations.add(inv);
+    }
+    computeNesting(invocations);
+    return new CMakeProfile(Collections.unmodifiableList(invocations));
+  }
+
+  /**
+   * Sorts the invocations by start time and computes the nesting depth and the self time of each.
+   */
+  private static void computeNesting(List<Invocation> invocations) {
+    invocations.sort(Comparator.comparingLong((Invocation i) -> i.start).thenComparing(i -> -i.end));
+    Deque<Invocation> stack = new ArrayDeque<>();
+    for (Invocation inv : invocations) {
+      while (!stack.isEmpty() && stack.peek().end <= inv.start) {
+        stack.pop();
+      }
+      inv.depth = stack.size();
+      inv.self = inv.getDuration();
+      if (!stack.isEmpty()) {
+        Invocation parent = stack.peek();
+        parent.self -= Math.min(parent.self, inv.getDuration());
+      }
+      stack.push(inv);
+    }
+  }
+
+  private static Event readEvent(JsonReader jr) throws IOException {
+    Event evt = new Event();
+    jr.beginObject();
+    while (jr.hasNext()) {
+      switch (jr.nextName()) {
+      case "ph":
+        evt.phase = jr.nextString();
+        break;
+      case "name":
+        evt.name = jr.nextString();
+        break;
+      case "ts":
+        evt.ts = (long) jr.nextDouble();
+        break;
+      case "dur":
+        evt.dur = (long) jr.nextDouble();
+        break;
+      case "args":
+        if (jr.peek() == JsonToken.BEGIN_OBJECT) {
+          jr.beginObject();
+          while (jr.hasNext()) {
+            String name = jr.nextName();
+            if ("location".equals(name) && jr.peek() == JsonToken.STRING) {
+              evt.location = jr.nextString();
+            } else if ("functionArgs".equals(name) && jr.peek() == JsonToken.STRING) {
+              evt.functionArgs = jr.nextString();
+            } else {
+              jr.skipValue();
+            }
+          }
+          jr.endObject();
+        } else {
+          jr.skipValue();
+        }
+        break;
+      default:
+        jr.skipValue();
+      }
+    }
+    jr.endObject();
+    return evt;
+  }
+
+  /**
+   * Gets all traced invocations, sorted by start time.
+   */
+  public List<Invocation> getInvocations() {
+    return invocations;
+  }
+
+  /**
+   * Gets the wall-clock time covered by the trace in microseconds.
+   */
+  public long getTotalTime() {
+    if (invocations.isEmpty()) {
+      return 0;
+    }
+    long end = invocations.stream().mapToLong(i -> i.end).max().getAsLong();
+    return end - invocations.get(0).start;
+  }
+
+  /**
+   * Gets the time stamp of the first traced invocation in microseconds.
+   */
+  public long getStartTime() {
+    return invocations.isEmpty() ? 0 : invocations.get(0).start;
+  }
+
+  /**
+   * Aggregates the self time per CMake script file.
+   *
+   * @return the hot spots, sorted by decreasing time
+   */
+  public List<Hotspot> getHotspotsByFile() {
+    return aggregate(Invocation::getFile, false);
+  }
+
+  /**
+   * Aggregates the self time per CMake command or function.
+   *
+   * @return the hot spots, sorted by decreasing time
+   */
+  public List<Hotspot> getHotspotsByCommand() {
+    return aggregate(Invocation::getCommand, false);
+  }
+
+  /**
+   * Aggregates the total time spent in {@code find_package()} and {@code include()} calls per package or module.
+   *
+   * @return the hot spots, sorted by decreasing time
+   */
+  public List<Hotspot> getHotspotsByModule() {
+    return aggregate(Invocation::getModuleKey, true);
+  }
+
+  /**
+   * Gets the top-level invocations, in the order they where executed.
+   */
+  public List<Invocation> getTimeline() {
+    List<Invocation> result = new ArrayList<>();
+    for (Invocation inv : invocations) {
+      if (inv.depth == 0) {
+        result.add(inv);
+      }
+    }
+    return result;
+  }
+
+  private List<Hotspot> aggregate(Function<Invocation, @Nullable String> keyFunction, boolean inclusive) {
+    Map<String, Hotspot> hotspots = new HashMap<>();
+    for (Invocation inv : invocations) {
+      String key = keyFunction.apply(inv);
+      if (key != null) {
+        Hotspot hs = hotspots.computeIfAbsent(key, Hotspot::new);
+        hs.time += inclusive ? inv.getDuration() : inv.self;
+        hs.count++;
+      }
+    }
+    List<Hotspot> result = new ArrayList<>(hotspots.values());
+    result.sort(Comparator.comparingLong((Hotspot h) -> h.time).reversed().thenComparing(h -> h.key));
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * A single invocation of a cmake command or function.
+   */
+  public static class Invocation {
+    private final String command;
+    private final String file;
+    private final int line;
+    private final String arguments;
+    private final long start;
+    private long end;
+    private int depth;
+    private long self;
+
+    private Invocation(String command, String location, String arguments, long start) {
+      this.command = command.toLowerCase(Locale.ROOT);
+      this.arguments = arguments;
+      this.start = start;
+      // location is 'file:line'; note that the file name may contain colons, too
+      int idx = location.lastIndexOf(':');
+      int lineNo = 0;
+      String fileName = location;
+      if (idx > 0) {
+        try {
+          lineNo = Integer.parseInt(location.substring(idx + 1));
+          fileName = location.substring(0, idx);
+        } catch (NumberFormatException ignore) {
+        }
+      }
+      this.file = fileName;
+      this.line = lineNo;
+    }
+
+    /** Gets the lower-case name of the command */
+    public String getCommand() {
+      return command;
+    }
+
+    /** Gets the script file that invoked the command */
+    public String getFile() {
+      return file;
+    }
+
+    /** Gets the line number in the script file */
+    public int getLine() {
+      return line;
+    }
+
+    /** Gets the arguments as recorded by cmake */
+    public String getArguments() {
+      return arguments;
+    }
+
+    /** Gets the start time in microseconds */
+    public long getStart() {
+      return start;
+    }
+
+    /** Gets the wall-clock time including nested invocations in microseconds */
+    public long getDuration() {
+      return end - start;
+    }
+
+    /** Gets the time spent in this invocation, excluding nested invocations, in microseconds */
+    public long getSelfTime() {
+      return self;
+    }
+
+    /** Gets the nesting depth, 0 for top-level invocations */
+    public int getDepth() {
+      return depth;
+    }
+
+    /**
+     * Gets the key for aggregating {@code find_package()} and {@code include()} calls, e.g. {@code find_package(Boost)}.
+     *
+     * @return the key or {@code null} if this is neither a {@code find_package()} nor an {@code include()} call
+     */
+    @Nullable
+    String getModuleKey() {
+      if (!"find_package".equals(command) && !"include".equals(command)) {
+        return null;
+      }
+      String name = arguments.trim();
+      int idx = name.indexOf(' ');
+      if (idx > 0) {
+        name = name.substring(0, idx);
+      }
+      return command + "(" + name + ")";
+    }
+  }
+
+  /**
+   * The time aggregated for a key.
+   */
+  public static class Hotspot {
+    private final String key;
+    private long time;
+    private int count;
+
+    private Hotspot(String key) {
+      this.key = key;
+    }
+
+    /** Gets the aggregation key, e.g. the file name */
+    public String getKey() {
+      return key;
+    }
+
+    /** Gets the aggregated time in microseconds */
+    public long getTime() {
+      return time;
+    }
+
+    /** Gets the number of aggregated invocations */
+    public int getCount() {
+      return count;
+    }
+  }
+
+  private static class Event {
+    private String phase = "";
+    private String name = "";
+    private String location = "";
+    private String functionArgs = "";
+    private long ts;
+    private long dur;
+  }
+}
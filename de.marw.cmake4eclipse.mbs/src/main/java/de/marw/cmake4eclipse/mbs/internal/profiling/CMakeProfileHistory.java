@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import de.marw.cmake4eclipse.mbs.internal.Activator;
+import de.marw.cmake4eclipse.mbs.internal.buildstats.HistoryFile;
+
+/**
+ * Persists a summary of each profiled cmake run of a project, so that a run can be compared to its predecessor. The
+ * history is stored below the plug-in state area in a file with the name of the project, one JSON object per line.
+ *
+ * @author Martin Weber
+ */
+public class CMakeProfileHistory {
+  /** the maximum number of entries to keep per file and per package or module */
+  private static final int MAX_KEYS = 50;
+  /** the number of records that triggers truncation of the history file */
+  private static final int MAX_RECORDS = 200;
+
+  private final HistoryFile<Record> file;
+
+  /**
+   * @param file the file to persist the history to
+   */
+  public CMakeProfileHistory(Path file) {
+    this.file = new HistoryFile<>(file, Record.class, rec -> rec.config != null, MAX_RECORDS);
+  }
+
+  /**
+   * Gets the history of the specified project.
+   */
+  public static CMakeProfileHistory forProject(String projectName) {
+    return new CMakeProfileHistory(getHistoryFile(projectName));
+  }
+
+  /**
+   * Gets the location of the history file in the local file system.
+   *
+   * @param projectName the name of the project
+   */
+  public static Path getHistoryFile(String projectName) {
+    return Activator.getDefault().getStateLocation().append(projectName).addFileExtension("cmake-profiles").toPath();
+  }
+
+  /**
+   * Gets the most recent record of the specified build configuration.
+   *
+   * @param configName the name of the build configuration
+   * @return the record or {@code null} if the configuration was never profiled before
+   */
+  public @Nullable Record getPrevious(String configName) {
+    Record result = null;
+    for (Record rec : file.read()) {
+      if (configName.equals(rec.config)) {
+        result = rec;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Creates the summary of the specified profile.
+   *
+   * @param configName the name of the build configuration that was profiled
+   * @param profile    the profile to summarize
+   */
+  public static Record summarize(String configName, CMakeProfile profile) {
+    Record rec = new Record();
+    rec.time = System.currentTimeMillis();
+    rec.config = configName;
+    rec.total = profile.getTotalTime();
+    rec.files = toMap(profile.getHotspotsByFile());
+    rec.modules = toMap(profile.getHotspotsByModule());
+    return rec;
+  }
+
+  /**
+   * Appends the specified summary to the history.
+   *
+   * @throws IOException if the history file could not be written
+   */
+  public void append(Record rec) throws IOException {
+    file.append(rec);
+  }
+
+  private static Map<String, Long> toMap(List<CMakeProfile.Hotspot> hotspots) {
+    Map<String, Long> result = new LinkedHashMap<>();
+    for (CMakeProfile.Hotspot hs : hotspots) {
+      if (result.size() >= MAX_KEYS) {
+        break;
+      }
+      result.put(hs.getKey(), hs.getTime());
+    }
+    return result;
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The summary of a single profiled cmake run. Times are in microseconds.
+   */
+  public static class Record {
+    /** the time the record was created, in milliseconds since the epoch */
+    long time;
+    String config = "";
+    long total;
+    Map<String, Long> files = Map.of();
+    Map<String, Long> modules = Map.of();
+
+    /** Gets the time the record was created, in milliseconds since the epoch */
+    public long getTime() {
+      return time;
+    }
+
+    /** Gets the wall-clock time of the cmake run in microseconds */
+    public long getTotal() {
+      return total;
+    }
+
+    /** Gets the self time per script file in microseconds */
+    public Map<String, Long> getFiles() {
+      return files;
+    }
+
+    /** Gets the total time per find_package() and include() call in microseconds */
+    public Map<String, Long> getModules() {
+      return modules;
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.profiling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Formats a {@link CMakeProfile} as a plain-text hot spot report, suitable for the CMake console.
+ *
+ * @author Martin Weber
+ */
+public class CMakeProfileReport {
+  /** the maximum number of lines per report section */
+  private static final int MAX_LINES = 10;
+  /** top-level invocations that take less than this fraction of the total time are not listed in the timeline */
+  private static final double TIMELINE_THRESHOLD = 0.01;
+
+  private final String sourceDir;
+
+  /**
+   * @param sourceDir the absolute file system path of the top-level source directory. Script files below that
+   *                  directory are reported relative to it.
+   */
+  public CMakeProfileReport(String sourceDir) {
+    String dir = sourceDir.replace('\\', '/');
+    this.sourceDir = dir.endsWith("/") ? dir : dir + "/";
+  }
+
+  /**
+   * Formats the report.
+   *
+   * @param profile  the profile to report
+   * @param current  the summary of the profile
+   * @param previous the summary of the previous profiled run of the same build configuration or {@code null} if no
+   *                 previous run exists
+   */
+  public String format(CMakeProfile profile, CMakeProfileHistory.Record current,
+      CMakeProfileHistory.@Nullable Record previous) {
+    final long total = profile.getTotalTime();
+    StringBuilder sb = new StringBuilder();
+    sb.append(String.format("  Profile: %s total, %d commands executed\n", seconds(total).trim(),
+        profile.getInvocations().size()));
+
+    sb.append("  Hot spots by file (self time):\n");
+    for (CMakeProfile.Hotspot hs : head(profile.getHotspotsByFile())) {
+      sb.append(String.format("    %s %5.1f%%  %s\n", seconds(hs.getTime()), percent(hs.getTime(), total),
+          shorten(hs.getKey())));
+    }
+    sb.append("  Hot spots by command (self time):\n");
+    for (CMakeProfile.Hotspot hs : head(profile.getHotspotsByCommand())) {
+      sb.append(String.format("    %s %5.1f%%  %s (%d calls)\n", seconds(hs.getTime()),
+          percent(hs.getTime(), total), hs.getKey(), hs.getCount()));
+    }
+    List<CMakeProfile.Hotspot> modules = profile.getHotspotsByModule();
+    if (!modules.isEmpty()) {
+      sb.append("  Hot spots by find_package/include (total time):\n");
+      for (CMakeProfile.Hotspot hs : head(modules)) {
+        sb.append(String.format("    %s %5.1f%%  %s\n", seconds(hs.getTime()), percent(hs.getTime(), total),
+            hs.getKey()));
+      }
+    }
+
+    sb.append("  Timeline (top-level commands):\n");
+    final long start = profile.getStartTime();
+    int skipped = 0;
+    for (CMakeProfile.Invocation inv : profile.getTimeline()) {
+      if (inv.getDuration() < total * TIMELINE_THRESHOLD) {
+        skipped++;
+        continue;
+      }
+      sb.append(String.format("    +%s %s  %s(%s)  %s:%d\n", seconds(inv.getStart() - start).trim(),
+          seconds(inv.getDuration()), inv.getCommand(), abbreviate(inv.getArguments()), shorten(inv.getFile()),
+          inv.getLine()));
+    }
+    if (skipped > 0) {
+      sb.append(String.format("    ... %d shorter commands not shown\n", skipped));
+    }
+
+    if (previous != null) {
+      long delta = total - previous.getTotal();
+      sb.append(String.format("  Compared to the previous run at %tF %<tT: %s%s (%+.1f%%)\n", previous.getTime(),
+          delta < 0 ? "-" : "+", seconds(Math.abs(delta)).trim(), percent(delta, previous.getTotal())));
+      appendDeltas(sb, current.getFiles(), previous.getFiles(), true);
+      appendDeltas(sb, current.getModules(), previous.getModules(), false);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Appends the keys that changed most, compared to the previous run.
+   */
+  private void appendDeltas(StringBuilder sb, Map<String, Long> current, Map<String, Long> previous,
+      boolean isFile) {
+    Set<String> keys = new HashSet<>(current.keySet());
+    keys.addAll(previous.keySet());
+    List<Entry<String, Long>> deltas = new ArrayList<>();
+    for (String key : keys) {
+      long delta = current.getOrDefault(key, 0L) - previous.getOrDefault(key, 0L);
+      if (delta != 0) {
+        deltas.add(Map.entry(key, delta));
+      }
+    }
+    deltas.sort(Comparator.comparingLong((Entry<String, Long> e) -> Math.abs(e.getValue())).reversed());
+    for (Entry<String, Long> e : head(deltas)) {
+      long delta = e.getValue();
+      sb.append(String.format("    %s%s  %s\n", delta < 0 ? "-" : "+", seconds(Math.abs(delta)).trim(),
+          isFile ? shorten(e.getKey()) : e.getKey()));
+    }
+  }
+
+  private static <T> List<T> head(List<T> list) {
+    return list.size() > MAX_LINES ? list.subList(0, MAX_LINES) : list;
+  }
+
+  /** Converts microseconds to a formatted string in seconds. */
+  private static String seconds(long micros) {
+    return String.format("%8.3f s", micros / 1_000_000.0);
+  }
+
+  private static double percent(long part, long total) {
+    return total == 0 ? 0.0 : 100.0 * part / total;
+  }
+
+  private String shorten(String file) {
+    String path = file.replace('\\', '/');
+    return path.startsWith(sourceDir) ? path.substring(sourceDir.length()) : path;
+  }
+
+  private static String abbreviate(String arguments) {
+    String args = arguments.trim();
+    return args.length() > 40 ? args.substring(0, 37) + "..." : args;
+  }
+}
@@ -0,0 +1,369 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.warmstart;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import de.marw.cmake4eclipse.mbs.cmakecache.CMakeCacheFileParser;
+import de.marw.cmake4eclipse.mbs.cmakecache.SimpleCMakeCacheEntry;
+
+/**
+ * Seeds a new build directory with the results of compiler identification and ABI detection from a compatible
+ * sibling build directory.<br>
+ * When cmake finds the files {@code CMakeFiles/<cmake-version>/CMakeSystem.cmake} and
+ * {@code CMakeFiles/<cmake-version>/CMake<LANG>Compiler.cmake} in the build directory, it loads them instead of
+ * re-running system and compiler detection and the compiler checks. This class copies these files from a build
+ * directory that was configured with the same tool chain. A build directory is considered compatible if
+ * <ul>
+ * <li>it was configured with the same {@link #computeKey key} (build tool kit, generator and all cmake arguments and
+ * environment variables that influence compiler detection), and</li>
+ * <li>each compiler detected there still exists with the same size and modification time.</li>
+ * </ul>
+ * If the version of cmake has changed, cmake ignores the seeded files since it looks for them in a directory named
+ * after its version.
+ *
+ * @author Martin Weber
+ */
+public class CompilerWarmStart {
+  /** the name of the stamp file written to the CMakeFiles directory of each configured build directory */
+  static final String STAMP_FILE = "cmake4eclipse-warmstart.json";
+  /** the name of the script that pre-loads the compiler cache entries */
+  static final String SEED_SCRIPT = "cmake4eclipse-warmstart.cmake";
+
+  /** cmake -D arguments that influence compiler detection */
+  private static final Pattern RELEVANT_DEFINE = Pattern.compile(
+      "-DCMAKE_(\\w+_COMPILER\\w*|TOOLCHAIN_FILE|SYSROOT\\w*|\\w*FLAGS\\w*|SYSTEM_\\w+|OSX_\\w+|GENERATOR_\\w+|"
+          + "CROSSCOMPILING_EMULATOR|FIND_ROOT_PATH\\w*|LINKER_TYPE|MAKE_PROGRAM)\\b.*");
+  /** environment variables that influence compiler detection */
+  private static final Pattern RELEVANT_ENVVAR = Pattern.compile(
+      "(PATH|CC|CXX|FC|CUDACXX|CUDAHOSTCXX|HIPCXX|OBJC|OBJCXX|ASM\\w*|RC|\\w*FLAGS|SDKROOT|MACOSX_DEPLOYMENT_TARGET)="
+          + ".*",
+      Pattern.CASE_INSENSITIVE);
+  /** the compiler and binutils cache entries to seed */
+  private static final Pattern COMPILER_CACHE_ENTRY = Pattern.compile(
+      "CMAKE_(\\w+_COMPILER(_AR|_RANLIB)?|AR|RANLIB|LINKER|NM|OBJCOPY|OBJDUMP|STRIP|ADDR2LINE|READELF|DLLTOOL|MT)");
+  private static final Pattern COMPILER_FILE = Pattern.compile("CMake(\\w+)Compiler\\.cmake");
+
+  private CompilerWarmStart() {
+  }
+
+  /**
+   * Computes the key that identifies the tool chain a build directory is configured with.
+   *
+   * @param toolkitUid  the UID of the build tool kit in effect or {@code 0} if none
+   * @param generator   the name of the cmake generator
+   * @param cmakeArgs   the arguments cmake is invoked with. Only arguments that influence compiler detection are
+   *                    taken into account
+   * @param environment the environment cmake is invoked with as a list of {@code name=value} strings. Only variables
+   *                    that influence compiler detection are taken into account
+   */
+  public static String computeKey(long toolkitUid, String generator, List<String> cmakeArgs,
+      List<String> environment) {
+    // sort to make the key independent of the argument order
+    Set<String> relevant = new TreeSet<>();
+    for (int i = 0; i < cmakeArgs.size(); i++) {
+      String arg = cmakeArgs.get(i);
+      if (RELEVANT_DEFINE.matcher(arg).matches()) {
+        relevant.add(arg);
+      } else if ("-C".equals(arg) && i + 1 < cmakeArgs.size()) {
+        // the initial cache script may set the compiler
+        Path script = Path.of(cmakeArgs.get(++i));
+        relevant.add("-C" + script + "@" + lastModified(script));
+      }
+    }
+    for (String var : environment) {
+      if (RELEVANT_ENVVAR.matcher(var).matches()) {
+        relevant.add("$" + var);
+      }
+    }
+    try {
+      MessageDigest md = MessageDigest.getInstance("SHA-256");
+      md.update((toolkitUid + "\n" + generator + "\n").getBytes(StandardCharsets.UTF_8));
+      for (String str : relevant) {
+        md.update(str.getBytes(StandardCharsets.UTF_8));
+        md.update((byte) '\n');
+      }
+      StringBuilder sb = new StringBuilder();
+      for (byte b : md.digest()) {
+        sb.append(String.format("%02x", b));
+      }
+      return sb.toString();
+    } catch (NoSuchAlgorithmException ex) {
+      // every JVM supports SHA-256
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * Records the tool chain that was detected in the specified build directory, after cmake succeeded.
+   *
+   * @param buildDir the build directory
+   * @param key      the key that identifies the tool chain, see {@link #computeKey}
+   * @throws IOException if the stamp file could not be written
+   */
+  public static void writeStamp(Path buildDir, String key) throws IOException {
+    Path versionDir = findVersionDir(buildDir);
+    if (versionDir == null) {
+      return;
+    }
+    Stamp stamp = new Stamp();
+    stamp.key = key;
+    stamp.version = versionDir.getFileName().toString();
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(versionDir, "CMake*Compiler.cmake")) {
+      for (Path file : files) {
+        Compiler compiler = readCompiler(file);
+        if (compiler != null) {
+          stamp.compilers.add(compiler);
+        }
+      }
+    }
+    try (Writer writer = Files.newBufferedWriter(buildDir.resolve("CMakeFiles").resolve(STAMP_FILE),
+        StandardCharsets.UTF_8)) {
+      new Gson().toJson(stamp, writer);
+    }
+  }
+
+  /**
+   * Seeds the specified build directory from the first compatible candidate directory, if the build directory was
+   * never configured before.
+   *
+   * @param buildDir   the build directory to seed
+   * @param key        the key that identifies the tool chain the build directory will be configured with, see
+   *                   {@link #computeKey}
+   * @param candidates the build directories to seed from
+   * @return the seed or {@code null} if the build directory was configured before or if no compatible build directory
+   *         was found
+   * @throws IOException if the files could not be copied
+   */
+  public static @Nullable Seed seed(Path buildDir, String key, List<Path> candidates) throws IOException {
+    if (Files.exists(buildDir.resolve("CMakeCache.txt")) || Files.exists(buildDir.resolve("CMakeFiles"))) {
+      return null;
+    }
+    for (Path candidate : candidates) {
+      if (candidate.equals(buildDir)) {
+        continue;
+      }
+      Stamp stamp = readStamp(candidate);
+      if (stamp == null || !key.equals(stamp.key) || !isUpToDate(stamp)) {
+        continue;
+      }
+      Path srcDir = candidate.resolve("CMakeFiles").resolve(stamp.version);
+      if (!Files.exists(srcDir.resolve("CMakeSystem.cmake"))) {
+        continue;
+      }
+      Path destDir = buildDir.resolve("CMakeFiles").resolve(stamp.version);
+      Files.createDirectories(destDir);
+      Files.copy(srcDir.resolve("CMakeSystem.cmake"), destDir.resolve("CMakeSystem.cmake"),
+          StandardCopyOption.REPLACE_EXISTING);
+      for (Compiler compiler : stamp.compilers) {
+        String name = "CMake" + compiler.lang + "Compiler.cmake";
+        Files.copy(srcDir.resolve(name), destDir.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+      }
+      Path script = writeSeedScript(candidate, buildDir.resolve("CMakeFiles"));
+      return new Seed(candidate, script);
+    }
+    return null;
+  }
+
+  /**
+   * Writes a cmake script that pre-loads the compiler cache entries of the specified build directory, suitable for
+   * the {@code -C} option of cmake.
+   *
+   * @return the script file or {@code null} if the build directory has no compiler cache entries
+   */
+  private static @Nullable Path writeSeedScript(Path fromBuildDir, Path toDir) throws IOException {
+    Path cacheFile = fromBuildDir.resolve("CMakeCache.txt");
+    if (!Files.exists(cacheFile)) {
+      return null;
+    }
+    Set<SimpleCMakeCacheEntry> entries = new HashSet<>();
+    try (InputStream is = Files.newInputStream(cacheFile)) {
+      new CMakeCacheFileParser().parse(is, key -> COMPILER_CACHE_ENTRY.matcher(key).matches(), entries, null);
+    }
+    if (entries.isEmpty()) {
+      return null;
+    }
+    Set<String> lines = new TreeSet<>();
+    for (SimpleCMakeCacheEntry entry : entries) {
+      if (!entry.getValue().isEmpty() && !entry.getValue().endsWith("-NOTFOUND")) {
+        lines.add(String.format("set(%s \"%s\" CACHE FILEPATH \"\")", entry.getKey(), escape(entry.getValue())));
+      }
+    }
+    Path script = toDir.resolve(SEED_SCRIPT);
+    List<String> content = new ArrayList<>();
+    content.add("# compiler cache entries copied by cmake4eclipse from " + fromBuildDir);
+    content.addAll(lines);
+    Files.write(script, content, StandardCharsets.UTF_8);
+    return script;
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("$", "\\$");
+  }
+
+  /**
+   * Gets whether each compiler recorded in the specified stamp still exists unmodified.
+   */
+  private static boolean isUpToDate(Stamp stamp) {
+    if (stamp.compilers.isEmpty()) {
+      return false;
+    }
+    for (Compiler compiler : stamp.compilers) {
+      Path path = Path.of(compiler.path);
+      try {
+        if (Files.size(path) != compiler.size || Files.getLastModifiedTime(path).toMillis() != compiler.mtime) {
+          return false;
+        }
+      } catch (IOException ex) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static @Nullable Stamp readStamp(Path buildDir) {
+    Path file = buildDir.resolve("CMakeFiles").resolve(STAMP_FILE);
+    if (!Files.exists(file)) {
+      return null;
+    }
+    try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      return new Gson().fromJson(reader, Stamp.class);
+    } catch (IOException | JsonParseException ex) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the directory {@code CMakeFiles/<cmake-version>} most recently written by cmake.
+   *
+   * @return the directory or {@code null} if cmake did not detect the system in the specified build directory
+   */
+  private static @Nullable Path findVersionDir(Path buildDir) throws IOException {
+    Path cmakeFiles = buildDir.resolve("CMakeFiles");
+    if (!Files.isDirectory(cmakeFiles)) {
+      return null;
+    }
+    Path result = null;
+    long newest = Long.MIN_VALUE;
+    try (DirectoryStream<Path> dirs = Files.newDirectoryStream(cmakeFiles, Files::isDirectory)) {
+      for (Path dir : dirs) {
+        Path system = dir.resolve("CMakeSystem.cmake");
+        if (Files.exists(system) && Files.getLastModifiedTime(system).toMillis() > newest) {
+          newest = Files.getLastModifiedTime(system).toMillis();
+          result = dir;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Reads the compiler path and version from the specified {@code CMake<LANG>Compiler.cmake} file.
+   *
+   * @return the compiler or {@code null} if the compiler could not be determined
+   */
+  private static @Nullable Compiler readCompiler(Path file) throws IOException {
+    Matcher fm = COMPILER_FILE.matcher(file.getFileName().toString());
+    if (!fm.matches()) {
+      return null;
+    }
+    String lang = fm.group(1);
+    String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    Matcher m = Pattern.compile("set\\(CMAKE_" + lang + "_COMPILER \"([^\"]+)\"\\)").matcher(content);
+    if (!m.find()) {
+      return null;
+    }
+    Compiler compiler = new Compiler();
+    compiler.lang = lang;
+    compiler.path = m.group(1);
+    m = Pattern.compile("set\\(CMAKE_" + lang + "_COMPILER_VERSION \"([^\"]*)\"\\)").matcher(content);
+    compiler.version = m.find() ? m.group(1) : "";
+    Path path = Path.of(compiler.path);
+    if (!Files.exists(path)) {
+      return null;
+    }
+    compiler.size = Files.size(path);
+    compiler.mtime = Files.getLastModifiedTime(path).toMillis();
+    return compiler;
+  }
+
+  private static long lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException ex) {
+      return 0;
+    }
+  }
+
+  ////////////////////////////////////////////////////////////////////
+  /**
+   * The result of seeding a build directory.
+   */
+  public static class Seed {
+    private final Path source;
+    private final @Nullable Path cacheScript;
+
+    private Seed(Path source, @Nullable Path cacheScript) {
+      this.source = source;
+      this.cacheScript = cacheScript;
+    }
+
+    /** Gets the build directory the seed was copied from. */
+    public Path getSource() {
+      return source;
+    }
+
+    /**
+     * Gets the script that pre-loads the compiler cache entries, to pass to cmake with the {@code -C} option.
+     *
+     * @return the script or {@code null} if there are no cache entries to pre-load
+     */
+    public @Nullable Path getCacheScript() {
+      return cacheScript;
+    }
+  }
+
+  /** The content of the stamp file */
+  private static class Stamp {
+    private String key = "";
+    /** the name of the CMakeFiles/<cmake-version> directory */
+    private String version = "";
+    private List<Compiler> compilers = new ArrayList<>();
+  }
+
+  private static class Compiler {
+    private String lang = "";
+    private String path = "";
+    private String version = "";
+    private long size;
+    private long mtime;
+  }
+}
@@ -33,6 +33,26 @@ public abstract class PreferenceAccess {
 
   /** preference key for the 'run cmake on each build' boolean */
   public static final String CMAKE_FORCE_RUN = "CMAKE_FORCE_RUN";
+  /** preference key for the 'seed compiler detection from sibling build directories' boolean */
+  public static final String CMAKE_WARM_START = "CMAKE_WARM_START";
+  /** preference key for the 'run cmake in the background when CMake scripts are saved' boolean */
+  public static final String CMAKE_PRECONFIGURE = "CMAKE_PRECONFIGURE";
+  /** preference key for the 'clean by moving the build directory aside and deleting it in the background' boolean */
+  public static final String CLEAN_FAST = "CLEAN_FAST";
+  /**
+   * preference key for the maximum number of parallel jobs of all builds in the workspace, zero if the number is not
+   * limited
+   */
+  public static final String JOB_BUDGET = "JOB_BUDGET";
+  /** preference key for the 'share the job budget through a GNU make jobserver' boolean */
+  public static final String JOB_SERVER = "JOB_SERVER";
+  /** preference key for the 'adapt the parallel jobs to the available memory' boolean */
+  public static final String JOB_ADAPTIVE = "JOB_ADAPTIVE";
+  /**
+   * preference key for the percentage by which a cmake run or full build has to exceed the median duration of the
+   * previous runs to be flagged as a performance regression, zero if no run is flagged
+   */
+  public static final String REGRESSION_THRESHOLD = "REGRESSION_THRESHOLD";
   /** preference key for the -Wno-dev commandline option */
   public static final String CMAKE_WARN_NO_DEV = "CMAKE_WARN_NO_DEV";
   /** preference key for the --debug-trycompile commandline option */
@@ -45,6 +65,8 @@ public abstract class PreferenceAccess {
   public static final String CMAKE_WARN_UNINITIALIZED = "CMAKE_WARN_UNINITIALIZED";
   /** preference key for the --no-warn-unused-cli commandline option */
   public static final String CMAKE_NO_WARN_UNUSED = "CMAKE_NO_WARN_UNUSED";
+  /** preference key for the --profiling-format and --profiling-output commandline options */
+  public static final String CMAKE_PROFILING = "CMAKE_PROFILING";
 
   /** preference key for the list of cache entries to pass to cmake */
   public static final String CMAKE_CACHE_ENTRIES = "CMAKE_CACHE_ENTRIES";
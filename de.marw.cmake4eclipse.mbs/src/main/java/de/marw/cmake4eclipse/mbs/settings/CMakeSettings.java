@@ -58,6 +58,29 @@ public class CMakeSettings {
   private static final String ATTR_CACHE_FILE = "cacheEntriesFile";
   private static final String ATTR_BUILD_DIR = "buildDir";
   private static final String ATTR_OTHER_ARGUMENTS = "otherArguments";
+  private static final String ATTR_CONFIGURE_PRESET = "configurePreset";
+  private static final String ELEM_ACCELERATION = "acceleration";
+  private static final String ATTR_UNITY_BUILD = "unityBuild";
+  private static final String ATTR_UNITY_BUILD_BATCH_SIZE = "unityBuildBatchSize";
+  private static final String ATTR_DISABLE_PRECOMPILE_HEADERS = "disablePrecompileHeaders";
+  private static final String ATTR_PCH_INSTANTIATE_TEMPLATES = "pchInstantiateTemplates";
+  private static final String ATTR_LINKER = "linker";
+  private static final String ATTR_SPLIT_DWARF = "splitDwarf";
+  private static final String ATTR_GDB_INDEX = "gdbIndex";
+  private static final String ATTR_THIN_ARCHIVES = "thinArchives";
+  private static final String ATTR_LINK_JOB_POOL = "linkJobPool";
+  private static final String ATTR_LINK_JOB_POOL_SIZE = "linkJobPoolSize";
+  private static final String ATTR_COMPILE_JOB_POOL_SIZE = "compileJobPoolSize";
+  private static final String ATTR_COMPILER_CACHE = "compilerCache";
+  private static final String ATTR_DISTRIBUTED_COMPILER = "distributedCompiler";
+  private static final String ATTR_DISTRIBUTED_SLOTS = "distributedSlots";
+  private static final String ATTR_FASTBUILD_CACHE = "fastBuildCache";
+  private static final String ATTR_FASTBUILD_CACHE_PATH = "fastBuildCachePath";
+  private static final String ATTR_FASTBUILD_DIST = "fastBuildDist";
+  private static final String ATTR_FASTBUILD_WORKERS = "fastBuildWorkers";
+  private static final String ATTR_TIME_TRACE = "timeTrace";
+  private static final String ATTR_BUILD_ON_SAVE = "buildOnSave";
+  private static final String ATTR_SKIP_UP_TO_DATE = "skipUpToDate";
   /** the 'dirty' time stamp (in milliseconds). read only for migration purposes */
   private static final String ATTR_DIRTY_TS = "dirtyTs";
 
@@ -69,6 +92,23 @@ public class CMakeSettings {
   private String buildDirectory;
   private String cacheFile;
   private String otherArguments;
+  private String configurePreset;
+  private boolean unityBuild, disablePrecompileHeaders, pchInstantiateTemplates;
+  private Integer unityBuildBatchSize;
+  private LinkerType linker;
+  private boolean splitDwarf, gdbIndex, thinArchives;
+  private boolean linkJobPool;
+  private Integer linkJobPoolSize, compileJobPoolSize;
+  private CompilerCacheType compilerCache;
+  private DistributedCompilerType distributedCompiler;
+  private Integer distributedSlots;
+  private FastBuildCacheMode fastBuildCache;
+  private String fastBuildCachePath;
+  private boolean fastBuildDist;
+  private String fastBuildWorkers;
+  private boolean timeTrace;
+  private boolean buildOnSave;
+  private boolean skipUpToDate;
 
   private LinuxSettings linuxSettings = new LinuxSettings();
 
@@ -99,6 +139,28 @@ public class CMakeSettings {
     buildDirectory = "_build/${ConfigName}";
     cacheFile = null;
     otherArguments = null;
+    configurePreset = null;
+    unityBuild = false;
+    unityBuildBatchSize = null;
+    disablePrecompileHeaders = false;
+    pchInstantiateTemplates = false;
+    linker = null;
+    splitDwarf = false;
+    gdbIndex = false;
+    thinArchives = false;
+    linkJobPool = false;
+    linkJobPoolSize = null;
+    compileJobPoolSize = null;
+    compilerCache = null;
+    distributedCompiler = null;
+    distributedSlots = null;
+    fastBuildCache = null;
+    fastBuildCachePath = null;
+    fastBuildDist = false;
+    fastBuildWorkers = null;
+    timeTrace = false;
+    buildOnSave = false;
+    skipUpToDate = false;
 
 //    linuxSettings.reset();
 //    windowsSettings.reset();
@@ -131,6 +193,7 @@ public class CMakeSettings {
         // options...
         cacheFile = child.getAttribute(ATTR_CACHE_FILE);
         otherArguments = child.getAttribute(ATTR_OTHER_ARGUMENTS);
+        configurePreset = child.getAttribute(ATTR_CONFIGURE_PRESET);
 
         clearCache= Boolean.parseBoolean(child.getAttribute(ATTR_CLEAR_CACHE));
         warnNoDev = Boolean.parseBoolean(child.getAttribute(ATTR_WARN_NO_DEV));
@@ -139,6 +202,49 @@ public class CMakeSettings {
         trace = Boolean.parseBoolean(child.getAttribute(ATTR_TRACE));
         warnUnitialized = Boolean.parseBoolean(child.getAttribute(ATTR_WARN_UNITIALIZED));
         warnUnused = Boolean.parseBoolean(child.getAttribute(ATTR_WARN_UNUSED));
+      } else if (ELEM_ACCELERATION.equals(child.getName())) {
+        // build acceleration...
+        unityBuild = Boolean.parseBoolean(child.getAttribute(ATTR_UNITY_BUILD));
+        unityBuildBatchSize = getIntegerAttribute(child, ATTR_UNITY_BUILD_BATCH_SIZE);
+        disablePrecompileHeaders = Boolean.parseBoolean(child.getAttribute(ATTR_DISABLE_PRECOMPILE_HEADERS));
+        pchInstantiateTemplates = Boolean.parseBoolean(child.getAttribute(ATTR_PCH_INSTANTIATE_TEMPLATES));
+        String linkerName = child.getAttribute(ATTR_LINKER);
+        try {
+          linker = linkerName == null ? null : LinkerType.valueOf(linkerName);
+        } catch (IllegalArgumentException ignore) {
+          // hand-edited project file
+        }
+        splitDwarf = Boolean.parseBoolean(child.getAttribute(ATTR_SPLIT_DWARF));
+        gdbIndex = Boolean.parseBoolean(child.getAttribute(ATTR_GDB_INDEX));
+        thinArchives = Boolean.parseBoolean(child.getAttribute(ATTR_THIN_ARCHIVES));
+        linkJobPool = Boolean.parseBoolean(child.getAttribute(ATTR_LINK_JOB_POOL));
+        linkJobPoolSize = getIntegerAttribute(child, ATTR_LINK_JOB_POOL_SIZE);
+        compileJobPoolSize = getIntegerAttribute(child, ATTR_COMPILE_JOB_POOL_SIZE);
+        String cacheName = child.getAttribute(ATTR_COMPILER_CACHE);
+        try {
+          compilerCache = cacheName == null ? null : CompilerCacheType.valueOf(cacheName);
+        } catch (IllegalArgumentException ignore) {
+          // hand-edited project file
+        }
+        String distName = child.getAttribute(ATTR_DISTRIBUTED_COMPILER);
+        try {
+          distributedCompiler = distName == null ? null : DistributedCompilerType.valueOf(distName);
+        } catch (IllegalArgumentException ignore) {
+          // hand-edited project file
+        }
+        distributedSlots = getIntegerAttribute(child, ATTR_DISTRIBUTED_SLOTS);
+        String cacheMode = child.getAttribute(ATTR_FASTBUILD_CACHE);
+        try {
+          fastBuildCache = cacheMode == null ? null : FastBuildCacheMode.valueOf(cacheMode);
+        } catch (IllegalArgumentException ignore) {
+          // hand-edited project file
+        }
+        fastBuildCachePath = child.getAttribute(ATTR_FASTBUILD_CACHE_PATH);
+        fastBuildDist = Boolean.parseBoolean(child.getAttribute(ATTR_FASTBUILD_DIST));
+        fastBuildWorkers = child.getAttribute(ATTR_FASTBUILD_WORKERS);
+        timeTrace = Boolean.parseBoolean(child.getAttribute(ATTR_TIME_TRACE));
+        buildOnSave = Boolean.parseBoolean(child.getAttribute(ATTR_BUILD_ON_SAVE));
+        skipUpToDate = Boolean.parseBoolean(child.getAttribute(ATTR_SKIP_UP_TO_DATE));
       } else if (ELEM_DEFINES.equals(child.getName())) {
         // defines...
         Util.deserializeCollection(defines, new CMakeDefineSerializer(), child);
@@ -172,6 +278,7 @@ public class CMakeSettings {
 
     setOrRemoveAttribute(pOpts, ATTR_CACHE_FILE, cacheFile);
     setOrRemoveAttribute(pOpts, ATTR_OTHER_ARGUMENTS, otherArguments);
+    setOrRemoveAttribute(pOpts, ATTR_CONFIGURE_PRESET, configurePreset);
 
     // continue to load/save deprecated properties to allow users to migrate back to older versions of cmake4eclipse
     setOrRemoveAttribute(pOpts, ATTR_CLEAR_CACHE, clearCache);
@@ -182,6 +289,32 @@ public class CMakeSettings {
     setOrRemoveAttribute(pOpts, ATTR_WARN_UNITIALIZED, warnUnitialized);
     setOrRemoveAttribute(pOpts, ATTR_WARN_UNUSED, warnUnused);
 
+    // build acceleration...
+    ICStorageElement[] accelerations = storage.getChildrenByName(ELEM_ACCELERATION);
+    ICStorageElement pAccel = accelerations.length > 0 ? accelerations[0] : storage.createChild(ELEM_ACCELERATION);
+    setOrRemoveAttribute(pAccel, ATTR_UNITY_BUILD, unityBuild);
+    setOrRemoveAttribute(pAccel, ATTR_UNITY_BUILD_BATCH_SIZE, Objects.toString(unityBuildBatchSize, null));
+    setOrRemoveAttribute(pAccel, ATTR_DISABLE_PRECOMPILE_HEADERS, disablePrecompileHeaders);
+    setOrRemoveAttribute(pAccel, ATTR_PCH_INSTANTIATE_TEMPLATES, pchInstantiateTemplates);
+    setOrRemoveAttribute(pAccel, ATTR_LINKER, linker == null ? null : linker.name());
+    setOrRemoveAttribute(pAccel, ATTR_SPLIT_DWARF, splitDwarf);
+    setOrRemoveAttribute(pAccel, ATTR_GDB_INDEX, gdbIndex);
+    setOrRemoveAttribute(pAccel, ATTR_THIN_ARCHIVES, thinArchives);
+    setOrRemoveAttribute(pAccel, ATTR_LINK_JOB_POOL, linkJobPool);
+    setOrRemoveAttribute(pAccel, ATTR_LINK_JOB_POOL_SIZE, Objects.toString(linkJobPoolSize, null));
+    setOrRemoveAttribute(pAccel, ATTR_COMPILE_JOB_POOL_SIZE, Objects.toString(compileJobPoolSize, null));
+    setOrRemoveAttribute(pAccel, ATTR_COMPILER_CACHE, compilerCache == null ? null : compilerCache.name());
+    setOrRemoveAttribute(pAccel, ATTR_DISTRIBUTED_COMPILER,
+        distributedCompiler == null ? null : distributedCompiler.name());
+    setOrRemoveAttribute(pAccel, ATTR_DISTRIBUTED_SLOTS, Objects.toString(distributedSlots, null));
+    setOrRemoveAttribute(pAccel, ATTR_FASTBUILD_CACHE, fastBuildCache == null ? null : fastBuildCache.name());
+    setOrRemoveAttribute(pAccel, ATTR_FASTBUILD_CACHE_PATH, fastBuildCachePath);
+    setOrRemoveAttribute(pAccel, ATTR_FASTBUILD_DIST, fastBuildDist);
+    setOrRemoveAttribute(pAccel, ATTR_FASTBUILD_WORKERS, fastBuildWorkers);
+    setOrRemoveAttribute(pAccel, ATTR_TIME_TRACE, timeTrace);
+    setOrRemoveAttribute(pAccel, ATTR_BUILD_ON_SAVE, buildOnSave);
+    setOrRemoveAttribute(pAccel, ATTR_SKIP_UP_TO_DATE, skipUpToDate);
+
     // defines...
     Util.serializeCollection(ELEM_DEFINES, storage, new CMakeDefineSerializer(), defines);
     // undefines...
@@ -202,7 +335,7 @@ public class CMakeSettings {
     if (value) {
       parent.setAttribute(attribute, String.valueOf(value));
     } else {
-      parent.removeAttribute(ATTR_DEBUG);
+      parent.removeAttribute(attribute);
     }
   }
 
@@ -220,7 +353,26 @@ public class CMakeSettings {
     if (value != null) {
       parent.setAttribute(attribute, value);
     } else {
-      parent.removeAttribute(ATTR_DEBUG);
+      parent.removeAttribute(attribute);
+    }
+  }
+
+  /**
+   * Gets the value of the specified integer attribute.
+   *
+   * @param element
+   *                  the element holding the attribute
+   * @param attribute
+   *                  the name of the attribute
+   * @return the value or <code>null</code> if the attribute is not set or not a number
+   */
+  private static Integer getIntegerAttribute(ICStorageElement element, String attribute) {
+    String value = element.getAttribute(attribute);
+    try {
+      return value == null ? null : Integer.valueOf(value);
+    } catch (NumberFormatException ignore) {
+      // hand-edited project file
+      return null;
     }
   }
 
@@ -469,6 +621,463 @@ public class CMakeSettings {
     this.otherArguments = arguments;
   }
 
+  /**
+   * Gets the name of the configure preset from the {@code CMakePresets.json} or {@code CMakeUserPresets.json} file in
+   * the top-level source directory.
+   *
+   * @return the name of the preset or {@code null} if no preset shall be used
+   */
+  @Nullable public String getConfigurePreset() {
+    return configurePreset;
+  }
+
+  /**
+   * Sets the name of the configure preset.
+   *
+   * @param configurePreset
+   *          the name of the preset or {@code null} if no preset shall be used
+   */
+  public void setConfigurePreset(@Nullable String configurePreset) {
+    if(! Objects.equals(configurePreset, this.configurePreset)) {
+      dirty_ts= System.currentTimeMillis();
+    }
+    this.configurePreset = configurePreset;
+  }
+
+  /**
+   * Gets whether to combine the sources of each target into batches to speed up compilation.
+   * {@code -DCMAKE_UNITY_BUILD=ON}
+   */
+  public boolean isUnityBuild() {
+    return unityBuild;
+  }
+
+  /**
+   * Sets whether to combine the sources of each target into batches to speed up compilation.
+   * {@code -DCMAKE_UNITY_BUILD=ON}
+   */
+  public void setUnityBuild(boolean unityBuild) {
+    if (unityBuild != this.unityBuild) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.unityBuild = unityBuild;
+  }
+
+  /**
+   * Gets the number of sources to combine in a single unity source file.
+   * {@code -DCMAKE_UNITY_BUILD_BATCH_SIZE}
+   *
+   * @return the batch size or {@code null} if cmake's default shall be used
+   */
+  @Nullable public Integer getUnityBuildBatchSize() {
+    return unityBuildBatchSize;
+  }
+
+  /**
+   * Sets the number of sources to combine in a single unity source file.
+   * {@code -DCMAKE_UNITY_BUILD_BATCH_SIZE}
+   *
+   * @param unityBuildBatchSize
+   *          the batch size, {@code 0} to combine all sources of a target or {@code null} if cmake's default shall
+   *          be used
+   */
+  public void setUnityBuildBatchSize(@Nullable Integer unityBuildBatchSize) {
+    if (!Objects.equals(unityBuildBatchSize, this.unityBuildBatchSize)) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.unityBuildBatchSize = unityBuildBatchSize;
+  }
+
+  /**
+   * Gets whether to ignore the precompiled headers specified by the CMake scripts.
+   * {@code -DCMAKE_DISABLE_PRECOMPILE_HEADERS=ON}
+   */
+  public boolean isDisablePrecompileHeaders() {
+    return disablePrecompileHeaders;
+  }
+
+  /**
+   * Sets whether to ignore the precompiled headers specified by the CMake scripts.
+   * {@code -DCMAKE_DISABLE_PRECOMPILE_HEADERS=ON}
+   */
+  public void setDisablePrecompileHeaders(boolean disablePrecompileHeaders) {
+    if (disablePrecompileHeaders != this.disablePrecompileHeaders) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.disablePrecompileHeaders = disablePrecompileHeaders;
+  }
+
+  /**
+   * Gets whether to instantiate templates once in the precompiled header instead of in each source file (clang only).
+   * {@code -DCMAKE_PCH_INSTANTIATE_TEMPLATES=ON}
+   */
+  public boolean isPchInstantiateTemplates() {
+    return pchInstantiateTemplates;
+  }
+
+  /**
+   * Sets whether to instantiate templates once in the precompiled header instead of in each source file (clang only).
+   * {@code -DCMAKE_PCH_INSTANTIATE_TEMPLATES=ON}
+   */
+  public void setPchInstantiateTemplates(boolean pchInstantiateTemplates) {
+    if (pchInstantiateTemplates != this.pchInstantiateTemplates) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.pchInstantiateTemplates = pchInstantiateTemplates;
+  }
+
+  /**
+   * Gets the linker to use instead of the default linker of the compiler driver.
+   * {@code -fuse-ld=}
+   *
+   * @return the linker or {@code null} if the default linker shall be used
+   */
+  @Nullable public LinkerType getLinker() {
+    return linker;
+  }
+
+  /**
+   * Sets the linker to use instead of the default linker of the compiler driver.
+   * {@code -fuse-ld=}
+   *
+   * @param linker
+   *          the linker or {@code null} if the default linker shall be used
+   */
+  public void setLinker(@Nullable LinkerType linker) {
+    if (linker != this.linker) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.linker = linker;
+  }
+
+  /**
+   * Gets whether to write debug information to separate files instead of the object files, so that the linker has less
+   * data to process.
+   * {@code -gsplit-dwarf}
+   */
+  public boolean isSplitDwarf() {
+    return splitDwarf;
+  }
+
+  /**
+   * Sets whether to write debug information to separate files instead of the object files.
+   * {@code -gsplit-dwarf}
+   */
+  public void setSplitDwarf(boolean splitDwarf) {
+    if (splitDwarf != this.splitDwarf) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.splitDwarf = splitDwarf;
+  }
+
+  /**
+   * Gets whether to let the linker create an index that speeds up loading of the debug information by gdb. Requires a
+   * linker other than the default linker.
+   * {@code -Wl,--gdb-index}
+   */
+  public boolean isGdbIndex() {
+    return gdbIndex;
+  }
+
+  /**
+   * Sets whether to let the linker create an index that speeds up loading of the debug information by gdb.
+   * {@code -Wl,--gdb-index}
+   */
+  public void setGdbIndex(boolean gdbIndex) {
+    if (gdbIndex != this.gdbIndex) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.gdbIndex = gdbIndex;
+  }
+
+  /**
+   * Gets whether static libraries shall reference the object files instead of holding copies of them.
+   * {@code ar qcT}
+   */
+  public boolean isThinArchives() {
+    return thinArchives;
+  }
+
+  /**
+   * Sets whether static libraries shall reference the object files instead of holding copies of them.
+   * {@code ar qcT}
+   */
+  public void setThinArchives(boolean thinArchives) {
+    if (thinArchives != this.thinArchives) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.thinArchives = thinArchives;
+  }
+
+  /**
+   * Gets whether to limit the number of parallel link jobs (Ninja only).
+   * {@code -DCMAKE_JOB_POOL_LINK}
+   */
+  public boolean isLinkJobPool() {
+    return linkJobPool;
+  }
+
+  /**
+   * Sets whether to limit the number of parallel link jobs (Ninja only).
+   * {@code -DCMAKE_JOB_POOL_LINK}
+   */
+  public void setLinkJobPool(boolean linkJobPool) {
+    if (linkJobPool != this.linkJobPool) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.linkJobPool = linkJobPool;
+  }
+
+  /**
+   * Gets the maximum number of parallel link jobs, if link jobs are limited.
+   * {@code -DCMAKE_JOB_POOLS=link=}
+   *
+   * @return the number of jobs or {@code null} if the number shall be derived from the available memory
+   */
+  @Nullable public Integer getLinkJobPoolSize() {
+    return linkJobPoolSize;
+  }
+
+  /**
+   * Sets the maximum number of parallel link jobs, if link jobs are limited.
+   * {@code -DCMAKE_JOB_POOLS=link=}
+   *
+   * @param linkJobPoolSize
+   *          the number of jobs or {@code null} if the number shall be derived from the available memory
+   */
+  public void setLinkJobPoolSize(@Nullable Integer linkJobPoolSize) {
+    if (!Objects.equals(linkJobPoolSize, this.linkJobPoolSize)) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.linkJobPoolSize = linkJobPoolSize;
+  }
+
+  /**
+   * Gets the maximum number of parallel compile jobs (Ninja only).
+   * {@code -DCMAKE_JOB_POOL_COMPILE}
+   *
+   * @return the number of jobs or {@code null} if compile jobs shall not be limited
+   */
+  @Nullable public Integer getCompileJobPoolSize() {
+    return compileJobPoolSize;
+  }
+
+  /**
+   * Sets the maximum number of parallel compile jobs (Ninja only).
+   * {@code -DCMAKE_JOB_POOL_COMPILE}
+   *
+   * @param compileJobPoolSize
+   *          the number of jobs or {@code null} if compile jobs shall not be limited
+   */
+  public void setCompileJobPoolSize(@Nullable Integer compileJobPoolSize) {
+    if (!Objects.equals(compileJobPoolSize, this.compileJobPoolSize)) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.compileJobPoolSize = compileJobPoolSize;
+  }
+
+  /**
+   * Gets the compiler cache to run the compilers with.
+   * {@code -DCMAKE_<LANG>_COMPILER_LAUNCHER}
+   *
+   * @return the compiler cache or {@code null} if compilers shall not be run through a compiler cache
+   */
+  @Nullable public CompilerCacheType getCompilerCache() {
+    return compilerCache;
+  }
+
+  /**
+   * Sets the compiler cache to run the compilers with.
+   * {@code -DCMAKE_<LANG>_COMPILER_LAUNCHER}
+   *
+   * @param compilerCache
+   *          the compiler cache or {@code null} if compilers shall not be run through a compiler cache
+   */
+  public void setCompilerCache(@Nullable CompilerCacheType compilerCache) {
+    if (compilerCache != this.compilerCache) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.compilerCache = compilerCache;
+  }
+
+  /**
+   * Gets the tool that distributes compile jobs to a compile farm.
+   * {@code -DCMAKE_<LANG>_COMPILER_LAUNCHER}
+   *
+   * @return the tool or {@code null} if compile jobs shall run on the local host only
+   */
+  @Nullable public DistributedCompilerType getDistributedCompiler() {
+    return distributedCompiler;
+  }
+
+  /**
+   * Sets the tool that distributes compile jobs to a compile farm.
+   * {@code -DCMAKE_<LANG>_COMPILER_LAUNCHER}
+   *
+   * @param distributedCompiler
+   *          the tool or {@code null} if compile jobs shall run on the local host only
+   */
+  public void setDistributedCompiler(@Nullable DistributedCompilerType distributedCompiler) {
+    if (distributedCompiler != this.distributedCompiler) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.distributedCompiler = distributedCompiler;
+  }
+
+  /**
+   * Gets the number of compile jobs the compile farm accepts.
+   *
+   * @return the number of jobs or {@code null} if the number shall be determined from the distcc host specification
+   */
+  @Nullable public Integer getDistributedSlots() {
+    return distributedSlots;
+  }
+
+  /**
+   * Sets the number of compile jobs the compile farm accepts.
+   *
+   * @param distributedSlots
+   *          the number of jobs or {@code null} if the number shall be determined from the distcc host specification
+   */
+  public void setDistributedSlots(@Nullable Integer distributedSlots) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.distributedSlots = distributedSlots;
+  }
+
+  /**
+   * Gets how FASTBuild uses its object cache (FASTBuild only).
+   * {@code -cache}, {@code -cacheread} or {@code -cachewrite}
+   *
+   * @return the cache mode or {@code null} if FASTBuild shall not use its cache
+   */
+  @Nullable public FastBuildCacheMode getFastBuildCache() {
+    return fastBuildCache;
+  }
+
+  /**
+   * Sets how FASTBuild uses its object cache (FASTBuild only).
+   * {@code -cache}, {@code -cacheread} or {@code -cachewrite}
+   *
+   * @param fastBuildCache
+   *          the cache mode or {@code null} if FASTBuild shall not use its cache
+   */
+  public void setFastBuildCache(@Nullable FastBuildCacheMode fastBuildCache) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.fastBuildCache = fastBuildCache;
+  }
+
+  /**
+   * Gets the directory of the FASTBuild object cache (FASTBuild only).
+   * {@code FASTBUILD_CACHE_PATH}
+   *
+   * @return the directory or {@code null} to use the directory specified in the build environment
+   */
+  @Nullable public String getFastBuildCachePath() {
+    return fastBuildCachePath;
+  }
+
+  /**
+   * Sets the directory of the FASTBuild object cache (FASTBuild only).
+   * {@code FASTBUILD_CACHE_PATH}
+   *
+   * @param fastBuildCachePath
+   *          the directory or {@code null} to use the directory specified in the build environment
+   */
+  public void setFastBuildCachePath(@Nullable String fastBuildCachePath) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.fastBuildCachePath = fastBuildCachePath;
+  }
+
+  /**
+   * Gets whether FASTBuild shall distribute compile jobs to its workers (FASTBuild only).
+   * {@code -dist}
+   */
+  public boolean isFastBuildDist() {
+    return fastBuildDist;
+  }
+
+  /**
+   * Sets whether FASTBuild shall distribute compile jobs to its workers (FASTBuild only).
+   * {@code -dist}
+   */
+  public void setFastBuildDist(boolean fastBuildDist) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.fastBuildDist = fastBuildDist;
+  }
+
+  /**
+   * Gets the FASTBuild workers to distribute compile jobs to (FASTBuild only).
+   * {@code FASTBUILD_WORKERS}
+   *
+   * @return the host names of the workers, separated by semicolons, or {@code null} to find the workers through the
+   *         brokerage
+   */
+  @Nullable public String getFastBuildWorkers() {
+    return fastBuildWorkers;
+  }
+
+  /**
+   * Sets the FASTBuild workers to distribute compile jobs to (FASTBuild only).
+   * {@code FASTBUILD_WORKERS}
+   *
+   * @param fastBuildWorkers
+   *          the host names of the workers, separated by semicolons, or {@code null} to find the workers through the
+   *          brokerage
+   */
+  public void setFastBuildWorkers(@Nullable String fastBuildWorkers) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.fastBuildWorkers = fastBuildWorkers;
+  }
+
+  /**
+   * Gets whether clang shall write a time trace of each compilation, to be aggregated after the build.
+   * {@code -ftime-trace}
+   */
+  public boolean isTimeTrace() {
+    return timeTrace;
+  }
+
+  /**
+   * Sets whether clang shall write a time trace of each compilation, to be aggregated after the build.
+   * {@code -ftime-trace}
+   */
+  public void setTimeTrace(boolean timeTrace) {
+    if (timeTrace != this.timeTrace) {
+      dirty_ts = System.currentTimeMillis();
+    }
+    this.timeTrace = timeTrace;
+  }
+
+  /**
+   * Gets whether to build the targets of saved source files in the background.
+   */
+  public boolean isBuildOnSave() {
+    return buildOnSave;
+  }
+
+  /**
+   * Sets whether to build the targets of saved source files in the background.
+   */
+  public void setBuildOnSave(boolean buildOnSave) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.buildOnSave = buildOnSave;
+  }
+
+  /**
+   * Gets whether to skip running cmake and the build tool if no file changed since the last successful build.
+   */
+  public boolean isSkipUpToDate() {
+    return skipUpToDate;
+  }
+
+  /**
+   * Sets whether to skip running cmake and the build tool if no file changed since the last successful build.
+   */
+  public void setSkipUpToDate(boolean skipUpToDate) {
+    // does not affect the build-scripts, so cmake need not run again
+    this.skipUpToDate = skipUpToDate;
+  }
+
   /**
    * Gets whether to clear the cmake-cache before build.
    *
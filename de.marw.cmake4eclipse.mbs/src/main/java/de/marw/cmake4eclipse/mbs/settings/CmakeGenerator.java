@@ -21,7 +21,16 @@ public enum CmakeGenerator {
    */
 
   // linux generators
-  UnixMakefiles("Unix Makefiles"),
+  UnixMakefiles("Unix Makefiles") {
+    @Override
+    public String getLoadLimitArg(int load) {
+      return "-l " + load;
+    }
+    @Override
+    public boolean isJobServerClient() {
+      return true;
+    }
+  },
   // Ninja
   Ninja("Ninja", "-k 0") {
     @Override
@@ -29,6 +38,14 @@ public enum CmakeGenerator {
       return "build.ninja";
     }
     @Override
+    public String getLoadLimitArg(int load) {
+      return "-l " + load;
+    }
+    @Override
+    public boolean isJobServerClient() {
+      return true;
+    }
+    @Override
     public String getParallelBuildArg(int parallelizationNum) {
       if (parallelizationNum == 1)
         return "-j 1"; // No parallel
@@ -144,4 +161,23 @@ public enum CmakeGenerator {
     else
       return "-j " + parallelizationNum; // User specified
   }
+
+  /**
+   * Gets the build-script processor´s command argument(s) to not start new jobs while the system load is above the
+   * specified value. This default implementation returns {@code null}.
+   *
+   * @param load the maximum load average
+   * @return the command option string or {@code null} if the build-script processor does not support a load limit.
+   */
+  public String getLoadLimitArg(int load) {
+    return null;
+  }
+
+  /**
+   * Gets whether the build-script processor can run its jobs with tokens from a GNU make jobserver that is passed in
+   * the {@code MAKEFLAGS} environment variable.
+   */
+  public boolean isJobServerClient() {
+    return false;
+  }
 }
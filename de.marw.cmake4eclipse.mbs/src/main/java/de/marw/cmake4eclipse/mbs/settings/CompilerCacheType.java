@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.settings;
+
+/**
+ * A compiler cache that is run as the compiler launcher.
+ *
+ * @author Martin Weber
+ */
+public enum CompilerCacheType {
+  /** ccache */
+  CCACHE("ccache", "CCACHE_DIR"),
+  /** Mozilla's sccache */
+  SCCACHE("sccache", "SCCACHE_DIR");
+
+  private final String executableName;
+  private final String cacheDirVariable;
+
+  private CompilerCacheType(String executableName, String cacheDirVariable) {
+    this.executableName = executableName;
+    this.cacheDirVariable = cacheDirVariable;
+  }
+
+  /**
+   * Gets the name of the executable, without a file name extension.
+   */
+  public String getExecutableName() {
+    return executableName;
+  }
+
+  /**
+   * Gets the name of the environment variable that specifies the directory to keep the cached files in.
+   */
+  public String getCacheDirVariable() {
+    return cacheDirVariable;
+  }
+}
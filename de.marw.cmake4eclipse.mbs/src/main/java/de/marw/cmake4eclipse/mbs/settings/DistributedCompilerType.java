@@ -0,0 +1,34 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.settings;
+
+/**
+ * A tool that distributes compile jobs to other machines and is run as the compiler launcher.
+ *
+ * @author Martin Weber
+ */
+public enum DistributedCompilerType {
+  /** distcc */
+  DISTCC("distcc"),
+  /** icecream */
+  ICECC("icecc");
+
+  private final String executableName;
+
+  private DistributedCompilerType(String executableName) {
+    this.executableName = executableName;
+  }
+
+  /**
+   * Gets the name of the executable, without a file name extension.
+   */
+  public String getExecutableName() {
+    return executableName;
+  }
+}
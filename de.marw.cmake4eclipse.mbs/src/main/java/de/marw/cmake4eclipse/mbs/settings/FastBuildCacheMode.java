@@ -0,0 +1,36 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.settings;
+
+/**
+ * How FASTBuild uses its object cache.
+ *
+ * @author Martin Weber
+ */
+public enum FastBuildCacheMode {
+  /** retrieve objects from the cache and store newly built objects in the cache */
+  READ_WRITE("-cache"),
+  /** retrieve objects from the cache only */
+  READ("-cacheread"),
+  /** store newly built objects in the cache only */
+  WRITE("-cachewrite");
+
+  private final String argument;
+
+  private FastBuildCacheMode(String argument) {
+    this.argument = argument;
+  }
+
+  /**
+   * Gets the command-line argument of {@code fbuild} that selects this mode.
+   */
+  public String getArgument() {
+    return argument;
+  }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.settings;
+
+/**
+ * A linker that replaces the default linker of the compiler driver.
+ *
+ * @author Martin Weber
+ */
+public enum LinkerType {
+  /** The mold linker */
+  MOLD("mold", "ld.mold"),
+  /** The LLVM linker */
+  LLD("lld", "ld.lld"),
+  /** The GNU gold linker */
+  GOLD("gold", "ld.gold");
+
+  private final String fuseLdName;
+  private final String executableName;
+
+  private LinkerType(String fuseLdName, String executableName) {
+    this.fuseLdName = fuseLdName;
+    this.executableName = executableName;
+  }
+
+  /**
+   * Gets the name of the linker as understood by the {@code -fuse-ld=} option of the compiler driver.
+   */
+  public String getFuseLdName() {
+    return fuseLdName;
+  }
+
+  /**
+   * Gets the name of the linker executable the compiler driver looks for, without a file name extension.
+   */
+  public String getExecutableName() {
+    return executableName;
+  }
+}
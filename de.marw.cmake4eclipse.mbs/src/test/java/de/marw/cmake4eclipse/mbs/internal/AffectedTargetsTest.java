@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+
+/**
+ * Tests for {@link AffectedTargets}.
+ *
+ * @author Martin Weber
+ */
+public class AffectedTargetsTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link AffectedTargets#find(Path, java.util.Collection, CmakeGenerator)}.
+   */
+  @Test
+  public void testFind() throws Exception {
+    Path build = tmp.getRoot().toPath().resolve("build");
+    Path src = tmp.getRoot().toPath().resolve("src");
+    Files.createDirectories(build);
+    // util.cpp is compiled into two targets
+    Files.writeString(build.resolve("compile_commands.json"), "[" + command(build, src.resolve("main.cpp"),
+        "CMakeFiles/app.dir/main.cpp.o") + ", " + command(build, src.resolve("util.cpp"),
+            "CMakeFiles/util.dir/util.cpp.o") + ", " + command(build, src.resolve("util.cpp"),
+                "CMakeFiles/util_static.dir/util.cpp.o") + "]");
+
+    assertEquals(Set.of("app"), AffectedTargets.find(build, List.of(src.resolve("main.cpp")), CmakeGenerator.Ninja));
+    assertEquals(Set.of("app", "util", "util_static"), AffectedTargets.find(build,
+        List.of(src.resolve("util.cpp"), src.resolve("main.cpp")), CmakeGenerator.UnixMakefiles));
+    // a header without header dependencies
+    assertNull(AffectedTargets.find(build, List.of(src.resolve("main.cpp"), src.resolve("util.h")),
+        CmakeGenerator.UnixMakefiles));
+    assertNull(AffectedTargets.find(build, List.of(src.resolve("util.h")), CmakeGenerator.Ninja));
+    // not built yet
+    assertNull(AffectedTargets.find(src, List.of(src.resolve("main.cpp")), CmakeGenerator.Ninja));
+
+    List<Path> unknown = new ArrayList<>();
+    assertEquals(Set.of("app"), AffectedTargets.find(build, List.of(src.resolve("main.cpp"), src.resolve("util.h")),
+        CmakeGenerator.UnixMakefiles, unknown));
+    assertEquals(List.of(src.resolve("util.h")), unknown);
+  }
+
+  private static String command(Path directory, Path file, String output) {
+    return String.format("{\"directory\": \"%s\", \"file\": \"%s\", \"output\": \"%s\"}",
+        directory.toString().replace("\\", "\\\\"), file.toString().replace("\\", "\\\\"), output);
+  }
+}
@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link BuildProgress}.
+ *
+ * @author Martin Weber
+ */
+public class BuildProgressTest {
+
+  /**
+   * Test method for {@link BuildProgress#getRemaining(long)} with a ninja build.
+   */
+  @Test
+  public void testNinja() {
+    // mean duration: 2000 ms
+    BuildProgress progress = new BuildProgress(
+        Map.of("CMakeFiles/app.dir/main.cpp.o", 1000, "CMakeFiles/app.dir/util.cpp.o", 3000), 0);
+    assertEquals(-1.0, progress.getFraction(), 0.0);
+    assertFalse(progress.processLine("-- Configuring done"));
+    assertEquals(-1, progress.getRemaining(1000));
+
+    assertTrue(progress.processLine("[1/5] Building CXX object CMakeFiles/app.dir/main.cpp.o"));
+    assertEquals(0.2, progress.getFraction(), 1e-9);
+    // 1000 ms of recorded work took 1000 ms, 4 edges of 2000 ms each remain
+    assertEquals(8000, progress.getRemaining(1000));
+    // the build runs faster than before
+    assertTrue(progress.processLine("[2/5] Building CXX object CMakeFiles/app.dir/util.cpp.o"));
+    assertEquals(3000, progress.getRemaining(2000));
+    assertEquals("2 of 5 build steps, about 3 s remaining", progress.getStatus(2000));
+    // edges without a status line count with the mean duration
+    assertTrue(progress.processLine("[5/5] Linking CXX executable app"));
+    assertEquals(1.0, progress.getFraction(), 0.0);
+    assertEquals(0, progress.getRemaining(5000));
+  }
+
+  /**
+   * Test method for {@link BuildProgress#getRemaining(long)} with a makefile build.
+   */
+  @Test
+  public void testMake() {
+    BuildProgress progress = new BuildProgress(Map.of(), 0);
+    assertTrue(progress.processLine("[ 25%] Building CXX object CMakeFiles/app.dir/main.cpp.o"));
+    assertEquals(0.25, progress.getFraction(), 0.0);
+    assertEquals(90000, progress.getRemaining(30000));
+    assertEquals("25% done, about 1:30 min remaining", progress.getStatus(30000));
+    assertFalse(progress.processLine("make[2]: Leaving directory '/build'"));
+    assertTrue(progress.processLine("[100%] Built target app"));
+    assertEquals(1.0, progress.getFraction(), 0.0);
+  }
+}
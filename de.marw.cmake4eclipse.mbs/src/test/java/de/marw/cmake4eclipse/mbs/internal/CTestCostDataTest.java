@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Result;
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Status;
+
+/**
+ * Tests for {@link CTestCostData}.
+ *
+ * @author Martin Weber
+ */
+public class CTestCostDataTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link CTestCostData#recordTimes(Path, List)}.
+   */
+  @Test
+  public void testRecordTimes() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("state/p.test-times");
+    assertEquals(Map.of(), CTestCostData.readTimes(file));
+    CTestCostData.recordTimes(file, List.of(new Result("a", Status.PASSED, 1500, ""),
+        new Result("b c", Status.FAILED, 200, ""), new Result("d", Status.SKIPPED, 0, "")));
+    CTestCostData.recordTimes(file, List.of(new Result("a", Status.PASSED, 2500, "")));
+    assertEquals(Map.of("a", 2.5, "b c", 0.2), CTestCostData.readTimes(file));
+  }
+
+  /**
+   * Test method for {@link CTestCostData#seed(Path, Map)}.
+   */
+  @Test
+  public void testSeed() throws Exception {
+    Path build = tmp.getRoot().toPath();
+    // build directory was deleted
+    CTestCostData.seed(build, Map.of("a", 2.5));
+    Path costFile = build.resolve(CTestCostData.COST_FILE);
+    assertEquals(List.of("a 1 2.5", "---"), Files.readAllLines(costFile));
+
+    // ctest's own costs take precedence
+    Files.write(costFile, List.of("a 3 2", "slow test 2 7.5", "---", "slow test"));
+    CTestCostData.seed(build, Map.of("a", 1.0, "slow test", 1.0, "new", 0.5));
+    assertEquals(List.of("a 3 2", "slow test 2 7.5", "new 1 0.5", "---", "slow test"), Files.readAllLines(costFile));
+  }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Result;
+import de.marw.cmake4eclipse.mbs.internal.CTestResults.Status;
+
+/**
+ * Tests for {@link CTestOutput}.
+ *
+ * @author Martin Weber
+ */
+public class CTestOutputTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link CTestOutput#parseLine(String)}.
+   */
+  @Test
+  public void testParseLine() {
+    assertNull(CTestOutput.parseLine("      Start  1: test_a"));
+    assertNull(CTestOutput.parseLine("100% tests passed, 0 tests failed out of 40"));
+
+    Result result = CTestOutput.parseLine(" 1/40 Test  #3: test_a ...........................   Passed    0.25 sec");
+    assertEquals("test_a", result.getName());
+    assertEquals(Status.PASSED, result.getStatus());
+    assertEquals(250, result.getTime());
+    assertEquals(40, CTestOutput.parseTotal(" 1/40 Test  #3: test_a .....   Passed    0.25 sec"));
+
+    result = CTestOutput.parseLine("12/40 Test #12: slow test .........................***Timeout  10.01 sec");
+    assertEquals("slow test", result.getName());
+    assertEquals(Status.FAILED, result.getStatus());
+    assertEquals("Timeout", result.getOutput());
+
+    result = CTestOutput.parseLine("13/40 Test #13: off ....***Not Run (Disabled)   0.00 sec");
+    assertEquals(Status.SKIPPED, result.getStatus());
+  }
+
+  /**
+   * Test method for {@link CTestOutput#isJUnitSupported(String)}.
+   */
+  @Test
+  public void testIsJUnitSupported() {
+    assertTrue(CTestOutput.isJUnitSupported("ctest version 3.28.3\n\nCMake suite maintained and supported by Kitware"));
+    assertTrue(CTestOutput.isJUnitSupported("ctest version 4.0.0"));
+    assertFalse(CTestOutput.isJUnitSupported("ctest version 3.20.6"));
+    assertFalse(CTestOutput.isJUnitSupported(""));
+  }
+
+  /**
+   * Test method for {@link CTestOutput#readJUnit(Path)}.
+   */
+  @Test
+  public void testReadJUnit() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("junit.xml");
+    assertEquals(List.of(), CTestOutput.readJUnit(file));
+    Files.writeString(file, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<testsuite name=\"Linux\" tests=\"3\" failures=\"1\" disabled=\"1\" skipped=\"0\" time=\"1\">\n"
+        + "  <testcase name=\"test_a\" classname=\"test_a\" time=\"0.25\" status=\"run\">\n"
+        + "    <system-out>ok</system-out>\n"
+        + "  </testcase>\n"
+        + "  <testcase name=\"test_b\" classname=\"test_b\" time=\"0.5\" status=\"fail\">\n"
+        + "    <failure message=\"Failed\"/>\n"
+        + "    <system-out>expected 1, got 2</system-out>\n"
+        + "  </testcase>\n"
+        + "  <testcase name=\"off\" classname=\"off\" time=\"0\" status=\"disabled\">\n"
+        + "    <skipped message=\"Disabled\"/>\n"
+        + "  </testcase>\n"
+        + "</testsuite>\n");
+    List<Result> results = CTestOutput.readJUnit(file);
+    assertEquals(3, results.size());
+    assertEquals(Status.PASSED, results.get(0).getStatus());
+    assertEquals(250, results.get(0).getTime());
+    assertEquals("test_b", results.get(1).getName());
+    assertEquals(Status.FAILED, results.get(1).getStatus());
+    assertEquals("expected 1, got 2", results.get(1).getOutput());
+    assertEquals(Status.SKIPPED, results.get(2).getStatus());
+  }
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.settings.CmakeGenerator;
+
+/**
+ * Tests for {@link CompileFile}.
+ *
+ * @author Martin Weber
+ */
+public class CompileFileTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link CompileFile#getObjectTarget(Path, Path, CmakeGenerator)}.
+   */
+  @Test
+  public void testGetObjectTarget_Ninja() throws Exception {
+    Path build = tmp.getRoot().toPath().resolve("build");
+    Path src = tmp.getRoot().toPath().resolve("src");
+    Files.createDirectories(build);
+    Files.writeString(build.resolve("compile_commands.json"), "[" + command(build, src.resolve("main.cpp"),
+        "CMakeFiles/app.dir/main.cpp.o") + ", " + command(build, src.resolve("lib/util.cpp"),
+            "lib/CMakeFiles/util.dir/util.cpp.o") + "]");
+
+    assertEquals("lib/CMakeFiles/util.dir/util.cpp.o",
+        CompileFile.getObjectTarget(build, src.resolve("lib/util.cpp"), CmakeGenerator.Ninja));
+    assertNull(CompileFile.getObjectTarget(build, src.resolve("lib/util.h"), CmakeGenerator.Ninja));
+    assertNull(CompileFile.getObjectTarget(src, src.resolve("main.cpp"), CmakeGenerator.Ninja));
+  }
+
+  /**
+   * Test method for {@link CompileFile#getObjectTarget(Path, Path, CmakeGenerator)}.
+   */
+  @Test
+  public void testGetObjectTarget_Makefiles() throws Exception {
+    Path build = tmp.getRoot().toPath().resolve("build");
+    Path src = tmp.getRoot().toPath().resolve("src");
+    Files.createDirectories(build);
+    // the directory of a compile command is the binary directory of the target
+    Files.writeString(build.resolve("compile_commands.json"), "[" + command(build.resolve("lib"),
+        src.resolve("lib/util.cpp"), "CMakeFiles/util.dir/util.cpp.o") + "]");
+
+    String target = CompileFile.getObjectTarget(build, src.resolve("lib/util.cpp"), CmakeGenerator.UnixMakefiles);
+    assertEquals("-f lib/CMakeFiles/util.dir/build.make lib/CMakeFiles/util.dir/util.cpp.o", target);
+    assertTrue(CompileFile.isObjectTarget(target));
+    assertFalse(CompileFile.isObjectTarget("all"));
+    assertFalse(CompileFile.isObjectTarget(null));
+  }
+
+  /**
+   * Test method for {@link CompileFile#getObjectTarget(Path, Path, CmakeGenerator)} with a source file in a sub
+   * directory of the target's source directory.
+   */
+  @Test
+  public void testGetObjectTarget_MakefilesNested() throws Exception {
+    Path build = tmp.getRoot().toPath().resolve("build");
+    Path src = tmp.getRoot().toPath().resolve("src");
+    Files.createDirectories(build);
+    Files.writeString(build.resolve("compile_commands.json"), "[" + command(build, src.resolve("src/main.cpp"),
+        "CMakeFiles/app.dir/src/main.cpp.o") + ", " + command(build.resolve("lib"),
+            src.resolve("lib/detail/CMakeFiles/impl.cpp"), "CMakeFiles/util.dir/detail/CMakeFiles/impl.cpp.o") + "]");
+
+    assertEquals("-f CMakeFiles/app.dir/build.make CMakeFiles/app.dir/src/main.cpp.o",
+        CompileFile.getObjectTarget(build, src.resolve("src/main.cpp"), CmakeGenerator.UnixMakefiles));
+    assertEquals("-f lib/CMakeFiles/util.dir/build.make lib/CMakeFiles/util.dir/detail/CMakeFiles/impl.cpp.o",
+        CompileFile.getObjectTarget(build, src.resolve("lib/detail/CMakeFiles/impl.cpp"),
+            CmakeGenerator.UnixMakefiles));
+  }
+
+  private static String command(Path directory, Path file, String output) {
+    return String.format("{\"directory\": \"%s\", \"command\": \"c++ -o %s -c %s\", \"file\": \"%s\","
+        + " \"output\": \"%s\"}", json(directory), output, json(file), json(file), output);
+  }
+
+  private static String json(Path path) {
+    return path.toString().replace("\\", "\\\\");
+  }
+}
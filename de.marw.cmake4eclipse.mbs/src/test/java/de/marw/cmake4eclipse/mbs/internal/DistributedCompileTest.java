@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.settings.DistributedCompilerType;
+
+/**
+ * Tests for {@link DistributedCompile}.
+ *
+ * @author Martin Weber
+ */
+public class DistributedCompileTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link DistributedCompile#parseDistccHosts(String)}.
+   */
+  @Test
+  public void testParseDistccHosts() {
+    DistributedCompile.Slots slots = DistributedCompile
+        .parseDistccHosts("--randomize localhost/3 build1/8 @build2/16,lzo build3 # build4/32\n+zeroconf");
+    assertEquals(3, slots.getLocal());
+    assertEquals(8 + 16 + 4, slots.getRemote());
+    assertEquals(31, slots.getJobs());
+
+    slots = DistributedCompile.parseDistccHosts("build1:3633/10");
+    assertEquals(0, slots.getLocal());
+    assertEquals(10, slots.getRemote());
+  }
+
+  /**
+   * Test method for {@link DistributedCompile#getSlots}. The local host stands in for a compile farm daemon, its
+   * slots never exceed the processors.
+   */
+  @Test
+  public void testGetSlots() throws Exception {
+    File dir = tmp.newFolder();
+    Files.writeString(dir.toPath().resolve("hosts"), "localhost/64 farm/12\n");
+    Map<String, String> env = Map.of("DISTCC_DIR", dir.getPath(), "HOME", dir.getPath());
+
+    DistributedCompile.Slots slots = DistributedCompile.getSlots(DistributedCompilerType.DISTCC, null, 8, env);
+    assertEquals(8, slots.getLocal());
+    assertEquals(12, slots.getRemote());
+    assertEquals(20, slots.getJobs());
+
+    // DISTCC_HOSTS takes precedence over the hosts file, local host not listed
+    slots = DistributedCompile.getSlots(DistributedCompilerType.DISTCC, null, 8,
+        Map.of("DISTCC_HOSTS", "farm/6", "DISTCC_DIR", dir.getPath()));
+    assertEquals(8, slots.getLocal());
+    assertEquals(6, slots.getRemote());
+
+    // specified in the project settings
+    slots = DistributedCompile.getSlots(DistributedCompilerType.ICECC, 40, 8, env);
+    assertEquals(48, slots.getJobs());
+    // icecream cannot tell
+    assertNull(DistributedCompile.getSlots(DistributedCompilerType.ICECC, null, 8, env));
+  }
+}
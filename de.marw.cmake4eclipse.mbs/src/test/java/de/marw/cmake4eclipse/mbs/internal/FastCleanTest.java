@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link FastClean}.
+ *
+ * @author Martin Weber
+ */
+public class FastCleanTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link FastClean#moveAside(Path, Path)} and
+   * {@link FastClean#delete(Path, int, java.util.function.BooleanSupplier)}.
+   */
+  @Test
+  public void testMoveAsideAndDelete() throws Exception {
+    Path buildDir = tmp.newFolder("_build", "Debug").toPath();
+    for (int i = 0; i < 10; i++) {
+      Path dir = Files.createDirectories(buildDir.resolve("CMakeFiles/target" + i + ".dir/src"));
+      for (int j = 0; j < 10; j++) {
+        Files.writeString(dir.resolve("file" + j + ".o"), "obj");
+      }
+    }
+    Path sibling = tmp.newFolder("_build", "Release").toPath();
+    Path stateTrash = tmp.getRoot().toPath().resolve(".metadata").resolve(FastClean.TRASH_DIR);
+
+    Path trash = FastClean.moveAside(buildDir, stateTrash);
+    assertFalse(Files.exists(buildDir));
+    assertEquals(stateTrash, trash);
+    assertFalse(Files.exists(buildDir.resolveSibling(FastClean.TRASH_DIR)));
+    List<Path> moved;
+    try (Stream<Path> entries = Files.list(trash)) {
+      moved = entries.collect(Collectors.toList());
+    }
+    assertEquals(1, moved.size());
+    assertTrue(moved.get(0).getFileName().toString().startsWith("Debug-"));
+    assertTrue(Files.exists(moved.get(0).resolve("CMakeFiles/target9.dir/src/file9.o")));
+
+    assertEquals(0, FastClean.delete(trash, 4, () -> false));
+    assertFalse(Files.exists(trash));
+    assertTrue(Files.exists(sibling));
+  }
+
+  /**
+   * Test method for {@link FastClean#delete(Path, int, java.util.function.BooleanSupplier)}.
+   */
+  @Test
+  public void testDelete_Canceled() throws Exception {
+    Path dir = tmp.newFolder("trash").toPath();
+    Files.writeString(dir.resolve("file"), "");
+    Files.createSymbolicLink(dir.resolve("link"), tmp.getRoot().toPath());
+
+    assertEquals(0, FastClean.delete(dir, 2, () -> true));
+    assertTrue(Files.exists(dir));
+
+    // deletes the link, not the files it points to
+    assertEquals(0, FastClean.delete(dir, 2, () -> false));
+    assertFalse(Files.exists(dir));
+    assertTrue(Files.exists(tmp.getRoot().toPath()));
+    assertEquals(0, FastClean.delete(dir, 2, () -> false));
+  }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JobBudget}.
+ *
+ * @author Martin Weber
+ */
+public class JobBudgetTest {
+
+  /**
+   * Test method for {@link JobBudget#acquire(int, int, IProgressMonitor)}.
+   */
+  @Test
+  public void testAcquire() throws Exception {
+    JobBudget budget = new JobBudget();
+    JobBudget.Lease a = budget.acquire(8, 6, new NullProgressMonitor());
+    assertEquals(6, a.getJobs());
+    // no more than an equal share
+    JobBudget.Lease b = budget.acquire(8, Integer.MAX_VALUE, new NullProgressMonitor());
+    assertEquals(2, b.getJobs());
+    assertEquals(8, budget.getInUse());
+
+    // used up: waits until jobs are given back
+    final JobBudget.Lease[] c = new JobBudget.Lease[1];
+    Thread waiting = new Thread(() -> c[0] = budget.acquire(8, 4, new NullProgressMonitor()));
+    waiting.start();
+    waiting.join(300);
+    assertTrue(waiting.isAlive());
+    b.close();
+    b.close();
+    waiting.join(5000);
+    assertEquals(2, c[0].getJobs());
+    assertEquals(8, budget.getInUse());
+
+    a.close();
+    JobBudget.Lease d = budget.acquire(8, 6, new NullProgressMonitor());
+    assertEquals(4, d.getJobs());
+    c[0].close();
+    d.close();
+    assertEquals(0, budget.getInUse());
+  }
+
+  /**
+   * Test method for {@link JobBudget#acquire(int, int, IProgressMonitor)}.
+   */
+  @Test
+  public void testAcquire_Cancelled() {
+    JobBudget budget = new JobBudget();
+    JobBudget.Lease a = budget.acquire(4, 4, new NullProgressMonitor());
+    IProgressMonitor monitor = new NullProgressMonitor();
+    monitor.setCanceled(true);
+    try {
+      budget.acquire(4, 1, monitor);
+      fail();
+    } catch (OperationCanceledException expected) {
+    }
+    a.close();
+    assertEquals(0, budget.getInUse());
+  }
+
+  /**
+   * Test method for {@link JobBudget#acquire(int, int, IProgressMonitor)}.
+   */
+  @Test
+  public void testAcquire_Unlimited() {
+    JobBudget budget = new JobBudget();
+    JobBudget.Lease a = budget.acquire(0, Integer.MAX_VALUE, new NullProgressMonitor());
+    assertEquals(Integer.MAX_VALUE, a.getJobs());
+    assertEquals(0, budget.getInUse());
+    a.close();
+    assertEquals(0, budget.getInUse());
+  }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link JobEstimator}.
+ *
+ * @author Martin Weber
+ */
+public class JobEstimatorTest {
+  private static final long GIB = 1L << 30;
+
+  /**
+   * Test method for {@link JobEstimator#computeJobs(int, long, long)}.
+   */
+  @Test
+  public void testComputeJobs() {
+    // bound by processors
+    assertEquals(8, JobEstimator.computeJobs(8, 64 * GIB, 1 * GIB));
+    // bound by memory: 80% of 20 GiB at 2 GiB each
+    assertEquals(8, JobEstimator.computeJobs(64, 20 * GIB, 2 * GIB));
+    // nothing observed yet
+    assertEquals(16, JobEstimator.computeJobs(64, 10 * GIB, 0));
+    // out of memory, still make progress
+    assertEquals(1, JobEstimator.computeJobs(64, GIB / 2, 2 * GIB));
+    // memory unknown
+    assertEquals(64, JobEstimator.computeJobs(64, 0, 2 * GIB));
+  }
+
+  /**
+   * Test method for {@link JobEstimator#computeLinkJobs(int, long, long)}.
+   */
+  @Test
+  public void testComputeLinkJobs() {
+    // nothing observed yet: 2 GiB assumed
+    assertEquals(4, JobEstimator.computeLinkJobs(64, 10 * GIB, 0));
+    assertEquals(2, JobEstimator.computeLinkJobs(64, 10 * GIB, 4 * GIB));
+    assertEquals(1, JobEstimator.computeLinkJobs(64, 2 * GIB, 4 * GIB));
+  }
+
+  /**
+   * Test method for {@link JobEstimator#parseKiloBytes(List, String)}.
+   */
+  @Test
+  public void testParseKiloBytes() {
+    List<String> lines = List.of("MemTotal:       65536000 kB", "MemFree:         1024000 kB",
+        "MemAvailable:   32768000 kB");
+    assertEquals(32768000, JobEstimator.parseKiloBytes(lines, "MemAvailable:"));
+    assertEquals(0, JobEstimator.parseKiloBytes(lines, "VmHWM:"));
+    assertEquals(123456, JobEstimator.parseKiloBytes(List.of("Name:\tcc1plus", "VmHWM:\t  123456 kB"), "VmHWM:"));
+  }
+
+  /**
+   * Test method for {@link JobEstimator#isCompiler(String)}.
+   */
+  @Test
+  public void testIsCompiler() {
+    assertTrue(JobEstimator.isCompiler("/usr/lib/gcc/x86_64-linux-gnu/13/cc1plus"));
+    assertTrue(JobEstimator.isCompiler("/usr/bin/clang-18"));
+    assertFalse(JobEstimator.isCompiler("/usr/bin/g++"));
+    assertFalse(JobEstimator.isCompiler("/usr/bin/ninja"));
+  }
+
+  /**
+   * Test method for {@link JobEstimator#isLinker(String)}.
+   */
+  @Test
+  public void testIsLinker() {
+    assertTrue(JobEstimator.isLinker("/usr/bin/ld"));
+    assertTrue(JobEstimator.isLinker("/usr/bin/ld.gold"));
+    assertTrue(JobEstimator.isLinker("/usr/libexec/gcc/x86_64-linux-gnu/13/lto1"));
+    assertTrue(JobEstimator.isLinker("/usr/bin/mold"));
+    assertFalse(JobEstimator.isLinker("/usr/bin/ldd"));
+    assertFalse(JobEstimator.isLinker("/usr/bin/g++"));
+  }
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import de.marw.cmake4eclipse.mbs.settings.LinkerType;
+
+/**
+ * Tests for {@link LinkProfile}.
+ *
+ * @author Martin Weber
+ */
+public class LinkProfileTest {
+
+  /**
+   * Test method for {@link LinkProfile#getScript}.
+   */
+  @Test
+  public void testGetScript() {
+    assertNull(LinkProfile.getScript(null, true, false, false));
+
+    String script = LinkProfile.getScript(LinkerType.MOLD, true, false, false);
+    assertTrue(script, script.contains("MATCHES \"^(GNU|Clang)$\""));
+    assertTrue(script, script.contains("CMAKE_EXECUTABLE_FORMAT STREQUAL \"ELF\""));
+    assertTrue(script, script.contains("check_linker_flag(${_c4e_lang} \"-fuse-ld=mold\" CMAKE4ECLIPSE_"));
+    assertTrue(script, script.contains("-fuse-ld=mold;-Wl,--gdb-index"));
+    assertFalse(script, script.contains("-gsplit-dwarf"));
+
+    script = LinkProfile.getScript(null, false, true, true);
+    assertFalse(script, script.contains("-fuse-ld"));
+    assertTrue(script, script.contains("-gsplit-dwarf"));
+    assertTrue(script, script.contains("qcT"));
+  }
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.FileInputStream;
+import java.nio.file.Path;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link MakeJobServer}.
+ *
+ * @author Martin Weber
+ */
+public class MakeJobServerTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link MakeJobServer#join(org.eclipse.core.runtime.IProgressMonitor)}.
+   */
+  @Test
+  public void testJoin() throws Exception {
+    assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+    Path fifo = tmp.getRoot().toPath().resolve("jobserver.fifo");
+    MakeJobServer server = MakeJobServer.create(4, fifo);
+    assertEquals(4, server.getAvailable());
+
+    // each build takes its implicit token
+    MakeJobServer.Client a = server.join(new NullProgressMonitor());
+    MakeJobServer.Client b = server.join(new NullProgressMonitor());
+    assertEquals(2, server.getAvailable());
+
+    // a build tool that is killed while running a job never puts its token back
+    try (FileInputStream client = new FileInputStream(fifo.toFile())) {
+      client.read();
+    }
+    assertEquals(1, server.getAvailable());
+    a.close();
+    a.close();
+    assertEquals(2, server.getAvailable());
+    // the last build left: the lost token is restored
+    b.close();
+    assertEquals(4, server.getAvailable());
+  }
+
+  /**
+   * Test method for {@link MakeJobServer#join(org.eclipse.core.runtime.IProgressMonitor)}.
+   */
+  @Test
+  public void testJoin_Cancelled() throws Exception {
+    assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+    Path fifo = tmp.getRoot().toPath().resolve("jobserver.fifo");
+    MakeJobServer server = MakeJobServer.create(1, fifo);
+    MakeJobServer.Client a = server.join(new NullProgressMonitor());
+    assertEquals(0, server.getAvailable());
+
+    // all tokens taken: waits until cancelled
+    IProgressMonitor monitor = new NullProgressMonitor();
+    monitor.setCanceled(true);
+    try {
+      server.join(monitor);
+      fail();
+    } catch (OperationCanceledException expected) {
+    }
+    a.close();
+    // the token is not lost to the reader of the cancelled build
+    MakeJobServer.Client b = server.join(new NullProgressMonitor());
+    assertEquals(0, server.getAvailable());
+    b.close();
+    assertEquals(1, server.getAvailable());
+  }
+}
@@ -0,0 +1,46 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link SearchPath}.
+ *
+ * @author Martin Weber
+ */
+public class SearchPathTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link SearchPath#findExecutable}.
+   */
+  @Test
+  public void testFindExecutable() throws Exception {
+    Path bin1 = tmp.newFolder("bin1").toPath();
+    Path bin2 = tmp.newFolder("bin2").toPath();
+    String path = bin1 + File.pathSeparator + File.pathSeparator + bin2;
+    assertNull(SearchPath.findExecutable("ccache", path));
+
+    Path ccache = Files.createFile(bin2.resolve("ccache"));
+    ccache.toFile().setExecutable(true);
+    assertEquals(ccache, SearchPath.findExecutable("ccache", path));
+    assertNull(SearchPath.findExecutable("sccache", path));
+  }
+}
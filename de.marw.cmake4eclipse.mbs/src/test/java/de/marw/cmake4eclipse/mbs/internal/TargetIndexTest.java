@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TargetIndex}.
+ *
+ * @author Martin Weber
+ */
+public class TargetIndexTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link TargetIndex#get(Path)}.
+   */
+  @Test
+  public void testGet() throws Exception {
+    Path build = tmp.getRoot().toPath();
+    assertNull(TargetIndex.get(build));
+    TargetIndex.writeQuery(build);
+    assertTrue(Files.exists(build.resolve(".cmake/api/v1/query/codemodel-v2")));
+    assertNull(TargetIndex.get(build));
+
+    Path reply = Files.createDirectories(build.resolve(".cmake/api/v1/reply"));
+    Files.writeString(reply.resolve("codemodel-v2-1.json"), "{\"configurations\": [{\"name\": \"Debug\","
+        + " \"directories\": [{\"source\": \".\"}, {\"source\": \"lib\"}],"
+        + " \"targets\": [{\"name\": \"app\", \"directoryIndex\": 0}, {\"name\": \"util\", \"directoryIndex\": 1},"
+        + " {\"name\": \"base\", \"directoryIndex\": 1}]}]}");
+    Files.writeString(reply.resolve("index-2025-01-01T10-00-00-0000.json"), "{\"objects\": [{\"kind\": \"codemodel\","
+        + " \"version\": {\"major\": 2, \"minor\": 6}, \"jsonFile\": \"codemodel-v2-1.json\"}]}");
+    TargetIndex index = TargetIndex.get(build);
+    assertEquals(Map.of(".", List.of("app"), "lib", List.of("base", "util")), index.getTargetsByDirectory());
+    assertEquals(3, index.size());
+    assertSame(index, TargetIndex.get(build));
+
+    assertEquals(Set.of(), index.getSourceDirectories());
+
+    // cmake ran again, with a sub directory outside of the top-level source directory
+    Path source = tmp.newFolder("src").toPath();
+    Path external = tmp.newFolder("external").toPath();
+    Files.writeString(reply.resolve("codemodel-v2-2.json"), "{\"paths\": {\"source\": \"" + json(source)
+        + "\"}, \"configurations\": [{\"name\": \"\", \"directories\": [{\"source\": \".\"},"
+        + " {\"source\": \"" + json(external) + "\"}], \"targets\": [{\"name\": \"app\", \"directoryIndex\": 0}]}]}");
+    Files.writeString(reply.resolve("index-2025-01-01T11-00-00-0000.json"), "{\"objects\": [{\"kind\": \"codemodel\","
+        + " \"version\": {\"major\": 2, \"minor\": 6}, \"jsonFile\": \"codemodel-v2-2.json\"}]}");
+    TargetIndex reconfigured = TargetIndex.get(build);
+    assertNotSame(index, reconfigured);
+    assertEquals(Map.of(".", List.of("app")), reconfigured.getTargetsByDirectory());
+    assertEquals(Set.of(source, external), reconfigured.getSourceDirectories());
+  }
+
+  private static String json(Path path) {
+    return path.toString().replace("\\", "\\\\");
+  }
+
+  /**
+   * Test method for {@link TargetIndex#getDependents(java.util.Collection)} and
+   * {@link TargetIndex#getTarget(Path)}.
+   */
+  @Test
+  public void testDependencies() throws Exception {
+    Path build = tmp.getRoot().toPath();
+    Path reply = Files.createDirectories(build.resolve(".cmake/api/v1/reply"));
+    Files.writeString(reply.resolve("codemodel-v2-1.json"), "{\"configurations\": [{\"name\": \"Debug\","
+        + " \"directories\": [{\"source\": \".\"}],"
+        + " \"targets\": [{\"name\": \"base\", \"id\": \"base::@1\", \"directoryIndex\": 0,"
+        + " \"jsonFile\": \"t-base.json\"},"
+        + " {\"name\": \"util\", \"id\": \"util::@1\", \"directoryIndex\": 0, \"jsonFile\": \"t-util.json\"},"
+        + " {\"name\": \"app_test\", \"id\": \"app_test::@1\", \"directoryIndex\": 0,"
+        + " \"jsonFile\": \"t-app_test.json\"}]}]}");
+    Files.writeString(reply.resolve("t-base.json"), "{\"artifacts\": [{\"path\": \"libbase.a\"}]}");
+    Files.writeString(reply.resolve("t-util.json"),
+        "{\"artifacts\": [{\"path\": \"libutil.a\"}], \"dependencies\": [{\"id\": \"base::@1\"}]}");
+    Files.writeString(reply.resolve("t-app_test.json"),
+        "{\"artifacts\": [{\"path\": \"bin/app_test\"}], \"dependencies\": [{\"id\": \"util::@1\"}]}");
+    Files.writeString(reply.resolve("index-2025-01-01T10-00-00-0000.json"), "{\"objects\": [{\"kind\": \"codemodel\","
+        + " \"version\": {\"major\": 2, \"minor\": 6}, \"jsonFile\": \"codemodel-v2-1.json\"}]}");
+    TargetIndex index = TargetIndex.get(build);
+    assertEquals(Set.of("base", "util", "app_test"), index.getDependents(List.of("base")));
+    assertEquals(Set.of("app_test"), index.getDependents(List.of("app_test")));
+    assertEquals("app_test", index.getTarget(build.resolve("bin/app_test")));
+    assertEquals("base", index.getTarget(build.resolve("bin/../libbase.a")));
+    assertNull(index.getTarget(build.resolve("bin/other")));
+  }
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.marw.cmake4eclipse.mbs.internal.TestImpact.TestInfo;
+
+/**
+ * Tests for {@link TestImpact}.
+ *
+ * @author Martin Weber
+ */
+public class TestImpactTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link TestImpact#readTests(String)} and
+   * {@link TestImpact#select(List, TargetIndex, java.util.Collection)}.
+   */
+  @Test
+  public void testSelect() throws Exception {
+    Path build = tmp.getRoot().toPath();
+    Path reply = Files.createDirectories(build.resolve(".cmake/api/v1/reply"));
+    Files.writeString(reply.resolve("codemodel-v2-1.json"), "{\"configurations\": [{\"name\": \"Debug\","
+        + " \"directories\": [{\"source\": \".\"}],"
+        + " \"targets\": [{\"name\": \"util\", \"id\": \"util::@1\", \"directoryIndex\": 0,"
+        + " \"jsonFile\": \"t-1.json\"},"
+        + " {\"name\": \"a_test\", \"id\": \"a_test::@1\", \"directoryIndex\": 0, \"jsonFile\": \"t-2.json\"},"
+        + " {\"name\": \"b_test\", \"id\": \"b_test::@1\", \"directoryIndex\": 0, \"jsonFile\": \"t-3.json\"}]}]}");
+    Files.writeString(reply.resolve("t-1.json"), "{\"artifacts\": [{\"path\": \"libutil.a\"}]}");
+    Files.writeString(reply.resolve("t-2.json"),
+        "{\"artifacts\": [{\"path\": \"a_test\"}], \"dependencies\": [{\"id\": \"util::@1\"}]}");
+    Files.writeString(reply.resolve("t-3.json"), "{\"artifacts\": [{\"path\": \"b_test\"}]}");
+    Files.writeString(reply.resolve("index-2025-01-01T10-00-00-0000.json"), "{\"objects\": [{\"kind\": \"codemodel\","
+        + " \"version\": {\"major\": 2, \"minor\": 6}, \"jsonFile\": \"codemodel-v2-1.json\"}]}");
+    TargetIndex index = TargetIndex.get(build);
+
+    String a = build.resolve("a_test").toString().replace("\\", "\\\\");
+    String b = build.resolve("b_test").toString().replace("\\", "\\\\");
+    List<TestInfo> tests = TestImpact.readTests("{\"kind\": \"ctestInfo\", \"version\": {\"major\": 1, \"minor\": 0},"
+        + " \"tests\": [{\"name\": \"a\", \"command\": [\"" + a + "\", \"--fast\"],"
+        + " \"properties\": [{\"name\": \"LABELS\", \"value\": [\"unit\", \"util\"]}]},"
+        + " {\"name\": \"b\", \"command\": [\"" + b + "\"]},"
+        + " {\"name\": \"b_wrapped\", \"command\": [\"/usr/bin/valgrind\", \"" + b + "\"]},"
+        + " {\"name\": \"script\", \"command\": [\"/usr/bin/python3\", \"check.py\"]},"
+        + " {\"name\": \"unavailable\"}]}");
+    assertEquals(5, tests.size());
+    assertEquals(List.of("unit", "util"), tests.get(0).getLabels());
+    assertEquals(List.of(), tests.get(4).getCommand());
+
+    assertEquals(List.of("a", "script", "unavailable"), names(TestImpact.select(tests, index, List.of("util"))));
+    assertEquals(List.of("b", "b_wrapped", "script", "unavailable"),
+        names(TestImpact.select(tests, index, List.of("b_test"))));
+    assertNull(TestImpact.readTests("ctest: unknown option"));
+  }
+
+  private static List<String> names(List<TestInfo> tests) {
+    List<String> names = new ArrayList<>();
+    for (TestInfo test : tests) {
+      names.add(test.getName());
+    }
+    return names;
+  }
+
+  /**
+   * Test method for {@link TestImpact#toRegex(java.util.Collection)}.
+   */
+  @Test
+  public void testToRegex() {
+    String regex = TestImpact.toRegex(List.of("a.b", "c(1)", "d"));
+    assertEquals("^(a\\.b|c\\(1\\)|d)$", regex);
+    Pattern pattern = Pattern.compile(regex);
+    assertTrue(pattern.matcher("a.b").matches());
+    assertTrue(pattern.matcher("c(1)").matches());
+    assertFalse(pattern.matcher("axb").matches());
+    assertFalse(pattern.matcher("d2").matches());
+  }
+
+  /**
+   * Test method for {@link TestImpact#listFiles(java.util.Collection, java.util.function.Predicate)}.
+   */
+  @Test
+  public void testListFiles() throws Exception {
+    Path project = tmp.newFolder("project").toPath();
+    Path external = tmp.newFolder("external").toPath();
+    Files.createDirectories(project.resolve(".git"));
+    Files.createDirectories(project.resolve("_build/Debug"));
+    Files.createDirectories(project.resolve("src"));
+    Files.writeString(project.resolve(".git/index"), "");
+    Files.writeString(project.resolve("_build/Debug/app"), "");
+    Files.writeString(project.resolve("src/main.cpp"), "");
+    Files.writeString(project.resolve("data.txt"), "");
+    Files.writeString(external.resolve("util.cpp"), "");
+    Files.setLastModifiedTime(project.resolve("data.txt"), FileTime.fromMillis(1_000_000_000_000L));
+
+    Map<Path, Long> files = TestImpact.listFiles(List.of(project, project.resolve("src"), external),
+        path -> path.getFileName().toString().equals("_build"));
+    assertEquals(Set.of(project.resolve("src/main.cpp"), project.resolve("data.txt"), external.resolve("util.cpp")),
+        files.keySet());
+    assertEquals(Long.valueOf(1_000_000_000_000L), files.get(project.resolve("data.txt")));
+  }
+
+  /**
+   * Test method for {@link TestImpact#getChangedFiles(long, Set, Map)}.
+   */
+  @Test
+  public void testGetChangedFiles() {
+    Path modified = Paths.get("/src/modified.cpp");
+    Path unchanged = Paths.get("/src/unchanged.cpp");
+    Path added = Paths.get("/src/added.cpp");
+    Path removed = Paths.get("/src/removed.cpp");
+    List<Path> changed = TestImpact.getChangedFiles(1000, Set.of(modified, unchanged, removed),
+        Map.of(modified, 1001L, unchanged, 1000L, added, 10L));
+    assertEquals(Set.of(modified, added, removed), Set.copyOf(changed));
+    assertEquals(3, changed.size());
+  }
+}
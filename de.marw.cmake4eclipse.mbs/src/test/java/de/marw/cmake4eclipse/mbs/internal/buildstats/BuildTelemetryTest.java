@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link BuildTelemetry}.
+ *
+ * @author Martin Weber
+ */
+public class BuildTelemetryTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link BuildTelemetry#append}.
+   */
+  @Test
+  public void testAppend() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("p.telemetry");
+    BuildTelemetry telemetry = new BuildTelemetry(file);
+    assertTrue(telemetry.getRecords().isEmpty());
+
+    telemetry.append(full(60_000, true), 25);
+    telemetry.append(full(64_000, true), 25);
+    // too few previous builds
+    BuildTelemetry.Record rec = full(62_000, true);
+    telemetry.append(rec, 25);
+    assertEquals(0, rec.getBaseline());
+    assertNull(BuildTelemetry.formatComparison(rec));
+    // failed and incremental builds do not count
+    telemetry.append(full(5_000, false), 25);
+    telemetry.append(BuildTelemetry.record(BuildTelemetry.BUILD, "Debug", "", false, 1_000, 8, null, true), 25);
+    telemetry.append(BuildTelemetry.record(BuildTelemetry.BUILD, "Release", "", true, 10_000, 8, null, true), 25);
+
+    rec = full(70_000, true);
+    telemetry.append(rec, 25);
+    assertEquals(62_000, rec.getBaseline());
+    assertFalse(rec.isRegression());
+
+    rec = full(90_000, true);
+    telemetry.append(rec, 25);
+    // median of 60, 62, 64 and 70 s
+    assertEquals(63_000, rec.getBaseline());
+    assertTrue(rec.isRegression());
+    assertEquals(
+        "  Performance regression: Full build took 90.0 s, +43% compared to the median of the previous runs (63.0 s)\n",
+        BuildTelemetry.formatComparison(rec));
+
+    List<BuildTelemetry.Record> records = telemetry.getRecords();
+    assertEquals(8, records.size());
+    assertTrue(records.get(7).isRegression());
+    assertEquals(63_000, records.get(7).getBaseline());
+    assertEquals(8, records.get(7).getJobs());
+  }
+
+  /**
+   * Test method for {@link BuildTelemetry.Record#getCacheHitRate()}.
+   */
+  @Test
+  public void testGetCacheHitRate() {
+    assertEquals(-1, full(1, true).getCacheHitRate(), 0);
+    BuildTelemetry.Record rec = BuildTelemetry.record(BuildTelemetry.BUILD, "Debug", "all", false, 1, 8,
+        new CompilerCacheStats(3, 1), true);
+    assertEquals(75, rec.getCacheHitRate(), 0.001);
+  }
+
+  private static BuildTelemetry.Record full(long duration, boolean success) {
+    return BuildTelemetry.record(BuildTelemetry.BUILD, "Debug", "", true, duration, 8, null, success);
+  }
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link BuildTimeHistory}.
+ *
+ * @author Martin Weber
+ */
+public class BuildTimeHistoryTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link BuildTimeHistory#getFastestPerProfile}.
+   */
+  @Test
+  public void testGetFastestPerProfile() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("p.build-times");
+    BuildTimeHistory history = new BuildTimeHistory(file);
+    assertTrue(history.getFastestPerProfile("Debug").isEmpty());
+
+    history.append(BuildTimeHistory.record("Debug", "default", 60_000));
+    history.append(BuildTimeHistory.record("Debug", "unity build, batch size 8", 40_000));
+    history.append(BuildTimeHistory.record("Debug", "unity build, batch size 16", 35_000));
+    history.append(BuildTimeHistory.record("Debug", "default", 55_000));
+    history.append(BuildTimeHistory.record("Release", "default", 10_000));
+
+    Map<String, BuildTimeHistory.Record> fastest = history.getFastestPerProfile("Debug");
+    assertEquals(List.of("unity build, batch size 16", "unity build, batch size 8", "default"),
+        List.copyOf(fastest.keySet()));
+    assertEquals(55_000, fastest.get("default").getDuration());
+  }
+
+  /**
+   * Test method for {@link BuildTimeHistory#formatReport}.
+   */
+  @Test
+  public void testFormatReport() {
+    BuildTimeHistory.Record current = BuildTimeHistory.record("Debug", "default", 61_250);
+    String report = BuildTimeHistory.formatReport(current, Map.of("default", current));
+    assertEquals("  Full build took 61.3 s (default)\n", report);
+
+    BuildTimeHistory.Record unity = BuildTimeHistory.record("Debug", "unity build", 30_000);
+    report = BuildTimeHistory.formatReport(current, Map.of("unity build", unity, "default", current));
+    assertTrue(report.contains("    61.3 s  default  (current)\n"));
+    assertFalse(report.contains("unity build  (current)"));
+  }
+}
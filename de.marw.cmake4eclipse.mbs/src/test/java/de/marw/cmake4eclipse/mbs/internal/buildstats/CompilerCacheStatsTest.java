@@ -0,0 +1,86 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import de.marw.cmake4eclipse.mbs.settings.CompilerCacheType;
+
+/**
+ * Tests for {@link CompilerCacheStats}.
+ *
+ * @author Martin Weber
+ */
+public class CompilerCacheStatsTest {
+
+  /**
+   * Test method for {@link CompilerCacheStats#parse} with ccache output.
+   */
+  @Test
+  public void testParseCcache() {
+    String output = "stats_updated_timestamp\t1735689600\n" + "cache_miss\t25\n" + "direct_cache_hit\t60\n"
+        + "preprocessed_cache_hit\t15\n" + "files_in_cache\t412\n";
+    CompilerCacheStats stats = CompilerCacheStats.parse(CompilerCacheType.CCACHE, output);
+    assertEquals(75, stats.getHits());
+    assertEquals(25, stats.getMisses());
+    assertEquals(75.0, stats.getHitRate(), 0.001);
+
+    assertNull(CompilerCacheStats.parse(CompilerCacheType.CCACHE, "ccache: invalid option -- '-'"));
+  }
+
+  /**
+   * Test method for {@link CompilerCacheStats#parse} with sccache output.
+   */
+  @Test
+  public void testParseSccache() {
+    String output = "{\"stats\":{\"compile_requests\":40,"
+        + "\"cache_hits\":{\"counts\":{\"C/C++\":30,\"CUDA\":2},\"adv_counts\":{}},"
+        + "\"cache_misses\":{\"counts\":{\"C/C++\":8},\"adv_counts\":{}}},\"cache_location\":\"Local disk\"}";
+    CompilerCacheStats stats = CompilerCacheStats.parse(CompilerCacheType.SCCACHE, output);
+    assertEquals(32, stats.getHits());
+    assertEquals(8, stats.getMisses());
+
+    assertNull(CompilerCacheStats.parse(CompilerCacheType.SCCACHE, "error: failed to get stats from server"));
+  }
+
+  /**
+   * Test method for {@link CompilerCacheStats#parseFastBuildSummary}.
+   */
+  @Test
+  public void testParseFastBuildSummary() {
+    String output = "2> Obj: /src/a.cpp <CACHE>\n" + "FBuild: OK: all\n" + "Time: 4.512s\n"
+        + "--- Summary -------------------------------------------------\n"
+        + "/----- Cache Stats ------------------------------------------\n"
+        + "| Hits       : 38 (95.0 %)\n" + "| Misses     : 2\n" + "| Stores     : 2\n";
+    CompilerCacheStats stats = CompilerCacheStats.parseFastBuildSummary(output);
+    assertEquals(38, stats.getHits());
+    assertEquals(2, stats.getMisses());
+
+    assertNull(CompilerCacheStats.parseFastBuildSummary("FBuild: OK: all\nTime: 0.01s\n"));
+  }
+
+  /**
+   * Test method for {@link CompilerCacheStats#minus}.
+   */
+  @Test
+  public void testMinus() {
+    CompilerCacheStats delta = new CompilerCacheStats(110, 30).minus(new CompilerCacheStats(100, 10));
+    assertEquals(10, delta.getHits());
+    assertEquals(20, delta.getMisses());
+    assertEquals("10 hits, 20 misses (33.3% hit rate)", delta.toString());
+
+    // statistics zeroed during the build
+    delta = new CompilerCacheStats(0, 0).minus(new CompilerCacheStats(100, 10));
+    assertEquals(-1, delta.getHitRate(), 0);
+    assertEquals("nothing compiled", delta.toString());
+  }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link HistoryFile}.
+ *
+ * @author Martin Weber
+ */
+public class HistoryFileTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  /**
+   * Test method for {@link HistoryFile#append(Object)}.
+   */
+  @Test
+  public void testAppend_Truncates() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("p.build-times");
+    HistoryFile<BuildTimeHistory.Record> history = newHistory(file, 10);
+    for (int i = 0; i < 10; i++) {
+      history.append(BuildTimeHistory.record("Debug", "default", i));
+    }
+    assertEquals(10, history.read().size());
+
+    history.append(BuildTimeHistory.record("Debug", "default", 10));
+    List<BuildTimeHistory.Record> records = history.read();
+    assertEquals(6, records.size());
+    assertEquals(5, records.get(0).getDuration());
+    assertEquals(10, records.get(5).getDuration());
+  }
+
+  /**
+   * Test method for {@link HistoryFile#append(Object, java.util.function.Consumer)}.
+   */
+  @Test
+  public void testAppend_Concurrent() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("p.build-times");
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      // each thread appends through its own instance, like concurrent builds do
+      HistoryFile<BuildTimeHistory.Record> history = newHistory(file, 1000);
+      Thread thread = new Thread(() -> {
+        try {
+          for (int i = 0; i < 50; i++) {
+            BuildTimeHistory.Record rec = BuildTimeHistory.record("Debug", "default", 0);
+            history.append(rec, records -> rec.duration = records.size());
+          }
+        } catch (Exception ex) {
+          throw new AssertionError(ex);
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    List<BuildTimeHistory.Record> records = newHistory(file, 1000).read();
+    assertEquals(200, records.size());
+    assertEquals(200, Files.readAllLines(file, StandardCharsets.UTF_8).size());
+    for (int i = 0; i < records.size(); i++) {
+      // each record saw all records appended before it
+      assertEquals(i, records.get(i).getDuration());
+    }
+  }
+
+  private static HistoryFile<BuildTimeHistory.Record> newHistory(Path file, int maxRecords) {
+    return new HistoryFile<>(file, BuildTimeHistory.Record.class, rec -> rec.config != null, maxRecords);
+  }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link NinjaLog} and {@link NinjaBuildAnalysis}.
+ *
+ * @author Martin Weber
+ */
+public class NinjaBuildAnalysisTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private static final String PREVIOUS_BUILD = "# ninja log v5\n"
+      + "0\t900\t1735689600000000000\tCMakeFiles/app.dir/main.cpp.o\t6b3b7e0c1f2a9d4e\n";
+  /** two compile jobs in parallel, then a library with two outputs, then the executable */
+  private static final String BUILD = "0\t1000\t0\tCMakeFiles/app.dir/main.cpp.o\t6b3b7e0c1f2a9d4e\n"
+      + "0\t3000\t0\tlib/CMakeFiles/util.dir/util.cpp.o\t1c2d3e4f5a6b7c8d\n"
+      + "3010\t3500\t0\tlib/libutil.so\t9a8b7c6d5e4f3a2b\n" + "3010\t3500\t0\tlib/libutil.so.1\t9a8b7c6d5e4f3a2b\n"
+      + "3500\t4000\t0\tapp\t0f1e2d3c4b5a6978\n";
+
+  /**
+   * Test method for {@link NinjaLog#read}.
+   */
+  @Test
+  public void testRead() throws Exception {
+    Path log = tmp.getRoot().toPath().resolve(NinjaLog.FILE_NAME);
+    NinjaLog.Position start = NinjaLog.getEnd(log);
+    Files.writeString(log, PREVIOUS_BUILD);
+    assertEquals(1, NinjaLog.read(log, start).size());
+    NinjaLog.Position end = NinjaLog.getEnd(log);
+    Files.writeString(log, PREVIOUS_BUILD + BUILD);
+
+    List<NinjaLog.Entry> entries = NinjaLog.read(log, end);
+    assertEquals(4, entries.size());
+    assertEquals("lib/libutil.so", entries.get(2).getOutput());
+    assertEquals(3010, entries.get(2).getStart());
+
+    // recompacted by ninja, the header is kept
+    Files.writeString(log, "# ninja log v5\n0\t1000\t0\tCMakeFiles/app.dir/main.cpp.o\t6b3b7e0c1f2a9d4e\n" + BUILD);
+    assertEquals(List.of(), NinjaLog.read(log, end));
+  }
+
+  /**
+   * Test method for {@link NinjaBuildAnalysis}.
+   */
+  @Test
+  public void testAnalysis() throws Exception {
+    Path log = tmp.getRoot().toPath().resolve(NinjaLog.FILE_NAME);
+    Files.writeString(log, "# ninja log v6\n" + BUILD);
+    Path compileCommands = tmp.getRoot().toPath().resolve("compile_commands.json");
+    Files.writeString(compileCommands, "[{\"directory\": \"/build\", \"file\": \"/src/main.cpp\","
+        + " \"output\": \"CMakeFiles/app.dir/main.cpp.o\"},"
+        + " {\"directory\": \"/build/lib\", \"file\": \"../../src/lib/util.cpp\","
+        + " \"output\": \"lib/CMakeFiles/util.dir/util.cpp.o\"}]");
+    Map<String, String> sources = NinjaBuildAnalysis.readCompileCommands(compileCommands);
+    NinjaBuildAnalysis analysis = new NinjaBuildAnalysis(NinjaLog.read(log), sources);
+
+    assertEquals(4000, analysis.getWallTime());
+    assertEquals(4990 / 4000.0, analysis.getAverageParallelism(), 0.001);
+    assertArrayEquals(new double[] { 2, 1, 1, 0.99 }, analysis.getParallelism(4), 0.001);
+
+    List<NinjaBuildAnalysis.Job> slowest = analysis.getSlowestCompiles(1);
+    assertEquals(Path.of("/src/lib/util.cpp").toString(), slowest.get(0).getSource());
+    assertEquals("util", slowest.get(0).getTarget());
+    assertNull(analysis.getJobs().get(3).getSource());
+    // the library is linked from the object files of target util
+    NinjaBuildAnalysis.TargetTime target = analysis.getTargets().get(0);
+    assertEquals("util", target.getTarget());
+    assertEquals(2, target.getJobs());
+    assertEquals(3490, target.getTime());
+    assertEquals("app", analysis.getTargets().get(1).getTarget());
+
+    List<NinjaBuildAnalysis.Job> path = analysis.getSerialChain();
+    assertEquals(3, path.size());
+    assertEquals("lib/CMakeFiles/util.dir/util.cpp.o", path.get(0).getOutput());
+    assertEquals("app", path.get(2).getOutput());
+    assertEquals(4000 - 10, analysis.getSerialChainTime());
+    assertTrue(analysis.getSummary(2), analysis.getSummary(2).contains("(62% of 2)"));
+  }
+}
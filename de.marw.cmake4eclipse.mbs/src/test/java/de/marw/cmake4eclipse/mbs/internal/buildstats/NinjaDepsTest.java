@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link NinjaDeps}.
+ *
+ * @author Martin Weber
+ */
+public class NinjaDepsTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private final ByteArrayOutputStream log = new ByteArrayOutputStream();
+  private int nodes;
+
+  private void writeInts(int... values) {
+    ByteBuffer buffer = ByteBuffer.allocate(4 * values.length).order(ByteOrder.LITTLE_ENDIAN);
+    for (int value : values) {
+      buffer.putInt(value);
+    }
+    log.writeBytes(buffer.array());
+  }
+
+  private void writePath(String path) {
+    byte[] bytes = path.getBytes(StandardCharsets.UTF_8);
+    int padding = (4 - bytes.length % 4) % 4;
+    writeInts((bytes.length + padding + 4) | 0x80000000);
+    log.writeBytes(bytes);
+    log.writeBytes(new byte[padding]);
+    writeInts(~nodes++);
+  }
+
+  private void writeDeps(int out, int... inputs) {
+    writeInts(4 + 8 + 4 * inputs.length, out, 0x5F000000, 0x1234);
+    writeInts(inputs);
+  }
+
+  /**
+   * Test method for {@link NinjaDeps#read(Path)}.
+   */
+  @Test
+  public void testRead() throws IOException {
+    log.writeBytes("# ninjadeps\n".getBytes(StandardCharsets.US_ASCII));
+    writeInts(4);
+    writePath("CMakeFiles/app.dir/main.cpp.o"); // 0
+    writePath("/src/main.cpp"); // 1
+    writePath("/src/util.h"); // 2
+    writePath("/usr/include/stdio.h"); // 3
+    writeDeps(0, 1, 2, 3);
+    writePath("lib/CMakeFiles/util.dir/util.cpp.o"); // 4
+    writePath("/src/lib/util.cpp"); // 5
+    writePath("generated/config.h"); // 6
+    writeDeps(4, 5, 2, 3, 6);
+    // main.cpp no longer includes util.h
+    writeDeps(0, 1, 3);
+    // an interrupted build
+    writeInts(0x80000010, 0x6d6f7266);
+
+    Path buildDir = tmp.getRoot().toPath();
+    Files.write(buildDir.resolve(NinjaDeps.FILE_NAME), log.toByteArray());
+    NinjaDeps deps = NinjaDeps.read(buildDir.resolve(NinjaDeps.FILE_NAME));
+
+    assertEquals(7, deps.getNodeCount());
+    assertEquals(2, deps.getOutputCount());
+    assertEquals(List.of("lib/CMakeFiles/util.dir/util.cpp.o"), deps.getAffectedOutputs("/src/util.h"));
+    assertEquals(Set.of("app", "util"), deps.getAffectedTargets("/usr/include/stdio.h"));
+    // generated header in the build directory
+    assertEquals(Set.of("util"), deps.getAffectedTargets(buildDir.resolve("generated/config.h").toString()));
+    assertEquals(List.of(), deps.getAffectedOutputs("/src/other.h"));
+
+    List<NinjaDeps.HeaderCost> headers = deps.getExpensiveHeaders(
+        Map.of("CMakeFiles/app.dir/main.cpp.o", 1000, "lib/CMakeFiles/util.dir/util.cpp.o", 3000), 2);
+    assertEquals(2, headers.size());
+    assertEquals("/usr/include/stdio.h", headers.get(0).getPath());
+    assertEquals(2, headers.get(0).getOutputs());
+    assertEquals(4000, headers.get(0).getTime());
+    assertEquals(3000, headers.get(1).getTime());
+  }
+
+  /**
+   * Test method for {@link NinjaDeps#isInputModifiedSince(long)}.
+   */
+  @Test
+  public void testIsInputModifiedSince() throws IOException {
+    Path buildDir = tmp.newFolder("build").toPath();
+    Path source = tmp.newFile("main.cpp").toPath();
+    Path header = Files.createDirectories(buildDir.resolve("generated")).resolve("config.h");
+    Files.writeString(header, "");
+    log.writeBytes("# ninjadeps\n".getBytes(StandardCharsets.US_ASCII));
+    writeInts(4);
+    writePath("CMakeFiles/app.dir/main.cpp.o"); // 0
+    writePath(source.toString()); // 1
+    writePath("generated/config.h"); // 2
+    writeDeps(0, 1, 2);
+    Files.write(buildDir.resolve(NinjaDeps.FILE_NAME), log.toByteArray());
+    final long time = 1_000_000_000_000L;
+    Files.setLastModifiedTime(source, FileTime.fromMillis(time - 1000));
+    Files.setLastModifiedTime(header, FileTime.fromMillis(time - 1000));
+
+    // the object file does not exist, but is an output
+    NinjaDeps deps = NinjaDeps.read(buildDir.resolve(NinjaDeps.FILE_NAME));
+    assertFalse(deps.isInputModifiedSince(time));
+    // a header in the build directory
+    Files.setLastModifiedTime(header, FileTime.fromMillis(time));
+    assertTrue(deps.isInputModifiedSince(time));
+    Files.setLastModifiedTime(header, FileTime.fromMillis(time - 1000));
+    Files.delete(source);
+    assertTrue(deps.isInputModifiedSince(time));
+  }
+
+  /**
+   * Test method for {@link NinjaDeps#read(Path)} with a file that is not a deps log.
+   */
+  @Test(expected = IOException.class)
+  public void testReadInvalid() throws IOException {
+    Path file = tmp.newFile(NinjaDeps.FILE_NAME).toPath();
+    Files.writeString(file, "# ninja log v5\n");
+    NinjaDeps.read(file);
+  }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.buildstats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link TimeTraceReport}.
+ *
+ * @author Martin Weber
+ */
+public class TimeTraceReportTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private static String trace(long vectorParse, long frontend) {
+    return "{\"traceEvents\":["
+        + "{\"pid\":1,\"tid\":1,\"ph\":\"X\",\"ts\":10,\"dur\":" + vectorParse
+        + ",\"name\":\"Source\",\"args\":{\"detail\":\"/usr/include/c++/14/vector\"}},"
+        + "{\"pid\":1,\"tid\":1,\"ph\":\"X\",\"ts\":20,\"dur\":500,\"name\":\"Source\","
+        + "\"args\":{\"detail\":\"/src/util.h\"}},"
+        + "{\"pid\":1,\"tid\":1,\"ph\":\"X\",\"ts\":30,\"dur\":700,\"name\":\"InstantiateClass\","
+        + "\"args\":{\"detail\":\"std::vector<int>\"}},"
+        + "{\"pid\":1,\"tid\":1,\"ph\":\"M\",\"ts\":0,\"name\":\"process_name\",\"args\":{\"name\":\"clang\"}},"
+        + "{\"pid\":1,\"tid\":2,\"ph\":\"X\",\"ts\":0,\"dur\":" + frontend
+        + ",\"name\":\"Total Frontend\",\"args\":{\"count\":1,\"avg ms\":1}},"
+        + "{\"pid\":1,\"tid\":3,\"ph\":\"X\",\"ts\":0,\"dur\":2000,\"name\":\"Total Backend\",\"args\":{\"count\":1}}"
+        + "],\"beginningOfTime\":1735689600000000}";
+  }
+
+  /**
+   * Test method for {@link TimeTraceReport#parse}.
+   */
+  @Test
+  public void testParse() throws Exception {
+    TimeTraceReport report = TimeTraceReport.parse(new StringReader(trace(3000, 9000)));
+    assertEquals(1, report.getUnits());
+    assertEquals(9000, report.getFrontendTime());
+    assertEquals(2000, report.getBackendTime());
+    List<TimeTraceReport.Cost> headers = report.getExpensiveHeaders(10);
+    assertEquals(2, headers.size());
+    assertEquals("/usr/include/c++/14/vector", headers.get(0).getName());
+    assertEquals(3000, headers.get(0).getTime());
+    assertEquals("std::vector<int>", report.getExpensiveTemplates(1).get(0).getName());
+    // a single compilation does not benefit from a precompiled header
+    assertEquals(List.of(), report.getPchCandidates(10));
+  }
+
+  /**
+   * Test method for {@link TimeTraceReport#findTraces} and {@link TimeTraceReport#aggregate}.
+   */
+  @Test
+  public void testAggregate() throws Exception {
+    Path objDir = tmp.newFolder("CMakeFiles", "app.dir").toPath();
+    for (int i = 0; i < 3; i++) {
+      Files.writeString(objDir.resolve("src" + i + ".cpp.json"), trace(1000 * (i + 1), 5000));
+      Files.createFile(objDir.resolve("src" + i + ".cpp.o"));
+    }
+    // not a time trace
+    Files.writeString(tmp.getRoot().toPath().resolve("compile_commands.json"), "[]");
+    // not written by the compiler completely
+    Files.writeString(objDir.resolve("broken.cpp.json"), "{\"traceEvents\":[{\"ph\":");
+    Files.createFile(objDir.resolve("broken.cpp.o"));
+
+    List<Path> traces = TimeTraceReport.findTraces(tmp.getRoot().toPath(), 0);
+    assertEquals(4, traces.size());
+    assertEquals(List.of(), TimeTraceReport.findTraces(tmp.getRoot().toPath(), System.currentTimeMillis() + 60_000));
+
+    TimeTraceReport report = TimeTraceReport.aggregate(traces);
+    assertEquals(3, report.getUnits());
+    assertEquals(15000, report.getFrontendTime());
+    TimeTraceReport.Cost vector = report.getPchCandidates(1).get(0);
+    assertEquals("/usr/include/c++/14/vector", vector.getName());
+    assertEquals(3, vector.getCount());
+    assertEquals(6000, vector.getTime());
+    assertEquals(3, report.getExpensiveTemplates(1).get(0).getCount());
+    assertTrue(report.getSummary(), report.getSummary().startsWith("3 compilations"));
+  }
+}
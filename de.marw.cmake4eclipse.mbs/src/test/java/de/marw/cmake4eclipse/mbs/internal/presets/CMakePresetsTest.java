@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.presets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link CMakePresets}.
+ *
+ * @author Martin Weber
+ */
+public class CMakePresetsTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private static void write(Path file, String content) throws Exception {
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.replace('\'', '"').getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test method for {@link CMakePresets#load(Path, Map)}.
+   */
+  @Test
+  public void testLoad() throws Exception {
+    Path src = tmp.newFolder("proj").toPath();
+    write(src.resolve(CMakePresets.PRESETS_FILE), "{ 'version': 4, 'include': ['cmake/base.json'],\n"
+        + " 'configurePresets': [\n"
+        + "  { 'name': 'debug', 'displayName': 'Debug', 'inherits': ['base', 'other'],\n"
+        + "    'cacheVariables': { 'CMAKE_BUILD_TYPE': 'Debug', 'FROM_OTHER': null } },\n"
+        + "  { 'name': 'other', 'hidden': true, 'generator': 'Unix Makefiles',\n"
+        + "    'cacheVariables': { 'FROM_OTHER': 'x',\n"
+        + "      'OTHER_ONLY': { 'type': 'PATH', 'value': '$env{TOOLS}/bin' } } }\n"
+        + " ] }");
+    write(src.resolve("cmake/base.json"), "{ 'version': 4, 'configurePresets': [\n"
+        + "  { 'name': 'base', 'hidden': true, 'generator': 'Ninja',\n"
+        + "    'binaryDir': '${sourceDir}/build/${presetName}',\n"
+        + "    'environment': { 'TOOLS': '$penv{HOME}/tools' },\n"
+        + "    'cacheVariables': { 'CMAKE_BUILD_TYPE': 'Release', 'WITH_TESTS': true, 'GEN': '${generator}',\n"
+        + "      'DIR': '${fileDir}', 'LITERAL': '${dollar}{x}', 'VENDOR': '$vendor{foo}' } }\n"
+        + " ] }");
+    write(src.resolve(CMakePresets.USER_PRESETS_FILE), "{ 'version': 4, 'configurePresets': [\n"
+        + "  { 'name': 'mine', 'inherits': 'debug', 'binaryDir': 'out' },\n"
+        + "  { 'name': 'loop', 'inherits': 'loop' }\n"
+        + " ] }");
+
+    CMakePresets presets = CMakePresets.load(src, Map.of("HOME", "/home/me"));
+    assertEquals(List.of("debug", "mine"), presets.getPresetNames());
+    assertEquals(1, presets.getErrors().size());
+    assertNull(presets.getConfigurePreset("loop"));
+
+    ConfigurePreset debug = presets.getConfigurePreset("debug");
+    assertNotNull(debug);
+    assertEquals("Debug", debug.getDisplayName());
+    assertFalse(debug.isHidden());
+    assertEquals("Ninja", debug.getGenerator());
+    assertEquals(src.resolve("build/debug"), debug.getBinaryDir());
+    Map<String, ConfigurePreset.CacheVariable> vars = debug.getCacheVariables();
+    assertEquals("Debug", vars.get("CMAKE_BUILD_TYPE").getValue());
+    assertFalse(vars.containsKey("FROM_OTHER"));
+    assertEquals("-DWITH_TESTS:BOOL=TRUE", vars.get("WITH_TESTS").toArgument("WITH_TESTS"));
+    assertEquals("-DOTHER_ONLY:PATH=/home/me/tools/bin", vars.get("OTHER_ONLY").toArgument("OTHER_ONLY"));
+    assertEquals("Ninja", vars.get("GEN").getValue());
+    assertEquals(src.resolve("cmake").toString(), vars.get("DIR").getValue());
+    assertEquals("${x}", vars.get("LITERAL").getValue());
+    assertEquals("$vendor{foo}", vars.get("VENDOR").getValue());
+
+    ConfigurePreset mine = presets.getConfigurePreset("mine");
+    assertNotNull(mine);
+    assertEquals(src.resolve("out"), mine.getBinaryDir());
+    assertTrue(presets.getConfigurePreset("other").isHidden());
+  }
+
+  /**
+   * Test method for {@link CMakePresets#get(Path)}.
+   */
+  @Test
+  public void testGet_invalidated() throws Exception {
+    Path src = tmp.newFolder("proj").toPath();
+    CMakePresets presets = CMakePresets.get(src);
+    assertTrue(presets.getPresetNames().isEmpty());
+    assertTrue(presets == CMakePresets.get(src));
+
+    write(src.resolve(CMakePresets.PRESETS_FILE), "{ 'version': 3, 'configurePresets': [ { 'name': 'a' } ] }");
+    assertEquals(List.of("a"), CMakePresets.get(src).getPresetNames());
+  }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.profiling;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link CMakeProfile}.
+ *
+ * @author Martin Weber
+ */
+public class CMakeProfileTest {
+
+  private static String begin(String name, String location, String args, long ts) {
+    return String.format("{\"cat\":\"cmake\",\"name\":\"%s\",\"ph\":\"B\",\"pid\":1,\"tid\":0,\"ts\":%d,"
+        + "\"args\":{\"functionArgs\":\"%s\",\"location\":\"%s\"}},\n", name, ts, args, location);
+  }
+
+  private static String end(long ts) {
+    return String.format("{\"ph\":\"E\",\"pid\":1,\"tid\":0,\"ts\":%d},\n", ts);
+  }
+
+  /**
+   * Test method for {@link CMakeProfile#parse(java.io.Reader)}.
+   */
+  @Test
+  public void testParse() throws Exception {
+    String trace = "[\n"
+        + begin("project", "/src/CMakeLists.txt:2", "Foo CXX", 1000)
+        + end(3000)
+        + begin("find_package", "/src/CMakeLists.txt:3", "Boost REQUIRED", 3000)
+        + begin("set", "/usr/share/cmake/Modules/FindBoost.cmake:10", "X 1", 3500)
+        + end(4000)
+        + end(9000)
+        + begin("add_executable", "/src/CMakeLists.txt:4", "foo main.cpp", 9000)
+        + end(10000)
+        + "]";
+    CMakeProfile profile = CMakeProfile.parse(new StringReader(trace));
+
+    assertEquals(4, profile.getInvocations().size());
+    assertEquals(9000, profile.getTotalTime());
+    assertEquals(3, profile.getTimeline().size());
+
+    List<CMakeProfile.Hotspot> files = profile.getHotspotsByFile();
+    assertEquals("/src/CMakeLists.txt", files.get(0).getKey());
+    // self times: project 2000 + find_package 5500 + add_executable 1000
+    assertEquals(8500, files.get(0).getTime());
+    assertEquals(500, files.get(1).getTime());
+
+    List<CMakeProfile.Hotspot> modules = profile.getHotspotsByModule();
+    assertEquals(1, modules.size());
+    assertEquals("find_package(Boost)", modules.get(0).getKey());
+    assertEquals(6000, modules.get(0).getTime());
+
+    CMakeProfile.Invocation set = profile.getInvocations().get(2);
+    assertEquals("set", set.getCommand());
+    assertEquals(1, set.getDepth());
+    assertEquals(10, set.getLine());
+  }
+
+  /**
+   * Test method for {@link CMakeProfile#parse(java.io.Reader)} with an incomplete trace.
+   */
+  @Test
+  public void testParse_truncated() throws Exception {
+    String trace = "[\n"
+        + begin("include", "C:/src/CMakeLists.txt:7", "CTest", 0)
+        + begin("message", "C:/src/CTest.cmake:1", "hello", 100)
+        + end(300);
+    CMakeProfile profile = CMakeProfile.parse(new StringReader(trace));
+
+    assertEquals(2, profile.getInvocations().size());
+    CMakeProfile.Invocation include = profile.getInvocations().get(0);
+    assertEquals("C:/src/CMakeLists.txt", include.getFile());
+    assertEquals(7, include.getLine());
+    assertEquals(300, include.getDuration());
+    assertEquals(100, include.getSelfTime());
+  }
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2025 Martin Weber.
+ *
+ * Content is provided to you under the terms and conditions of the Eclipse Public License Version 2.0 "EPL".
+ * A copy of the EPL is available at http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package de.marw.cmake4eclipse.mbs.internal.warmstart;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link CompilerWarmStart}.
+ *
+ * @author Martin Weber
+ */
+public class CompilerWarmStartTest {
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private static void write(Path file, String content) throws Exception {
+    Files.createDirectories(file.getParent());
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Test method for {@link CompilerWarmStart#computeKey}.
+   */
+  @Test
+  public void testComputeKey() {
+    List<String> env = List.of("PATH=/usr/bin", "HOME=/home/me");
+    String key = CompilerWarmStart.computeKey(0, "Ninja",
+        List.of("-DCMAKE_BUILD_TYPE:STRING=Debug", "-DCMAKE_CXX_FLAGS=-Wall", "-DFOO=1"), env);
+    // irrelevant arguments, environment variables and the order do not matter
+    assertEquals(key, CompilerWarmStart.computeKey(0, "Ninja",
+        List.of("-DFOO=2", "-DCMAKE_CXX_FLAGS=-Wall", "-DCMAKE_BUILD_TYPE:STRING=Release"),
+        List.of("HOME=/home/you", "PATH=/usr/bin")));
+    assertNotEquals(key, CompilerWarmStart.computeKey(1, "Ninja", List.of("-DCMAKE_CXX_FLAGS=-Wall"), env));
+    assertNotEquals(key, CompilerWarmStart.computeKey(0, "Unix Makefiles", List.of("-DCMAKE_CXX_FLAGS=-Wall"), env));
+    assertNotEquals(key, CompilerWarmStart.computeKey(0, "Ninja", List.of("-DCMAKE_CXX_FLAGS=-Wall"),
+        List.of("PATH=/opt/bin")));
+    assertNotEquals(key, CompilerWarmStart.computeKey(0, "Ninja",
+        List.of("-DCMAKE_CXX_FLAGS=-Wall", "-DCMAKE_CXX_COMPILER=clang++"), env));
+  }
+
+  /**
+   * Test method for {@link CompilerWarmStart#seed}.
+   */
+  @Test
+  public void testSeed() throws Exception {
+    Path compiler = tmp.newFile("g++").toPath();
+    Path debug = tmp.newFolder("_build", "Debug").toPath();
+    Path versionDir = debug.resolve("CMakeFiles/3.28.3");
+    write(versionDir.resolve("CMakeSystem.cmake"), "set(CMAKE_SYSTEM \"Linux\")\n");
+    write(versionDir.resolve("CMakeCXXCompiler.cmake"),
+        "set(CMAKE_CXX_COMPILER \"" + compiler + "\")\nset(CMAKE_CXX_COMPILER_VERSION \"13.2.0\")\n");
+    write(debug.resolve("CMakeCache.txt"), "CMAKE_CXX_COMPILER:FILEPATH=" + compiler + "\n"
+        + "CMAKE_AR:FILEPATH=/usr/bin/ar\nCMAKE_OBJDUMP:FILEPATH=CMAKE_OBJDUMP-NOTFOUND\nFOO:BOOL=ON\n");
+    CompilerWarmStart.writeStamp(debug, "k1");
+
+    Path release = tmp.getRoot().toPath().resolve("_build/Release");
+    assertNull(CompilerWarmStart.seed(release, "k2", List.of(debug)));
+    CompilerWarmStart.Seed seed = CompilerWarmStart.seed(release, "k1", List.of(release, debug));
+    assertNotNull(seed);
+    assertEquals(debug, seed.getSource());
+    assertTrue(Files.exists(release.resolve("CMakeFiles/3.28.3/CMakeSystem.cmake")));
+    assertTrue(Files.exists(release.resolve("CMakeFiles/3.28.3/CMakeCXXCompiler.cmake")));
+    assertNotNull(seed.getCacheScript());
+    List<String> script = Files.readAllLines(seed.getCacheScript());
+    assertEquals(3, script.size());
+    assertEquals("set(CMAKE_AR \"/usr/bin/ar\" CACHE FILEPATH \"\")", script.get(1));
+
+    // the build directory was configured already
+    assertNull(CompilerWarmStart.seed(release, "k1", List.of(debug)));
+
+    // the compiler was updated
+    Path relWithDebInfo = tmp.getRoot().toPath().resolve("_build/RelWithDebInfo");
+    Files.setLastModifiedTime(compiler, FileTime.fromMillis(Files.getLastModifiedTime(compiler).toMillis() - 5000));
+    assertNull(CompilerWarmStart.seed(relWithDebInfo, "k1", List.of(debug)));
+  }
+}
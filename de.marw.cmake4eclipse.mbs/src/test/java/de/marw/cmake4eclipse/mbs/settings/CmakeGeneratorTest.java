@@ -78,4 +78,16 @@ public class CmakeGeneratorTest {
     assertEquals(null, CmakeGenerator.BorlandMakefiles.getParallelBuildArg(value));
     assertEquals(null, CmakeGenerator.WatcomWMake.getParallelBuildArg(value));
   }
+
+  /**
+   * Test method for
+   * {@link de.marw.cmake4eclipse.mbs.settings.CmakeGenerator#getLoadLimitArg(int)}.
+   */
+  @Test
+  public void testGetLoadLimitArg() {
+    assertEquals("-l 8", CmakeGenerator.UnixMakefiles.getLoadLimitArg(8));
+    assertEquals("-l 8", CmakeGenerator.Ninja.getLoadLimitArg(8));
+    assertEquals(null, CmakeGenerator.FastBuild.getLoadLimitArg(8));
+    assertEquals(null, CmakeGenerator.NMakeMakefilesJOM.getLoadLimitArg(8));
+  }
 }